@@ -0,0 +1,64 @@
+package org.lefmaroli.perlin;
+
+import java.util.concurrent.TimeUnit;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PerlinNoiseBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+
+  @Param({"1", "2", "3", "4", "5"})
+  private int dimension;
+
+  private PerlinNoise perlinNoise;
+  private PerlinNoiseDataContainer container;
+  private double[] coordinates;
+  private double step;
+
+  @Setup
+  public void setup() {
+    perlinNoise = new PerlinNoise(RANDOM_SEED);
+    container = new PerlinNoiseDataContainerBuilder(dimension, RANDOM_SEED).createNewContainer();
+    coordinates = new double[dimension];
+  }
+
+  private void advance() {
+    step += 0.0137;
+    for (var i = 0; i < dimension; i++) {
+      coordinates[i] = step * (i + 1);
+    }
+  }
+
+  @Benchmark
+  public double getForCoordinates() {
+    advance();
+    return perlinNoise.getFor(coordinates);
+  }
+
+  @Benchmark
+  public double getForContainer() {
+    advance();
+    for (var i = 0; i < dimension; i++) {
+      container.setCoordinatesForDimension(i, coordinates[i]);
+    }
+    return PerlinNoise.getFor(container);
+  }
+}
@@ -0,0 +1,78 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// A fork threshold of 0 uses the calibrated value
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ForkThresholdBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+
+  @Param({"64", "512"})
+  private int size;
+
+  @Param({"false", "true"})
+  private boolean circular;
+
+  @Param({"3", "8"})
+  private int parallelism;
+
+  @Param({"0"})
+  private int forkThreshold;
+
+  private ForkJoinPool pool;
+  private LineGenerator lineGenerator;
+  private SliceGenerator sliceGenerator;
+
+  @Setup
+  public void setup() {
+    pool = new ForkJoinPool(parallelism);
+    lineGenerator =
+        new LineGeneratorBuilder(size * size)
+            .withRandomSeed(RANDOM_SEED)
+            .withCircularBounds(circular)
+            .withForkJoinPool(pool)
+            .withForkThreshold(forkThreshold)
+            .build();
+    sliceGenerator =
+        new SliceGeneratorBuilder(size, size)
+            .withRandomSeed(RANDOM_SEED)
+            .withCircularBounds(circular)
+            .withForkJoinPool(pool)
+            .withForkThreshold(forkThreshold)
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public double[] line() {
+    return lineGenerator.getNext();
+  }
+
+  @Benchmark
+  public double[][] slice() {
+    return sliceGenerator.getNext();
+  }
+}
@@ -0,0 +1,68 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+
+  @Param({"256", "1024"})
+  private int size;
+
+  @Param({"false", "true"})
+  private boolean forkJoinPool;
+
+  @Param({"false", "true"})
+  private boolean circular;
+
+  private LineGenerator lineGenerator;
+  private SliceGenerator sliceGenerator;
+
+  @Setup
+  public void setup() {
+    ForkJoinPool pool = forkJoinPool ? ForkJoinPool.commonPool() : null;
+    lineGenerator =
+        new LineGeneratorBuilder(size * size)
+            .withRandomSeed(RANDOM_SEED)
+            .withLineStepSize(1.0 / 64)
+            .withCircularBounds(circular)
+            .withForkJoinPool(pool)
+            .build();
+    sliceGenerator =
+        new SliceGeneratorBuilder(size, size)
+            .withRandomSeed(RANDOM_SEED)
+            .withWidthStepSize(1.0 / 64)
+            .withHeightStepSize(1.0 / 64)
+            .withCircularBounds(circular)
+            .withForkJoinPool(pool)
+            .build();
+  }
+
+  @Benchmark
+  public double[] line() {
+    return lineGenerator.getNext();
+  }
+
+  @Benchmark
+  public double[][] slice() {
+    return sliceGenerator.getNext();
+  }
+}
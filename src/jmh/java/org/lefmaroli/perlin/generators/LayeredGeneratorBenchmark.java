@@ -0,0 +1,85 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LayeredGeneratorBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+
+  @Param({"256", "1024"})
+  private int size;
+
+  @Param({"1", "4", "8"})
+  private int layers;
+
+  @Param({"false", "true"})
+  private boolean executor;
+
+  @Param({"false", "true"})
+  private boolean circular;
+
+  private ExecutorService executorService;
+  private LayeredLineGenerator lineGenerator;
+  private LayeredSliceGenerator sliceGenerator;
+
+  @Setup
+  public void setup() throws LayeredGeneratorBuilderException {
+    executorService = executor ? Executors.newFixedThreadPool(layers) : null;
+    lineGenerator =
+        new LayeredLineGeneratorBuilder(size * size)
+            .withNumberOfLayers(layers)
+            .withRandomSeed(RANDOM_SEED)
+            .withCircularBounds(circular)
+            .withLayerExecutorService(executorService)
+            .build();
+    sliceGenerator =
+        new LayeredSliceGeneratorBuilder(size, size)
+            .withNumberOfLayers(layers)
+            .withRandomSeed(RANDOM_SEED)
+            .withCircularBounds(circular)
+            .withLayerExecutorService(executorService)
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (executorService != null) {
+      executorService.shutdown();
+    }
+  }
+
+  @Benchmark
+  public double[] line() {
+    return lineGenerator.getNext();
+  }
+
+  @Benchmark
+  public double[][] slice() {
+    return sliceGenerator.getNext();
+  }
+
+  @Benchmark
+  public SliceBuffer sliceBuffer() {
+    return sliceGenerator.getNextBuffer();
+  }
+}
@@ -0,0 +1,75 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Compares the ways a layered slice can be spread over threads, all of them sized to the number of
+// available processors
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LayeredSchedulingBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+
+  @Param({"256", "1024"})
+  private int size;
+
+  @Param({"4", "8"})
+  private int layers;
+
+  @Param({"serial", "forkJoinPool", "layerExecutor", "both"})
+  private String scheduling;
+
+  private ForkJoinPool pool;
+  private ExecutorService executorService;
+  private LayeredSliceGenerator generator;
+
+  @Setup
+  public void setup() throws LayeredGeneratorBuilderException {
+    int processors = Runtime.getRuntime().availableProcessors();
+    boolean usesPool = "forkJoinPool".equals(scheduling) || "both".equals(scheduling);
+    boolean usesExecutor = "layerExecutor".equals(scheduling) || "both".equals(scheduling);
+    pool = usesPool ? new ForkJoinPool(processors) : null;
+    executorService = usesExecutor ? Executors.newFixedThreadPool(processors) : null;
+    generator =
+        new LayeredSliceGeneratorBuilder(size, size)
+            .withNumberOfLayers(layers)
+            .withRandomSeed(RANDOM_SEED)
+            .withForkJoinPool(pool)
+            .withLayerExecutorService(executorService)
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+    if (executorService != null) {
+      executorService.shutdown();
+    }
+  }
+
+  @Benchmark
+  public SliceBuffer sliceBuffer() {
+    return generator.getNextBuffer();
+  }
+}
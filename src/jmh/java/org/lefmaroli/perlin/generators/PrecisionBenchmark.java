@@ -0,0 +1,114 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Run with -prof gc: gc.alloc.rate.norm of the new* benchmarks is the heap taken by a generator
+// and its frames, the other benchmarks compare steady state throughput
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrecisionBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+
+  @Param({"256", "1024"})
+  private int size;
+
+  @Param({"false", "true"})
+  private boolean circular;
+
+  private LineGenerator doubleLineGenerator;
+  private FloatLineGenerator floatLineGenerator;
+  private SliceGenerator doubleSliceGenerator;
+  private FloatSliceGenerator floatSliceGenerator;
+
+  @Setup
+  public void setup() {
+    doubleLineGenerator = newDoubleLineGenerator();
+    floatLineGenerator = newFloatLineGenerator();
+    doubleSliceGenerator = newDoubleSliceGenerator();
+    floatSliceGenerator = newFloatSliceGenerator();
+  }
+
+  @Benchmark
+  public double[] doubleLine() {
+    return doubleLineGenerator.getNext();
+  }
+
+  @Benchmark
+  public float[] floatLine() {
+    return floatLineGenerator.getNext();
+  }
+
+  @Benchmark
+  public double[][] doubleSlice() {
+    return doubleSliceGenerator.getNext();
+  }
+
+  @Benchmark
+  public float[][] floatSlice() {
+    return floatSliceGenerator.getNext();
+  }
+
+  @Benchmark
+  public double[][] newDoubleSlice() {
+    return newDoubleSliceGenerator().getNext();
+  }
+
+  @Benchmark
+  public float[][] newFloatSlice() {
+    return newFloatSliceGenerator().getNext();
+  }
+
+  private LineGenerator newDoubleLineGenerator() {
+    return new LineGeneratorBuilder(size * size)
+        .withRandomSeed(RANDOM_SEED)
+        .withLineStepSize(1.0 / 64)
+        .withCircularBounds(circular)
+        .withForkJoinPool(null)
+        .build();
+  }
+
+  private FloatLineGenerator newFloatLineGenerator() {
+    return new FloatLineGeneratorBuilder(size * size)
+        .withRandomSeed(RANDOM_SEED)
+        .withLineStepSize(1.0 / 64)
+        .withCircularBounds(circular)
+        .withForkJoinPool(null)
+        .build();
+  }
+
+  private SliceGenerator newDoubleSliceGenerator() {
+    return new SliceGeneratorBuilder(size, size)
+        .withRandomSeed(RANDOM_SEED)
+        .withWidthStepSize(1.0 / 64)
+        .withHeightStepSize(1.0 / 64)
+        .withCircularBounds(circular)
+        .withForkJoinPool(null)
+        .build();
+  }
+
+  private FloatSliceGenerator newFloatSliceGenerator() {
+    return new FloatSliceGeneratorBuilder(size, size)
+        .withRandomSeed(RANDOM_SEED)
+        .withWidthStepSize(1.0 / 64)
+        .withHeightStepSize(1.0 / 64)
+        .withCircularBounds(circular)
+        .withForkJoinPool(null)
+        .build();
+  }
+}
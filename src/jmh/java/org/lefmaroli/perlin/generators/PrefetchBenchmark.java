@@ -0,0 +1,81 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Sample time reports the latency percentiles of getNext() seen by a consumer spending
+// consumerWork tokens on each frame before asking for the next one
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrefetchBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+
+  @Param({"256", "512"})
+  private int size;
+
+  @Param({"0", "2"})
+  private int prefetchedFrames;
+
+  @Param({"100000"})
+  private long consumerWork;
+
+  private ExecutorService executorService;
+  private SliceGenerator sliceGenerator;
+  private LayeredSliceGenerator layeredSliceGenerator;
+
+  @Setup
+  public void setup() throws LayeredGeneratorBuilderException {
+    executorService = Executors.newSingleThreadExecutor();
+    sliceGenerator =
+        new SliceGeneratorBuilder(size, size)
+            .withRandomSeed(RANDOM_SEED)
+            .withPrefetching(prefetchedFrames, executorService)
+            .build();
+    layeredSliceGenerator =
+        new LayeredSliceGeneratorBuilder(size, size)
+            .withNumberOfLayers(4)
+            .withRandomSeed(RANDOM_SEED)
+            .withPrefetching(prefetchedFrames, executorService)
+            .build();
+  }
+
+  @Setup(Level.Invocation)
+  public void consumeFrame() {
+    Blackhole.consumeCPU(consumerWork);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executorService.shutdown();
+  }
+
+  @Benchmark
+  public SliceBuffer slice() {
+    return sliceGenerator.getNextBuffer();
+  }
+
+  @Benchmark
+  public SliceBuffer layeredSlice() {
+    return layeredSliceGenerator.getNextBuffer();
+  }
+}
@@ -0,0 +1,70 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Quantized frames written by the fused layers, against converting the double frames afterwards
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuantizationBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+
+  @Param({"256"})
+  private int size;
+
+  @Param({"4"})
+  private int layers;
+
+  @Param({"false", "true"})
+  private boolean dithered;
+
+  private LayeredSliceGenerator generator;
+  private Quantization quantization;
+  private ShortSliceBuffer shorts;
+  private ByteSliceBuffer bytes;
+
+  @Setup
+  public void setup() throws LayeredGeneratorBuilderException {
+    generator =
+        new LayeredSliceGeneratorBuilder(size, size)
+            .withNumberOfLayers(layers)
+            .withRandomSeed(RANDOM_SEED)
+            .build();
+    quantization = new Quantization(0.0, 1.0, dithered);
+    shorts = new ShortSliceBuffer(size, size);
+    bytes = new ByteSliceBuffer(size, size);
+  }
+
+  @Benchmark
+  public ShortSliceBuffer convertedShorts() {
+    quantization.quantize(generator.getNextBuffer(), shorts);
+    return shorts;
+  }
+
+  @Benchmark
+  public ShortSliceBuffer quantizedShorts() {
+    generator.getNextInto(shorts, quantization);
+    return shorts;
+  }
+
+  @Benchmark
+  public ByteSliceBuffer quantizedBytes() {
+    generator.getNextInto(bytes, quantization);
+    return bytes;
+  }
+}
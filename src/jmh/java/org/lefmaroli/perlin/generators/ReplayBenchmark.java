@@ -0,0 +1,101 @@
+package org.lefmaroli.perlin.generators;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Replayed frames are copied out of the mapped file so that every value is read, as when
+// generating them
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplayBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+  private static final int RECORDED_FRAMES = 64;
+
+  @Param({"256"})
+  private int size;
+
+  private ForkJoinPool pool;
+  private SliceGenerator generator;
+  private Path doublePath;
+  private Path floatPath;
+  private FrameReplay doubleReplay;
+  private FrameReplay floatReplay;
+  private double[] doubleFrame;
+  private float[] floatFrame;
+  private int frameIndex = 0;
+
+  @Setup
+  public void setup() throws IOException {
+    pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    generator = buildGenerator();
+    doublePath = Files.createTempFile("replay", ".bin");
+    floatPath = Files.createTempFile("replay", ".bin");
+    Files.delete(doublePath);
+    Files.delete(floatPath);
+    try (FrameRecorder recorder =
+        FrameRecorder.forSlices(buildGenerator(), doublePath, FramePrecision.DOUBLE)) {
+      recorder.record(RECORDED_FRAMES);
+    }
+    try (FrameRecorder recorder =
+        FrameRecorder.forSlices(buildGenerator(), floatPath, FramePrecision.FLOAT)) {
+      recorder.record(RECORDED_FRAMES);
+    }
+    doubleReplay = FrameReplay.open(doublePath);
+    floatReplay = FrameReplay.open(floatPath);
+    doubleFrame = new double[size * size];
+    floatFrame = new float[size * size];
+  }
+
+  private SliceGenerator buildGenerator() {
+    return new SliceGeneratorBuilder(size, size)
+        .withRandomSeed(RANDOM_SEED)
+        .withForkJoinPool(pool)
+        .build();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    pool.shutdown();
+    Files.deleteIfExists(doublePath);
+    Files.deleteIfExists(floatPath);
+  }
+
+  @Benchmark
+  public SliceBuffer generated() {
+    return generator.getNextBuffer();
+  }
+
+  @Benchmark
+  public double[] replayed() {
+    frameIndex = (frameIndex + 1) % RECORDED_FRAMES;
+    doubleReplay.getFrame(frameIndex).get(doubleFrame);
+    return doubleFrame;
+  }
+
+  @Benchmark
+  public float[] replayedFloat() {
+    frameIndex = (frameIndex + 1) % RECORDED_FRAMES;
+    floatReplay.getFloatFrame(frameIndex).get(floatFrame);
+    return floatFrame;
+  }
+}
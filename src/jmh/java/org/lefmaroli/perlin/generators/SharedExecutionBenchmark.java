@@ -0,0 +1,81 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Each benchmark thread drives its own layered generator, the way an application running many
+// independent generators would
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class SharedExecutionBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+
+  @Param({"128", "512"})
+  private int size;
+
+  @Param({"commonPool", "fixedPool", "shared"})
+  private String execution;
+
+  private ExecutorService executorService;
+  private LayeredSliceGenerator sliceGenerator;
+  private LayeredLineGenerator lineGenerator;
+
+  @Setup
+  public void setup() throws LayeredGeneratorBuilderException {
+    int layers = 4;
+    executorService = "fixedPool".equals(execution) ? Executors.newFixedThreadPool(layers) : null;
+    var sliceBuilder =
+        new LayeredSliceGeneratorBuilder(size, size)
+            .withNumberOfLayers(layers)
+            .withRandomSeed(RANDOM_SEED)
+            .withLayerExecutorService(executorService);
+    var lineBuilder =
+        new LayeredLineGeneratorBuilder(size * size)
+            .withNumberOfLayers(layers)
+            .withRandomSeed(RANDOM_SEED)
+            .withLayerExecutorService(executorService);
+    if ("shared".equals(execution)) {
+      sliceBuilder.withSharedLayerExecution(2);
+      lineBuilder.withSharedLayerExecution(2);
+    }
+    sliceGenerator = sliceBuilder.build();
+    lineGenerator = lineBuilder.build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (executorService != null) {
+      executorService.shutdown();
+    }
+  }
+
+  @Benchmark
+  public SliceBuffer slice() {
+    return sliceGenerator.getNextBuffer();
+  }
+
+  @Benchmark
+  public double[] line() {
+    return lineGenerator.getNext();
+  }
+}
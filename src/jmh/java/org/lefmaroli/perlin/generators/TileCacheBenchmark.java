@@ -0,0 +1,70 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// A viewport of 4x4 tiles panned by one tile at each request, against computing the whole
+// viewport again
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TileCacheBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+  private static final int TILE_SIZE = 64;
+  private static final int VIEWPORT_TILES = 4;
+  private static final int PANNED_TILES = 64;
+
+  private ForkJoinPool pool;
+  private NoiseTileCache cache;
+  private NoiseTileCache uncached;
+  private int offset = 0;
+
+  @Setup
+  public void setup() {
+    pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    cache =
+        new NoiseTileCacheBuilder(TILE_SIZE, TILE_SIZE)
+            .withRandomSeed(RANDOM_SEED)
+            .withForkJoinPool(pool)
+            .withMaxTiles(2 * VIEWPORT_TILES * VIEWPORT_TILES)
+            .build();
+    uncached =
+        new NoiseTileCacheBuilder(TILE_SIZE, TILE_SIZE)
+            .withRandomSeed(RANDOM_SEED)
+            .withForkJoinPool(pool)
+            .withMaxTiles(1)
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public SliceBuffer[][] pannedViewport() {
+    offset = (offset + 1) % PANNED_TILES;
+    return cache.getTiles(offset, 0, VIEWPORT_TILES, VIEWPORT_TILES, 0);
+  }
+
+  @Benchmark
+  public SliceBuffer[][] recomputedViewport() {
+    offset = (offset + 1) % PANNED_TILES;
+    return uncached.getTiles(offset, 0, VIEWPORT_TILES, VIEWPORT_TILES, 0);
+  }
+}
@@ -0,0 +1,87 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.lefmaroli.perlin.PerlinNoise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Volume frames against a loop calling PerlinNoise.getFor for every sample
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VolumeBenchmark {
+
+  private static final long RANDOM_SEED = 42L;
+  private static final double STEP_SIZE = 0.01;
+
+  @Param({"32", "64"})
+  private int size;
+
+  private ForkJoinPool pool;
+  private PerlinNoise noise;
+  private double[] samples;
+  private int time = 0;
+  private VolumeGenerator serialGenerator;
+  private VolumeGenerator forkedGenerator;
+
+  @Setup
+  public void setup() {
+    pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    noise = new PerlinNoise(RANDOM_SEED);
+    samples = new double[size * size * size];
+    serialGenerator =
+        new VolumeGeneratorBuilder(size, size, size)
+            .withRandomSeed(RANDOM_SEED)
+            .withForkJoinPool(null)
+            .build();
+    forkedGenerator =
+        new VolumeGeneratorBuilder(size, size, size)
+            .withRandomSeed(RANDOM_SEED)
+            .withForkJoinPool(pool)
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public double[] pointLoop() {
+    time++;
+    var index = 0;
+    for (var k = 0; k < size; k++) {
+      for (var i = 0; i < size; i++) {
+        for (var j = 0; j < size; j++) {
+          samples[index++] =
+              noise.getFor(time * STEP_SIZE, k * STEP_SIZE, i * STEP_SIZE, j * STEP_SIZE);
+        }
+      }
+    }
+    return samples;
+  }
+
+  @Benchmark
+  public VolumeBuffer serialVolume() {
+    return serialGenerator.getNext();
+  }
+
+  @Benchmark
+  public VolumeBuffer forkedVolume() {
+    return forkedGenerator.getNext();
+  }
+}
@@ -2,8 +2,6 @@ package org.lefmaroli.interpolation;
 
 import java.util.HashMap;
 import java.util.Map;
-import org.apache.logging.log4j.LogManager;
-import org.lefmaroli.perlin.PerlinNoise;
 
 public class Interpolation {
 
@@ -42,11 +40,6 @@ public class Interpolation {
   }
 
   private static double linearWithFadeUnchecked(CornerMatrix cornerMatrix, double[] distances) {
-    if (Thread.currentThread().isInterrupted()) {
-      LogManager.getLogger(PerlinNoise.class)
-          .debug("Interrupting processing [linearWithFadeUnchecked]");
-      return 0.0;
-    }
     if (cornerMatrix.getDimension() == 1) {
       return linearWithFadeUnchecked(
           cornerMatrix.get(0), cornerMatrix.get(1), distances[distances.length - 1]);
@@ -0,0 +1,40 @@
+package org.lefmaroli.perlin;
+
+// Lattice cell, distance within the cell and faded weight of every coordinate of an axis that
+// does not change between frames, so that batch evaluations only compute the gradient products
+public final class LatticeAxis {
+
+  private final double[] coordinates;
+  final int[] cells;
+  final double[] distances;
+  final double[] fades;
+  final float[] floatDistances;
+  final float[] floatFades;
+
+  public LatticeAxis(double[] coordinates) {
+    int length = coordinates.length;
+    this.coordinates = coordinates.clone();
+    this.cells = new int[length];
+    this.distances = new double[length];
+    this.fades = new double[length];
+    this.floatDistances = new float[length];
+    this.floatFades = new float[length];
+    for (var i = 0; i < length; i++) {
+      double coordinate = coordinates[i];
+      var cell = (int) coordinate;
+      cells[i] = cell;
+      distances[i] = coordinate - cell;
+      fades[i] = PerlinKernel.fade(distances[i]);
+      floatDistances[i] = (float) (coordinate - cell);
+      floatFades[i] = PerlinKernel.fade(floatDistances[i]);
+    }
+  }
+
+  public int getLength() {
+    return coordinates.length;
+  }
+
+  public double getCoordinate(int index) {
+    return coordinates[index];
+  }
+}
@@ -0,0 +1,156 @@
+package org.lefmaroli.perlin;
+
+import org.lefmaroli.perlin.bounds.BoundGrid;
+import org.lefmaroli.perlin.bounds.BoundGridFiveDimensional;
+import org.lefmaroli.perlin.bounds.BoundGridFourDimensional;
+import org.lefmaroli.perlin.bounds.BoundGridOneDimensional;
+import org.lefmaroli.perlin.bounds.BoundGridThreeDimensional;
+import org.lefmaroli.perlin.bounds.BoundGridTwoDimensional;
+import org.lefmaroli.perlin.configuration.JitterTrait;
+
+abstract class PerlinKernel {
+
+  private static final double MAX_VALUE_VECTOR_PRODUCT = Math.sqrt(2.0) / 2.0;
+  private static final float MAX_VALUE_VECTOR_PRODUCT_FLOAT = (float) MAX_VALUE_VECTOR_PRODUCT;
+  protected final int firstDimensionOffset;
+
+  protected PerlinKernel(int firstDimensionOffset) {
+    this.firstDimensionOffset = firstDimensionOffset;
+  }
+
+  static PerlinKernel forDimension(int dimension, BoundGrid bounds, int firstDimensionOffset) {
+    return switch (dimension) {
+      case 1 -> new PerlinKernel1D((BoundGridOneDimensional) bounds, firstDimensionOffset);
+      case 2 -> new PerlinKernel2D((BoundGridTwoDimensional) bounds, firstDimensionOffset);
+      case 3 -> new PerlinKernel3D((BoundGridThreeDimensional) bounds, firstDimensionOffset);
+      case 4 -> new PerlinKernel4D((BoundGridFourDimensional) bounds, firstDimensionOffset);
+      case 5 -> new PerlinKernel5D((BoundGridFiveDimensional) bounds, firstDimensionOffset);
+      default -> throw new IllegalArgumentException(
+          "Supported dimensions in range [1, " + PerlinNoise.MAX_DIMENSION + "]");
+    };
+  }
+
+  abstract double evaluate(double[] coordinates);
+
+  // Same value as evaluate(coordinates), partial derivatives along each axis are written to
+  // derivatives[0, dimension)
+  abstract double evaluate(double[] coordinates, double[] derivatives);
+
+  // Leading coordinates are read from coordinates and hoisted out of the loop, the last axis
+  // takes its values from lastAxis[from, to) and results are written from results[offset + from]
+  abstract void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to);
+
+  abstract void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to);
+
+  // Lattice cells are still located in double precision, everything past the fractional
+  // distances is computed in float
+  abstract void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to);
+
+  abstract void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to);
+
+  // Same evaluations reading the last axes from precomputed lattice tables
+  abstract void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to);
+
+  abstract void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to);
+
+  abstract void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to);
+
+  abstract void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to);
+
+  static double fade(double value) {
+    double valueCubed = value * value * value;
+    // 6t^5 - 15t^4 + 10t^3
+    return 6 * valueCubed * value * value - 15 * valueCubed * value + 10 * valueCubed;
+  }
+
+  static double fadeDerivative(double value) {
+    double oneMinusValue = 1.0 - value;
+    // 30t^4 - 60t^3 + 30t^2
+    return 30 * value * value * oneMinusValue * oneMinusValue;
+  }
+
+  static float fade(float value) {
+    float valueCubed = value * value * value;
+    return 6 * valueCubed * value * value - 15 * valueCubed * value + 10 * valueCubed;
+  }
+
+  static double lerp(double from, double to, double weight) {
+    return from + weight * (to - from);
+  }
+
+  static float lerp(float from, float to, float weight) {
+    return from + weight * (to - from);
+  }
+
+  static double adjustInRange(double interpolated) {
+    return ((interpolated / MAX_VALUE_VECTOR_PRODUCT) + 1.0) / 2.0;
+  }
+
+  static double adjustDerivativeInRange(double derivative) {
+    return derivative / MAX_VALUE_VECTOR_PRODUCT / 2.0;
+  }
+
+  static float adjustInRange(float interpolated) {
+    return ((interpolated / MAX_VALUE_VECTOR_PRODUCT_FLOAT) + 1.0f) / 2.0f;
+  }
+}
@@ -0,0 +1,206 @@
+package org.lefmaroli.perlin;
+
+import org.lefmaroli.perlin.bounds.BoundGridOneDimensional;
+import org.lefmaroli.perlin.configuration.JitterTrait;
+
+final class PerlinKernel1D extends PerlinKernel {
+
+  private final BoundGridOneDimensional bounds;
+
+  PerlinKernel1D(BoundGridOneDimensional bounds, int firstDimensionOffset) {
+    super(firstDimensionOffset);
+    this.bounds = bounds;
+  }
+
+  @Override
+  double evaluate(double[] coordinates) {
+    return evaluate(coordinates[0]);
+  }
+
+  double evaluate(double x) {
+    var x0 = (int) x;
+    double dx0 = x - x0;
+    double dx1 = dx0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+
+    double c0 = bounds.dot(bounds.indexOf(x0), dx0);
+    double c1 = bounds.dot(bounds.indexOf(x1), dx1);
+
+    double fx = fade(dx0);
+    double interpolated = lerp(c0, c1, fx);
+    return interpolated + 0.5;
+  }
+
+  @Override
+  double evaluate(double[] coordinates, double[] derivatives) {
+    double x = coordinates[0];
+    var x0 = (int) x;
+    double dx0 = x - x0;
+    double dx1 = dx0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int i0 = bounds.indexOf(x0);
+    double c0 = bounds.dot(i0, dx0);
+    int i1 = bounds.indexOf(x1);
+    double c1 = bounds.dot(i1, dx1);
+    double fx = fade(dx0);
+    double dfx = fadeDerivative(dx0);
+    double interpolated = lerp(c0, c1, fx);
+    double partialX =
+        lerp(bounds.getGradientComponent(i0, 0), bounds.getGradientComponent(i1, 0), fx)
+            + dfx * (c1 - c0);
+    derivatives[0] = partialX;
+    return interpolated + 0.5;
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double x = lastAxis[i];
+      var x0 = (int) x;
+      double dx0 = x - x0;
+      double dx1 = dx0 - 1.0;
+      x0 += firstDimensionOffset;
+      int x1 = x0 + 1;
+      double fx = fade(dx0);
+      double c0 = bounds.dot(bounds.indexOf(x0), dx0);
+      double c1 = bounds.dot(bounds.indexOf(x1), dx1);
+      double interpolated = lerp(c0, c1, fx);
+      results[offset + i] = interpolated + 0.5;
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    throw new IllegalArgumentException("Two varying axes require at least 2 dimensions");
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double x = lastAxis[i];
+      var x0 = (int) x;
+      float dx0 = (float) (x - x0);
+      float dx1 = dx0 - 1.0f;
+      x0 += firstDimensionOffset;
+      int x1 = x0 + 1;
+      float fx = fade(dx0);
+      float c0 = bounds.dot(bounds.indexOf(x0), dx0);
+      float c1 = bounds.dot(bounds.indexOf(x1), dx1);
+      float interpolated = lerp(c0, c1, fx);
+      results[offset + i] = interpolated + 0.5f;
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    throw new IllegalArgumentException("Two varying axes require at least 2 dimensions");
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int x0 = lastAxis.cells[i];
+      double dx0 = lastAxis.distances[i];
+      double dx1 = dx0 - 1.0;
+      x0 += firstDimensionOffset;
+      int x1 = x0 + 1;
+      double fx = lastAxis.fades[i];
+      double c0 = bounds.dot(bounds.indexOf(x0), dx0);
+      double c1 = bounds.dot(bounds.indexOf(x1), dx1);
+      double interpolated = lerp(c0, c1, fx);
+      results[offset + i] = interpolated + 0.5;
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    throw new IllegalArgumentException("Two varying axes require at least 2 dimensions");
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int x0 = lastAxis.cells[i];
+      float dx0 = lastAxis.floatDistances[i];
+      float dx1 = dx0 - 1.0f;
+      x0 += firstDimensionOffset;
+      int x1 = x0 + 1;
+      float fx = lastAxis.floatFades[i];
+      float c0 = bounds.dot(bounds.indexOf(x0), dx0);
+      float c1 = bounds.dot(bounds.indexOf(x1), dx1);
+      float interpolated = lerp(c0, c1, fx);
+      results[offset + i] = interpolated + 0.5f;
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    throw new IllegalArgumentException("Two varying axes require at least 2 dimensions");
+  }
+}
@@ -0,0 +1,362 @@
+package org.lefmaroli.perlin;
+
+import org.lefmaroli.perlin.bounds.BoundGridTwoDimensional;
+import org.lefmaroli.perlin.configuration.JitterTrait;
+
+final class PerlinKernel2D extends PerlinKernel {
+
+  private final BoundGridTwoDimensional bounds;
+
+  PerlinKernel2D(BoundGridTwoDimensional bounds, int firstDimensionOffset) {
+    super(firstDimensionOffset);
+    this.bounds = bounds;
+  }
+
+  @Override
+  double evaluate(double[] coordinates) {
+    return evaluate(coordinates[0], coordinates[1]);
+  }
+
+  double evaluate(double x, double y) {
+    var x0 = (int) x;
+    var y0 = (int) y;
+    double dx0 = x - x0;
+    double dy0 = y - y0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+
+    double c00 = bounds.dot(bounds.indexOf(x0, y0), dx0, dy0);
+    double c01 = bounds.dot(bounds.indexOf(x0, y1), dx0, dy1);
+    double c10 = bounds.dot(bounds.indexOf(x1, y0), dx1, dy0);
+    double c11 = bounds.dot(bounds.indexOf(x1, y1), dx1, dy1);
+
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double iy0 = lerp(c00, c01, fy);
+    double iy1 = lerp(c10, c11, fy);
+    double interpolated = lerp(iy0, iy1, fx);
+    return adjustInRange(interpolated);
+  }
+
+  @Override
+  double evaluate(double[] coordinates, double[] derivatives) {
+    double x = coordinates[0];
+    double y = coordinates[1];
+    var x0 = (int) x;
+    var y0 = (int) y;
+    double dx0 = x - x0;
+    double dy0 = y - y0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int i00 = bounds.indexOf(x0, y0);
+    double c00 = bounds.dot(i00, dx0, dy0);
+    int i01 = bounds.indexOf(x0, y1);
+    double c01 = bounds.dot(i01, dx0, dy1);
+    int i10 = bounds.indexOf(x1, y0);
+    double c10 = bounds.dot(i10, dx1, dy0);
+    int i11 = bounds.indexOf(x1, y1);
+    double c11 = bounds.dot(i11, dx1, dy1);
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double dfx = fadeDerivative(dx0);
+    double dfy = fadeDerivative(dy0);
+    double iy0 = lerp(c00, c01, fy);
+    double iy0x =
+        lerp(bounds.getGradientComponent(i00, 0), bounds.getGradientComponent(i01, 0), fy);
+    double iy0y =
+        lerp(bounds.getGradientComponent(i00, 1), bounds.getGradientComponent(i01, 1), fy)
+            + dfy * (c01 - c00);
+    double iy1 = lerp(c10, c11, fy);
+    double iy1x =
+        lerp(bounds.getGradientComponent(i10, 0), bounds.getGradientComponent(i11, 0), fy);
+    double iy1y =
+        lerp(bounds.getGradientComponent(i10, 1), bounds.getGradientComponent(i11, 1), fy)
+            + dfy * (c11 - c10);
+    double interpolated = lerp(iy0, iy1, fx);
+    double partialX = lerp(iy0x, iy1x, fx) + dfx * (iy1 - iy0);
+    double partialY = lerp(iy0y, iy1y, fx);
+    derivatives[0] = adjustDerivativeInRange(partialX);
+    derivatives[1] = adjustDerivativeInRange(partialY);
+    return adjustInRange(interpolated);
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    double dx0 = coordinates[0] - x0;
+    double dx1 = dx0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    double fx = fade(dx0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double y = lastAxis[i];
+      var y0 = (int) y;
+      double dy0 = y - y0;
+      double dy1 = dy0 - 1.0;
+      int y1 = y0 + 1;
+      double fy = fade(dy0);
+      double c00 = bounds.dot(bounds.indexOf(x0, y0), dx0, dy0);
+      double c01 = bounds.dot(bounds.indexOf(x0, y1), dx0, dy1);
+      double c10 = bounds.dot(bounds.indexOf(x1, y0), dx1, dy0);
+      double c11 = bounds.dot(bounds.indexOf(x1, y1), dx1, dy1);
+      double iy0 = lerp(c00, c01, fy);
+      double iy1 = lerp(c10, c11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double x = beforeLastAxis[i];
+      double y = lastAxis[i];
+      var x0 = (int) x;
+      var y0 = (int) y;
+      double dx0 = x - x0;
+      double dy0 = y - y0;
+      double dx1 = dx0 - 1.0;
+      double dy1 = dy0 - 1.0;
+      x0 += firstDimensionOffset;
+      int x1 = x0 + 1;
+      int y1 = y0 + 1;
+      double fx = fade(dx0);
+      double fy = fade(dy0);
+      double c00 = bounds.dot(bounds.indexOf(x0, y0), dx0, dy0);
+      double c01 = bounds.dot(bounds.indexOf(x0, y1), dx0, dy1);
+      double c10 = bounds.dot(bounds.indexOf(x1, y0), dx1, dy0);
+      double c11 = bounds.dot(bounds.indexOf(x1, y1), dx1, dy1);
+      double iy0 = lerp(c00, c01, fy);
+      double iy1 = lerp(c10, c11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dx1 = dx0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    float fx = fade(dx0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double y = lastAxis[i];
+      var y0 = (int) y;
+      float dy0 = (float) (y - y0);
+      float dy1 = dy0 - 1.0f;
+      int y1 = y0 + 1;
+      float fy = fade(dy0);
+      float c00 = bounds.dot(bounds.indexOf(x0, y0), dx0, dy0);
+      float c01 = bounds.dot(bounds.indexOf(x0, y1), dx0, dy1);
+      float c10 = bounds.dot(bounds.indexOf(x1, y0), dx1, dy0);
+      float c11 = bounds.dot(bounds.indexOf(x1, y1), dx1, dy1);
+      float iy0 = lerp(c00, c01, fy);
+      float iy1 = lerp(c10, c11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double x = beforeLastAxis[i];
+      double y = lastAxis[i];
+      var x0 = (int) x;
+      var y0 = (int) y;
+      float dx0 = (float) (x - x0);
+      float dy0 = (float) (y - y0);
+      float dx1 = dx0 - 1.0f;
+      float dy1 = dy0 - 1.0f;
+      x0 += firstDimensionOffset;
+      int x1 = x0 + 1;
+      int y1 = y0 + 1;
+      float fx = fade(dx0);
+      float fy = fade(dy0);
+      float c00 = bounds.dot(bounds.indexOf(x0, y0), dx0, dy0);
+      float c01 = bounds.dot(bounds.indexOf(x0, y1), dx0, dy1);
+      float c10 = bounds.dot(bounds.indexOf(x1, y0), dx1, dy0);
+      float c11 = bounds.dot(bounds.indexOf(x1, y1), dx1, dy1);
+      float iy0 = lerp(c00, c01, fy);
+      float iy1 = lerp(c10, c11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    double dx0 = coordinates[0] - x0;
+    double dx1 = dx0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    double fx = fade(dx0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int y0 = lastAxis.cells[i];
+      double dy0 = lastAxis.distances[i];
+      double dy1 = dy0 - 1.0;
+      int y1 = y0 + 1;
+      double fy = lastAxis.fades[i];
+      double c00 = bounds.dot(bounds.indexOf(x0, y0), dx0, dy0);
+      double c01 = bounds.dot(bounds.indexOf(x0, y1), dx0, dy1);
+      double c10 = bounds.dot(bounds.indexOf(x1, y0), dx1, dy0);
+      double c11 = bounds.dot(bounds.indexOf(x1, y1), dx1, dy1);
+      double iy0 = lerp(c00, c01, fy);
+      double iy1 = lerp(c10, c11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int x0 = beforeLastAxis.cells[i];
+      int y0 = lastAxis.cells[i];
+      double dx0 = beforeLastAxis.distances[i];
+      double dy0 = lastAxis.distances[i];
+      double dx1 = dx0 - 1.0;
+      double dy1 = dy0 - 1.0;
+      x0 += firstDimensionOffset;
+      int x1 = x0 + 1;
+      int y1 = y0 + 1;
+      double fx = beforeLastAxis.fades[i];
+      double fy = lastAxis.fades[i];
+      double c00 = bounds.dot(bounds.indexOf(x0, y0), dx0, dy0);
+      double c01 = bounds.dot(bounds.indexOf(x0, y1), dx0, dy1);
+      double c10 = bounds.dot(bounds.indexOf(x1, y0), dx1, dy0);
+      double c11 = bounds.dot(bounds.indexOf(x1, y1), dx1, dy1);
+      double iy0 = lerp(c00, c01, fy);
+      double iy1 = lerp(c10, c11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dx1 = dx0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    float fx = fade(dx0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int y0 = lastAxis.cells[i];
+      float dy0 = lastAxis.floatDistances[i];
+      float dy1 = dy0 - 1.0f;
+      int y1 = y0 + 1;
+      float fy = lastAxis.floatFades[i];
+      float c00 = bounds.dot(bounds.indexOf(x0, y0), dx0, dy0);
+      float c01 = bounds.dot(bounds.indexOf(x0, y1), dx0, dy1);
+      float c10 = bounds.dot(bounds.indexOf(x1, y0), dx1, dy0);
+      float c11 = bounds.dot(bounds.indexOf(x1, y1), dx1, dy1);
+      float iy0 = lerp(c00, c01, fy);
+      float iy1 = lerp(c10, c11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int x0 = beforeLastAxis.cells[i];
+      int y0 = lastAxis.cells[i];
+      float dx0 = beforeLastAxis.floatDistances[i];
+      float dy0 = lastAxis.floatDistances[i];
+      float dx1 = dx0 - 1.0f;
+      float dy1 = dy0 - 1.0f;
+      x0 += firstDimensionOffset;
+      int x1 = x0 + 1;
+      int y1 = y0 + 1;
+      float fx = beforeLastAxis.floatFades[i];
+      float fy = lastAxis.floatFades[i];
+      float c00 = bounds.dot(bounds.indexOf(x0, y0), dx0, dy0);
+      float c01 = bounds.dot(bounds.indexOf(x0, y1), dx0, dy1);
+      float c10 = bounds.dot(bounds.indexOf(x1, y0), dx1, dy0);
+      float c11 = bounds.dot(bounds.indexOf(x1, y1), dx1, dy1);
+      float iy0 = lerp(c00, c01, fy);
+      float iy1 = lerp(c10, c11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+}
@@ -0,0 +1,524 @@
+package org.lefmaroli.perlin;
+
+import org.lefmaroli.perlin.bounds.BoundGridThreeDimensional;
+import org.lefmaroli.perlin.configuration.JitterTrait;
+
+final class PerlinKernel3D extends PerlinKernel {
+
+  private final BoundGridThreeDimensional bounds;
+
+  PerlinKernel3D(BoundGridThreeDimensional bounds, int firstDimensionOffset) {
+    super(firstDimensionOffset);
+    this.bounds = bounds;
+  }
+
+  @Override
+  double evaluate(double[] coordinates) {
+    return evaluate(coordinates[0], coordinates[1], coordinates[2]);
+  }
+
+  double evaluate(double x, double y, double z) {
+    var x0 = (int) x;
+    var y0 = (int) y;
+    var z0 = (int) z;
+    double dx0 = x - x0;
+    double dy0 = y - y0;
+    double dz0 = z - z0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+
+    double c000 = bounds.dot(bounds.indexOf(x0, y0, z0), dx0, dy0, dz0);
+    double c001 = bounds.dot(bounds.indexOf(x0, y0, z1), dx0, dy0, dz1);
+    double c010 = bounds.dot(bounds.indexOf(x0, y1, z0), dx0, dy1, dz0);
+    double c011 = bounds.dot(bounds.indexOf(x0, y1, z1), dx0, dy1, dz1);
+    double c100 = bounds.dot(bounds.indexOf(x1, y0, z0), dx1, dy0, dz0);
+    double c101 = bounds.dot(bounds.indexOf(x1, y0, z1), dx1, dy0, dz1);
+    double c110 = bounds.dot(bounds.indexOf(x1, y1, z0), dx1, dy1, dz0);
+    double c111 = bounds.dot(bounds.indexOf(x1, y1, z1), dx1, dy1, dz1);
+
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    double iz00 = lerp(c000, c001, fz);
+    double iz01 = lerp(c010, c011, fz);
+    double iz10 = lerp(c100, c101, fz);
+    double iz11 = lerp(c110, c111, fz);
+    double iy0 = lerp(iz00, iz01, fy);
+    double iy1 = lerp(iz10, iz11, fy);
+    double interpolated = lerp(iy0, iy1, fx);
+    return adjustInRange(interpolated);
+  }
+
+  @Override
+  double evaluate(double[] coordinates, double[] derivatives) {
+    double x = coordinates[0];
+    double y = coordinates[1];
+    double z = coordinates[2];
+    var x0 = (int) x;
+    var y0 = (int) y;
+    var z0 = (int) z;
+    double dx0 = x - x0;
+    double dy0 = y - y0;
+    double dz0 = z - z0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    int i000 = bounds.indexOf(x0, y0, z0);
+    double c000 = bounds.dot(i000, dx0, dy0, dz0);
+    int i001 = bounds.indexOf(x0, y0, z1);
+    double c001 = bounds.dot(i001, dx0, dy0, dz1);
+    int i010 = bounds.indexOf(x0, y1, z0);
+    double c010 = bounds.dot(i010, dx0, dy1, dz0);
+    int i011 = bounds.indexOf(x0, y1, z1);
+    double c011 = bounds.dot(i011, dx0, dy1, dz1);
+    int i100 = bounds.indexOf(x1, y0, z0);
+    double c100 = bounds.dot(i100, dx1, dy0, dz0);
+    int i101 = bounds.indexOf(x1, y0, z1);
+    double c101 = bounds.dot(i101, dx1, dy0, dz1);
+    int i110 = bounds.indexOf(x1, y1, z0);
+    double c110 = bounds.dot(i110, dx1, dy1, dz0);
+    int i111 = bounds.indexOf(x1, y1, z1);
+    double c111 = bounds.dot(i111, dx1, dy1, dz1);
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    double dfx = fadeDerivative(dx0);
+    double dfy = fadeDerivative(dy0);
+    double dfz = fadeDerivative(dz0);
+    double iz00 = lerp(c000, c001, fz);
+    double iz00x =
+        lerp(bounds.getGradientComponent(i000, 0), bounds.getGradientComponent(i001, 0), fz);
+    double iz00y =
+        lerp(bounds.getGradientComponent(i000, 1), bounds.getGradientComponent(i001, 1), fz);
+    double iz00z =
+        lerp(bounds.getGradientComponent(i000, 2), bounds.getGradientComponent(i001, 2), fz)
+            + dfz * (c001 - c000);
+    double iz01 = lerp(c010, c011, fz);
+    double iz01x =
+        lerp(bounds.getGradientComponent(i010, 0), bounds.getGradientComponent(i011, 0), fz);
+    double iz01y =
+        lerp(bounds.getGradientComponent(i010, 1), bounds.getGradientComponent(i011, 1), fz);
+    double iz01z =
+        lerp(bounds.getGradientComponent(i010, 2), bounds.getGradientComponent(i011, 2), fz)
+            + dfz * (c011 - c010);
+    double iz10 = lerp(c100, c101, fz);
+    double iz10x =
+        lerp(bounds.getGradientComponent(i100, 0), bounds.getGradientComponent(i101, 0), fz);
+    double iz10y =
+        lerp(bounds.getGradientComponent(i100, 1), bounds.getGradientComponent(i101, 1), fz);
+    double iz10z =
+        lerp(bounds.getGradientComponent(i100, 2), bounds.getGradientComponent(i101, 2), fz)
+            + dfz * (c101 - c100);
+    double iz11 = lerp(c110, c111, fz);
+    double iz11x =
+        lerp(bounds.getGradientComponent(i110, 0), bounds.getGradientComponent(i111, 0), fz);
+    double iz11y =
+        lerp(bounds.getGradientComponent(i110, 1), bounds.getGradientComponent(i111, 1), fz);
+    double iz11z =
+        lerp(bounds.getGradientComponent(i110, 2), bounds.getGradientComponent(i111, 2), fz)
+            + dfz * (c111 - c110);
+    double iy0 = lerp(iz00, iz01, fy);
+    double iy0x = lerp(iz00x, iz01x, fy);
+    double iy0y = lerp(iz00y, iz01y, fy) + dfy * (iz01 - iz00);
+    double iy0z = lerp(iz00z, iz01z, fy);
+    double iy1 = lerp(iz10, iz11, fy);
+    double iy1x = lerp(iz10x, iz11x, fy);
+    double iy1y = lerp(iz10y, iz11y, fy) + dfy * (iz11 - iz10);
+    double iy1z = lerp(iz10z, iz11z, fy);
+    double interpolated = lerp(iy0, iy1, fx);
+    double partialX = lerp(iy0x, iy1x, fx) + dfx * (iy1 - iy0);
+    double partialY = lerp(iy0y, iy1y, fx);
+    double partialZ = lerp(iy0z, iy1z, fx);
+    derivatives[0] = adjustDerivativeInRange(partialX);
+    derivatives[1] = adjustDerivativeInRange(partialY);
+    derivatives[2] = adjustDerivativeInRange(partialZ);
+    return adjustInRange(interpolated);
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    double dx0 = coordinates[0] - x0;
+    double dy0 = coordinates[1] - y0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double z = lastAxis[i];
+      var z0 = (int) z;
+      double dz0 = z - z0;
+      double dz1 = dz0 - 1.0;
+      int z1 = z0 + 1;
+      double fz = fade(dz0);
+      double c000 = bounds.dot(bounds.indexOf(x0, y0, z0), dx0, dy0, dz0);
+      double c001 = bounds.dot(bounds.indexOf(x0, y0, z1), dx0, dy0, dz1);
+      double c010 = bounds.dot(bounds.indexOf(x0, y1, z0), dx0, dy1, dz0);
+      double c011 = bounds.dot(bounds.indexOf(x0, y1, z1), dx0, dy1, dz1);
+      double c100 = bounds.dot(bounds.indexOf(x1, y0, z0), dx1, dy0, dz0);
+      double c101 = bounds.dot(bounds.indexOf(x1, y0, z1), dx1, dy0, dz1);
+      double c110 = bounds.dot(bounds.indexOf(x1, y1, z0), dx1, dy1, dz0);
+      double c111 = bounds.dot(bounds.indexOf(x1, y1, z1), dx1, dy1, dz1);
+      double iz00 = lerp(c000, c001, fz);
+      double iz01 = lerp(c010, c011, fz);
+      double iz10 = lerp(c100, c101, fz);
+      double iz11 = lerp(c110, c111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    double dx0 = coordinates[0] - x0;
+    double dx1 = dx0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    double fx = fade(dx0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double y = beforeLastAxis[i];
+      double z = lastAxis[i];
+      var y0 = (int) y;
+      var z0 = (int) z;
+      double dy0 = y - y0;
+      double dz0 = z - z0;
+      double dy1 = dy0 - 1.0;
+      double dz1 = dz0 - 1.0;
+      int y1 = y0 + 1;
+      int z1 = z0 + 1;
+      double fy = fade(dy0);
+      double fz = fade(dz0);
+      double c000 = bounds.dot(bounds.indexOf(x0, y0, z0), dx0, dy0, dz0);
+      double c001 = bounds.dot(bounds.indexOf(x0, y0, z1), dx0, dy0, dz1);
+      double c010 = bounds.dot(bounds.indexOf(x0, y1, z0), dx0, dy1, dz0);
+      double c011 = bounds.dot(bounds.indexOf(x0, y1, z1), dx0, dy1, dz1);
+      double c100 = bounds.dot(bounds.indexOf(x1, y0, z0), dx1, dy0, dz0);
+      double c101 = bounds.dot(bounds.indexOf(x1, y0, z1), dx1, dy0, dz1);
+      double c110 = bounds.dot(bounds.indexOf(x1, y1, z0), dx1, dy1, dz0);
+      double c111 = bounds.dot(bounds.indexOf(x1, y1, z1), dx1, dy1, dz1);
+      double iz00 = lerp(c000, c001, fz);
+      double iz01 = lerp(c010, c011, fz);
+      double iz10 = lerp(c100, c101, fz);
+      double iz11 = lerp(c110, c111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dy0 = (float) (coordinates[1] - y0);
+    float dx1 = dx0 - 1.0f;
+    float dy1 = dy0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    float fx = fade(dx0);
+    float fy = fade(dy0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double z = lastAxis[i];
+      var z0 = (int) z;
+      float dz0 = (float) (z - z0);
+      float dz1 = dz0 - 1.0f;
+      int z1 = z0 + 1;
+      float fz = fade(dz0);
+      float c000 = bounds.dot(bounds.indexOf(x0, y0, z0), dx0, dy0, dz0);
+      float c001 = bounds.dot(bounds.indexOf(x0, y0, z1), dx0, dy0, dz1);
+      float c010 = bounds.dot(bounds.indexOf(x0, y1, z0), dx0, dy1, dz0);
+      float c011 = bounds.dot(bounds.indexOf(x0, y1, z1), dx0, dy1, dz1);
+      float c100 = bounds.dot(bounds.indexOf(x1, y0, z0), dx1, dy0, dz0);
+      float c101 = bounds.dot(bounds.indexOf(x1, y0, z1), dx1, dy0, dz1);
+      float c110 = bounds.dot(bounds.indexOf(x1, y1, z0), dx1, dy1, dz0);
+      float c111 = bounds.dot(bounds.indexOf(x1, y1, z1), dx1, dy1, dz1);
+      float iz00 = lerp(c000, c001, fz);
+      float iz01 = lerp(c010, c011, fz);
+      float iz10 = lerp(c100, c101, fz);
+      float iz11 = lerp(c110, c111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dx1 = dx0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    float fx = fade(dx0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double y = beforeLastAxis[i];
+      double z = lastAxis[i];
+      var y0 = (int) y;
+      var z0 = (int) z;
+      float dy0 = (float) (y - y0);
+      float dz0 = (float) (z - z0);
+      float dy1 = dy0 - 1.0f;
+      float dz1 = dz0 - 1.0f;
+      int y1 = y0 + 1;
+      int z1 = z0 + 1;
+      float fy = fade(dy0);
+      float fz = fade(dz0);
+      float c000 = bounds.dot(bounds.indexOf(x0, y0, z0), dx0, dy0, dz0);
+      float c001 = bounds.dot(bounds.indexOf(x0, y0, z1), dx0, dy0, dz1);
+      float c010 = bounds.dot(bounds.indexOf(x0, y1, z0), dx0, dy1, dz0);
+      float c011 = bounds.dot(bounds.indexOf(x0, y1, z1), dx0, dy1, dz1);
+      float c100 = bounds.dot(bounds.indexOf(x1, y0, z0), dx1, dy0, dz0);
+      float c101 = bounds.dot(bounds.indexOf(x1, y0, z1), dx1, dy0, dz1);
+      float c110 = bounds.dot(bounds.indexOf(x1, y1, z0), dx1, dy1, dz0);
+      float c111 = bounds.dot(bounds.indexOf(x1, y1, z1), dx1, dy1, dz1);
+      float iz00 = lerp(c000, c001, fz);
+      float iz01 = lerp(c010, c011, fz);
+      float iz10 = lerp(c100, c101, fz);
+      float iz11 = lerp(c110, c111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    double dx0 = coordinates[0] - x0;
+    double dy0 = coordinates[1] - y0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int z0 = lastAxis.cells[i];
+      double dz0 = lastAxis.distances[i];
+      double dz1 = dz0 - 1.0;
+      int z1 = z0 + 1;
+      double fz = lastAxis.fades[i];
+      double c000 = bounds.dot(bounds.indexOf(x0, y0, z0), dx0, dy0, dz0);
+      double c001 = bounds.dot(bounds.indexOf(x0, y0, z1), dx0, dy0, dz1);
+      double c010 = bounds.dot(bounds.indexOf(x0, y1, z0), dx0, dy1, dz0);
+      double c011 = bounds.dot(bounds.indexOf(x0, y1, z1), dx0, dy1, dz1);
+      double c100 = bounds.dot(bounds.indexOf(x1, y0, z0), dx1, dy0, dz0);
+      double c101 = bounds.dot(bounds.indexOf(x1, y0, z1), dx1, dy0, dz1);
+      double c110 = bounds.dot(bounds.indexOf(x1, y1, z0), dx1, dy1, dz0);
+      double c111 = bounds.dot(bounds.indexOf(x1, y1, z1), dx1, dy1, dz1);
+      double iz00 = lerp(c000, c001, fz);
+      double iz01 = lerp(c010, c011, fz);
+      double iz10 = lerp(c100, c101, fz);
+      double iz11 = lerp(c110, c111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    double dx0 = coordinates[0] - x0;
+    double dx1 = dx0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    double fx = fade(dx0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int y0 = beforeLastAxis.cells[i];
+      int z0 = lastAxis.cells[i];
+      double dy0 = beforeLastAxis.distances[i];
+      double dz0 = lastAxis.distances[i];
+      double dy1 = dy0 - 1.0;
+      double dz1 = dz0 - 1.0;
+      int y1 = y0 + 1;
+      int z1 = z0 + 1;
+      double fy = beforeLastAxis.fades[i];
+      double fz = lastAxis.fades[i];
+      double c000 = bounds.dot(bounds.indexOf(x0, y0, z0), dx0, dy0, dz0);
+      double c001 = bounds.dot(bounds.indexOf(x0, y0, z1), dx0, dy0, dz1);
+      double c010 = bounds.dot(bounds.indexOf(x0, y1, z0), dx0, dy1, dz0);
+      double c011 = bounds.dot(bounds.indexOf(x0, y1, z1), dx0, dy1, dz1);
+      double c100 = bounds.dot(bounds.indexOf(x1, y0, z0), dx1, dy0, dz0);
+      double c101 = bounds.dot(bounds.indexOf(x1, y0, z1), dx1, dy0, dz1);
+      double c110 = bounds.dot(bounds.indexOf(x1, y1, z0), dx1, dy1, dz0);
+      double c111 = bounds.dot(bounds.indexOf(x1, y1, z1), dx1, dy1, dz1);
+      double iz00 = lerp(c000, c001, fz);
+      double iz01 = lerp(c010, c011, fz);
+      double iz10 = lerp(c100, c101, fz);
+      double iz11 = lerp(c110, c111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dy0 = (float) (coordinates[1] - y0);
+    float dx1 = dx0 - 1.0f;
+    float dy1 = dy0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    float fx = fade(dx0);
+    float fy = fade(dy0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int z0 = lastAxis.cells[i];
+      float dz0 = lastAxis.floatDistances[i];
+      float dz1 = dz0 - 1.0f;
+      int z1 = z0 + 1;
+      float fz = lastAxis.floatFades[i];
+      float c000 = bounds.dot(bounds.indexOf(x0, y0, z0), dx0, dy0, dz0);
+      float c001 = bounds.dot(bounds.indexOf(x0, y0, z1), dx0, dy0, dz1);
+      float c010 = bounds.dot(bounds.indexOf(x0, y1, z0), dx0, dy1, dz0);
+      float c011 = bounds.dot(bounds.indexOf(x0, y1, z1), dx0, dy1, dz1);
+      float c100 = bounds.dot(bounds.indexOf(x1, y0, z0), dx1, dy0, dz0);
+      float c101 = bounds.dot(bounds.indexOf(x1, y0, z1), dx1, dy0, dz1);
+      float c110 = bounds.dot(bounds.indexOf(x1, y1, z0), dx1, dy1, dz0);
+      float c111 = bounds.dot(bounds.indexOf(x1, y1, z1), dx1, dy1, dz1);
+      float iz00 = lerp(c000, c001, fz);
+      float iz01 = lerp(c010, c011, fz);
+      float iz10 = lerp(c100, c101, fz);
+      float iz11 = lerp(c110, c111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dx1 = dx0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    float fx = fade(dx0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int y0 = beforeLastAxis.cells[i];
+      int z0 = lastAxis.cells[i];
+      float dy0 = beforeLastAxis.floatDistances[i];
+      float dz0 = lastAxis.floatDistances[i];
+      float dy1 = dy0 - 1.0f;
+      float dz1 = dz0 - 1.0f;
+      int y1 = y0 + 1;
+      int z1 = z0 + 1;
+      float fy = beforeLastAxis.floatFades[i];
+      float fz = lastAxis.floatFades[i];
+      float c000 = bounds.dot(bounds.indexOf(x0, y0, z0), dx0, dy0, dz0);
+      float c001 = bounds.dot(bounds.indexOf(x0, y0, z1), dx0, dy0, dz1);
+      float c010 = bounds.dot(bounds.indexOf(x0, y1, z0), dx0, dy1, dz0);
+      float c011 = bounds.dot(bounds.indexOf(x0, y1, z1), dx0, dy1, dz1);
+      float c100 = bounds.dot(bounds.indexOf(x1, y0, z0), dx1, dy0, dz0);
+      float c101 = bounds.dot(bounds.indexOf(x1, y0, z1), dx1, dy0, dz1);
+      float c110 = bounds.dot(bounds.indexOf(x1, y1, z0), dx1, dy1, dz0);
+      float c111 = bounds.dot(bounds.indexOf(x1, y1, z1), dx1, dy1, dz1);
+      float iz00 = lerp(c000, c001, fz);
+      float iz01 = lerp(c010, c011, fz);
+      float iz10 = lerp(c100, c101, fz);
+      float iz11 = lerp(c110, c111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+}
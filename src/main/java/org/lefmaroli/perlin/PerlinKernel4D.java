@@ -0,0 +1,808 @@
+package org.lefmaroli.perlin;
+
+import org.lefmaroli.perlin.bounds.BoundGridFourDimensional;
+import org.lefmaroli.perlin.configuration.JitterTrait;
+
+final class PerlinKernel4D extends PerlinKernel {
+
+  private final BoundGridFourDimensional bounds;
+
+  PerlinKernel4D(BoundGridFourDimensional bounds, int firstDimensionOffset) {
+    super(firstDimensionOffset);
+    this.bounds = bounds;
+  }
+
+  @Override
+  double evaluate(double[] coordinates) {
+    return evaluate(coordinates[0], coordinates[1], coordinates[2], coordinates[3]);
+  }
+
+  double evaluate(double x, double y, double z, double t) {
+    var x0 = (int) x;
+    var y0 = (int) y;
+    var z0 = (int) z;
+    var t0 = (int) t;
+    double dx0 = x - x0;
+    double dy0 = y - y0;
+    double dz0 = z - z0;
+    double dt0 = t - t0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    double dt1 = dt0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    int t1 = t0 + 1;
+
+    double c0000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0), dx0, dy0, dz0, dt0);
+    double c0001 = bounds.dot(bounds.indexOf(x0, y0, z0, t1), dx0, dy0, dz0, dt1);
+    double c0010 = bounds.dot(bounds.indexOf(x0, y0, z1, t0), dx0, dy0, dz1, dt0);
+    double c0011 = bounds.dot(bounds.indexOf(x0, y0, z1, t1), dx0, dy0, dz1, dt1);
+    double c0100 = bounds.dot(bounds.indexOf(x0, y1, z0, t0), dx0, dy1, dz0, dt0);
+    double c0101 = bounds.dot(bounds.indexOf(x0, y1, z0, t1), dx0, dy1, dz0, dt1);
+    double c0110 = bounds.dot(bounds.indexOf(x0, y1, z1, t0), dx0, dy1, dz1, dt0);
+    double c0111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1), dx0, dy1, dz1, dt1);
+    double c1000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0), dx1, dy0, dz0, dt0);
+    double c1001 = bounds.dot(bounds.indexOf(x1, y0, z0, t1), dx1, dy0, dz0, dt1);
+    double c1010 = bounds.dot(bounds.indexOf(x1, y0, z1, t0), dx1, dy0, dz1, dt0);
+    double c1011 = bounds.dot(bounds.indexOf(x1, y0, z1, t1), dx1, dy0, dz1, dt1);
+    double c1100 = bounds.dot(bounds.indexOf(x1, y1, z0, t0), dx1, dy1, dz0, dt0);
+    double c1101 = bounds.dot(bounds.indexOf(x1, y1, z0, t1), dx1, dy1, dz0, dt1);
+    double c1110 = bounds.dot(bounds.indexOf(x1, y1, z1, t0), dx1, dy1, dz1, dt0);
+    double c1111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1), dx1, dy1, dz1, dt1);
+
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    double ft = fade(dt0);
+    double it000 = lerp(c0000, c0001, ft);
+    double it001 = lerp(c0010, c0011, ft);
+    double it010 = lerp(c0100, c0101, ft);
+    double it011 = lerp(c0110, c0111, ft);
+    double it100 = lerp(c1000, c1001, ft);
+    double it101 = lerp(c1010, c1011, ft);
+    double it110 = lerp(c1100, c1101, ft);
+    double it111 = lerp(c1110, c1111, ft);
+    double iz00 = lerp(it000, it001, fz);
+    double iz01 = lerp(it010, it011, fz);
+    double iz10 = lerp(it100, it101, fz);
+    double iz11 = lerp(it110, it111, fz);
+    double iy0 = lerp(iz00, iz01, fy);
+    double iy1 = lerp(iz10, iz11, fy);
+    double interpolated = lerp(iy0, iy1, fx);
+    return adjustInRange(interpolated);
+  }
+
+  @Override
+  double evaluate(double[] coordinates, double[] derivatives) {
+    double x = coordinates[0];
+    double y = coordinates[1];
+    double z = coordinates[2];
+    double t = coordinates[3];
+    var x0 = (int) x;
+    var y0 = (int) y;
+    var z0 = (int) z;
+    var t0 = (int) t;
+    double dx0 = x - x0;
+    double dy0 = y - y0;
+    double dz0 = z - z0;
+    double dt0 = t - t0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    double dt1 = dt0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    int t1 = t0 + 1;
+    int i0000 = bounds.indexOf(x0, y0, z0, t0);
+    double c0000 = bounds.dot(i0000, dx0, dy0, dz0, dt0);
+    int i0001 = bounds.indexOf(x0, y0, z0, t1);
+    double c0001 = bounds.dot(i0001, dx0, dy0, dz0, dt1);
+    int i0010 = bounds.indexOf(x0, y0, z1, t0);
+    double c0010 = bounds.dot(i0010, dx0, dy0, dz1, dt0);
+    int i0011 = bounds.indexOf(x0, y0, z1, t1);
+    double c0011 = bounds.dot(i0011, dx0, dy0, dz1, dt1);
+    int i0100 = bounds.indexOf(x0, y1, z0, t0);
+    double c0100 = bounds.dot(i0100, dx0, dy1, dz0, dt0);
+    int i0101 = bounds.indexOf(x0, y1, z0, t1);
+    double c0101 = bounds.dot(i0101, dx0, dy1, dz0, dt1);
+    int i0110 = bounds.indexOf(x0, y1, z1, t0);
+    double c0110 = bounds.dot(i0110, dx0, dy1, dz1, dt0);
+    int i0111 = bounds.indexOf(x0, y1, z1, t1);
+    double c0111 = bounds.dot(i0111, dx0, dy1, dz1, dt1);
+    int i1000 = bounds.indexOf(x1, y0, z0, t0);
+    double c1000 = bounds.dot(i1000, dx1, dy0, dz0, dt0);
+    int i1001 = bounds.indexOf(x1, y0, z0, t1);
+    double c1001 = bounds.dot(i1001, dx1, dy0, dz0, dt1);
+    int i1010 = bounds.indexOf(x1, y0, z1, t0);
+    double c1010 = bounds.dot(i1010, dx1, dy0, dz1, dt0);
+    int i1011 = bounds.indexOf(x1, y0, z1, t1);
+    double c1011 = bounds.dot(i1011, dx1, dy0, dz1, dt1);
+    int i1100 = bounds.indexOf(x1, y1, z0, t0);
+    double c1100 = bounds.dot(i1100, dx1, dy1, dz0, dt0);
+    int i1101 = bounds.indexOf(x1, y1, z0, t1);
+    double c1101 = bounds.dot(i1101, dx1, dy1, dz0, dt1);
+    int i1110 = bounds.indexOf(x1, y1, z1, t0);
+    double c1110 = bounds.dot(i1110, dx1, dy1, dz1, dt0);
+    int i1111 = bounds.indexOf(x1, y1, z1, t1);
+    double c1111 = bounds.dot(i1111, dx1, dy1, dz1, dt1);
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    double ft = fade(dt0);
+    double dfx = fadeDerivative(dx0);
+    double dfy = fadeDerivative(dy0);
+    double dfz = fadeDerivative(dz0);
+    double dft = fadeDerivative(dt0);
+    double it000 = lerp(c0000, c0001, ft);
+    double it000x =
+        lerp(bounds.getGradientComponent(i0000, 0), bounds.getGradientComponent(i0001, 0), ft);
+    double it000y =
+        lerp(bounds.getGradientComponent(i0000, 1), bounds.getGradientComponent(i0001, 1), ft);
+    double it000z =
+        lerp(bounds.getGradientComponent(i0000, 2), bounds.getGradientComponent(i0001, 2), ft);
+    double it000t =
+        lerp(bounds.getGradientComponent(i0000, 3), bounds.getGradientComponent(i0001, 3), ft)
+            + dft * (c0001 - c0000);
+    double it001 = lerp(c0010, c0011, ft);
+    double it001x =
+        lerp(bounds.getGradientComponent(i0010, 0), bounds.getGradientComponent(i0011, 0), ft);
+    double it001y =
+        lerp(bounds.getGradientComponent(i0010, 1), bounds.getGradientComponent(i0011, 1), ft);
+    double it001z =
+        lerp(bounds.getGradientComponent(i0010, 2), bounds.getGradientComponent(i0011, 2), ft);
+    double it001t =
+        lerp(bounds.getGradientComponent(i0010, 3), bounds.getGradientComponent(i0011, 3), ft)
+            + dft * (c0011 - c0010);
+    double it010 = lerp(c0100, c0101, ft);
+    double it010x =
+        lerp(bounds.getGradientComponent(i0100, 0), bounds.getGradientComponent(i0101, 0), ft);
+    double it010y =
+        lerp(bounds.getGradientComponent(i0100, 1), bounds.getGradientComponent(i0101, 1), ft);
+    double it010z =
+        lerp(bounds.getGradientComponent(i0100, 2), bounds.getGradientComponent(i0101, 2), ft);
+    double it010t =
+        lerp(bounds.getGradientComponent(i0100, 3), bounds.getGradientComponent(i0101, 3), ft)
+            + dft * (c0101 - c0100);
+    double it011 = lerp(c0110, c0111, ft);
+    double it011x =
+        lerp(bounds.getGradientComponent(i0110, 0), bounds.getGradientComponent(i0111, 0), ft);
+    double it011y =
+        lerp(bounds.getGradientComponent(i0110, 1), bounds.getGradientComponent(i0111, 1), ft);
+    double it011z =
+        lerp(bounds.getGradientComponent(i0110, 2), bounds.getGradientComponent(i0111, 2), ft);
+    double it011t =
+        lerp(bounds.getGradientComponent(i0110, 3), bounds.getGradientComponent(i0111, 3), ft)
+            + dft * (c0111 - c0110);
+    double it100 = lerp(c1000, c1001, ft);
+    double it100x =
+        lerp(bounds.getGradientComponent(i1000, 0), bounds.getGradientComponent(i1001, 0), ft);
+    double it100y =
+        lerp(bounds.getGradientComponent(i1000, 1), bounds.getGradientComponent(i1001, 1), ft);
+    double it100z =
+        lerp(bounds.getGradientComponent(i1000, 2), bounds.getGradientComponent(i1001, 2), ft);
+    double it100t =
+        lerp(bounds.getGradientComponent(i1000, 3), bounds.getGradientComponent(i1001, 3), ft)
+            + dft * (c1001 - c1000);
+    double it101 = lerp(c1010, c1011, ft);
+    double it101x =
+        lerp(bounds.getGradientComponent(i1010, 0), bounds.getGradientComponent(i1011, 0), ft);
+    double it101y =
+        lerp(bounds.getGradientComponent(i1010, 1), bounds.getGradientComponent(i1011, 1), ft);
+    double it101z =
+        lerp(bounds.getGradientComponent(i1010, 2), bounds.getGradientComponent(i1011, 2), ft);
+    double it101t =
+        lerp(bounds.getGradientComponent(i1010, 3), bounds.getGradientComponent(i1011, 3), ft)
+            + dft * (c1011 - c1010);
+    double it110 = lerp(c1100, c1101, ft);
+    double it110x =
+        lerp(bounds.getGradientComponent(i1100, 0), bounds.getGradientComponent(i1101, 0), ft);
+    double it110y =
+        lerp(bounds.getGradientComponent(i1100, 1), bounds.getGradientComponent(i1101, 1), ft);
+    double it110z =
+        lerp(bounds.getGradientComponent(i1100, 2), bounds.getGradientComponent(i1101, 2), ft);
+    double it110t =
+        lerp(bounds.getGradientComponent(i1100, 3), bounds.getGradientComponent(i1101, 3), ft)
+            + dft * (c1101 - c1100);
+    double it111 = lerp(c1110, c1111, ft);
+    double it111x =
+        lerp(bounds.getGradientComponent(i1110, 0), bounds.getGradientComponent(i1111, 0), ft);
+    double it111y =
+        lerp(bounds.getGradientComponent(i1110, 1), bounds.getGradientComponent(i1111, 1), ft);
+    double it111z =
+        lerp(bounds.getGradientComponent(i1110, 2), bounds.getGradientComponent(i1111, 2), ft);
+    double it111t =
+        lerp(bounds.getGradientComponent(i1110, 3), bounds.getGradientComponent(i1111, 3), ft)
+            + dft * (c1111 - c1110);
+    double iz00 = lerp(it000, it001, fz);
+    double iz00x = lerp(it000x, it001x, fz);
+    double iz00y = lerp(it000y, it001y, fz);
+    double iz00z = lerp(it000z, it001z, fz) + dfz * (it001 - it000);
+    double iz00t = lerp(it000t, it001t, fz);
+    double iz01 = lerp(it010, it011, fz);
+    double iz01x = lerp(it010x, it011x, fz);
+    double iz01y = lerp(it010y, it011y, fz);
+    double iz01z = lerp(it010z, it011z, fz) + dfz * (it011 - it010);
+    double iz01t = lerp(it010t, it011t, fz);
+    double iz10 = lerp(it100, it101, fz);
+    double iz10x = lerp(it100x, it101x, fz);
+    double iz10y = lerp(it100y, it101y, fz);
+    double iz10z = lerp(it100z, it101z, fz) + dfz * (it101 - it100);
+    double iz10t = lerp(it100t, it101t, fz);
+    double iz11 = lerp(it110, it111, fz);
+    double iz11x = lerp(it110x, it111x, fz);
+    double iz11y = lerp(it110y, it111y, fz);
+    double iz11z = lerp(it110z, it111z, fz) + dfz * (it111 - it110);
+    double iz11t = lerp(it110t, it111t, fz);
+    double iy0 = lerp(iz00, iz01, fy);
+    double iy0x = lerp(iz00x, iz01x, fy);
+    double iy0y = lerp(iz00y, iz01y, fy) + dfy * (iz01 - iz00);
+    double iy0z = lerp(iz00z, iz01z, fy);
+    double iy0t = lerp(iz00t, iz01t, fy);
+    double iy1 = lerp(iz10, iz11, fy);
+    double iy1x = lerp(iz10x, iz11x, fy);
+    double iy1y = lerp(iz10y, iz11y, fy) + dfy * (iz11 - iz10);
+    double iy1z = lerp(iz10z, iz11z, fy);
+    double iy1t = lerp(iz10t, iz11t, fy);
+    double interpolated = lerp(iy0, iy1, fx);
+    double partialX = lerp(iy0x, iy1x, fx) + dfx * (iy1 - iy0);
+    double partialY = lerp(iy0y, iy1y, fx);
+    double partialZ = lerp(iy0z, iy1z, fx);
+    double partialT = lerp(iy0t, iy1t, fx);
+    derivatives[0] = adjustDerivativeInRange(partialX);
+    derivatives[1] = adjustDerivativeInRange(partialY);
+    derivatives[2] = adjustDerivativeInRange(partialZ);
+    derivatives[3] = adjustDerivativeInRange(partialT);
+    return adjustInRange(interpolated);
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    double dx0 = coordinates[0] - x0;
+    double dy0 = coordinates[1] - y0;
+    double dz0 = coordinates[2] - z0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double t = lastAxis[i];
+      var t0 = (int) t;
+      double dt0 = t - t0;
+      double dt1 = dt0 - 1.0;
+      int t1 = t0 + 1;
+      double ft = fade(dt0);
+      double c0000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0), dx0, dy0, dz0, dt0);
+      double c0001 = bounds.dot(bounds.indexOf(x0, y0, z0, t1), dx0, dy0, dz0, dt1);
+      double c0010 = bounds.dot(bounds.indexOf(x0, y0, z1, t0), dx0, dy0, dz1, dt0);
+      double c0011 = bounds.dot(bounds.indexOf(x0, y0, z1, t1), dx0, dy0, dz1, dt1);
+      double c0100 = bounds.dot(bounds.indexOf(x0, y1, z0, t0), dx0, dy1, dz0, dt0);
+      double c0101 = bounds.dot(bounds.indexOf(x0, y1, z0, t1), dx0, dy1, dz0, dt1);
+      double c0110 = bounds.dot(bounds.indexOf(x0, y1, z1, t0), dx0, dy1, dz1, dt0);
+      double c0111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1), dx0, dy1, dz1, dt1);
+      double c1000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0), dx1, dy0, dz0, dt0);
+      double c1001 = bounds.dot(bounds.indexOf(x1, y0, z0, t1), dx1, dy0, dz0, dt1);
+      double c1010 = bounds.dot(bounds.indexOf(x1, y0, z1, t0), dx1, dy0, dz1, dt0);
+      double c1011 = bounds.dot(bounds.indexOf(x1, y0, z1, t1), dx1, dy0, dz1, dt1);
+      double c1100 = bounds.dot(bounds.indexOf(x1, y1, z0, t0), dx1, dy1, dz0, dt0);
+      double c1101 = bounds.dot(bounds.indexOf(x1, y1, z0, t1), dx1, dy1, dz0, dt1);
+      double c1110 = bounds.dot(bounds.indexOf(x1, y1, z1, t0), dx1, dy1, dz1, dt0);
+      double c1111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1), dx1, dy1, dz1, dt1);
+      double it000 = lerp(c0000, c0001, ft);
+      double it001 = lerp(c0010, c0011, ft);
+      double it010 = lerp(c0100, c0101, ft);
+      double it011 = lerp(c0110, c0111, ft);
+      double it100 = lerp(c1000, c1001, ft);
+      double it101 = lerp(c1010, c1011, ft);
+      double it110 = lerp(c1100, c1101, ft);
+      double it111 = lerp(c1110, c1111, ft);
+      double iz00 = lerp(it000, it001, fz);
+      double iz01 = lerp(it010, it011, fz);
+      double iz10 = lerp(it100, it101, fz);
+      double iz11 = lerp(it110, it111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    double dx0 = coordinates[0] - x0;
+    double dy0 = coordinates[1] - y0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double z = beforeLastAxis[i];
+      double t = lastAxis[i];
+      var z0 = (int) z;
+      var t0 = (int) t;
+      double dz0 = z - z0;
+      double dt0 = t - t0;
+      double dz1 = dz0 - 1.0;
+      double dt1 = dt0 - 1.0;
+      int z1 = z0 + 1;
+      int t1 = t0 + 1;
+      double fz = fade(dz0);
+      double ft = fade(dt0);
+      double c0000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0), dx0, dy0, dz0, dt0);
+      double c0001 = bounds.dot(bounds.indexOf(x0, y0, z0, t1), dx0, dy0, dz0, dt1);
+      double c0010 = bounds.dot(bounds.indexOf(x0, y0, z1, t0), dx0, dy0, dz1, dt0);
+      double c0011 = bounds.dot(bounds.indexOf(x0, y0, z1, t1), dx0, dy0, dz1, dt1);
+      double c0100 = bounds.dot(bounds.indexOf(x0, y1, z0, t0), dx0, dy1, dz0, dt0);
+      double c0101 = bounds.dot(bounds.indexOf(x0, y1, z0, t1), dx0, dy1, dz0, dt1);
+      double c0110 = bounds.dot(bounds.indexOf(x0, y1, z1, t0), dx0, dy1, dz1, dt0);
+      double c0111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1), dx0, dy1, dz1, dt1);
+      double c1000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0), dx1, dy0, dz0, dt0);
+      double c1001 = bounds.dot(bounds.indexOf(x1, y0, z0, t1), dx1, dy0, dz0, dt1);
+      double c1010 = bounds.dot(bounds.indexOf(x1, y0, z1, t0), dx1, dy0, dz1, dt0);
+      double c1011 = bounds.dot(bounds.indexOf(x1, y0, z1, t1), dx1, dy0, dz1, dt1);
+      double c1100 = bounds.dot(bounds.indexOf(x1, y1, z0, t0), dx1, dy1, dz0, dt0);
+      double c1101 = bounds.dot(bounds.indexOf(x1, y1, z0, t1), dx1, dy1, dz0, dt1);
+      double c1110 = bounds.dot(bounds.indexOf(x1, y1, z1, t0), dx1, dy1, dz1, dt0);
+      double c1111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1), dx1, dy1, dz1, dt1);
+      double it000 = lerp(c0000, c0001, ft);
+      double it001 = lerp(c0010, c0011, ft);
+      double it010 = lerp(c0100, c0101, ft);
+      double it011 = lerp(c0110, c0111, ft);
+      double it100 = lerp(c1000, c1001, ft);
+      double it101 = lerp(c1010, c1011, ft);
+      double it110 = lerp(c1100, c1101, ft);
+      double it111 = lerp(c1110, c1111, ft);
+      double iz00 = lerp(it000, it001, fz);
+      double iz01 = lerp(it010, it011, fz);
+      double iz10 = lerp(it100, it101, fz);
+      double iz11 = lerp(it110, it111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dy0 = (float) (coordinates[1] - y0);
+    float dz0 = (float) (coordinates[2] - z0);
+    float dx1 = dx0 - 1.0f;
+    float dy1 = dy0 - 1.0f;
+    float dz1 = dz0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    float fx = fade(dx0);
+    float fy = fade(dy0);
+    float fz = fade(dz0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double t = lastAxis[i];
+      var t0 = (int) t;
+      float dt0 = (float) (t - t0);
+      float dt1 = dt0 - 1.0f;
+      int t1 = t0 + 1;
+      float ft = fade(dt0);
+      float c0000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0), dx0, dy0, dz0, dt0);
+      float c0001 = bounds.dot(bounds.indexOf(x0, y0, z0, t1), dx0, dy0, dz0, dt1);
+      float c0010 = bounds.dot(bounds.indexOf(x0, y0, z1, t0), dx0, dy0, dz1, dt0);
+      float c0011 = bounds.dot(bounds.indexOf(x0, y0, z1, t1), dx0, dy0, dz1, dt1);
+      float c0100 = bounds.dot(bounds.indexOf(x0, y1, z0, t0), dx0, dy1, dz0, dt0);
+      float c0101 = bounds.dot(bounds.indexOf(x0, y1, z0, t1), dx0, dy1, dz0, dt1);
+      float c0110 = bounds.dot(bounds.indexOf(x0, y1, z1, t0), dx0, dy1, dz1, dt0);
+      float c0111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1), dx0, dy1, dz1, dt1);
+      float c1000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0), dx1, dy0, dz0, dt0);
+      float c1001 = bounds.dot(bounds.indexOf(x1, y0, z0, t1), dx1, dy0, dz0, dt1);
+      float c1010 = bounds.dot(bounds.indexOf(x1, y0, z1, t0), dx1, dy0, dz1, dt0);
+      float c1011 = bounds.dot(bounds.indexOf(x1, y0, z1, t1), dx1, dy0, dz1, dt1);
+      float c1100 = bounds.dot(bounds.indexOf(x1, y1, z0, t0), dx1, dy1, dz0, dt0);
+      float c1101 = bounds.dot(bounds.indexOf(x1, y1, z0, t1), dx1, dy1, dz0, dt1);
+      float c1110 = bounds.dot(bounds.indexOf(x1, y1, z1, t0), dx1, dy1, dz1, dt0);
+      float c1111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1), dx1, dy1, dz1, dt1);
+      float it000 = lerp(c0000, c0001, ft);
+      float it001 = lerp(c0010, c0011, ft);
+      float it010 = lerp(c0100, c0101, ft);
+      float it011 = lerp(c0110, c0111, ft);
+      float it100 = lerp(c1000, c1001, ft);
+      float it101 = lerp(c1010, c1011, ft);
+      float it110 = lerp(c1100, c1101, ft);
+      float it111 = lerp(c1110, c1111, ft);
+      float iz00 = lerp(it000, it001, fz);
+      float iz01 = lerp(it010, it011, fz);
+      float iz10 = lerp(it100, it101, fz);
+      float iz11 = lerp(it110, it111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dy0 = (float) (coordinates[1] - y0);
+    float dx1 = dx0 - 1.0f;
+    float dy1 = dy0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    float fx = fade(dx0);
+    float fy = fade(dy0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double z = beforeLastAxis[i];
+      double t = lastAxis[i];
+      var z0 = (int) z;
+      var t0 = (int) t;
+      float dz0 = (float) (z - z0);
+      float dt0 = (float) (t - t0);
+      float dz1 = dz0 - 1.0f;
+      float dt1 = dt0 - 1.0f;
+      int z1 = z0 + 1;
+      int t1 = t0 + 1;
+      float fz = fade(dz0);
+      float ft = fade(dt0);
+      float c0000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0), dx0, dy0, dz0, dt0);
+      float c0001 = bounds.dot(bounds.indexOf(x0, y0, z0, t1), dx0, dy0, dz0, dt1);
+      float c0010 = bounds.dot(bounds.indexOf(x0, y0, z1, t0), dx0, dy0, dz1, dt0);
+      float c0011 = bounds.dot(bounds.indexOf(x0, y0, z1, t1), dx0, dy0, dz1, dt1);
+      float c0100 = bounds.dot(bounds.indexOf(x0, y1, z0, t0), dx0, dy1, dz0, dt0);
+      float c0101 = bounds.dot(bounds.indexOf(x0, y1, z0, t1), dx0, dy1, dz0, dt1);
+      float c0110 = bounds.dot(bounds.indexOf(x0, y1, z1, t0), dx0, dy1, dz1, dt0);
+      float c0111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1), dx0, dy1, dz1, dt1);
+      float c1000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0), dx1, dy0, dz0, dt0);
+      float c1001 = bounds.dot(bounds.indexOf(x1, y0, z0, t1), dx1, dy0, dz0, dt1);
+      float c1010 = bounds.dot(bounds.indexOf(x1, y0, z1, t0), dx1, dy0, dz1, dt0);
+      float c1011 = bounds.dot(bounds.indexOf(x1, y0, z1, t1), dx1, dy0, dz1, dt1);
+      float c1100 = bounds.dot(bounds.indexOf(x1, y1, z0, t0), dx1, dy1, dz0, dt0);
+      float c1101 = bounds.dot(bounds.indexOf(x1, y1, z0, t1), dx1, dy1, dz0, dt1);
+      float c1110 = bounds.dot(bounds.indexOf(x1, y1, z1, t0), dx1, dy1, dz1, dt0);
+      float c1111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1), dx1, dy1, dz1, dt1);
+      float it000 = lerp(c0000, c0001, ft);
+      float it001 = lerp(c0010, c0011, ft);
+      float it010 = lerp(c0100, c0101, ft);
+      float it011 = lerp(c0110, c0111, ft);
+      float it100 = lerp(c1000, c1001, ft);
+      float it101 = lerp(c1010, c1011, ft);
+      float it110 = lerp(c1100, c1101, ft);
+      float it111 = lerp(c1110, c1111, ft);
+      float iz00 = lerp(it000, it001, fz);
+      float iz01 = lerp(it010, it011, fz);
+      float iz10 = lerp(it100, it101, fz);
+      float iz11 = lerp(it110, it111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    double dx0 = coordinates[0] - x0;
+    double dy0 = coordinates[1] - y0;
+    double dz0 = coordinates[2] - z0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int t0 = lastAxis.cells[i];
+      double dt0 = lastAxis.distances[i];
+      double dt1 = dt0 - 1.0;
+      int t1 = t0 + 1;
+      double ft = lastAxis.fades[i];
+      double c0000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0), dx0, dy0, dz0, dt0);
+      double c0001 = bounds.dot(bounds.indexOf(x0, y0, z0, t1), dx0, dy0, dz0, dt1);
+      double c0010 = bounds.dot(bounds.indexOf(x0, y0, z1, t0), dx0, dy0, dz1, dt0);
+      double c0011 = bounds.dot(bounds.indexOf(x0, y0, z1, t1), dx0, dy0, dz1, dt1);
+      double c0100 = bounds.dot(bounds.indexOf(x0, y1, z0, t0), dx0, dy1, dz0, dt0);
+      double c0101 = bounds.dot(bounds.indexOf(x0, y1, z0, t1), dx0, dy1, dz0, dt1);
+      double c0110 = bounds.dot(bounds.indexOf(x0, y1, z1, t0), dx0, dy1, dz1, dt0);
+      double c0111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1), dx0, dy1, dz1, dt1);
+      double c1000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0), dx1, dy0, dz0, dt0);
+      double c1001 = bounds.dot(bounds.indexOf(x1, y0, z0, t1), dx1, dy0, dz0, dt1);
+      double c1010 = bounds.dot(bounds.indexOf(x1, y0, z1, t0), dx1, dy0, dz1, dt0);
+      double c1011 = bounds.dot(bounds.indexOf(x1, y0, z1, t1), dx1, dy0, dz1, dt1);
+      double c1100 = bounds.dot(bounds.indexOf(x1, y1, z0, t0), dx1, dy1, dz0, dt0);
+      double c1101 = bounds.dot(bounds.indexOf(x1, y1, z0, t1), dx1, dy1, dz0, dt1);
+      double c1110 = bounds.dot(bounds.indexOf(x1, y1, z1, t0), dx1, dy1, dz1, dt0);
+      double c1111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1), dx1, dy1, dz1, dt1);
+      double it000 = lerp(c0000, c0001, ft);
+      double it001 = lerp(c0010, c0011, ft);
+      double it010 = lerp(c0100, c0101, ft);
+      double it011 = lerp(c0110, c0111, ft);
+      double it100 = lerp(c1000, c1001, ft);
+      double it101 = lerp(c1010, c1011, ft);
+      double it110 = lerp(c1100, c1101, ft);
+      double it111 = lerp(c1110, c1111, ft);
+      double iz00 = lerp(it000, it001, fz);
+      double iz01 = lerp(it010, it011, fz);
+      double iz10 = lerp(it100, it101, fz);
+      double iz11 = lerp(it110, it111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    double dx0 = coordinates[0] - x0;
+    double dy0 = coordinates[1] - y0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int z0 = beforeLastAxis.cells[i];
+      int t0 = lastAxis.cells[i];
+      double dz0 = beforeLastAxis.distances[i];
+      double dt0 = lastAxis.distances[i];
+      double dz1 = dz0 - 1.0;
+      double dt1 = dt0 - 1.0;
+      int z1 = z0 + 1;
+      int t1 = t0 + 1;
+      double fz = beforeLastAxis.fades[i];
+      double ft = lastAxis.fades[i];
+      double c0000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0), dx0, dy0, dz0, dt0);
+      double c0001 = bounds.dot(bounds.indexOf(x0, y0, z0, t1), dx0, dy0, dz0, dt1);
+      double c0010 = bounds.dot(bounds.indexOf(x0, y0, z1, t0), dx0, dy0, dz1, dt0);
+      double c0011 = bounds.dot(bounds.indexOf(x0, y0, z1, t1), dx0, dy0, dz1, dt1);
+      double c0100 = bounds.dot(bounds.indexOf(x0, y1, z0, t0), dx0, dy1, dz0, dt0);
+      double c0101 = bounds.dot(bounds.indexOf(x0, y1, z0, t1), dx0, dy1, dz0, dt1);
+      double c0110 = bounds.dot(bounds.indexOf(x0, y1, z1, t0), dx0, dy1, dz1, dt0);
+      double c0111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1), dx0, dy1, dz1, dt1);
+      double c1000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0), dx1, dy0, dz0, dt0);
+      double c1001 = bounds.dot(bounds.indexOf(x1, y0, z0, t1), dx1, dy0, dz0, dt1);
+      double c1010 = bounds.dot(bounds.indexOf(x1, y0, z1, t0), dx1, dy0, dz1, dt0);
+      double c1011 = bounds.dot(bounds.indexOf(x1, y0, z1, t1), dx1, dy0, dz1, dt1);
+      double c1100 = bounds.dot(bounds.indexOf(x1, y1, z0, t0), dx1, dy1, dz0, dt0);
+      double c1101 = bounds.dot(bounds.indexOf(x1, y1, z0, t1), dx1, dy1, dz0, dt1);
+      double c1110 = bounds.dot(bounds.indexOf(x1, y1, z1, t0), dx1, dy1, dz1, dt0);
+      double c1111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1), dx1, dy1, dz1, dt1);
+      double it000 = lerp(c0000, c0001, ft);
+      double it001 = lerp(c0010, c0011, ft);
+      double it010 = lerp(c0100, c0101, ft);
+      double it011 = lerp(c0110, c0111, ft);
+      double it100 = lerp(c1000, c1001, ft);
+      double it101 = lerp(c1010, c1011, ft);
+      double it110 = lerp(c1100, c1101, ft);
+      double it111 = lerp(c1110, c1111, ft);
+      double iz00 = lerp(it000, it001, fz);
+      double iz01 = lerp(it010, it011, fz);
+      double iz10 = lerp(it100, it101, fz);
+      double iz11 = lerp(it110, it111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dy0 = (float) (coordinates[1] - y0);
+    float dz0 = (float) (coordinates[2] - z0);
+    float dx1 = dx0 - 1.0f;
+    float dy1 = dy0 - 1.0f;
+    float dz1 = dz0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    float fx = fade(dx0);
+    float fy = fade(dy0);
+    float fz = fade(dz0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int t0 = lastAxis.cells[i];
+      float dt0 = lastAxis.floatDistances[i];
+      float dt1 = dt0 - 1.0f;
+      int t1 = t0 + 1;
+      float ft = lastAxis.floatFades[i];
+      float c0000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0), dx0, dy0, dz0, dt0);
+      float c0001 = bounds.dot(bounds.indexOf(x0, y0, z0, t1), dx0, dy0, dz0, dt1);
+      float c0010 = bounds.dot(bounds.indexOf(x0, y0, z1, t0), dx0, dy0, dz1, dt0);
+      float c0011 = bounds.dot(bounds.indexOf(x0, y0, z1, t1), dx0, dy0, dz1, dt1);
+      float c0100 = bounds.dot(bounds.indexOf(x0, y1, z0, t0), dx0, dy1, dz0, dt0);
+      float c0101 = bounds.dot(bounds.indexOf(x0, y1, z0, t1), dx0, dy1, dz0, dt1);
+      float c0110 = bounds.dot(bounds.indexOf(x0, y1, z1, t0), dx0, dy1, dz1, dt0);
+      float c0111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1), dx0, dy1, dz1, dt1);
+      float c1000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0), dx1, dy0, dz0, dt0);
+      float c1001 = bounds.dot(bounds.indexOf(x1, y0, z0, t1), dx1, dy0, dz0, dt1);
+      float c1010 = bounds.dot(bounds.indexOf(x1, y0, z1, t0), dx1, dy0, dz1, dt0);
+      float c1011 = bounds.dot(bounds.indexOf(x1, y0, z1, t1), dx1, dy0, dz1, dt1);
+      float c1100 = bounds.dot(bounds.indexOf(x1, y1, z0, t0), dx1, dy1, dz0, dt0);
+      float c1101 = bounds.dot(bounds.indexOf(x1, y1, z0, t1), dx1, dy1, dz0, dt1);
+      float c1110 = bounds.dot(bounds.indexOf(x1, y1, z1, t0), dx1, dy1, dz1, dt0);
+      float c1111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1), dx1, dy1, dz1, dt1);
+      float it000 = lerp(c0000, c0001, ft);
+      float it001 = lerp(c0010, c0011, ft);
+      float it010 = lerp(c0100, c0101, ft);
+      float it011 = lerp(c0110, c0111, ft);
+      float it100 = lerp(c1000, c1001, ft);
+      float it101 = lerp(c1010, c1011, ft);
+      float it110 = lerp(c1100, c1101, ft);
+      float it111 = lerp(c1110, c1111, ft);
+      float iz00 = lerp(it000, it001, fz);
+      float iz01 = lerp(it010, it011, fz);
+      float iz10 = lerp(it100, it101, fz);
+      float iz11 = lerp(it110, it111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dy0 = (float) (coordinates[1] - y0);
+    float dx1 = dx0 - 1.0f;
+    float dy1 = dy0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    float fx = fade(dx0);
+    float fy = fade(dy0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int z0 = beforeLastAxis.cells[i];
+      int t0 = lastAxis.cells[i];
+      float dz0 = beforeLastAxis.floatDistances[i];
+      float dt0 = lastAxis.floatDistances[i];
+      float dz1 = dz0 - 1.0f;
+      float dt1 = dt0 - 1.0f;
+      int z1 = z0 + 1;
+      int t1 = t0 + 1;
+      float fz = beforeLastAxis.floatFades[i];
+      float ft = lastAxis.floatFades[i];
+      float c0000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0), dx0, dy0, dz0, dt0);
+      float c0001 = bounds.dot(bounds.indexOf(x0, y0, z0, t1), dx0, dy0, dz0, dt1);
+      float c0010 = bounds.dot(bounds.indexOf(x0, y0, z1, t0), dx0, dy0, dz1, dt0);
+      float c0011 = bounds.dot(bounds.indexOf(x0, y0, z1, t1), dx0, dy0, dz1, dt1);
+      float c0100 = bounds.dot(bounds.indexOf(x0, y1, z0, t0), dx0, dy1, dz0, dt0);
+      float c0101 = bounds.dot(bounds.indexOf(x0, y1, z0, t1), dx0, dy1, dz0, dt1);
+      float c0110 = bounds.dot(bounds.indexOf(x0, y1, z1, t0), dx0, dy1, dz1, dt0);
+      float c0111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1), dx0, dy1, dz1, dt1);
+      float c1000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0), dx1, dy0, dz0, dt0);
+      float c1001 = bounds.dot(bounds.indexOf(x1, y0, z0, t1), dx1, dy0, dz0, dt1);
+      float c1010 = bounds.dot(bounds.indexOf(x1, y0, z1, t0), dx1, dy0, dz1, dt0);
+      float c1011 = bounds.dot(bounds.indexOf(x1, y0, z1, t1), dx1, dy0, dz1, dt1);
+      float c1100 = bounds.dot(bounds.indexOf(x1, y1, z0, t0), dx1, dy1, dz0, dt0);
+      float c1101 = bounds.dot(bounds.indexOf(x1, y1, z0, t1), dx1, dy1, dz0, dt1);
+      float c1110 = bounds.dot(bounds.indexOf(x1, y1, z1, t0), dx1, dy1, dz1, dt0);
+      float c1111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1), dx1, dy1, dz1, dt1);
+      float it000 = lerp(c0000, c0001, ft);
+      float it001 = lerp(c0010, c0011, ft);
+      float it010 = lerp(c0100, c0101, ft);
+      float it011 = lerp(c0110, c0111, ft);
+      float it100 = lerp(c1000, c1001, ft);
+      float it101 = lerp(c1010, c1011, ft);
+      float it110 = lerp(c1100, c1101, ft);
+      float it111 = lerp(c1110, c1111, ft);
+      float iz00 = lerp(it000, it001, fz);
+      float iz01 = lerp(it010, it011, fz);
+      float iz10 = lerp(it100, it101, fz);
+      float iz11 = lerp(it110, it111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+}
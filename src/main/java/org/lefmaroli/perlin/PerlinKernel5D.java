@@ -0,0 +1,1348 @@
+package org.lefmaroli.perlin;
+
+import org.lefmaroli.perlin.bounds.BoundGridFiveDimensional;
+import org.lefmaroli.perlin.configuration.JitterTrait;
+
+final class PerlinKernel5D extends PerlinKernel {
+
+  private final BoundGridFiveDimensional bounds;
+
+  PerlinKernel5D(BoundGridFiveDimensional bounds, int firstDimensionOffset) {
+    super(firstDimensionOffset);
+    this.bounds = bounds;
+  }
+
+  @Override
+  double evaluate(double[] coordinates) {
+    return evaluate(coordinates[0], coordinates[1], coordinates[2], coordinates[3], coordinates[4]);
+  }
+
+  double evaluate(double x, double y, double z, double t, double w) {
+    var x0 = (int) x;
+    var y0 = (int) y;
+    var z0 = (int) z;
+    var t0 = (int) t;
+    var w0 = (int) w;
+    double dx0 = x - x0;
+    double dy0 = y - y0;
+    double dz0 = z - z0;
+    double dt0 = t - t0;
+    double dw0 = w - w0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    double dt1 = dt0 - 1.0;
+    double dw1 = dw0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    int t1 = t0 + 1;
+    int w1 = w0 + 1;
+
+    double c00000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w0), dx0, dy0, dz0, dt0, dw0);
+    double c00001 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w1), dx0, dy0, dz0, dt0, dw1);
+    double c00010 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w0), dx0, dy0, dz0, dt1, dw0);
+    double c00011 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w1), dx0, dy0, dz0, dt1, dw1);
+    double c00100 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w0), dx0, dy0, dz1, dt0, dw0);
+    double c00101 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w1), dx0, dy0, dz1, dt0, dw1);
+    double c00110 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w0), dx0, dy0, dz1, dt1, dw0);
+    double c00111 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w1), dx0, dy0, dz1, dt1, dw1);
+    double c01000 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w0), dx0, dy1, dz0, dt0, dw0);
+    double c01001 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w1), dx0, dy1, dz0, dt0, dw1);
+    double c01010 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w0), dx0, dy1, dz0, dt1, dw0);
+    double c01011 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w1), dx0, dy1, dz0, dt1, dw1);
+    double c01100 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w0), dx0, dy1, dz1, dt0, dw0);
+    double c01101 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w1), dx0, dy1, dz1, dt0, dw1);
+    double c01110 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w0), dx0, dy1, dz1, dt1, dw0);
+    double c01111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w1), dx0, dy1, dz1, dt1, dw1);
+    double c10000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w0), dx1, dy0, dz0, dt0, dw0);
+    double c10001 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w1), dx1, dy0, dz0, dt0, dw1);
+    double c10010 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w0), dx1, dy0, dz0, dt1, dw0);
+    double c10011 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w1), dx1, dy0, dz0, dt1, dw1);
+    double c10100 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w0), dx1, dy0, dz1, dt0, dw0);
+    double c10101 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w1), dx1, dy0, dz1, dt0, dw1);
+    double c10110 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w0), dx1, dy0, dz1, dt1, dw0);
+    double c10111 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w1), dx1, dy0, dz1, dt1, dw1);
+    double c11000 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w0), dx1, dy1, dz0, dt0, dw0);
+    double c11001 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w1), dx1, dy1, dz0, dt0, dw1);
+    double c11010 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w0), dx1, dy1, dz0, dt1, dw0);
+    double c11011 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w1), dx1, dy1, dz0, dt1, dw1);
+    double c11100 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w0), dx1, dy1, dz1, dt0, dw0);
+    double c11101 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w1), dx1, dy1, dz1, dt0, dw1);
+    double c11110 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w0), dx1, dy1, dz1, dt1, dw0);
+    double c11111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w1), dx1, dy1, dz1, dt1, dw1);
+
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    double ft = fade(dt0);
+    double fw = fade(dw0);
+    double iw0000 = lerp(c00000, c00001, fw);
+    double iw0001 = lerp(c00010, c00011, fw);
+    double iw0010 = lerp(c00100, c00101, fw);
+    double iw0011 = lerp(c00110, c00111, fw);
+    double iw0100 = lerp(c01000, c01001, fw);
+    double iw0101 = lerp(c01010, c01011, fw);
+    double iw0110 = lerp(c01100, c01101, fw);
+    double iw0111 = lerp(c01110, c01111, fw);
+    double iw1000 = lerp(c10000, c10001, fw);
+    double iw1001 = lerp(c10010, c10011, fw);
+    double iw1010 = lerp(c10100, c10101, fw);
+    double iw1011 = lerp(c10110, c10111, fw);
+    double iw1100 = lerp(c11000, c11001, fw);
+    double iw1101 = lerp(c11010, c11011, fw);
+    double iw1110 = lerp(c11100, c11101, fw);
+    double iw1111 = lerp(c11110, c11111, fw);
+    double it000 = lerp(iw0000, iw0001, ft);
+    double it001 = lerp(iw0010, iw0011, ft);
+    double it010 = lerp(iw0100, iw0101, ft);
+    double it011 = lerp(iw0110, iw0111, ft);
+    double it100 = lerp(iw1000, iw1001, ft);
+    double it101 = lerp(iw1010, iw1011, ft);
+    double it110 = lerp(iw1100, iw1101, ft);
+    double it111 = lerp(iw1110, iw1111, ft);
+    double iz00 = lerp(it000, it001, fz);
+    double iz01 = lerp(it010, it011, fz);
+    double iz10 = lerp(it100, it101, fz);
+    double iz11 = lerp(it110, it111, fz);
+    double iy0 = lerp(iz00, iz01, fy);
+    double iy1 = lerp(iz10, iz11, fy);
+    double interpolated = lerp(iy0, iy1, fx);
+    return adjustInRange(interpolated);
+  }
+
+  @Override
+  double evaluate(double[] coordinates, double[] derivatives) {
+    double x = coordinates[0];
+    double y = coordinates[1];
+    double z = coordinates[2];
+    double t = coordinates[3];
+    double w = coordinates[4];
+    var x0 = (int) x;
+    var y0 = (int) y;
+    var z0 = (int) z;
+    var t0 = (int) t;
+    var w0 = (int) w;
+    double dx0 = x - x0;
+    double dy0 = y - y0;
+    double dz0 = z - z0;
+    double dt0 = t - t0;
+    double dw0 = w - w0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    double dt1 = dt0 - 1.0;
+    double dw1 = dw0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    int t1 = t0 + 1;
+    int w1 = w0 + 1;
+    int i00000 = bounds.indexOf(x0, y0, z0, t0, w0);
+    double c00000 = bounds.dot(i00000, dx0, dy0, dz0, dt0, dw0);
+    int i00001 = bounds.indexOf(x0, y0, z0, t0, w1);
+    double c00001 = bounds.dot(i00001, dx0, dy0, dz0, dt0, dw1);
+    int i00010 = bounds.indexOf(x0, y0, z0, t1, w0);
+    double c00010 = bounds.dot(i00010, dx0, dy0, dz0, dt1, dw0);
+    int i00011 = bounds.indexOf(x0, y0, z0, t1, w1);
+    double c00011 = bounds.dot(i00011, dx0, dy0, dz0, dt1, dw1);
+    int i00100 = bounds.indexOf(x0, y0, z1, t0, w0);
+    double c00100 = bounds.dot(i00100, dx0, dy0, dz1, dt0, dw0);
+    int i00101 = bounds.indexOf(x0, y0, z1, t0, w1);
+    double c00101 = bounds.dot(i00101, dx0, dy0, dz1, dt0, dw1);
+    int i00110 = bounds.indexOf(x0, y0, z1, t1, w0);
+    double c00110 = bounds.dot(i00110, dx0, dy0, dz1, dt1, dw0);
+    int i00111 = bounds.indexOf(x0, y0, z1, t1, w1);
+    double c00111 = bounds.dot(i00111, dx0, dy0, dz1, dt1, dw1);
+    int i01000 = bounds.indexOf(x0, y1, z0, t0, w0);
+    double c01000 = bounds.dot(i01000, dx0, dy1, dz0, dt0, dw0);
+    int i01001 = bounds.indexOf(x0, y1, z0, t0, w1);
+    double c01001 = bounds.dot(i01001, dx0, dy1, dz0, dt0, dw1);
+    int i01010 = bounds.indexOf(x0, y1, z0, t1, w0);
+    double c01010 = bounds.dot(i01010, dx0, dy1, dz0, dt1, dw0);
+    int i01011 = bounds.indexOf(x0, y1, z0, t1, w1);
+    double c01011 = bounds.dot(i01011, dx0, dy1, dz0, dt1, dw1);
+    int i01100 = bounds.indexOf(x0, y1, z1, t0, w0);
+    double c01100 = bounds.dot(i01100, dx0, dy1, dz1, dt0, dw0);
+    int i01101 = bounds.indexOf(x0, y1, z1, t0, w1);
+    double c01101 = bounds.dot(i01101, dx0, dy1, dz1, dt0, dw1);
+    int i01110 = bounds.indexOf(x0, y1, z1, t1, w0);
+    double c01110 = bounds.dot(i01110, dx0, dy1, dz1, dt1, dw0);
+    int i01111 = bounds.indexOf(x0, y1, z1, t1, w1);
+    double c01111 = bounds.dot(i01111, dx0, dy1, dz1, dt1, dw1);
+    int i10000 = bounds.indexOf(x1, y0, z0, t0, w0);
+    double c10000 = bounds.dot(i10000, dx1, dy0, dz0, dt0, dw0);
+    int i10001 = bounds.indexOf(x1, y0, z0, t0, w1);
+    double c10001 = bounds.dot(i10001, dx1, dy0, dz0, dt0, dw1);
+    int i10010 = bounds.indexOf(x1, y0, z0, t1, w0);
+    double c10010 = bounds.dot(i10010, dx1, dy0, dz0, dt1, dw0);
+    int i10011 = bounds.indexOf(x1, y0, z0, t1, w1);
+    double c10011 = bounds.dot(i10011, dx1, dy0, dz0, dt1, dw1);
+    int i10100 = bounds.indexOf(x1, y0, z1, t0, w0);
+    double c10100 = bounds.dot(i10100, dx1, dy0, dz1, dt0, dw0);
+    int i10101 = bounds.indexOf(x1, y0, z1, t0, w1);
+    double c10101 = bounds.dot(i10101, dx1, dy0, dz1, dt0, dw1);
+    int i10110 = bounds.indexOf(x1, y0, z1, t1, w0);
+    double c10110 = bounds.dot(i10110, dx1, dy0, dz1, dt1, dw0);
+    int i10111 = bounds.indexOf(x1, y0, z1, t1, w1);
+    double c10111 = bounds.dot(i10111, dx1, dy0, dz1, dt1, dw1);
+    int i11000 = bounds.indexOf(x1, y1, z0, t0, w0);
+    double c11000 = bounds.dot(i11000, dx1, dy1, dz0, dt0, dw0);
+    int i11001 = bounds.indexOf(x1, y1, z0, t0, w1);
+    double c11001 = bounds.dot(i11001, dx1, dy1, dz0, dt0, dw1);
+    int i11010 = bounds.indexOf(x1, y1, z0, t1, w0);
+    double c11010 = bounds.dot(i11010, dx1, dy1, dz0, dt1, dw0);
+    int i11011 = bounds.indexOf(x1, y1, z0, t1, w1);
+    double c11011 = bounds.dot(i11011, dx1, dy1, dz0, dt1, dw1);
+    int i11100 = bounds.indexOf(x1, y1, z1, t0, w0);
+    double c11100 = bounds.dot(i11100, dx1, dy1, dz1, dt0, dw0);
+    int i11101 = bounds.indexOf(x1, y1, z1, t0, w1);
+    double c11101 = bounds.dot(i11101, dx1, dy1, dz1, dt0, dw1);
+    int i11110 = bounds.indexOf(x1, y1, z1, t1, w0);
+    double c11110 = bounds.dot(i11110, dx1, dy1, dz1, dt1, dw0);
+    int i11111 = bounds.indexOf(x1, y1, z1, t1, w1);
+    double c11111 = bounds.dot(i11111, dx1, dy1, dz1, dt1, dw1);
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    double ft = fade(dt0);
+    double fw = fade(dw0);
+    double dfx = fadeDerivative(dx0);
+    double dfy = fadeDerivative(dy0);
+    double dfz = fadeDerivative(dz0);
+    double dft = fadeDerivative(dt0);
+    double dfw = fadeDerivative(dw0);
+    double iw0000 = lerp(c00000, c00001, fw);
+    double iw0000x =
+        lerp(bounds.getGradientComponent(i00000, 0), bounds.getGradientComponent(i00001, 0), fw);
+    double iw0000y =
+        lerp(bounds.getGradientComponent(i00000, 1), bounds.getGradientComponent(i00001, 1), fw);
+    double iw0000z =
+        lerp(bounds.getGradientComponent(i00000, 2), bounds.getGradientComponent(i00001, 2), fw);
+    double iw0000t =
+        lerp(bounds.getGradientComponent(i00000, 3), bounds.getGradientComponent(i00001, 3), fw);
+    double iw0000w =
+        lerp(bounds.getGradientComponent(i00000, 4), bounds.getGradientComponent(i00001, 4), fw)
+            + dfw * (c00001 - c00000);
+    double iw0001 = lerp(c00010, c00011, fw);
+    double iw0001x =
+        lerp(bounds.getGradientComponent(i00010, 0), bounds.getGradientComponent(i00011, 0), fw);
+    double iw0001y =
+        lerp(bounds.getGradientComponent(i00010, 1), bounds.getGradientComponent(i00011, 1), fw);
+    double iw0001z =
+        lerp(bounds.getGradientComponent(i00010, 2), bounds.getGradientComponent(i00011, 2), fw);
+    double iw0001t =
+        lerp(bounds.getGradientComponent(i00010, 3), bounds.getGradientComponent(i00011, 3), fw);
+    double iw0001w =
+        lerp(bounds.getGradientComponent(i00010, 4), bounds.getGradientComponent(i00011, 4), fw)
+            + dfw * (c00011 - c00010);
+    double iw0010 = lerp(c00100, c00101, fw);
+    double iw0010x =
+        lerp(bounds.getGradientComponent(i00100, 0), bounds.getGradientComponent(i00101, 0), fw);
+    double iw0010y =
+        lerp(bounds.getGradientComponent(i00100, 1), bounds.getGradientComponent(i00101, 1), fw);
+    double iw0010z =
+        lerp(bounds.getGradientComponent(i00100, 2), bounds.getGradientComponent(i00101, 2), fw);
+    double iw0010t =
+        lerp(bounds.getGradientComponent(i00100, 3), bounds.getGradientComponent(i00101, 3), fw);
+    double iw0010w =
+        lerp(bounds.getGradientComponent(i00100, 4), bounds.getGradientComponent(i00101, 4), fw)
+            + dfw * (c00101 - c00100);
+    double iw0011 = lerp(c00110, c00111, fw);
+    double iw0011x =
+        lerp(bounds.getGradientComponent(i00110, 0), bounds.getGradientComponent(i00111, 0), fw);
+    double iw0011y =
+        lerp(bounds.getGradientComponent(i00110, 1), bounds.getGradientComponent(i00111, 1), fw);
+    double iw0011z =
+        lerp(bounds.getGradientComponent(i00110, 2), bounds.getGradientComponent(i00111, 2), fw);
+    double iw0011t =
+        lerp(bounds.getGradientComponent(i00110, 3), bounds.getGradientComponent(i00111, 3), fw);
+    double iw0011w =
+        lerp(bounds.getGradientComponent(i00110, 4), bounds.getGradientComponent(i00111, 4), fw)
+            + dfw * (c00111 - c00110);
+    double iw0100 = lerp(c01000, c01001, fw);
+    double iw0100x =
+        lerp(bounds.getGradientComponent(i01000, 0), bounds.getGradientComponent(i01001, 0), fw);
+    double iw0100y =
+        lerp(bounds.getGradientComponent(i01000, 1), bounds.getGradientComponent(i01001, 1), fw);
+    double iw0100z =
+        lerp(bounds.getGradientComponent(i01000, 2), bounds.getGradientComponent(i01001, 2), fw);
+    double iw0100t =
+        lerp(bounds.getGradientComponent(i01000, 3), bounds.getGradientComponent(i01001, 3), fw);
+    double iw0100w =
+        lerp(bounds.getGradientComponent(i01000, 4), bounds.getGradientComponent(i01001, 4), fw)
+            + dfw * (c01001 - c01000);
+    double iw0101 = lerp(c01010, c01011, fw);
+    double iw0101x =
+        lerp(bounds.getGradientComponent(i01010, 0), bounds.getGradientComponent(i01011, 0), fw);
+    double iw0101y =
+        lerp(bounds.getGradientComponent(i01010, 1), bounds.getGradientComponent(i01011, 1), fw);
+    double iw0101z =
+        lerp(bounds.getGradientComponent(i01010, 2), bounds.getGradientComponent(i01011, 2), fw);
+    double iw0101t =
+        lerp(bounds.getGradientComponent(i01010, 3), bounds.getGradientComponent(i01011, 3), fw);
+    double iw0101w =
+        lerp(bounds.getGradientComponent(i01010, 4), bounds.getGradientComponent(i01011, 4), fw)
+            + dfw * (c01011 - c01010);
+    double iw0110 = lerp(c01100, c01101, fw);
+    double iw0110x =
+        lerp(bounds.getGradientComponent(i01100, 0), bounds.getGradientComponent(i01101, 0), fw);
+    double iw0110y =
+        lerp(bounds.getGradientComponent(i01100, 1), bounds.getGradientComponent(i01101, 1), fw);
+    double iw0110z =
+        lerp(bounds.getGradientComponent(i01100, 2), bounds.getGradientComponent(i01101, 2), fw);
+    double iw0110t =
+        lerp(bounds.getGradientComponent(i01100, 3), bounds.getGradientComponent(i01101, 3), fw);
+    double iw0110w =
+        lerp(bounds.getGradientComponent(i01100, 4), bounds.getGradientComponent(i01101, 4), fw)
+            + dfw * (c01101 - c01100);
+    double iw0111 = lerp(c01110, c01111, fw);
+    double iw0111x =
+        lerp(bounds.getGradientComponent(i01110, 0), bounds.getGradientComponent(i01111, 0), fw);
+    double iw0111y =
+        lerp(bounds.getGradientComponent(i01110, 1), bounds.getGradientComponent(i01111, 1), fw);
+    double iw0111z =
+        lerp(bounds.getGradientComponent(i01110, 2), bounds.getGradientComponent(i01111, 2), fw);
+    double iw0111t =
+        lerp(bounds.getGradientComponent(i01110, 3), bounds.getGradientComponent(i01111, 3), fw);
+    double iw0111w =
+        lerp(bounds.getGradientComponent(i01110, 4), bounds.getGradientComponent(i01111, 4), fw)
+            + dfw * (c01111 - c01110);
+    double iw1000 = lerp(c10000, c10001, fw);
+    double iw1000x =
+        lerp(bounds.getGradientComponent(i10000, 0), bounds.getGradientComponent(i10001, 0), fw);
+    double iw1000y =
+        lerp(bounds.getGradientComponent(i10000, 1), bounds.getGradientComponent(i10001, 1), fw);
+    double iw1000z =
+        lerp(bounds.getGradientComponent(i10000, 2), bounds.getGradientComponent(i10001, 2), fw);
+    double iw1000t =
+        lerp(bounds.getGradientComponent(i10000, 3), bounds.getGradientComponent(i10001, 3), fw);
+    double iw1000w =
+        lerp(bounds.getGradientComponent(i10000, 4), bounds.getGradientComponent(i10001, 4), fw)
+            + dfw * (c10001 - c10000);
+    double iw1001 = lerp(c10010, c10011, fw);
+    double iw1001x =
+        lerp(bounds.getGradientComponent(i10010, 0), bounds.getGradientComponent(i10011, 0), fw);
+    double iw1001y =
+        lerp(bounds.getGradientComponent(i10010, 1), bounds.getGradientComponent(i10011, 1), fw);
+    double iw1001z =
+        lerp(bounds.getGradientComponent(i10010, 2), bounds.getGradientComponent(i10011, 2), fw);
+    double iw1001t =
+        lerp(bounds.getGradientComponent(i10010, 3), bounds.getGradientComponent(i10011, 3), fw);
+    double iw1001w =
+        lerp(bounds.getGradientComponent(i10010, 4), bounds.getGradientComponent(i10011, 4), fw)
+            + dfw * (c10011 - c10010);
+    double iw1010 = lerp(c10100, c10101, fw);
+    double iw1010x =
+        lerp(bounds.getGradientComponent(i10100, 0), bounds.getGradientComponent(i10101, 0), fw);
+    double iw1010y =
+        lerp(bounds.getGradientComponent(i10100, 1), bounds.getGradientComponent(i10101, 1), fw);
+    double iw1010z =
+        lerp(bounds.getGradientComponent(i10100, 2), bounds.getGradientComponent(i10101, 2), fw);
+    double iw1010t =
+        lerp(bounds.getGradientComponent(i10100, 3), bounds.getGradientComponent(i10101, 3), fw);
+    double iw1010w =
+        lerp(bounds.getGradientComponent(i10100, 4), bounds.getGradientComponent(i10101, 4), fw)
+            + dfw * (c10101 - c10100);
+    double iw1011 = lerp(c10110, c10111, fw);
+    double iw1011x =
+        lerp(bounds.getGradientComponent(i10110, 0), bounds.getGradientComponent(i10111, 0), fw);
+    double iw1011y =
+        lerp(bounds.getGradientComponent(i10110, 1), bounds.getGradientComponent(i10111, 1), fw);
+    double iw1011z =
+        lerp(bounds.getGradientComponent(i10110, 2), bounds.getGradientComponent(i10111, 2), fw);
+    double iw1011t =
+        lerp(bounds.getGradientComponent(i10110, 3), bounds.getGradientComponent(i10111, 3), fw);
+    double iw1011w =
+        lerp(bounds.getGradientComponent(i10110, 4), bounds.getGradientComponent(i10111, 4), fw)
+            + dfw * (c10111 - c10110);
+    double iw1100 = lerp(c11000, c11001, fw);
+    double iw1100x =
+        lerp(bounds.getGradientComponent(i11000, 0), bounds.getGradientComponent(i11001, 0), fw);
+    double iw1100y =
+        lerp(bounds.getGradientComponent(i11000, 1), bounds.getGradientComponent(i11001, 1), fw);
+    double iw1100z =
+        lerp(bounds.getGradientComponent(i11000, 2), bounds.getGradientComponent(i11001, 2), fw);
+    double iw1100t =
+        lerp(bounds.getGradientComponent(i11000, 3), bounds.getGradientComponent(i11001, 3), fw);
+    double iw1100w =
+        lerp(bounds.getGradientComponent(i11000, 4), bounds.getGradientComponent(i11001, 4), fw)
+            + dfw * (c11001 - c11000);
+    double iw1101 = lerp(c11010, c11011, fw);
+    double iw1101x =
+        lerp(bounds.getGradientComponent(i11010, 0), bounds.getGradientComponent(i11011, 0), fw);
+    double iw1101y =
+        lerp(bounds.getGradientComponent(i11010, 1), bounds.getGradientComponent(i11011, 1), fw);
+    double iw1101z =
+        lerp(bounds.getGradientComponent(i11010, 2), bounds.getGradientComponent(i11011, 2), fw);
+    double iw1101t =
+        lerp(bounds.getGradientComponent(i11010, 3), bounds.getGradientComponent(i11011, 3), fw);
+    double iw1101w =
+        lerp(bounds.getGradientComponent(i11010, 4), bounds.getGradientComponent(i11011, 4), fw)
+            + dfw * (c11011 - c11010);
+    double iw1110 = lerp(c11100, c11101, fw);
+    double iw1110x =
+        lerp(bounds.getGradientComponent(i11100, 0), bounds.getGradientComponent(i11101, 0), fw);
+    double iw1110y =
+        lerp(bounds.getGradientComponent(i11100, 1), bounds.getGradientComponent(i11101, 1), fw);
+    double iw1110z =
+        lerp(bounds.getGradientComponent(i11100, 2), bounds.getGradientComponent(i11101, 2), fw);
+    double iw1110t =
+        lerp(bounds.getGradientComponent(i11100, 3), bounds.getGradientComponent(i11101, 3), fw);
+    double iw1110w =
+        lerp(bounds.getGradientComponent(i11100, 4), bounds.getGradientComponent(i11101, 4), fw)
+            + dfw * (c11101 - c11100);
+    double iw1111 = lerp(c11110, c11111, fw);
+    double iw1111x =
+        lerp(bounds.getGradientComponent(i11110, 0), bounds.getGradientComponent(i11111, 0), fw);
+    double iw1111y =
+        lerp(bounds.getGradientComponent(i11110, 1), bounds.getGradientComponent(i11111, 1), fw);
+    double iw1111z =
+        lerp(bounds.getGradientComponent(i11110, 2), bounds.getGradientComponent(i11111, 2), fw);
+    double iw1111t =
+        lerp(bounds.getGradientComponent(i11110, 3), bounds.getGradientComponent(i11111, 3), fw);
+    double iw1111w =
+        lerp(bounds.getGradientComponent(i11110, 4), bounds.getGradientComponent(i11111, 4), fw)
+            + dfw * (c11111 - c11110);
+    double it000 = lerp(iw0000, iw0001, ft);
+    double it000x = lerp(iw0000x, iw0001x, ft);
+    double it000y = lerp(iw0000y, iw0001y, ft);
+    double it000z = lerp(iw0000z, iw0001z, ft);
+    double it000t = lerp(iw0000t, iw0001t, ft) + dft * (iw0001 - iw0000);
+    double it000w = lerp(iw0000w, iw0001w, ft);
+    double it001 = lerp(iw0010, iw0011, ft);
+    double it001x = lerp(iw0010x, iw0011x, ft);
+    double it001y = lerp(iw0010y, iw0011y, ft);
+    double it001z = lerp(iw0010z, iw0011z, ft);
+    double it001t = lerp(iw0010t, iw0011t, ft) + dft * (iw0011 - iw0010);
+    double it001w = lerp(iw0010w, iw0011w, ft);
+    double it010 = lerp(iw0100, iw0101, ft);
+    double it010x = lerp(iw0100x, iw0101x, ft);
+    double it010y = lerp(iw0100y, iw0101y, ft);
+    double it010z = lerp(iw0100z, iw0101z, ft);
+    double it010t = lerp(iw0100t, iw0101t, ft) + dft * (iw0101 - iw0100);
+    double it010w = lerp(iw0100w, iw0101w, ft);
+    double it011 = lerp(iw0110, iw0111, ft);
+    double it011x = lerp(iw0110x, iw0111x, ft);
+    double it011y = lerp(iw0110y, iw0111y, ft);
+    double it011z = lerp(iw0110z, iw0111z, ft);
+    double it011t = lerp(iw0110t, iw0111t, ft) + dft * (iw0111 - iw0110);
+    double it011w = lerp(iw0110w, iw0111w, ft);
+    double it100 = lerp(iw1000, iw1001, ft);
+    double it100x = lerp(iw1000x, iw1001x, ft);
+    double it100y = lerp(iw1000y, iw1001y, ft);
+    double it100z = lerp(iw1000z, iw1001z, ft);
+    double it100t = lerp(iw1000t, iw1001t, ft) + dft * (iw1001 - iw1000);
+    double it100w = lerp(iw1000w, iw1001w, ft);
+    double it101 = lerp(iw1010, iw1011, ft);
+    double it101x = lerp(iw1010x, iw1011x, ft);
+    double it101y = lerp(iw1010y, iw1011y, ft);
+    double it101z = lerp(iw1010z, iw1011z, ft);
+    double it101t = lerp(iw1010t, iw1011t, ft) + dft * (iw1011 - iw1010);
+    double it101w = lerp(iw1010w, iw1011w, ft);
+    double it110 = lerp(iw1100, iw1101, ft);
+    double it110x = lerp(iw1100x, iw1101x, ft);
+    double it110y = lerp(iw1100y, iw1101y, ft);
+    double it110z = lerp(iw1100z, iw1101z, ft);
+    double it110t = lerp(iw1100t, iw1101t, ft) + dft * (iw1101 - iw1100);
+    double it110w = lerp(iw1100w, iw1101w, ft);
+    double it111 = lerp(iw1110, iw1111, ft);
+    double it111x = lerp(iw1110x, iw1111x, ft);
+    double it111y = lerp(iw1110y, iw1111y, ft);
+    double it111z = lerp(iw1110z, iw1111z, ft);
+    double it111t = lerp(iw1110t, iw1111t, ft) + dft * (iw1111 - iw1110);
+    double it111w = lerp(iw1110w, iw1111w, ft);
+    double iz00 = lerp(it000, it001, fz);
+    double iz00x = lerp(it000x, it001x, fz);
+    double iz00y = lerp(it000y, it001y, fz);
+    double iz00z = lerp(it000z, it001z, fz) + dfz * (it001 - it000);
+    double iz00t = lerp(it000t, it001t, fz);
+    double iz00w = lerp(it000w, it001w, fz);
+    double iz01 = lerp(it010, it011, fz);
+    double iz01x = lerp(it010x, it011x, fz);
+    double iz01y = lerp(it010y, it011y, fz);
+    double iz01z = lerp(it010z, it011z, fz) + dfz * (it011 - it010);
+    double iz01t = lerp(it010t, it011t, fz);
+    double iz01w = lerp(it010w, it011w, fz);
+    double iz10 = lerp(it100, it101, fz);
+    double iz10x = lerp(it100x, it101x, fz);
+    double iz10y = lerp(it100y, it101y, fz);
+    double iz10z = lerp(it100z, it101z, fz) + dfz * (it101 - it100);
+    double iz10t = lerp(it100t, it101t, fz);
+    double iz10w = lerp(it100w, it101w, fz);
+    double iz11 = lerp(it110, it111, fz);
+    double iz11x = lerp(it110x, it111x, fz);
+    double iz11y = lerp(it110y, it111y, fz);
+    double iz11z = lerp(it110z, it111z, fz) + dfz * (it111 - it110);
+    double iz11t = lerp(it110t, it111t, fz);
+    double iz11w = lerp(it110w, it111w, fz);
+    double iy0 = lerp(iz00, iz01, fy);
+    double iy0x = lerp(iz00x, iz01x, fy);
+    double iy0y = lerp(iz00y, iz01y, fy) + dfy * (iz01 - iz00);
+    double iy0z = lerp(iz00z, iz01z, fy);
+    double iy0t = lerp(iz00t, iz01t, fy);
+    double iy0w = lerp(iz00w, iz01w, fy);
+    double iy1 = lerp(iz10, iz11, fy);
+    double iy1x = lerp(iz10x, iz11x, fy);
+    double iy1y = lerp(iz10y, iz11y, fy) + dfy * (iz11 - iz10);
+    double iy1z = lerp(iz10z, iz11z, fy);
+    double iy1t = lerp(iz10t, iz11t, fy);
+    double iy1w = lerp(iz10w, iz11w, fy);
+    double interpolated = lerp(iy0, iy1, fx);
+    double partialX = lerp(iy0x, iy1x, fx) + dfx * (iy1 - iy0);
+    double partialY = lerp(iy0y, iy1y, fx);
+    double partialZ = lerp(iy0z, iy1z, fx);
+    double partialT = lerp(iy0t, iy1t, fx);
+    double partialW = lerp(iy0w, iy1w, fx);
+    derivatives[0] = adjustDerivativeInRange(partialX);
+    derivatives[1] = adjustDerivativeInRange(partialY);
+    derivatives[2] = adjustDerivativeInRange(partialZ);
+    derivatives[3] = adjustDerivativeInRange(partialT);
+    derivatives[4] = adjustDerivativeInRange(partialW);
+    return adjustInRange(interpolated);
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    var t0 = (int) coordinates[3];
+    double dx0 = coordinates[0] - x0;
+    double dy0 = coordinates[1] - y0;
+    double dz0 = coordinates[2] - z0;
+    double dt0 = coordinates[3] - t0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    double dt1 = dt0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    int t1 = t0 + 1;
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    double ft = fade(dt0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double w = lastAxis[i];
+      var w0 = (int) w;
+      double dw0 = w - w0;
+      double dw1 = dw0 - 1.0;
+      int w1 = w0 + 1;
+      double fw = fade(dw0);
+      double c00000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w0), dx0, dy0, dz0, dt0, dw0);
+      double c00001 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w1), dx0, dy0, dz0, dt0, dw1);
+      double c00010 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w0), dx0, dy0, dz0, dt1, dw0);
+      double c00011 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w1), dx0, dy0, dz0, dt1, dw1);
+      double c00100 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w0), dx0, dy0, dz1, dt0, dw0);
+      double c00101 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w1), dx0, dy0, dz1, dt0, dw1);
+      double c00110 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w0), dx0, dy0, dz1, dt1, dw0);
+      double c00111 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w1), dx0, dy0, dz1, dt1, dw1);
+      double c01000 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w0), dx0, dy1, dz0, dt0, dw0);
+      double c01001 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w1), dx0, dy1, dz0, dt0, dw1);
+      double c01010 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w0), dx0, dy1, dz0, dt1, dw0);
+      double c01011 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w1), dx0, dy1, dz0, dt1, dw1);
+      double c01100 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w0), dx0, dy1, dz1, dt0, dw0);
+      double c01101 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w1), dx0, dy1, dz1, dt0, dw1);
+      double c01110 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w0), dx0, dy1, dz1, dt1, dw0);
+      double c01111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w1), dx0, dy1, dz1, dt1, dw1);
+      double c10000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w0), dx1, dy0, dz0, dt0, dw0);
+      double c10001 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w1), dx1, dy0, dz0, dt0, dw1);
+      double c10010 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w0), dx1, dy0, dz0, dt1, dw0);
+      double c10011 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w1), dx1, dy0, dz0, dt1, dw1);
+      double c10100 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w0), dx1, dy0, dz1, dt0, dw0);
+      double c10101 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w1), dx1, dy0, dz1, dt0, dw1);
+      double c10110 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w0), dx1, dy0, dz1, dt1, dw0);
+      double c10111 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w1), dx1, dy0, dz1, dt1, dw1);
+      double c11000 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w0), dx1, dy1, dz0, dt0, dw0);
+      double c11001 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w1), dx1, dy1, dz0, dt0, dw1);
+      double c11010 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w0), dx1, dy1, dz0, dt1, dw0);
+      double c11011 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w1), dx1, dy1, dz0, dt1, dw1);
+      double c11100 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w0), dx1, dy1, dz1, dt0, dw0);
+      double c11101 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w1), dx1, dy1, dz1, dt0, dw1);
+      double c11110 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w0), dx1, dy1, dz1, dt1, dw0);
+      double c11111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w1), dx1, dy1, dz1, dt1, dw1);
+      double iw0000 = lerp(c00000, c00001, fw);
+      double iw0001 = lerp(c00010, c00011, fw);
+      double iw0010 = lerp(c00100, c00101, fw);
+      double iw0011 = lerp(c00110, c00111, fw);
+      double iw0100 = lerp(c01000, c01001, fw);
+      double iw0101 = lerp(c01010, c01011, fw);
+      double iw0110 = lerp(c01100, c01101, fw);
+      double iw0111 = lerp(c01110, c01111, fw);
+      double iw1000 = lerp(c10000, c10001, fw);
+      double iw1001 = lerp(c10010, c10011, fw);
+      double iw1010 = lerp(c10100, c10101, fw);
+      double iw1011 = lerp(c10110, c10111, fw);
+      double iw1100 = lerp(c11000, c11001, fw);
+      double iw1101 = lerp(c11010, c11011, fw);
+      double iw1110 = lerp(c11100, c11101, fw);
+      double iw1111 = lerp(c11110, c11111, fw);
+      double it000 = lerp(iw0000, iw0001, ft);
+      double it001 = lerp(iw0010, iw0011, ft);
+      double it010 = lerp(iw0100, iw0101, ft);
+      double it011 = lerp(iw0110, iw0111, ft);
+      double it100 = lerp(iw1000, iw1001, ft);
+      double it101 = lerp(iw1010, iw1011, ft);
+      double it110 = lerp(iw1100, iw1101, ft);
+      double it111 = lerp(iw1110, iw1111, ft);
+      double iz00 = lerp(it000, it001, fz);
+      double iz01 = lerp(it010, it011, fz);
+      double iz10 = lerp(it100, it101, fz);
+      double iz11 = lerp(it110, it111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    double dx0 = coordinates[0] - x0;
+    double dy0 = coordinates[1] - y0;
+    double dz0 = coordinates[2] - z0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double t = beforeLastAxis[i];
+      double w = lastAxis[i];
+      var t0 = (int) t;
+      var w0 = (int) w;
+      double dt0 = t - t0;
+      double dw0 = w - w0;
+      double dt1 = dt0 - 1.0;
+      double dw1 = dw0 - 1.0;
+      int t1 = t0 + 1;
+      int w1 = w0 + 1;
+      double ft = fade(dt0);
+      double fw = fade(dw0);
+      double c00000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w0), dx0, dy0, dz0, dt0, dw0);
+      double c00001 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w1), dx0, dy0, dz0, dt0, dw1);
+      double c00010 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w0), dx0, dy0, dz0, dt1, dw0);
+      double c00011 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w1), dx0, dy0, dz0, dt1, dw1);
+      double c00100 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w0), dx0, dy0, dz1, dt0, dw0);
+      double c00101 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w1), dx0, dy0, dz1, dt0, dw1);
+      double c00110 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w0), dx0, dy0, dz1, dt1, dw0);
+      double c00111 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w1), dx0, dy0, dz1, dt1, dw1);
+      double c01000 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w0), dx0, dy1, dz0, dt0, dw0);
+      double c01001 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w1), dx0, dy1, dz0, dt0, dw1);
+      double c01010 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w0), dx0, dy1, dz0, dt1, dw0);
+      double c01011 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w1), dx0, dy1, dz0, dt1, dw1);
+      double c01100 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w0), dx0, dy1, dz1, dt0, dw0);
+      double c01101 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w1), dx0, dy1, dz1, dt0, dw1);
+      double c01110 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w0), dx0, dy1, dz1, dt1, dw0);
+      double c01111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w1), dx0, dy1, dz1, dt1, dw1);
+      double c10000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w0), dx1, dy0, dz0, dt0, dw0);
+      double c10001 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w1), dx1, dy0, dz0, dt0, dw1);
+      double c10010 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w0), dx1, dy0, dz0, dt1, dw0);
+      double c10011 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w1), dx1, dy0, dz0, dt1, dw1);
+      double c10100 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w0), dx1, dy0, dz1, dt0, dw0);
+      double c10101 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w1), dx1, dy0, dz1, dt0, dw1);
+      double c10110 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w0), dx1, dy0, dz1, dt1, dw0);
+      double c10111 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w1), dx1, dy0, dz1, dt1, dw1);
+      double c11000 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w0), dx1, dy1, dz0, dt0, dw0);
+      double c11001 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w1), dx1, dy1, dz0, dt0, dw1);
+      double c11010 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w0), dx1, dy1, dz0, dt1, dw0);
+      double c11011 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w1), dx1, dy1, dz0, dt1, dw1);
+      double c11100 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w0), dx1, dy1, dz1, dt0, dw0);
+      double c11101 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w1), dx1, dy1, dz1, dt0, dw1);
+      double c11110 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w0), dx1, dy1, dz1, dt1, dw0);
+      double c11111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w1), dx1, dy1, dz1, dt1, dw1);
+      double iw0000 = lerp(c00000, c00001, fw);
+      double iw0001 = lerp(c00010, c00011, fw);
+      double iw0010 = lerp(c00100, c00101, fw);
+      double iw0011 = lerp(c00110, c00111, fw);
+      double iw0100 = lerp(c01000, c01001, fw);
+      double iw0101 = lerp(c01010, c01011, fw);
+      double iw0110 = lerp(c01100, c01101, fw);
+      double iw0111 = lerp(c01110, c01111, fw);
+      double iw1000 = lerp(c10000, c10001, fw);
+      double iw1001 = lerp(c10010, c10011, fw);
+      double iw1010 = lerp(c10100, c10101, fw);
+      double iw1011 = lerp(c10110, c10111, fw);
+      double iw1100 = lerp(c11000, c11001, fw);
+      double iw1101 = lerp(c11010, c11011, fw);
+      double iw1110 = lerp(c11100, c11101, fw);
+      double iw1111 = lerp(c11110, c11111, fw);
+      double it000 = lerp(iw0000, iw0001, ft);
+      double it001 = lerp(iw0010, iw0011, ft);
+      double it010 = lerp(iw0100, iw0101, ft);
+      double it011 = lerp(iw0110, iw0111, ft);
+      double it100 = lerp(iw1000, iw1001, ft);
+      double it101 = lerp(iw1010, iw1011, ft);
+      double it110 = lerp(iw1100, iw1101, ft);
+      double it111 = lerp(iw1110, iw1111, ft);
+      double iz00 = lerp(it000, it001, fz);
+      double iz01 = lerp(it010, it011, fz);
+      double iz10 = lerp(it100, it101, fz);
+      double iz11 = lerp(it110, it111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    var t0 = (int) coordinates[3];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dy0 = (float) (coordinates[1] - y0);
+    float dz0 = (float) (coordinates[2] - z0);
+    float dt0 = (float) (coordinates[3] - t0);
+    float dx1 = dx0 - 1.0f;
+    float dy1 = dy0 - 1.0f;
+    float dz1 = dz0 - 1.0f;
+    float dt1 = dt0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    int t1 = t0 + 1;
+    float fx = fade(dx0);
+    float fy = fade(dy0);
+    float fz = fade(dz0);
+    float ft = fade(dt0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double w = lastAxis[i];
+      var w0 = (int) w;
+      float dw0 = (float) (w - w0);
+      float dw1 = dw0 - 1.0f;
+      int w1 = w0 + 1;
+      float fw = fade(dw0);
+      float c00000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w0), dx0, dy0, dz0, dt0, dw0);
+      float c00001 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w1), dx0, dy0, dz0, dt0, dw1);
+      float c00010 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w0), dx0, dy0, dz0, dt1, dw0);
+      float c00011 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w1), dx0, dy0, dz0, dt1, dw1);
+      float c00100 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w0), dx0, dy0, dz1, dt0, dw0);
+      float c00101 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w1), dx0, dy0, dz1, dt0, dw1);
+      float c00110 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w0), dx0, dy0, dz1, dt1, dw0);
+      float c00111 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w1), dx0, dy0, dz1, dt1, dw1);
+      float c01000 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w0), dx0, dy1, dz0, dt0, dw0);
+      float c01001 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w1), dx0, dy1, dz0, dt0, dw1);
+      float c01010 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w0), dx0, dy1, dz0, dt1, dw0);
+      float c01011 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w1), dx0, dy1, dz0, dt1, dw1);
+      float c01100 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w0), dx0, dy1, dz1, dt0, dw0);
+      float c01101 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w1), dx0, dy1, dz1, dt0, dw1);
+      float c01110 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w0), dx0, dy1, dz1, dt1, dw0);
+      float c01111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w1), dx0, dy1, dz1, dt1, dw1);
+      float c10000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w0), dx1, dy0, dz0, dt0, dw0);
+      float c10001 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w1), dx1, dy0, dz0, dt0, dw1);
+      float c10010 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w0), dx1, dy0, dz0, dt1, dw0);
+      float c10011 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w1), dx1, dy0, dz0, dt1, dw1);
+      float c10100 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w0), dx1, dy0, dz1, dt0, dw0);
+      float c10101 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w1), dx1, dy0, dz1, dt0, dw1);
+      float c10110 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w0), dx1, dy0, dz1, dt1, dw0);
+      float c10111 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w1), dx1, dy0, dz1, dt1, dw1);
+      float c11000 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w0), dx1, dy1, dz0, dt0, dw0);
+      float c11001 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w1), dx1, dy1, dz0, dt0, dw1);
+      float c11010 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w0), dx1, dy1, dz0, dt1, dw0);
+      float c11011 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w1), dx1, dy1, dz0, dt1, dw1);
+      float c11100 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w0), dx1, dy1, dz1, dt0, dw0);
+      float c11101 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w1), dx1, dy1, dz1, dt0, dw1);
+      float c11110 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w0), dx1, dy1, dz1, dt1, dw0);
+      float c11111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w1), dx1, dy1, dz1, dt1, dw1);
+      float iw0000 = lerp(c00000, c00001, fw);
+      float iw0001 = lerp(c00010, c00011, fw);
+      float iw0010 = lerp(c00100, c00101, fw);
+      float iw0011 = lerp(c00110, c00111, fw);
+      float iw0100 = lerp(c01000, c01001, fw);
+      float iw0101 = lerp(c01010, c01011, fw);
+      float iw0110 = lerp(c01100, c01101, fw);
+      float iw0111 = lerp(c01110, c01111, fw);
+      float iw1000 = lerp(c10000, c10001, fw);
+      float iw1001 = lerp(c10010, c10011, fw);
+      float iw1010 = lerp(c10100, c10101, fw);
+      float iw1011 = lerp(c10110, c10111, fw);
+      float iw1100 = lerp(c11000, c11001, fw);
+      float iw1101 = lerp(c11010, c11011, fw);
+      float iw1110 = lerp(c11100, c11101, fw);
+      float iw1111 = lerp(c11110, c11111, fw);
+      float it000 = lerp(iw0000, iw0001, ft);
+      float it001 = lerp(iw0010, iw0011, ft);
+      float it010 = lerp(iw0100, iw0101, ft);
+      float it011 = lerp(iw0110, iw0111, ft);
+      float it100 = lerp(iw1000, iw1001, ft);
+      float it101 = lerp(iw1010, iw1011, ft);
+      float it110 = lerp(iw1100, iw1101, ft);
+      float it111 = lerp(iw1110, iw1111, ft);
+      float iz00 = lerp(it000, it001, fz);
+      float iz01 = lerp(it010, it011, fz);
+      float iz10 = lerp(it100, it101, fz);
+      float iz11 = lerp(it110, it111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dy0 = (float) (coordinates[1] - y0);
+    float dz0 = (float) (coordinates[2] - z0);
+    float dx1 = dx0 - 1.0f;
+    float dy1 = dy0 - 1.0f;
+    float dz1 = dz0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    float fx = fade(dx0);
+    float fy = fade(dy0);
+    float fz = fade(dz0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      double t = beforeLastAxis[i];
+      double w = lastAxis[i];
+      var t0 = (int) t;
+      var w0 = (int) w;
+      float dt0 = (float) (t - t0);
+      float dw0 = (float) (w - w0);
+      float dt1 = dt0 - 1.0f;
+      float dw1 = dw0 - 1.0f;
+      int t1 = t0 + 1;
+      int w1 = w0 + 1;
+      float ft = fade(dt0);
+      float fw = fade(dw0);
+      float c00000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w0), dx0, dy0, dz0, dt0, dw0);
+      float c00001 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w1), dx0, dy0, dz0, dt0, dw1);
+      float c00010 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w0), dx0, dy0, dz0, dt1, dw0);
+      float c00011 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w1), dx0, dy0, dz0, dt1, dw1);
+      float c00100 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w0), dx0, dy0, dz1, dt0, dw0);
+      float c00101 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w1), dx0, dy0, dz1, dt0, dw1);
+      float c00110 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w0), dx0, dy0, dz1, dt1, dw0);
+      float c00111 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w1), dx0, dy0, dz1, dt1, dw1);
+      float c01000 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w0), dx0, dy1, dz0, dt0, dw0);
+      float c01001 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w1), dx0, dy1, dz0, dt0, dw1);
+      float c01010 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w0), dx0, dy1, dz0, dt1, dw0);
+      float c01011 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w1), dx0, dy1, dz0, dt1, dw1);
+      float c01100 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w0), dx0, dy1, dz1, dt0, dw0);
+      float c01101 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w1), dx0, dy1, dz1, dt0, dw1);
+      float c01110 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w0), dx0, dy1, dz1, dt1, dw0);
+      float c01111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w1), dx0, dy1, dz1, dt1, dw1);
+      float c10000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w0), dx1, dy0, dz0, dt0, dw0);
+      float c10001 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w1), dx1, dy0, dz0, dt0, dw1);
+      float c10010 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w0), dx1, dy0, dz0, dt1, dw0);
+      float c10011 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w1), dx1, dy0, dz0, dt1, dw1);
+      float c10100 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w0), dx1, dy0, dz1, dt0, dw0);
+      float c10101 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w1), dx1, dy0, dz1, dt0, dw1);
+      float c10110 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w0), dx1, dy0, dz1, dt1, dw0);
+      float c10111 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w1), dx1, dy0, dz1, dt1, dw1);
+      float c11000 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w0), dx1, dy1, dz0, dt0, dw0);
+      float c11001 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w1), dx1, dy1, dz0, dt0, dw1);
+      float c11010 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w0), dx1, dy1, dz0, dt1, dw0);
+      float c11011 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w1), dx1, dy1, dz0, dt1, dw1);
+      float c11100 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w0), dx1, dy1, dz1, dt0, dw0);
+      float c11101 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w1), dx1, dy1, dz1, dt0, dw1);
+      float c11110 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w0), dx1, dy1, dz1, dt1, dw0);
+      float c11111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w1), dx1, dy1, dz1, dt1, dw1);
+      float iw0000 = lerp(c00000, c00001, fw);
+      float iw0001 = lerp(c00010, c00011, fw);
+      float iw0010 = lerp(c00100, c00101, fw);
+      float iw0011 = lerp(c00110, c00111, fw);
+      float iw0100 = lerp(c01000, c01001, fw);
+      float iw0101 = lerp(c01010, c01011, fw);
+      float iw0110 = lerp(c01100, c01101, fw);
+      float iw0111 = lerp(c01110, c01111, fw);
+      float iw1000 = lerp(c10000, c10001, fw);
+      float iw1001 = lerp(c10010, c10011, fw);
+      float iw1010 = lerp(c10100, c10101, fw);
+      float iw1011 = lerp(c10110, c10111, fw);
+      float iw1100 = lerp(c11000, c11001, fw);
+      float iw1101 = lerp(c11010, c11011, fw);
+      float iw1110 = lerp(c11100, c11101, fw);
+      float iw1111 = lerp(c11110, c11111, fw);
+      float it000 = lerp(iw0000, iw0001, ft);
+      float it001 = lerp(iw0010, iw0011, ft);
+      float it010 = lerp(iw0100, iw0101, ft);
+      float it011 = lerp(iw0110, iw0111, ft);
+      float it100 = lerp(iw1000, iw1001, ft);
+      float it101 = lerp(iw1010, iw1011, ft);
+      float it110 = lerp(iw1100, iw1101, ft);
+      float it111 = lerp(iw1110, iw1111, ft);
+      float iz00 = lerp(it000, it001, fz);
+      float iz01 = lerp(it010, it011, fz);
+      float iz10 = lerp(it100, it101, fz);
+      float iz11 = lerp(it110, it111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    var t0 = (int) coordinates[3];
+    double dx0 = coordinates[0] - x0;
+    double dy0 = coordinates[1] - y0;
+    double dz0 = coordinates[2] - z0;
+    double dt0 = coordinates[3] - t0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    double dt1 = dt0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    int t1 = t0 + 1;
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    double ft = fade(dt0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int w0 = lastAxis.cells[i];
+      double dw0 = lastAxis.distances[i];
+      double dw1 = dw0 - 1.0;
+      int w1 = w0 + 1;
+      double fw = lastAxis.fades[i];
+      double c00000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w0), dx0, dy0, dz0, dt0, dw0);
+      double c00001 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w1), dx0, dy0, dz0, dt0, dw1);
+      double c00010 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w0), dx0, dy0, dz0, dt1, dw0);
+      double c00011 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w1), dx0, dy0, dz0, dt1, dw1);
+      double c00100 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w0), dx0, dy0, dz1, dt0, dw0);
+      double c00101 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w1), dx0, dy0, dz1, dt0, dw1);
+      double c00110 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w0), dx0, dy0, dz1, dt1, dw0);
+      double c00111 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w1), dx0, dy0, dz1, dt1, dw1);
+      double c01000 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w0), dx0, dy1, dz0, dt0, dw0);
+      double c01001 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w1), dx0, dy1, dz0, dt0, dw1);
+      double c01010 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w0), dx0, dy1, dz0, dt1, dw0);
+      double c01011 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w1), dx0, dy1, dz0, dt1, dw1);
+      double c01100 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w0), dx0, dy1, dz1, dt0, dw0);
+      double c01101 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w1), dx0, dy1, dz1, dt0, dw1);
+      double c01110 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w0), dx0, dy1, dz1, dt1, dw0);
+      double c01111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w1), dx0, dy1, dz1, dt1, dw1);
+      double c10000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w0), dx1, dy0, dz0, dt0, dw0);
+      double c10001 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w1), dx1, dy0, dz0, dt0, dw1);
+      double c10010 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w0), dx1, dy0, dz0, dt1, dw0);
+      double c10011 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w1), dx1, dy0, dz0, dt1, dw1);
+      double c10100 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w0), dx1, dy0, dz1, dt0, dw0);
+      double c10101 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w1), dx1, dy0, dz1, dt0, dw1);
+      double c10110 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w0), dx1, dy0, dz1, dt1, dw0);
+      double c10111 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w1), dx1, dy0, dz1, dt1, dw1);
+      double c11000 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w0), dx1, dy1, dz0, dt0, dw0);
+      double c11001 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w1), dx1, dy1, dz0, dt0, dw1);
+      double c11010 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w0), dx1, dy1, dz0, dt1, dw0);
+      double c11011 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w1), dx1, dy1, dz0, dt1, dw1);
+      double c11100 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w0), dx1, dy1, dz1, dt0, dw0);
+      double c11101 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w1), dx1, dy1, dz1, dt0, dw1);
+      double c11110 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w0), dx1, dy1, dz1, dt1, dw0);
+      double c11111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w1), dx1, dy1, dz1, dt1, dw1);
+      double iw0000 = lerp(c00000, c00001, fw);
+      double iw0001 = lerp(c00010, c00011, fw);
+      double iw0010 = lerp(c00100, c00101, fw);
+      double iw0011 = lerp(c00110, c00111, fw);
+      double iw0100 = lerp(c01000, c01001, fw);
+      double iw0101 = lerp(c01010, c01011, fw);
+      double iw0110 = lerp(c01100, c01101, fw);
+      double iw0111 = lerp(c01110, c01111, fw);
+      double iw1000 = lerp(c10000, c10001, fw);
+      double iw1001 = lerp(c10010, c10011, fw);
+      double iw1010 = lerp(c10100, c10101, fw);
+      double iw1011 = lerp(c10110, c10111, fw);
+      double iw1100 = lerp(c11000, c11001, fw);
+      double iw1101 = lerp(c11010, c11011, fw);
+      double iw1110 = lerp(c11100, c11101, fw);
+      double iw1111 = lerp(c11110, c11111, fw);
+      double it000 = lerp(iw0000, iw0001, ft);
+      double it001 = lerp(iw0010, iw0011, ft);
+      double it010 = lerp(iw0100, iw0101, ft);
+      double it011 = lerp(iw0110, iw0111, ft);
+      double it100 = lerp(iw1000, iw1001, ft);
+      double it101 = lerp(iw1010, iw1011, ft);
+      double it110 = lerp(iw1100, iw1101, ft);
+      double it111 = lerp(iw1110, iw1111, ft);
+      double iz00 = lerp(it000, it001, fz);
+      double iz01 = lerp(it010, it011, fz);
+      double iz10 = lerp(it100, it101, fz);
+      double iz11 = lerp(it110, it111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      double[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    double dx0 = coordinates[0] - x0;
+    double dy0 = coordinates[1] - y0;
+    double dz0 = coordinates[2] - z0;
+    double dx1 = dx0 - 1.0;
+    double dy1 = dy0 - 1.0;
+    double dz1 = dz0 - 1.0;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    double fx = fade(dx0);
+    double fy = fade(dy0);
+    double fz = fade(dz0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int t0 = beforeLastAxis.cells[i];
+      int w0 = lastAxis.cells[i];
+      double dt0 = beforeLastAxis.distances[i];
+      double dw0 = lastAxis.distances[i];
+      double dt1 = dt0 - 1.0;
+      double dw1 = dw0 - 1.0;
+      int t1 = t0 + 1;
+      int w1 = w0 + 1;
+      double ft = beforeLastAxis.fades[i];
+      double fw = lastAxis.fades[i];
+      double c00000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w0), dx0, dy0, dz0, dt0, dw0);
+      double c00001 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w1), dx0, dy0, dz0, dt0, dw1);
+      double c00010 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w0), dx0, dy0, dz0, dt1, dw0);
+      double c00011 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w1), dx0, dy0, dz0, dt1, dw1);
+      double c00100 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w0), dx0, dy0, dz1, dt0, dw0);
+      double c00101 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w1), dx0, dy0, dz1, dt0, dw1);
+      double c00110 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w0), dx0, dy0, dz1, dt1, dw0);
+      double c00111 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w1), dx0, dy0, dz1, dt1, dw1);
+      double c01000 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w0), dx0, dy1, dz0, dt0, dw0);
+      double c01001 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w1), dx0, dy1, dz0, dt0, dw1);
+      double c01010 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w0), dx0, dy1, dz0, dt1, dw0);
+      double c01011 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w1), dx0, dy1, dz0, dt1, dw1);
+      double c01100 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w0), dx0, dy1, dz1, dt0, dw0);
+      double c01101 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w1), dx0, dy1, dz1, dt0, dw1);
+      double c01110 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w0), dx0, dy1, dz1, dt1, dw0);
+      double c01111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w1), dx0, dy1, dz1, dt1, dw1);
+      double c10000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w0), dx1, dy0, dz0, dt0, dw0);
+      double c10001 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w1), dx1, dy0, dz0, dt0, dw1);
+      double c10010 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w0), dx1, dy0, dz0, dt1, dw0);
+      double c10011 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w1), dx1, dy0, dz0, dt1, dw1);
+      double c10100 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w0), dx1, dy0, dz1, dt0, dw0);
+      double c10101 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w1), dx1, dy0, dz1, dt0, dw1);
+      double c10110 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w0), dx1, dy0, dz1, dt1, dw0);
+      double c10111 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w1), dx1, dy0, dz1, dt1, dw1);
+      double c11000 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w0), dx1, dy1, dz0, dt0, dw0);
+      double c11001 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w1), dx1, dy1, dz0, dt0, dw1);
+      double c11010 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w0), dx1, dy1, dz0, dt1, dw0);
+      double c11011 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w1), dx1, dy1, dz0, dt1, dw1);
+      double c11100 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w0), dx1, dy1, dz1, dt0, dw0);
+      double c11101 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w1), dx1, dy1, dz1, dt0, dw1);
+      double c11110 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w0), dx1, dy1, dz1, dt1, dw0);
+      double c11111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w1), dx1, dy1, dz1, dt1, dw1);
+      double iw0000 = lerp(c00000, c00001, fw);
+      double iw0001 = lerp(c00010, c00011, fw);
+      double iw0010 = lerp(c00100, c00101, fw);
+      double iw0011 = lerp(c00110, c00111, fw);
+      double iw0100 = lerp(c01000, c01001, fw);
+      double iw0101 = lerp(c01010, c01011, fw);
+      double iw0110 = lerp(c01100, c01101, fw);
+      double iw0111 = lerp(c01110, c01111, fw);
+      double iw1000 = lerp(c10000, c10001, fw);
+      double iw1001 = lerp(c10010, c10011, fw);
+      double iw1010 = lerp(c10100, c10101, fw);
+      double iw1011 = lerp(c10110, c10111, fw);
+      double iw1100 = lerp(c11000, c11001, fw);
+      double iw1101 = lerp(c11010, c11011, fw);
+      double iw1110 = lerp(c11100, c11101, fw);
+      double iw1111 = lerp(c11110, c11111, fw);
+      double it000 = lerp(iw0000, iw0001, ft);
+      double it001 = lerp(iw0010, iw0011, ft);
+      double it010 = lerp(iw0100, iw0101, ft);
+      double it011 = lerp(iw0110, iw0111, ft);
+      double it100 = lerp(iw1000, iw1001, ft);
+      double it101 = lerp(iw1010, iw1011, ft);
+      double it110 = lerp(iw1100, iw1101, ft);
+      double it111 = lerp(iw1110, iw1111, ft);
+      double iz00 = lerp(it000, it001, fz);
+      double iz01 = lerp(it010, it011, fz);
+      double iz10 = lerp(it100, it101, fz);
+      double iz11 = lerp(it110, it111, fz);
+      double iy0 = lerp(iz00, iz01, fy);
+      double iy1 = lerp(iz10, iz11, fy);
+      double interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastAxis(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    var t0 = (int) coordinates[3];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dy0 = (float) (coordinates[1] - y0);
+    float dz0 = (float) (coordinates[2] - z0);
+    float dt0 = (float) (coordinates[3] - t0);
+    float dx1 = dx0 - 1.0f;
+    float dy1 = dy0 - 1.0f;
+    float dz1 = dz0 - 1.0f;
+    float dt1 = dt0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    int t1 = t0 + 1;
+    float fx = fade(dx0);
+    float fy = fade(dy0);
+    float fz = fade(dz0);
+    float ft = fade(dt0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int w0 = lastAxis.cells[i];
+      float dw0 = lastAxis.floatDistances[i];
+      float dw1 = dw0 - 1.0f;
+      int w1 = w0 + 1;
+      float fw = lastAxis.floatFades[i];
+      float c00000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w0), dx0, dy0, dz0, dt0, dw0);
+      float c00001 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w1), dx0, dy0, dz0, dt0, dw1);
+      float c00010 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w0), dx0, dy0, dz0, dt1, dw0);
+      float c00011 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w1), dx0, dy0, dz0, dt1, dw1);
+      float c00100 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w0), dx0, dy0, dz1, dt0, dw0);
+      float c00101 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w1), dx0, dy0, dz1, dt0, dw1);
+      float c00110 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w0), dx0, dy0, dz1, dt1, dw0);
+      float c00111 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w1), dx0, dy0, dz1, dt1, dw1);
+      float c01000 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w0), dx0, dy1, dz0, dt0, dw0);
+      float c01001 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w1), dx0, dy1, dz0, dt0, dw1);
+      float c01010 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w0), dx0, dy1, dz0, dt1, dw0);
+      float c01011 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w1), dx0, dy1, dz0, dt1, dw1);
+      float c01100 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w0), dx0, dy1, dz1, dt0, dw0);
+      float c01101 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w1), dx0, dy1, dz1, dt0, dw1);
+      float c01110 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w0), dx0, dy1, dz1, dt1, dw0);
+      float c01111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w1), dx0, dy1, dz1, dt1, dw1);
+      float c10000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w0), dx1, dy0, dz0, dt0, dw0);
+      float c10001 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w1), dx1, dy0, dz0, dt0, dw1);
+      float c10010 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w0), dx1, dy0, dz0, dt1, dw0);
+      float c10011 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w1), dx1, dy0, dz0, dt1, dw1);
+      float c10100 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w0), dx1, dy0, dz1, dt0, dw0);
+      float c10101 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w1), dx1, dy0, dz1, dt0, dw1);
+      float c10110 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w0), dx1, dy0, dz1, dt1, dw0);
+      float c10111 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w1), dx1, dy0, dz1, dt1, dw1);
+      float c11000 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w0), dx1, dy1, dz0, dt0, dw0);
+      float c11001 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w1), dx1, dy1, dz0, dt0, dw1);
+      float c11010 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w0), dx1, dy1, dz0, dt1, dw0);
+      float c11011 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w1), dx1, dy1, dz0, dt1, dw1);
+      float c11100 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w0), dx1, dy1, dz1, dt0, dw0);
+      float c11101 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w1), dx1, dy1, dz1, dt0, dw1);
+      float c11110 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w0), dx1, dy1, dz1, dt1, dw0);
+      float c11111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w1), dx1, dy1, dz1, dt1, dw1);
+      float iw0000 = lerp(c00000, c00001, fw);
+      float iw0001 = lerp(c00010, c00011, fw);
+      float iw0010 = lerp(c00100, c00101, fw);
+      float iw0011 = lerp(c00110, c00111, fw);
+      float iw0100 = lerp(c01000, c01001, fw);
+      float iw0101 = lerp(c01010, c01011, fw);
+      float iw0110 = lerp(c01100, c01101, fw);
+      float iw0111 = lerp(c01110, c01111, fw);
+      float iw1000 = lerp(c10000, c10001, fw);
+      float iw1001 = lerp(c10010, c10011, fw);
+      float iw1010 = lerp(c10100, c10101, fw);
+      float iw1011 = lerp(c10110, c10111, fw);
+      float iw1100 = lerp(c11000, c11001, fw);
+      float iw1101 = lerp(c11010, c11011, fw);
+      float iw1110 = lerp(c11100, c11101, fw);
+      float iw1111 = lerp(c11110, c11111, fw);
+      float it000 = lerp(iw0000, iw0001, ft);
+      float it001 = lerp(iw0010, iw0011, ft);
+      float it010 = lerp(iw0100, iw0101, ft);
+      float it011 = lerp(iw0110, iw0111, ft);
+      float it100 = lerp(iw1000, iw1001, ft);
+      float it101 = lerp(iw1010, iw1011, ft);
+      float it110 = lerp(iw1100, iw1101, ft);
+      float it111 = lerp(iw1110, iw1111, ft);
+      float iz00 = lerp(it000, it001, fz);
+      float iz01 = lerp(it010, it011, fz);
+      float iz10 = lerp(it100, it101, fz);
+      float iz11 = lerp(it110, it111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+
+  @Override
+  void evaluateAlongLastTwoAxes(
+      double[] coordinates,
+      JitterTrait jitterTrait,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      float[] results,
+      int offset,
+      int from,
+      int to) {
+    var x0 = (int) coordinates[0];
+    var y0 = (int) coordinates[1];
+    var z0 = (int) coordinates[2];
+    float dx0 = (float) (coordinates[0] - x0);
+    float dy0 = (float) (coordinates[1] - y0);
+    float dz0 = (float) (coordinates[2] - z0);
+    float dx1 = dx0 - 1.0f;
+    float dy1 = dy0 - 1.0f;
+    float dz1 = dz0 - 1.0f;
+    x0 += firstDimensionOffset;
+    int x1 = x0 + 1;
+    int y1 = y0 + 1;
+    int z1 = z0 + 1;
+    float fx = fade(dx0);
+    float fy = fade(dy0);
+    float fz = fade(dz0);
+    for (var i = from; i < to; i++) {
+      jitterTrait.jitter();
+      int t0 = beforeLastAxis.cells[i];
+      int w0 = lastAxis.cells[i];
+      float dt0 = beforeLastAxis.floatDistances[i];
+      float dw0 = lastAxis.floatDistances[i];
+      float dt1 = dt0 - 1.0f;
+      float dw1 = dw0 - 1.0f;
+      int t1 = t0 + 1;
+      int w1 = w0 + 1;
+      float ft = beforeLastAxis.floatFades[i];
+      float fw = lastAxis.floatFades[i];
+      float c00000 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w0), dx0, dy0, dz0, dt0, dw0);
+      float c00001 = bounds.dot(bounds.indexOf(x0, y0, z0, t0, w1), dx0, dy0, dz0, dt0, dw1);
+      float c00010 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w0), dx0, dy0, dz0, dt1, dw0);
+      float c00011 = bounds.dot(bounds.indexOf(x0, y0, z0, t1, w1), dx0, dy0, dz0, dt1, dw1);
+      float c00100 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w0), dx0, dy0, dz1, dt0, dw0);
+      float c00101 = bounds.dot(bounds.indexOf(x0, y0, z1, t0, w1), dx0, dy0, dz1, dt0, dw1);
+      float c00110 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w0), dx0, dy0, dz1, dt1, dw0);
+      float c00111 = bounds.dot(bounds.indexOf(x0, y0, z1, t1, w1), dx0, dy0, dz1, dt1, dw1);
+      float c01000 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w0), dx0, dy1, dz0, dt0, dw0);
+      float c01001 = bounds.dot(bounds.indexOf(x0, y1, z0, t0, w1), dx0, dy1, dz0, dt0, dw1);
+      float c01010 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w0), dx0, dy1, dz0, dt1, dw0);
+      float c01011 = bounds.dot(bounds.indexOf(x0, y1, z0, t1, w1), dx0, dy1, dz0, dt1, dw1);
+      float c01100 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w0), dx0, dy1, dz1, dt0, dw0);
+      float c01101 = bounds.dot(bounds.indexOf(x0, y1, z1, t0, w1), dx0, dy1, dz1, dt0, dw1);
+      float c01110 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w0), dx0, dy1, dz1, dt1, dw0);
+      float c01111 = bounds.dot(bounds.indexOf(x0, y1, z1, t1, w1), dx0, dy1, dz1, dt1, dw1);
+      float c10000 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w0), dx1, dy0, dz0, dt0, dw0);
+      float c10001 = bounds.dot(bounds.indexOf(x1, y0, z0, t0, w1), dx1, dy0, dz0, dt0, dw1);
+      float c10010 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w0), dx1, dy0, dz0, dt1, dw0);
+      float c10011 = bounds.dot(bounds.indexOf(x1, y0, z0, t1, w1), dx1, dy0, dz0, dt1, dw1);
+      float c10100 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w0), dx1, dy0, dz1, dt0, dw0);
+      float c10101 = bounds.dot(bounds.indexOf(x1, y0, z1, t0, w1), dx1, dy0, dz1, dt0, dw1);
+      float c10110 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w0), dx1, dy0, dz1, dt1, dw0);
+      float c10111 = bounds.dot(bounds.indexOf(x1, y0, z1, t1, w1), dx1, dy0, dz1, dt1, dw1);
+      float c11000 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w0), dx1, dy1, dz0, dt0, dw0);
+      float c11001 = bounds.dot(bounds.indexOf(x1, y1, z0, t0, w1), dx1, dy1, dz0, dt0, dw1);
+      float c11010 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w0), dx1, dy1, dz0, dt1, dw0);
+      float c11011 = bounds.dot(bounds.indexOf(x1, y1, z0, t1, w1), dx1, dy1, dz0, dt1, dw1);
+      float c11100 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w0), dx1, dy1, dz1, dt0, dw0);
+      float c11101 = bounds.dot(bounds.indexOf(x1, y1, z1, t0, w1), dx1, dy1, dz1, dt0, dw1);
+      float c11110 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w0), dx1, dy1, dz1, dt1, dw0);
+      float c11111 = bounds.dot(bounds.indexOf(x1, y1, z1, t1, w1), dx1, dy1, dz1, dt1, dw1);
+      float iw0000 = lerp(c00000, c00001, fw);
+      float iw0001 = lerp(c00010, c00011, fw);
+      float iw0010 = lerp(c00100, c00101, fw);
+      float iw0011 = lerp(c00110, c00111, fw);
+      float iw0100 = lerp(c01000, c01001, fw);
+      float iw0101 = lerp(c01010, c01011, fw);
+      float iw0110 = lerp(c01100, c01101, fw);
+      float iw0111 = lerp(c01110, c01111, fw);
+      float iw1000 = lerp(c10000, c10001, fw);
+      float iw1001 = lerp(c10010, c10011, fw);
+      float iw1010 = lerp(c10100, c10101, fw);
+      float iw1011 = lerp(c10110, c10111, fw);
+      float iw1100 = lerp(c11000, c11001, fw);
+      float iw1101 = lerp(c11010, c11011, fw);
+      float iw1110 = lerp(c11100, c11101, fw);
+      float iw1111 = lerp(c11110, c11111, fw);
+      float it000 = lerp(iw0000, iw0001, ft);
+      float it001 = lerp(iw0010, iw0011, ft);
+      float it010 = lerp(iw0100, iw0101, ft);
+      float it011 = lerp(iw0110, iw0111, ft);
+      float it100 = lerp(iw1000, iw1001, ft);
+      float it101 = lerp(iw1010, iw1011, ft);
+      float it110 = lerp(iw1100, iw1101, ft);
+      float it111 = lerp(iw1110, iw1111, ft);
+      float iz00 = lerp(it000, it001, fz);
+      float iz01 = lerp(it010, it011, fz);
+      float iz10 = lerp(it100, it101, fz);
+      float iz11 = lerp(it110, it111, fz);
+      float iy0 = lerp(iz00, iz01, fy);
+      float iy1 = lerp(iz10, iz11, fy);
+      float interpolated = lerp(iy0, iy1, fx);
+      results[offset + i] = adjustInRange(interpolated);
+    }
+  }
+}
@@ -1,30 +1,25 @@
 package org.lefmaroli.perlin;
 
+import java.lang.ref.Cleaner;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
-import org.apache.logging.log4j.LogManager;
-import org.lefmaroli.interpolation.CornerMatrix;
-import org.lefmaroli.interpolation.CornerMatrixFactory;
-import org.lefmaroli.interpolation.Interpolation;
 import org.lefmaroli.perlin.ContainerRecycler.ContainerCreator;
 import org.lefmaroli.perlin.bounds.BoundGrid;
-import org.lefmaroli.perlin.bounds.BoundGridFactory;
+import org.lefmaroli.perlin.bounds.BoundGridCache;
 import org.lefmaroli.perlin.configuration.JitterStrategy;
 import org.lefmaroli.perlin.configuration.JitterTrait;
 import org.lefmaroli.perlin.configuration.ProductionJitterStrategy;
-import org.lefmaroli.vector.DimensionalVector;
 
 public class PerlinNoise {
 
   public static final int MAX_DIMENSION = 5;
   static final Map<Integer, Integer> AXIS_BOUNDS_BY_DIMENSIONS =
       new ConcurrentHashMap<>(MAX_DIMENSION);
-  private static final Map<Integer, BoundGrid> BOUNDS_MAP = new ConcurrentHashMap<>(MAX_DIMENSION);
-  private static final double MAX_VALUE_VECTOR_PRODUCT = Math.sqrt(2.0) / 2.0;
-  private final Map<Integer, PerlinNoiseDataContainer> defaultContainers =
-      new ConcurrentHashMap<>(MAX_DIMENSION);
+  private static final Cleaner CLEANER = Cleaner.create();
+  private static final JitterTrait NO_JITTER = () -> {};
+  private final Map<Integer, PerlinKernel> kernels = new ConcurrentHashMap<>(MAX_DIMENSION);
   private final long randomSeed;
   private final JitterStrategy jitterStrategy;
 
@@ -37,18 +32,133 @@ public class PerlinNoise {
 
   public static double getFor(PerlinNoiseDataContainer dataContainer) {
     dataContainer.jitter();
-    dataContainer.setBoundsForInterpolation(BOUNDS_MAP.get(dataContainer.getDimension()));
-    if (Thread.currentThread().isInterrupted()) {
-      LogManager.getLogger(PerlinNoise.class)
-          .debug("Interrupting processing [getFor(PerlinNoiseDataContainer)]");
-      return 0.0;
-    }
-    dataContainer.jitter();
-    double interpolated =
-        Interpolation.linearWithFade(
-            dataContainer.getCornerMatrix(), dataContainer.getDistancesArray());
+    return dataContainer.kernel.evaluate(dataContainer.coordinates);
+  }
+
+  public static double getWithDerivativesFor(
+      PerlinNoiseDataContainer dataContainer, double[] derivatives) {
     dataContainer.jitter();
-    return adjustValue(interpolated, dataContainer.getDimension());
+    return dataContainer.kernel.evaluate(dataContainer.coordinates, derivatives);
+  }
+
+  public static void getForLastAxis(
+      PerlinNoiseDataContainer dataContainer,
+      double[] lastAxis,
+      int from,
+      int to,
+      double[] results,
+      int offset) {
+    dataContainer.kernel.evaluateAlongLastAxis(
+        dataContainer.coordinates, dataContainer, lastAxis, results, offset, from, to);
+  }
+
+  public static void getForLastTwoAxes(
+      PerlinNoiseDataContainer dataContainer,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      int from,
+      int to,
+      double[] results,
+      int offset) {
+    dataContainer.kernel.evaluateAlongLastTwoAxes(
+        dataContainer.coordinates,
+        dataContainer,
+        beforeLastAxis,
+        lastAxis,
+        results,
+        offset,
+        from,
+        to);
+  }
+
+  public static void getForLastAxis(
+      PerlinNoiseDataContainer dataContainer,
+      double[] lastAxis,
+      int from,
+      int to,
+      float[] results,
+      int offset) {
+    dataContainer.kernel.evaluateAlongLastAxis(
+        dataContainer.coordinates, dataContainer, lastAxis, results, offset, from, to);
+  }
+
+  public static void getForLastTwoAxes(
+      PerlinNoiseDataContainer dataContainer,
+      double[] beforeLastAxis,
+      double[] lastAxis,
+      int from,
+      int to,
+      float[] results,
+      int offset) {
+    dataContainer.kernel.evaluateAlongLastTwoAxes(
+        dataContainer.coordinates,
+        dataContainer,
+        beforeLastAxis,
+        lastAxis,
+        results,
+        offset,
+        from,
+        to);
+  }
+
+  public static void getForLastAxis(
+      PerlinNoiseDataContainer dataContainer,
+      LatticeAxis lastAxis,
+      int from,
+      int to,
+      double[] results,
+      int offset) {
+    dataContainer.kernel.evaluateAlongLastAxis(
+        dataContainer.coordinates, dataContainer, lastAxis, results, offset, from, to);
+  }
+
+  public static void getForLastTwoAxes(
+      PerlinNoiseDataContainer dataContainer,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      int from,
+      int to,
+      double[] results,
+      int offset) {
+    dataContainer.kernel.evaluateAlongLastTwoAxes(
+        dataContainer.coordinates,
+        dataContainer,
+        beforeLastAxis,
+        lastAxis,
+        results,
+        offset,
+        from,
+        to);
+  }
+
+  public static void getForLastAxis(
+      PerlinNoiseDataContainer dataContainer,
+      LatticeAxis lastAxis,
+      int from,
+      int to,
+      float[] results,
+      int offset) {
+    dataContainer.kernel.evaluateAlongLastAxis(
+        dataContainer.coordinates, dataContainer, lastAxis, results, offset, from, to);
+  }
+
+  public static void getForLastTwoAxes(
+      PerlinNoiseDataContainer dataContainer,
+      LatticeAxis beforeLastAxis,
+      LatticeAxis lastAxis,
+      int from,
+      int to,
+      float[] results,
+      int offset) {
+    dataContainer.kernel.evaluateAlongLastTwoAxes(
+        dataContainer.coordinates,
+        dataContainer,
+        beforeLastAxis,
+        lastAxis,
+        results,
+        offset,
+        from,
+        to);
   }
 
   private static int findNumberOfBoundsForDim(int dim) {
@@ -61,17 +171,6 @@ public class PerlinNoise {
     return 2;
   }
 
-  private static double adjustValue(double interpolated, int dimension) {
-    if (dimension == 1) {
-      return interpolated + 0.5;
-    }
-    return adjustInRange(interpolated);
-  }
-
-  private static double adjustInRange(double interpolated) {
-    return ((interpolated / MAX_VALUE_VECTOR_PRODUCT) + 1.0) / 2.0;
-  }
-
   public PerlinNoise(long randomSeed) {
     this(randomSeed, ProductionJitterStrategy.getInstance());
   }
@@ -87,14 +186,94 @@ public class PerlinNoise {
       throw new IllegalArgumentException(
           "Coordinates length should be the same as the number of dimensions");
     }
-    defaultContainers.putIfAbsent(
-        dim,
-        new PerlinNoiseDataContainerBuilder(dim, randomSeed, jitterStrategy).createNewContainer());
-    PerlinNoiseDataContainer dataContainer = defaultContainers.get(dim);
-    for (var i = 0; i < dim; i++) {
-      dataContainer.setCoordinatesForDimension(i, coordinates[i]);
+    jitterStrategy.jitter();
+    // Kernels are immutable and read the caller's array, so concurrent calls share no state
+    return getKernel(dim).evaluate(coordinates);
+  }
+
+  public double getWithDerivativesFor(double[] derivatives, double... coordinates) {
+    int dim = coordinates.length;
+    if (dim < 1 || dim > MAX_DIMENSION) {
+      throw new IllegalArgumentException(
+          "Coordinates length should be the same as the number of dimensions");
+    }
+    if (derivatives.length < dim) {
+      throw new IllegalArgumentException(
+          "Derivatives array of length " + derivatives.length + " too small for " + dim + " axes");
+    }
+    jitterStrategy.jitter();
+    return getKernel(dim).evaluate(coordinates, derivatives);
+  }
+
+  public void fillLine(double[] out, double origin, double step) {
+    var kernel = (PerlinKernel1D) getKernel(1);
+    for (var i = 0; i < out.length; i++) {
+      out[i] = kernel.evaluate(origin + i * step);
+    }
+  }
+
+  public void fillGrid2D(double[] out, int width, int height, double[] origin, double[] steps) {
+    assertValidGrid(out, origin, steps, width, height);
+    var kernel = getKernel(2);
+    var lastAxis = new LatticeAxis(axisCoordinates(origin[1], steps[1], height));
+    var coordinates = new double[2];
+    for (var i = 0; i < width; i++) {
+      coordinates[0] = origin[0] + i * steps[0];
+      kernel.evaluateAlongLastAxis(coordinates, NO_JITTER, lastAxis, out, i * height, 0, height);
+    }
+  }
+
+  public void fillGrid3D(
+      double[] out, int width, int height, int depth, double[] origin, double[] steps) {
+    assertValidGrid(out, origin, steps, width, height, depth);
+    var kernel = getKernel(3);
+    var lastAxis = new LatticeAxis(axisCoordinates(origin[2], steps[2], depth));
+    var coordinates = new double[3];
+    var offset = 0;
+    for (var i = 0; i < width; i++) {
+      coordinates[0] = origin[0] + i * steps[0];
+      for (var j = 0; j < height; j++) {
+        coordinates[1] = origin[1] + j * steps[1];
+        kernel.evaluateAlongLastAxis(coordinates, NO_JITTER, lastAxis, out, offset, 0, depth);
+        offset += depth;
+      }
+    }
+  }
+
+  private static double[] axisCoordinates(double origin, double step, int length) {
+    var coordinates = new double[length];
+    for (var i = 0; i < length; i++) {
+      coordinates[i] = origin + i * step;
+    }
+    return coordinates;
+  }
+
+  private PerlinKernel getKernel(int dimension) {
+    var kernel = kernels.get(dimension);
+    if (kernel == null) {
+      kernel =
+          kernels.computeIfAbsent(
+              dimension, dim -> new PerlinNoiseDataContainerBuilder(dim, randomSeed).kernel);
+    }
+    return kernel;
+  }
+
+  private static void assertValidGrid(double[] out, double[] origin, double[] steps, int... sizes) {
+    if (origin.length != sizes.length || steps.length != sizes.length) {
+      throw new IllegalArgumentException(
+          "Origin and steps should both have a length of " + sizes.length);
+    }
+    var total = 1L;
+    for (int size : sizes) {
+      if (size < 0) {
+        throw new IllegalArgumentException("Grid sizes must be positive, provided: " + size);
+      }
+      total *= size;
+    }
+    if (out.length < total) {
+      throw new IllegalArgumentException(
+          "Output array of length " + out.length + " too small for " + total + " grid points");
     }
-    return getFor(dataContainer);
   }
 
   public static class PerlinNoiseDataContainerBuilder
@@ -103,6 +282,7 @@ public class PerlinNoise {
     private final int numberOfBounds;
     private final int firstDimensionOffset;
     private final JitterStrategy jitterStrategy;
+    private final PerlinKernel kernel;
 
     public PerlinNoiseDataContainerBuilder(int dimension, long randomSeed) {
       this(dimension, randomSeed, ProductionJitterStrategy.getInstance());
@@ -115,64 +295,45 @@ public class PerlinNoise {
             "Supported dimensions in range [1, " + MAX_DIMENSION + "]");
       }
       this.jitterStrategy = jitterStrategy;
-      initializeBoundsForDimension(dimension);
       this.dimension = dimension;
       this.numberOfBounds = AXIS_BOUNDS_BY_DIMENSIONS.get(dimension);
       this.firstDimensionOffset =
           new Random(randomSeed).nextInt(Integer.MAX_VALUE - (numberOfBounds));
+      BoundGrid bounds =
+          BoundGridCache.getInstance().acquire(dimension, numberOfBounds, randomSeed);
+      this.kernel = PerlinKernel.forDimension(dimension, bounds, firstDimensionOffset);
+      // The grid stays referenced for as long as a kernel built on it can still be reached
+      CLEANER.register(kernel, () -> BoundGridCache.getInstance().release(bounds));
     }
 
     @Override
     public PerlinNoiseDataContainer createNewContainer() {
       return new PerlinNoiseDataContainer(
-          dimension, firstDimensionOffset, numberOfBounds, jitterStrategy);
-    }
-
-    private static void initializeBoundsForDimension(int dimension) {
-      BOUNDS_MAP.computeIfAbsent(
-          dimension,
-          dim -> {
-            var numberOfBoundsPerDimension = AXIS_BOUNDS_BY_DIMENSIONS.get(dimension);
-            return BoundGridFactory.getNewBoundGridForDimension(
-                dimension, numberOfBoundsPerDimension);
-          });
+          dimension, firstDimensionOffset, numberOfBounds, kernel, jitterStrategy);
     }
   }
 
   public static class PerlinNoiseDataContainer implements JitterTrait {
 
-    private final CornerMatrix cornerMatrix;
-    private final double[] distancesArray;
-    private final int[] indexIntegerParts;
-    private final int[] indicesArray;
-    private final double[] cornerDistanceArray;
+    private final int dimension;
     private final double[] coordinates;
     private final int firstDimensionOffset;
     private final int numberOfBounds;
+    private final PerlinKernel kernel;
     private final JitterStrategy jitterStrategy;
 
     private PerlinNoiseDataContainer(
         int dimension,
         int firstDimensionOffset,
         int numberOfBounds,
+        PerlinKernel kernel,
         JitterStrategy jitterStrategy) {
-      this.jitterStrategy = jitterStrategy;
-      this.cornerMatrix = CornerMatrixFactory.getForDimension(dimension);
-      this.distancesArray = new double[dimension];
-      this.indexIntegerParts = new int[dimension];
-      this.indicesArray = new int[dimension];
-      this.cornerDistanceArray = new double[dimension];
+      this.dimension = dimension;
       this.coordinates = new double[dimension];
       this.firstDimensionOffset = firstDimensionOffset;
       this.numberOfBounds = numberOfBounds;
-    }
-
-    private void setBoundsForInterpolation(BoundGrid bounds) {
-      populateFirstDimension();
-      populateIntegerPartsArrays();
-      jitterStrategy.jitter();
-      populateDistanceArray();
-      populateCornerMatrix(getDimension(), bounds);
+      this.kernel = kernel;
+      this.jitterStrategy = jitterStrategy;
     }
 
     public void setCoordinatesForDimension(int index, double value) {
@@ -180,55 +341,7 @@ public class PerlinNoise {
     }
 
     public int getDimension() {
-      return cornerMatrix.getDimension();
-    }
-
-    private CornerMatrix getCornerMatrix() {
-      return cornerMatrix;
-    }
-
-    private double[] getDistancesArray() {
-      return distancesArray;
-    }
-
-    private void populateFirstDimension() {
-      var firstDimIntPart = (int) coordinates[0];
-      distancesArray[0] = coordinates[0] - firstDimIntPart;
-      indexIntegerParts[0] = (firstDimIntPart + firstDimensionOffset) % numberOfBounds;
-    }
-
-    private void populateIntegerPartsArrays() {
-      for (var i = 1; i < getDimension(); i++) {
-        indexIntegerParts[i] = (int) coordinates[i];
-      }
-    }
-
-    private void populateDistanceArray() {
-      for (var i = 1; i < getDimension(); i++) {
-        distancesArray[i] = coordinates[i] - indexIntegerParts[i];
-      }
-    }
-
-    private void populateCornerMatrix(int currentDimension, BoundGrid bounds) {
-      for (var i = 0; i < 2; i++) {
-        if (Thread.currentThread().isInterrupted()) {
-          LogManager.getLogger(this.getClass())
-              .debug("Interrupting processing [populateCornerMatrix]");
-          return;
-        }
-        jitterStrategy.jitter();
-        indicesArray[currentDimension - 1] = i;
-        cornerDistanceArray[currentDimension - 1] =
-            distancesArray[currentDimension - 1] - indicesArray[currentDimension - 1];
-        if (currentDimension == 1) {
-          DimensionalVector currentBound =
-              bounds.getBoundForCoordinates(indexIntegerParts, indicesArray);
-          double vectorProduct = currentBound.getVectorProduct(cornerDistanceArray);
-          cornerMatrix.setValueAtIndices(vectorProduct, indicesArray);
-        } else {
-          populateCornerMatrix(currentDimension - 1, bounds);
-        }
-      }
+      return dimension;
     }
 
     @Override
@@ -1,16 +1,77 @@
 package org.lefmaroli.perlin.bounds;
 
 import java.util.Arrays;
+import org.lefmaroli.random.RandomGenerator;
 import org.lefmaroli.vector.DimensionalVector;
+import org.lefmaroli.vector.VectorFactory;
 
 public abstract class BoundGrid {
   protected final int dimension;
+  protected final int numberOfBounds;
+  protected final long randomSeed;
+  protected final int mask;
+  protected final int shift;
+  // Gradient components of every template, stored contiguously (dimension values per template)
+  protected final double[] gradients;
+  // Same gradients in single precision, read by the float evaluation path
+  protected final float[] floatGradients;
+  // Offset in gradients of the template assigned to each lattice point, flattened row-major.
+  // Offsets stay below NUMBER_OF_TEMPLATES * 5, which fits in a char.
+  protected final char[] lattice;
 
-  BoundGrid(int dimension) {
+  BoundGrid(int dimension, int numberOfBounds, long randomSeed) {
     this.dimension = dimension;
+    this.numberOfBounds = numberOfBounds;
+    this.randomSeed = randomSeed;
+    this.mask = numberOfBounds - 1;
+    this.shift = Integer.numberOfTrailingZeros(numberOfBounds);
+    var generator = new RandomGenerator(randomSeed);
+    this.gradients = generator.getUnitVectorTemplatesOfDim(dimension);
+    this.floatGradients = new float[gradients.length];
+    for (var i = 0; i < gradients.length; i++) {
+      floatGradients[i] = (float) gradients[i];
+    }
+    this.lattice = new char[1 << (shift * dimension)];
+    for (var i = 0; i < lattice.length; i++) {
+      lattice[i] = (char) (generator.getRandomTemplateIndex() * dimension);
+    }
   }
 
   public DimensionalVector getBoundForCoordinates(int[] coordinates, int[] boundIndices) {
+    assertValidIndices(coordinates, boundIndices);
+    int offset = lattice[getLatticeIndex(coordinates, boundIndices)];
+    return VectorFactory.getVectorForCoordinates(
+        Arrays.copyOfRange(gradients, offset, offset + dimension));
+  }
+
+  public double getVectorProduct(int[] coordinates, int[] boundIndices, double[] distances) {
+    int offset = lattice[getLatticeIndex(coordinates, boundIndices)];
+    var product = 0.0;
+    for (var i = 0; i < dimension; i++) {
+      product += gradients[offset + i] * distances[i];
+    }
+    return product;
+  }
+
+  public double getGradientComponent(int index, int axis) {
+    return gradients[lattice[index] + axis];
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  public int getNumberOfBounds() {
+    return numberOfBounds;
+  }
+
+  public long getRandomSeed() {
+    return randomSeed;
+  }
+
+  abstract int getLatticeIndex(int[] coordinates, int[] boundIndices);
+
+  private void assertValidIndices(int[] coordinates, int[] boundIndices) {
     if (coordinates.length != dimension) {
       throw new IllegalArgumentException(
           "Number of coordinates don't match dimension of "
@@ -25,12 +86,8 @@ public abstract class BoundGrid {
               + ", supplied bound indices: "
               + Arrays.toString(boundIndices));
     }
-    return getBoundForCoordinatesSpecificDim(coordinates, boundIndices);
   }
 
-  abstract DimensionalVector getBoundForCoordinatesSpecificDim(
-      int[] coordinates, int[] boundIndices);
-
   protected static int wrapIndexToBounds(int index, int numberOfBounds) {
     return index & (numberOfBounds - 1);
   }
@@ -0,0 +1,105 @@
+package org.lefmaroli.perlin.bounds;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class BoundGridCache {
+
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final BoundGridCache INSTANCE = new BoundGridCache(DEFAULT_CAPACITY);
+
+  private final int capacity;
+  // Access ordered, so iteration starts with the least recently used grid
+  private final Map<Key, Entry> entries = new LinkedHashMap<>(DEFAULT_CAPACITY, 0.75f, true);
+
+  public BoundGridCache(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity should be positive, provided " + capacity);
+    }
+    this.capacity = capacity;
+  }
+
+  public static BoundGridCache getInstance() {
+    return INSTANCE;
+  }
+
+  public synchronized BoundGrid acquire(int dimension, int numberOfBounds, long randomSeed) {
+    var key = new Key(dimension, numberOfBounds, randomSeed);
+    var entry = entries.get(key);
+    if (entry == null) {
+      entry =
+          new Entry(
+              BoundGridFactory.getNewBoundGridForDimension(dimension, numberOfBounds, randomSeed));
+      entries.put(key, entry);
+    }
+    entry.references++;
+    evictUnreferenced();
+    return entry.grid;
+  }
+
+  public synchronized void release(BoundGrid grid) {
+    var key = new Key(grid.getDimension(), grid.getNumberOfBounds(), grid.getRandomSeed());
+    var entry = entries.get(key);
+    if (entry == null || entry.grid != grid || entry.references == 0) {
+      throw new IllegalArgumentException("Bound grid was not acquired from this cache");
+    }
+    entry.references--;
+    evictUnreferenced();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized int getReferenceCount(int dimension, int numberOfBounds, long randomSeed) {
+    var entry = entries.get(new Key(dimension, numberOfBounds, randomSeed));
+    return entry == null ? 0 : entry.references;
+  }
+
+  private void evictUnreferenced() {
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (entries.size() > capacity && iterator.hasNext()) {
+      if (iterator.next().references == 0) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private static class Entry {
+    private final BoundGrid grid;
+    private int references = 0;
+
+    private Entry(BoundGrid grid) {
+      this.grid = grid;
+    }
+  }
+
+  private static class Key {
+    private final int dimension;
+    private final int numberOfBounds;
+    private final long randomSeed;
+
+    private Key(int dimension, int numberOfBounds, long randomSeed) {
+      this.dimension = dimension;
+      this.numberOfBounds = numberOfBounds;
+      this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Key key = (Key) o;
+      return dimension == key.dimension
+          && numberOfBounds == key.numberOfBounds
+          && randomSeed == key.randomSeed;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(dimension, numberOfBounds, randomSeed);
+    }
+  }
+}
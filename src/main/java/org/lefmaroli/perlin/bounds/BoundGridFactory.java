@@ -7,6 +7,11 @@ public class BoundGridFactory {
   private static final int MAX_DIMENSION = 5;
 
   public static BoundGrid getNewBoundGridForDimension(int dimension, int numberOfBounds) {
+    return getNewBoundGridForDimension(dimension, numberOfBounds, System.currentTimeMillis());
+  }
+
+  public static BoundGrid getNewBoundGridForDimension(
+      int dimension, int numberOfBounds, long randomSeed) {
     if (numberOfBounds < 1) {
       throw new IllegalArgumentException(
           "Number of bounds should be greater than 0, provided " + numberOfBounds);
@@ -17,11 +22,11 @@ public class BoundGridFactory {
               + numberOfBounds);
     }
     return switch (dimension) {
-      case 1 -> new BoundGridOneDimensional(dimension, numberOfBounds);
-      case 2 -> new BoundGridTwoDimensional(dimension, numberOfBounds);
-      case 3 -> new BoundGridThreeDimensional(dimension, numberOfBounds);
-      case 4 -> new BoundGridFourDimensional(dimension, numberOfBounds);
-      case 5 -> new BoundGridFiveDimensional(dimension, numberOfBounds);
+      case 1 -> new BoundGridOneDimensional(dimension, numberOfBounds, randomSeed);
+      case 2 -> new BoundGridTwoDimensional(dimension, numberOfBounds, randomSeed);
+      case 3 -> new BoundGridThreeDimensional(dimension, numberOfBounds, randomSeed);
+      case 4 -> new BoundGridFourDimensional(dimension, numberOfBounds, randomSeed);
+      case 5 -> new BoundGridFiveDimensional(dimension, numberOfBounds, randomSeed);
       default -> throw new IllegalArgumentException(
           "Dimension should be in range [1, " + MAX_DIMENSION + "]");
     };
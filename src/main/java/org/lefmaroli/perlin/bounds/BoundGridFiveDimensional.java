@@ -0,0 +1,41 @@
+package org.lefmaroli.perlin.bounds;
+
+public final class BoundGridFiveDimensional extends BoundGrid {
+
+  BoundGridFiveDimensional(int dimension, int numberOfBounds, long randomSeed) {
+    super(dimension, numberOfBounds, randomSeed);
+  }
+
+  public int indexOf(int x, int y, int z, int t, int w) {
+    int index = ((((x & mask) << shift) | (y & mask)) << shift) | (z & mask);
+    return (((index << shift) | (t & mask)) << shift) | (w & mask);
+  }
+
+  public double dot(int index, double dx, double dy, double dz, double dt, double dw) {
+    int offset = lattice[index];
+    return gradients[offset] * dx
+        + gradients[offset + 1] * dy
+        + gradients[offset + 2] * dz
+        + gradients[offset + 3] * dt
+        + gradients[offset + 4] * dw;
+  }
+
+  public float dot(int index, float dx, float dy, float dz, float dt, float dw) {
+    int offset = lattice[index];
+    return floatGradients[offset] * dx
+        + floatGradients[offset + 1] * dy
+        + floatGradients[offset + 2] * dz
+        + floatGradients[offset + 3] * dt
+        + floatGradients[offset + 4] * dw;
+  }
+
+  @Override
+  int getLatticeIndex(int[] coordinates, int[] boundIndices) {
+    return indexOf(
+        coordinates[0] + boundIndices[0],
+        coordinates[1] + boundIndices[1],
+        coordinates[2] + boundIndices[2],
+        coordinates[3] + boundIndices[3],
+        coordinates[4] + boundIndices[4]);
+  }
+}
@@ -0,0 +1,25 @@
+package org.lefmaroli.perlin.bounds;
+
+public final class BoundGridOneDimensional extends BoundGrid {
+
+  BoundGridOneDimensional(int dimension, int numberOfBounds, long randomSeed) {
+    super(dimension, numberOfBounds, randomSeed);
+  }
+
+  public int indexOf(int x) {
+    return x & mask;
+  }
+
+  public double dot(int index, double dx) {
+    return gradients[lattice[index]] * dx;
+  }
+
+  public float dot(int index, float dx) {
+    return floatGradients[lattice[index]] * dx;
+  }
+
+  @Override
+  int getLatticeIndex(int[] coordinates, int[] boundIndices) {
+    return indexOf(coordinates[0] + boundIndices[0]);
+  }
+}
@@ -0,0 +1,32 @@
+package org.lefmaroli.perlin.bounds;
+
+public final class BoundGridThreeDimensional extends BoundGrid {
+
+  BoundGridThreeDimensional(int dimension, int numberOfBounds, long randomSeed) {
+    super(dimension, numberOfBounds, randomSeed);
+  }
+
+  public int indexOf(int x, int y, int z) {
+    return ((((x & mask) << shift) | (y & mask)) << shift) | (z & mask);
+  }
+
+  public double dot(int index, double dx, double dy, double dz) {
+    int offset = lattice[index];
+    return gradients[offset] * dx + gradients[offset + 1] * dy + gradients[offset + 2] * dz;
+  }
+
+  public float dot(int index, float dx, float dy, float dz) {
+    int offset = lattice[index];
+    return floatGradients[offset] * dx
+        + floatGradients[offset + 1] * dy
+        + floatGradients[offset + 2] * dz;
+  }
+
+  @Override
+  int getLatticeIndex(int[] coordinates, int[] boundIndices) {
+    return indexOf(
+        coordinates[0] + boundIndices[0],
+        coordinates[1] + boundIndices[1],
+        coordinates[2] + boundIndices[2]);
+  }
+}
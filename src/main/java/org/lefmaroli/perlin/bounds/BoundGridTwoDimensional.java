@@ -0,0 +1,27 @@
+package org.lefmaroli.perlin.bounds;
+
+public final class BoundGridTwoDimensional extends BoundGrid {
+
+  BoundGridTwoDimensional(int dimension, int numberOfBounds, long randomSeed) {
+    super(dimension, numberOfBounds, randomSeed);
+  }
+
+  public int indexOf(int x, int y) {
+    return ((x & mask) << shift) | (y & mask);
+  }
+
+  public double dot(int index, double dx, double dy) {
+    int offset = lattice[index];
+    return gradients[offset] * dx + gradients[offset + 1] * dy;
+  }
+
+  public float dot(int index, float dx, float dy) {
+    int offset = lattice[index];
+    return floatGradients[offset] * dx + floatGradients[offset + 1] * dy;
+  }
+
+  @Override
+  int getLatticeIndex(int[] coordinates, int[] boundIndices) {
+    return indexOf(coordinates[0] + boundIndices[0], coordinates[1] + boundIndices[1]);
+  }
+}
@@ -0,0 +1,42 @@
+package org.lefmaroli.perlin.generators;
+
+import java.time.Duration;
+
+public class CancellationToken {
+
+  private final boolean hasDeadline;
+  private final long deadline;
+  private volatile boolean cancelled = false;
+
+  public CancellationToken() {
+    this.hasDeadline = false;
+    this.deadline = 0L;
+  }
+
+  private CancellationToken(long deadline) {
+    this.hasDeadline = true;
+    this.deadline = deadline;
+  }
+
+  public static CancellationToken withTimeout(Duration timeout) {
+    if (timeout.isNegative()) {
+      throw new IllegalArgumentException("Timeout should be positive, provided " + timeout);
+    }
+    return new CancellationToken(System.nanoTime() + timeout.toNanos());
+  }
+
+  public void cancel() {
+    cancelled = true;
+  }
+
+  public boolean isCancelled() {
+    if (cancelled) {
+      return true;
+    }
+    if (hasDeadline && System.nanoTime() - deadline >= 0) {
+      cancelled = true;
+      return true;
+    }
+    return false;
+  }
+}
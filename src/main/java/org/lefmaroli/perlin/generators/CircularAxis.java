@@ -0,0 +1,76 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.lefmaroli.perlin.LatticeAxis;
+
+// (cos + 1) / 2 and (sin + 1) / 2 embeddings of an axis wrapped on a circle. Tables are immutable,
+// so every generator and layer with the same length and step size shares a single instance.
+final class CircularAxis {
+
+  private static final int CACHE_CAPACITY = 32;
+  private static final Map<Key, CircularAxis> CACHE =
+      new LinkedHashMap<>(CACHE_CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CircularAxis> eldest) {
+          return size() > CACHE_CAPACITY;
+        }
+      };
+
+  private final LatticeAxis cosAxis;
+  private final LatticeAxis sinAxis;
+
+  private CircularAxis(int length, double stepSize) {
+    double angleFactor = stepSize * 2 * Math.PI;
+    var cosCoordinates = new double[length];
+    var sinCoordinates = new double[length];
+    for (var i = 0; i < length; i++) {
+      double angle = i * angleFactor;
+      cosCoordinates[i] = (Math.cos(angle) + 1.0) / 2.0;
+      sinCoordinates[i] = (Math.sin(angle) + 1.0) / 2.0;
+    }
+    this.cosAxis = new LatticeAxis(cosCoordinates);
+    this.sinAxis = new LatticeAxis(sinCoordinates);
+  }
+
+  static synchronized CircularAxis of(int length, double stepSize) {
+    return CACHE.computeIfAbsent(
+        new Key(length, stepSize), key -> new CircularAxis(length, stepSize));
+  }
+
+  static synchronized int getCacheSize() {
+    return CACHE.size();
+  }
+
+  LatticeAxis getCosAxis() {
+    return cosAxis;
+  }
+
+  LatticeAxis getSinAxis() {
+    return sinAxis;
+  }
+
+  private static class Key {
+    private final int length;
+    private final double stepSize;
+
+    private Key(int length, double stepSize) {
+      this.length = length;
+      this.stepSize = stepSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Key key = (Key) o;
+      return length == key.length && Double.compare(stepSize, key.stepSize) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(length, stepSize);
+    }
+  }
+}
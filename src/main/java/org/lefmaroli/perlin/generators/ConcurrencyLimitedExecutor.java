@@ -0,0 +1,154 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs at most maxConcurrency tasks at a time on a carrier executor shared by every generator of
+// the JVM, other tasks wait in this executor's own queue. Shutting it down leaves the carriers
+// running for the other generators.
+final class ConcurrencyLimitedExecutor extends AbstractExecutorService {
+
+  private static final long TERMINATION_POLL_MILLIS = 1;
+  private final Executor carrier;
+  private final int maxConcurrency;
+  private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger running = new AtomicInteger();
+  private volatile boolean isShutdown = false;
+
+  ConcurrencyLimitedExecutor(Executor carrier, int maxConcurrency) {
+    assertValidConcurrency(maxConcurrency);
+    this.carrier = carrier;
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  static ConcurrencyLimitedExecutor shared(int maxConcurrency) {
+    return new ConcurrencyLimitedExecutor(SharedCarriers.EXECUTOR, maxConcurrency);
+  }
+
+  static void assertValidConcurrency(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException(
+          "Maximum concurrency must be at least 1, provided: " + maxConcurrency);
+    }
+  }
+
+  int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    if (isShutdown) {
+      throw new RejectedExecutionException("Executor was shutdown");
+    }
+    waiting.add(command);
+    dispatch();
+  }
+
+  // A finishing task releases its slot before looking at the queue, and a new task is queued
+  // before looking at the slots, so that a queued task is never left without a slot
+  private void dispatch() {
+    while (!waiting.isEmpty()) {
+      int current = running.get();
+      if (current >= maxConcurrency) {
+        return;
+      }
+      if (!running.compareAndSet(current, current + 1)) {
+        continue;
+      }
+      var task = waiting.poll();
+      if (task == null) {
+        running.decrementAndGet();
+        continue;
+      }
+      try {
+        carrier.execute(() -> runAndDispatch(task));
+      } catch (RejectedExecutionException e) {
+        running.decrementAndGet();
+        throw e;
+      }
+    }
+  }
+
+  private void runAndDispatch(Runnable task) {
+    try {
+      task.run();
+    } finally {
+      running.decrementAndGet();
+      dispatch();
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    isShutdown = true;
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    isShutdown = true;
+    List<Runnable> notStarted = new ArrayList<>();
+    Runnable task;
+    while ((task = waiting.poll()) != null) {
+      notStarted.add(task);
+    }
+    return notStarted;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return isShutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return isShutdown && waiting.isEmpty() && running.get() == 0;
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (!isTerminated()) {
+      if (System.nanoTime() - deadline >= 0) {
+        return false;
+      }
+      TimeUnit.MILLISECONDS.sleep(TERMINATION_POLL_MILLIS);
+    }
+    return true;
+  }
+
+  // One daemon carrier per processor, created on first use and idling out when unused
+  private static final class SharedCarriers {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private static ThreadPoolExecutor createExecutor() {
+      int processors = Runtime.getRuntime().availableProcessors();
+      var executor =
+          new ThreadPoolExecutor(
+              processors,
+              processors,
+              1,
+              TimeUnit.MINUTES,
+              new LinkedBlockingQueue<>(),
+              runnable -> {
+                var thread =
+                    new Thread(runnable, "perlin-shared-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+}
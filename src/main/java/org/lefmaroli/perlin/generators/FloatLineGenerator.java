@@ -0,0 +1,7 @@
+package org.lefmaroli.perlin.generators;
+
+public interface FloatLineGenerator
+    extends IRootGenerator<float[]>, IMultiDimensionalGenerator, ILineGeneratorDimension {
+
+  double getLineStepSize();
+}
@@ -0,0 +1,105 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ForkJoinPool;
+import org.lefmaroli.perlin.LatticeAxis;
+import org.lefmaroli.perlin.PerlinNoise;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+public class FloatLineGeneratorBuilder
+    extends MultiDimensionalBuilder<float[], FloatLineGenerator, FloatLineGeneratorBuilder> {
+
+  private final int lineLength;
+
+  public FloatLineGeneratorBuilder(int lineLength) {
+    super(2);
+    assertLineSizeIsValid(lineLength);
+    this.lineLength = lineLength;
+  }
+
+  private static void assertLineSizeIsValid(int lineLength) {
+    if (lineLength < 1) {
+      throw new IllegalArgumentException(
+          "Line length must be greater than 0, provided: " + lineLength);
+    }
+  }
+
+  @Override
+  public FloatLineGenerator build() {
+    return (FloatLineGenerator) super.build();
+  }
+
+  public FloatLineGeneratorBuilder withLineStepSize(double lineStepSize) throws StepSizeException {
+    setStepSizeForDimension(lineStepSize, 1);
+    return this;
+  }
+
+  @Override
+  protected FloatLineGeneratorBuilder self() {
+    return this;
+  }
+
+  @Override
+  protected IGenerator<float[]> buildNoiseGenerator(
+      double[] stepSizes, double amplitude, long randomSeed, JitterStrategy jitterStrategy) {
+    return new FloatLineGeneratorImpl(
+        stepSizes[0],
+        stepSizes[1],
+        lineLength,
+        amplitude,
+        randomSeed,
+        isCircular(),
+        getPool(),
+        jitterStrategy);
+  }
+
+  private static class FloatLineGeneratorImpl extends LineRootGenerator<float[]>
+      implements FloatLineGenerator {
+
+    private final float amplitude;
+
+    FloatLineGeneratorImpl(
+        double timeStepSize,
+        double lineStepSize,
+        int lineLength,
+        double maxAmplitude,
+        long randomSeed,
+        boolean isCircular,
+        ForkJoinPool pool,
+        JitterStrategy jitterStrategy) {
+      super(
+          timeStepSize,
+          lineStepSize,
+          lineLength,
+          maxAmplitude,
+          randomSeed,
+          isCircular,
+          pool,
+          jitterStrategy);
+      this.amplitude = (float) maxAmplitude;
+    }
+
+    @Override
+    protected float[] getNewContainer() {
+      return new float[getLineLength()];
+    }
+
+    @Override
+    protected void evaluateLineSegment(
+        PerlinNoiseDataContainer container,
+        LatticeAxis lineAxis,
+        LatticeAxis lineCircleAxis,
+        int from,
+        int to,
+        float[] lineData) {
+      if (isCircular()) {
+        PerlinNoise.getForLastTwoAxes(container, lineAxis, lineCircleAxis, from, to, lineData, 0);
+      } else {
+        PerlinNoise.getForLastAxis(container, lineAxis, from, to, lineData, 0);
+      }
+      for (var lineIndex = from; lineIndex < to; lineIndex++) {
+        lineData[lineIndex] *= amplitude;
+      }
+    }
+  }
+}
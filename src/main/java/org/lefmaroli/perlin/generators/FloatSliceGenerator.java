@@ -0,0 +1,9 @@
+package org.lefmaroli.perlin.generators;
+
+public interface FloatSliceGenerator
+    extends IRootGenerator<float[][]>, IMultiDimensionalGenerator, ISliceGeneratorDimension {
+
+  double getWidthStepSize();
+
+  double getHeightStepSize();
+}
@@ -0,0 +1,129 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ForkJoinPool;
+import org.lefmaroli.perlin.LatticeAxis;
+import org.lefmaroli.perlin.PerlinNoise;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+public class FloatSliceGeneratorBuilder
+    extends MultiDimensionalBuilder<float[][], FloatSliceGenerator, FloatSliceGeneratorBuilder> {
+
+  private final int sliceWidth;
+  private final int sliceHeight;
+
+  public FloatSliceGeneratorBuilder(int sliceWidth, int sliceHeight) {
+    super(3);
+    assertValidSliceDimension(sliceWidth, sliceHeight);
+    this.sliceWidth = sliceWidth;
+    this.sliceHeight = sliceHeight;
+  }
+
+  private static void assertValidSliceDimension(int sliceWidth, int sliceHeight) {
+    if (sliceWidth < 1) {
+      throw new IllegalArgumentException(
+          "Slice width must be greater than 0, provided: " + sliceWidth);
+    }
+    if (sliceHeight < 1) {
+      throw new IllegalArgumentException(
+          "Slice height must be greater than 0, provided: " + sliceHeight);
+    }
+  }
+
+  @Override
+  public FloatSliceGenerator build() {
+    return (FloatSliceGenerator) super.build();
+  }
+
+  public FloatSliceGeneratorBuilder withWidthStepSize(double stepSize) throws StepSizeException {
+    setStepSizeForDimension(stepSize, 1);
+    return this;
+  }
+
+  public FloatSliceGeneratorBuilder withHeightStepSize(double stepSize) throws StepSizeException {
+    setStepSizeForDimension(stepSize, 2);
+    return this;
+  }
+
+  @Override
+  protected FloatSliceGeneratorBuilder self() {
+    return this;
+  }
+
+  @Override
+  protected IGenerator<float[][]> buildNoiseGenerator(
+      double[] stepSizes, double amplitude, long randomSeed, JitterStrategy jitterStrategy) {
+    return new FloatSliceGeneratorImpl(
+        stepSizes[0],
+        stepSizes[1],
+        stepSizes[2],
+        sliceWidth,
+        sliceHeight,
+        amplitude,
+        randomSeed,
+        isCircular(),
+        getPool(),
+        jitterStrategy);
+  }
+
+  private static class FloatSliceGeneratorImpl extends SliceRootGenerator<float[][], float[][]>
+      implements FloatSliceGenerator {
+
+    private final float amplitude;
+
+    FloatSliceGeneratorImpl(
+        double timeStepSize,
+        double widthStepSize,
+        double heightStepSize,
+        int sliceWidth,
+        int sliceHeight,
+        double maxAmplitude,
+        long randomSeed,
+        boolean isCircular,
+        ForkJoinPool pool,
+        JitterStrategy jitterStrategy) {
+      super(
+          timeStepSize,
+          widthStepSize,
+          heightStepSize,
+          sliceWidth,
+          sliceHeight,
+          maxAmplitude,
+          randomSeed,
+          isCircular,
+          pool,
+          jitterStrategy);
+      this.amplitude = (float) maxAmplitude;
+    }
+
+    @Override
+    protected float[][] toFrame(float[][] container) {
+      return container;
+    }
+
+    @Override
+    protected float[][] getNewContainer() {
+      return new float[getSliceWidth()][getSliceHeight()];
+    }
+
+    @Override
+    protected void evaluateColumnSegment(
+        PerlinNoiseDataContainer container,
+        LatticeAxis heightAxis,
+        LatticeAxis heightCircleAxis,
+        int from,
+        int to,
+        float[][] slice,
+        int widthIndex) {
+      float[] line = slice[widthIndex];
+      if (isCircular()) {
+        PerlinNoise.getForLastTwoAxes(container, heightAxis, heightCircleAxis, from, to, line, 0);
+      } else {
+        PerlinNoise.getForLastAxis(container, heightAxis, from, to, line, 0);
+      }
+      for (var heightIndex = from; heightIndex < to; heightIndex++) {
+        line[heightIndex] *= amplitude;
+      }
+    }
+  }
+}
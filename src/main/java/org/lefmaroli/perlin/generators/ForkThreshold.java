@@ -0,0 +1,82 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Number of evaluated samples below which a fork join task works directly instead of splitting.
+// Tasks measure their cost per sample, and once a frame is complete the threshold is moved so that
+// a task runs for long enough to pay for its fork. The threshold never drops below a quarter of a
+// worker's share of the frame, capping a frame at a few tasks per worker however expensive its
+// samples are, while a frame of cheap samples can be left as a single task.
+final class ForkThreshold {
+
+  static final int CALIBRATED = 0;
+  private static final int MIN_THRESHOLD = 64;
+  private static final double TARGET_TASK_NANOS = 100_000;
+  // Tasks of 2500 samples until the first frame is measured
+  private static final double INITIAL_NANOS_PER_SAMPLE = TARGET_TASK_NANOS / 2500;
+  private static final int TASKS_PER_WORKER = 4;
+  private static final double SMOOTHING = 0.5;
+  private final boolean isFixed;
+  private final long balanceThreshold;
+  private final LongAdder measuredSamples = new LongAdder();
+  private final LongAdder measuredNanos = new LongAdder();
+  private double nanosPerSample = INITIAL_NANOS_PER_SAMPLE;
+  private volatile int threshold;
+
+  private ForkThreshold(boolean isFixed, long balanceThreshold, int threshold) {
+    this.isFixed = isFixed;
+    this.balanceThreshold = balanceThreshold;
+    this.threshold = threshold;
+  }
+
+  static ForkThreshold fixed(int threshold) {
+    return new ForkThreshold(true, 0, threshold);
+  }
+
+  static ForkThreshold calibrated(long totalSamples, int parallelism) {
+    long balanceThreshold =
+        (long) Math.ceil((double) totalSamples / ((long) parallelism * TASKS_PER_WORKER));
+    var forkThreshold = new ForkThreshold(false, balanceThreshold, 0);
+    forkThreshold.threshold = forkThreshold.computeThreshold();
+    return forkThreshold;
+  }
+
+  static void assertValid(int forkThreshold) {
+    if (forkThreshold < 0) {
+      throw new IllegalArgumentException(
+          "Fork threshold must be positive, provided: " + forkThreshold);
+    }
+  }
+
+  int get() {
+    return threshold;
+  }
+
+  void record(long samples, long nanos) {
+    if (!isFixed) {
+      measuredSamples.add(samples);
+      measuredNanos.add(nanos);
+    }
+  }
+
+  // Called once every task of a frame completed, random access frames can complete concurrently
+  synchronized void update() {
+    if (isFixed) {
+      return;
+    }
+    long samples = measuredSamples.sumThenReset();
+    long nanos = measuredNanos.sumThenReset();
+    if (samples == 0) {
+      return;
+    }
+    nanosPerSample =
+        nanosPerSample * (1 - SMOOTHING) + Math.max(1.0, (double) nanos / samples) * SMOOTHING;
+    threshold = computeThreshold();
+  }
+
+  private int computeThreshold() {
+    long costThreshold = (long) Math.ceil(TARGET_TASK_NANOS / nanosPerSample);
+    long forkThreshold = Math.max(MIN_THRESHOLD, Math.max(costThreshold, balanceThreshold));
+    return (int) Math.min(Integer.MAX_VALUE, forkThreshold);
+  }
+}
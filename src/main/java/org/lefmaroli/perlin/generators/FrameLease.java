@@ -0,0 +1,42 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// A frame held by the consumer until released, the generator does not write to it in between.
+// Releasing hands the container back to the generator, any later access fails.
+public final class FrameLease<N> implements AutoCloseable {
+
+  private final N frame;
+  private final Runnable recycler;
+  private final AtomicBoolean released = new AtomicBoolean(false);
+
+  FrameLease(N frame, Runnable recycler) {
+    this.frame = frame;
+    this.recycler = recycler;
+  }
+
+  public N get() {
+    if (released.get()) {
+      throw new IllegalStateException("Frame accessed after being released");
+    }
+    return frame;
+  }
+
+  public boolean isReleased() {
+    return released.get();
+  }
+
+  public void release() {
+    if (!released.compareAndSet(false, true)) {
+      throw new IllegalStateException("Frame already released");
+    }
+    recycler.run();
+  }
+
+  @Override
+  public void close() {
+    if (!released.get()) {
+      release();
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+// Containers backing leased frames. Acquired on the generator's thread, released from any thread.
+final class FramePool<C> {
+
+  static final int DEFAULT_CAPACITY = 4;
+  private final Queue<C> released = new ConcurrentLinkedQueue<>();
+  private final Supplier<C> containerCreator;
+  private final int capacity;
+  private int created = 0;
+
+  FramePool(int capacity, Supplier<C> containerCreator) {
+    this.capacity = capacity;
+    this.containerCreator = containerCreator;
+  }
+
+  static void assertValidCapacity(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException(
+          "Number of leased frames must be greater than 0, provided: " + capacity);
+    }
+  }
+
+  C acquire() {
+    var container = released.poll();
+    if (container != null) {
+      return container;
+    }
+    if (created == capacity) {
+      throw new IllegalStateException(
+          "All " + capacity + " leased frames are still held, release one before acquiring");
+    }
+    created++;
+    return containerCreator.get();
+  }
+
+  void release(C container) {
+    released.add(container);
+  }
+}
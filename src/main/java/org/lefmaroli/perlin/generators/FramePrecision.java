@@ -0,0 +1,25 @@
+package org.lefmaroli.perlin.generators;
+
+public enum FramePrecision {
+  FLOAT(Float.BYTES),
+  DOUBLE(Double.BYTES);
+
+  private final int bytes;
+
+  FramePrecision(int bytes) {
+    this.bytes = bytes;
+  }
+
+  public int getBytes() {
+    return bytes;
+  }
+
+  static FramePrecision ofBytes(int bytes) {
+    for (FramePrecision precision : values()) {
+      if (precision.bytes == bytes) {
+        return precision;
+      }
+    }
+    throw new IllegalArgumentException("No precision stored on " + bytes + " bytes");
+  }
+}
@@ -0,0 +1,163 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+
+// Keeps framesAhead frames generated on the executor ahead of the consumer. Tasks are chained so
+// the generator is only ever advanced by one thread at a time, and the two frames last handed out
+// are kept out of the pool so that frames stay valid for as long as without prefetching.
+final class FramePrefetcher<C> {
+
+  private static final int HANDED_OUT_FRAMES = 2;
+  private static final long POLL_INTERVAL_MICROS = 500;
+  private static final CancellationToken NOT_CANCELLABLE = new CancellationToken();
+  private final ExecutorService executorService;
+  private final Supplier<C> containerCreator;
+  private final BiFunction<C, CancellationToken, C> generator;
+  private final Deque<C> available = new LinkedList<>();
+  private final Queue<C> handedOut = new LinkedList<>();
+  private final Queue<CompletableFuture<C>> pending = new LinkedList<>();
+  private CompletableFuture<C> last = CompletableFuture.completedFuture(null);
+  private boolean emittedExecutorShutdownWarning = false;
+
+  FramePrefetcher(
+      int framesAhead,
+      ExecutorService executorService,
+      Supplier<C> containerCreator,
+      BiFunction<C, CancellationToken, C> generator) {
+    this.executorService = executorService;
+    this.containerCreator = containerCreator;
+    this.generator = generator;
+    for (var i = 0; i < framesAhead + HANDED_OUT_FRAMES; i++) {
+      available.add(containerCreator.get());
+    }
+  }
+
+  // No frames ahead disables prefetching
+  static void assertValidPrefetching(int framesAhead, ExecutorService executorService) {
+    if (framesAhead < 0) {
+      throw new IllegalArgumentException(
+          "Number of prefetched frames must be positive, provided: " + framesAhead);
+    }
+    if (framesAhead > 0 && executorService == null) {
+      throw new IllegalArgumentException("Prefetching requires an executor service");
+    }
+  }
+
+  C next(CancellationToken cancellationToken) {
+    var frame = take(cancellationToken);
+    handedOut.add(frame);
+    if (handedOut.size() > HANDED_OUT_FRAMES) {
+      available.add(handedOut.poll());
+    }
+    schedule();
+    return frame;
+  }
+
+  // Leased frames leave the prefetcher for good, the replacement takes their place
+  C exchange(C replacement, CancellationToken cancellationToken) {
+    var frame = take(cancellationToken);
+    available.add(replacement);
+    schedule();
+    return frame;
+  }
+
+  // Drops the frames generated ahead once the generator is idle, a failed frame loses its container
+  // and is replaced
+  void discard() {
+    last.handle((frame, e) -> frame).join();
+    while (!pending.isEmpty()) {
+      var frame = pending.poll();
+      available.add(frame.isCompletedExceptionally() ? containerCreator.get() : frame.getNow(null));
+    }
+  }
+
+  // A failed frame is reported once and loses its container. Frames rejected by an executor shut
+  // down while they were queued are generated on demand instead.
+  private C take(CancellationToken cancellationToken) {
+    schedule();
+    while (!pending.isEmpty()) {
+      var frame = pending.peek();
+      try {
+        var result = await(frame, cancellationToken);
+        pending.poll();
+        return result;
+      } catch (RuntimeException e) {
+        if (!frame.isCompletedExceptionally()) {
+          throw e;
+        }
+        pending.poll();
+        available.add(containerCreator.get());
+        if (!executorService.isShutdown()) {
+          throw e;
+        }
+      }
+    }
+    return generateInPlace(cancellationToken);
+  }
+
+  // Each task waits for the previous one whatever its outcome, so a failure stays with its frame
+  private void schedule() {
+    while (!available.isEmpty() && hasRunningExecutor()) {
+      var container = available.poll();
+      last =
+          last.handle((frame, e) -> frame)
+              .thenApplyAsync(
+                  ignored -> generator.apply(container, NOT_CANCELLABLE), executorService);
+      pending.add(last);
+    }
+  }
+
+  private boolean hasRunningExecutor() {
+    if (!executorService.isShutdown()) {
+      return true;
+    }
+    if (!emittedExecutorShutdownWarning) {
+      LogManager.getLogger(this.getClass())
+          .warn("Provided executorService is already shutdown, generating frames on demand");
+      emittedExecutorShutdownWarning = true;
+    }
+    return false;
+  }
+
+  // Only reached once every scheduled frame was handed out, nothing else is touching the generator
+  private C generateInPlace(CancellationToken cancellationToken) {
+    var container = available.poll();
+    try {
+      return generator.apply(container, cancellationToken);
+    } catch (IncompleteFrameException e) {
+      available.addFirst(container);
+      throw e;
+    }
+  }
+
+  // A cancelled wait leaves the frame queued, the next call returns it
+  private C await(CompletableFuture<C> frame, CancellationToken cancellationToken) {
+    while (true) {
+      try {
+        return frame.get(POLL_INTERVAL_MICROS, TimeUnit.MICROSECONDS);
+      } catch (TimeoutException e) {
+        if (cancellationToken.isCancelled()) {
+          throw new IncompleteFrameException("Cancelled while waiting for a prefetched frame");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IncompleteFrameException("Interrupted while waiting for a prefetched frame");
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new LayerProcessException("Execution exception in prefetched frame", e);
+      }
+    }
+  }
+}
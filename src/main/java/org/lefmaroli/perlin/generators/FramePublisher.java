@@ -0,0 +1,178 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Leases frames on the executor as the subscriber requests them. A frame is only generated once the
+// subscriber asked for it and released enough of the previous ones for the lease pool to have room,
+// so a slow subscriber holds generation back. The generator is not thread safe, its frames are
+// published to a single subscriber at a time.
+final class FramePublisher<N> implements Flow.Publisher<FrameLease<N>> {
+
+  private static final Flow.Subscription REJECTED =
+      new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+          // Nothing is ever published to a rejected subscriber
+        }
+
+        @Override
+        public void cancel() {
+          // Nothing to cancel
+        }
+      };
+  private final Function<CancellationToken, FrameLease<N>> leaser;
+  private final int maxLeased;
+  private final Executor executor;
+  private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+  FramePublisher(
+      Function<CancellationToken, FrameLease<N>> leaser, int maxLeased, Executor executor) {
+    if (executor == null) {
+      throw new IllegalArgumentException("Publishing frames requires an executor");
+    }
+    this.leaser = leaser;
+    this.maxLeased = maxLeased;
+    this.executor = executor;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super FrameLease<N>> subscriber) {
+    if (subscriber == null) {
+      throw new NullPointerException("Subscriber cannot be null");
+    }
+    if (!subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(REJECTED);
+      subscriber.onError(
+          new IllegalStateException("Frames are already published to another subscriber"));
+      return;
+    }
+    subscriber.onSubscribe(new FrameSubscription(subscriber));
+  }
+
+  private final class FrameSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super FrameLease<N>> subscriber;
+    private final CancellationToken cancellationToken = new CancellationToken();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+    private final AtomicBoolean isReleased = new AtomicBoolean(false);
+    private volatile boolean isDone = false;
+    private volatile Throwable error = null;
+
+    FrameSubscription(Flow.Subscriber<? super FrameLease<N>> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        error = new IllegalArgumentException("Requested frames must be positive, provided: " + n);
+      } else {
+        demand.accumulateAndGet(
+            n,
+            (current, added) -> {
+              long total = current + added;
+              return total < 0 ? Long.MAX_VALUE : total;
+            });
+      }
+      scheduleDrain();
+    }
+
+    // A drain in progress may still be generating a frame, the next subscriber is only let in once
+    // it has exited. Without one, taking the drain slot keeps any later drain from starting.
+    @Override
+    public void cancel() {
+      if (!isDone) {
+        isDone = true;
+        cancellationToken.cancel();
+        if (pendingDrains.getAndIncrement() == 0) {
+          release();
+        }
+      }
+    }
+
+    private void release() {
+      if (isReleased.compareAndSet(false, true)) {
+        subscribed.set(false);
+      }
+    }
+
+    private void scheduleDrain() {
+      if (pendingDrains.getAndIncrement() == 0) {
+        try {
+          executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+          pendingDrains.set(0);
+          fail(e);
+        }
+      }
+    }
+
+    // Only one drain runs at a time, signals that came in while running trigger another pass
+    private void drain() {
+      var missed = 1;
+      do {
+        while (!isDone) {
+          if (error != null) {
+            fail(error);
+            break;
+          }
+          if (demand.get() == 0 || leased.get() >= maxLeased) {
+            break;
+          }
+          if (!publishNext()) {
+            break;
+          }
+        }
+        missed = pendingDrains.addAndGet(-missed);
+      } while (missed != 0);
+      if (isDone) {
+        release();
+      }
+    }
+
+    private boolean publishNext() {
+      FrameLease<N> lease;
+      try {
+        lease = leaser.apply(cancellationToken);
+      } catch (IncompleteFrameException e) {
+        if (!isDone) {
+          fail(e);
+        }
+        return false;
+      } catch (Throwable e) {
+        fail(e);
+        return false;
+      }
+      if (isDone) {
+        lease.release();
+        return false;
+      }
+      leased.incrementAndGet();
+      demand.decrementAndGet();
+      subscriber.onNext(
+          new FrameLease<>(
+              lease.get(),
+              () -> {
+                lease.release();
+                leased.decrementAndGet();
+                scheduleDrain();
+              }));
+      return true;
+    }
+
+    private void fail(Throwable throwable) {
+      if (!isDone) {
+        cancel();
+        subscriber.onError(throwable);
+      }
+    }
+  }
+}
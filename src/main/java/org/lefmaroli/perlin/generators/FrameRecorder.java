@@ -0,0 +1,146 @@
+package org.lefmaroli.perlin.generators;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+
+// Appends the frames of a generator to a recording read back by FrameReplay, frame i of a recording
+// being the frame at time index i. A new recording moves the generator back to its first frame, and
+// recording to an existing file continues it, as long as it was made with the same settings, from
+// the time index following the recorded frames. Only generators built by this package have a known
+// seed to check the settings against, layered generators having one per layer are not recorded. A
+// frame left incomplete by an interrupted recording is overwritten.
+public final class FrameRecorder implements Closeable {
+
+  private final FileChannel channel;
+  private final RecordingHeader header;
+  private final Supplier<double[]> frames;
+  private final ByteBuffer frameBuffer;
+  private long recordedFrames;
+
+  private FrameRecorder(
+      Path path, RecordingHeader header, IGenerator<?> generator, Supplier<double[]> frames)
+      throws IOException {
+    long frameBytes = header.getFrameBytes();
+    if (frameBytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Frames of " + frameBytes + " bytes cannot be recorded");
+    }
+    this.header = header;
+    this.frames = frames;
+    this.frameBuffer = ByteBuffer.allocateDirect((int) frameBytes).order(ByteOrder.LITTLE_ENDIAN);
+    this.channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      this.recordedFrames = openRecording();
+      generator.seek(recordedFrames);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public static FrameRecorder forLines(LineGenerator generator, Path path, FramePrecision precision)
+      throws IOException {
+    assertKnownSeed(generator);
+    var header =
+        new RecordingHeader(
+            RecordingHeader.LINE_DIMENSIONS,
+            precision,
+            generator.isCircular(),
+            generator.getLineLength(),
+            1,
+            generator.getTimeStepSize(),
+            generator.getLineStepSize(),
+            0.0,
+            generator.getMaxAmplitude(),
+            ((RootGenerator<?, ?>) generator).randomSeed);
+    return new FrameRecorder(path, header, generator, generator::getNext);
+  }
+
+  public static FrameRecorder forSlices(
+      SliceGenerator generator, Path path, FramePrecision precision) throws IOException {
+    assertKnownSeed(generator);
+    var header =
+        new RecordingHeader(
+            RecordingHeader.SLICE_DIMENSIONS,
+            precision,
+            generator.isCircular(),
+            generator.getSliceWidth(),
+            generator.getSliceHeight(),
+            generator.getTimeStepSize(),
+            generator.getWidthStepSize(),
+            generator.getHeightStepSize(),
+            generator.getMaxAmplitude(),
+            ((RootGenerator<?, ?>) generator).randomSeed);
+    return new FrameRecorder(path, header, generator, () -> generator.getNextBuffer().getData());
+  }
+
+  private static void assertKnownSeed(IGenerator<?> generator) {
+    if (!(generator instanceof RootGenerator)) {
+      throw new IllegalArgumentException(
+          "Only generators built by this package can be recorded, provided: " + generator);
+    }
+  }
+
+  public void record(long count) throws IOException {
+    if (count < 0) {
+      throw new IllegalArgumentException(
+          "Number of recorded frames must be positive, provided: " + count);
+    }
+    for (var i = 0L; i < count; i++) {
+      writeFrame(frames.get());
+      recordedFrames++;
+    }
+  }
+
+  // Frames in the recording, including the ones recorded before it was reopened
+  public long getRecordedFrames() {
+    return recordedFrames;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private long openRecording() throws IOException {
+    long size = channel.size();
+    if (size == 0) {
+      writeFully(header.write(RecordingHeader.allocate()), 0);
+      return 0;
+    }
+    if (!header.equals(RecordingHeader.read(channel))) {
+      throw new IOException("Existing recording was made with different settings");
+    }
+    long frames = (size - RecordingHeader.BYTES) / header.getFrameBytes();
+    channel.truncate(RecordingHeader.BYTES + frames * header.getFrameBytes());
+    channel.position(channel.size());
+    return frames;
+  }
+
+  private void writeFrame(double[] values) throws IOException {
+    frameBuffer.clear();
+    if (header.getPrecision() == FramePrecision.DOUBLE) {
+      frameBuffer.asDoubleBuffer().put(values);
+    } else {
+      var floats = frameBuffer.asFloatBuffer();
+      for (double value : values) {
+        floats.put((float) value);
+      }
+    }
+    writeFully(frameBuffer, channel.position());
+  }
+
+  private void writeFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+    channel.position(position);
+  }
+}
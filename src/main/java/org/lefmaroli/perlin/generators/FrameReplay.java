@@ -0,0 +1,131 @@
+package org.lefmaroli.perlin.generators;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Frames of a recording served from memory mapped views of the file, without copies or noise
+// evaluation. The file is mapped in segments of whole frames as a single mapping cannot exceed
+// 2GB. Frames recorded after the replay was opened are not visible.
+public final class FrameReplay {
+
+  private static final long SEGMENT_BYTES = 1L << 30;
+  private final RecordingHeader header;
+  private final int frameBytes;
+  private final int framesPerSegment;
+  private final long frameCount;
+  private final MappedByteBuffer[] segments;
+
+  private FrameReplay(FileChannel channel) throws IOException {
+    this.header = RecordingHeader.read(channel);
+    long bytes = header.getFrameBytes();
+    if (bytes > SEGMENT_BYTES) {
+      throw new IOException("Frames of " + bytes + " bytes are too large to be mapped");
+    }
+    this.frameBytes = (int) bytes;
+    this.framesPerSegment = (int) (SEGMENT_BYTES / frameBytes);
+    this.frameCount = Math.max(0, (channel.size() - RecordingHeader.BYTES) / frameBytes);
+    this.segments =
+        new MappedByteBuffer[(int) ((frameCount + framesPerSegment - 1) / framesPerSegment)];
+    for (var i = 0; i < segments.length; i++) {
+      long firstFrame = (long) i * framesPerSegment;
+      long frames = Math.min(framesPerSegment, frameCount - firstFrame);
+      segments[i] =
+          channel.map(
+              MapMode.READ_ONLY,
+              RecordingHeader.BYTES + firstFrame * frameBytes,
+              frames * frameBytes);
+    }
+  }
+
+  // The mappings stay valid once the file is closed
+  public static FrameReplay open(Path path) throws IOException {
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new FrameReplay(channel);
+    }
+  }
+
+  public long getFrameCount() {
+    return frameCount;
+  }
+
+  // 2 for lines and 3 for slices, as for the generators
+  public int getDimensions() {
+    return header.getDimensions();
+  }
+
+  public FramePrecision getPrecision() {
+    return header.getPrecision();
+  }
+
+  // Line length for lines
+  public int getWidth() {
+    return header.getWidth();
+  }
+
+  // 1 for lines
+  public int getHeight() {
+    return header.getHeight();
+  }
+
+  public boolean isCircular() {
+    return header.isCircular();
+  }
+
+  public double getTimeStepSize() {
+    return header.getTimeStepSize();
+  }
+
+  // Line step size for lines
+  public double getWidthStepSize() {
+    return header.getWidthStepSize();
+  }
+
+  public double getHeightStepSize() {
+    return header.getHeightStepSize();
+  }
+
+  public double getMaxAmplitude() {
+    return header.getMaxAmplitude();
+  }
+
+  public long getRandomSeed() {
+    return header.getRandomSeed();
+  }
+
+  // Read only view over the frame, the value at (widthIndex, heightIndex) is at
+  // widthIndex * getHeight() + heightIndex. Views are independent and can be used from any thread.
+  public DoubleBuffer getFrame(long frameIndex) {
+    assertPrecision(FramePrecision.DOUBLE);
+    return getFrameBytes(frameIndex).asDoubleBuffer();
+  }
+
+  public FloatBuffer getFloatFrame(long frameIndex) {
+    assertPrecision(FramePrecision.FLOAT);
+    return getFrameBytes(frameIndex).asFloatBuffer();
+  }
+
+  private void assertPrecision(FramePrecision precision) {
+    if (header.getPrecision() != precision) {
+      throw new IllegalStateException(
+          "Frames are recorded in " + header.getPrecision() + " precision, not " + precision);
+    }
+  }
+
+  private ByteBuffer getFrameBytes(long frameIndex) {
+    if (frameIndex < 0 || frameIndex >= frameCount) {
+      throw new IndexOutOfBoundsException(
+          "Frame " + frameIndex + " out of bounds for " + frameCount + " recorded frames");
+    }
+    MappedByteBuffer segment = segments[(int) (frameIndex / framesPerSegment)];
+    int offset = (int) (frameIndex % framesPerSegment) * frameBytes;
+    return segment.slice(offset, frameBytes).order(ByteOrder.LITTLE_ENDIAN);
+  }
+}
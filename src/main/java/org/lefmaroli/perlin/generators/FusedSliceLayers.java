@@ -0,0 +1,310 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+
+// Evaluates every layer of a layered slice in a single traversal of the frame. Each column is
+// summed over the layers in a column sized array, in the same order as summing full layer frames,
+// and handed to a ColumnWriter that divides it by the total amplitude or quantizes it.
+// Work is split in column tiles carrying every layer, each tile owning its part of the frame, so
+// that layers never wait on each other and tiles can be spread over a single pool without locks.
+final class FusedSliceLayers implements LayeredGenerator.FusedLayers<SliceBuffer> {
+
+  private static final int TILES_PER_WORKER = 4;
+  private final List<SliceRootGenerator<?, ?>> layers;
+  private final double[] amplitudes;
+  private final double maxAmplitude;
+  private final int sliceWidth;
+  private final int sliceHeight;
+  private final ForkJoinPool pool;
+  private final ForkThreshold forkThreshold;
+
+  private FusedSliceLayers(
+      List<SliceRootGenerator<?, ?>> layers, double maxAmplitude, ForkJoinPool pool) {
+    this.layers = layers;
+    this.amplitudes = new double[layers.size()];
+    for (var i = 0; i < layers.size(); i++) {
+      amplitudes[i] = layers.get(i).getMaxAmplitude();
+    }
+    this.maxAmplitude = maxAmplitude;
+    this.sliceWidth = layers.get(0).getSliceWidth();
+    this.sliceHeight = layers.get(0).getSliceHeight();
+    this.pool = pool;
+    this.forkThreshold = layers.get(0).forkThreshold();
+  }
+
+  // Null when a layer is not generated by this package, those keep their own frames
+  static FusedSliceLayers of(
+      List<? extends SliceGenerator> layers, double maxAmplitude, ForkJoinPool pool) {
+    List<SliceRootGenerator<?, ?>> rootLayers = new ArrayList<>(layers.size());
+    for (SliceGenerator layer : layers) {
+      if (!(layer instanceof SliceRootGenerator)) {
+        return null;
+      }
+      rootLayers.add((SliceRootGenerator<?, ?>) layer);
+    }
+    return new FusedSliceLayers(rootLayers, maxAmplitude, pool);
+  }
+
+  @Override
+  public boolean fill(
+      SliceBuffer frame,
+      CancellationToken cancellationToken,
+      ExecutorService tileExecutor,
+      long timeout) {
+    double[] data = frame.getData();
+    int stride = frame.getStride();
+    return fill(
+        (widthIndex, sums, offset, amplitude) -> {
+          int frameOffset = widthIndex * stride;
+          for (var j = 0; j < sliceHeight; j++) {
+            data[frameOffset + j] = sums[offset + j] / amplitude;
+          }
+        },
+        cancellationToken,
+        tileExecutor,
+        timeout);
+  }
+
+  // False when interrupted, layers only move forward in time once the whole frame is written.
+  // Tiles go to the tile executor when one is provided.
+  boolean fill(
+      ColumnWriter writer,
+      CancellationToken cancellationToken,
+      ExecutorService tileExecutor,
+      long timeout) {
+    if (tileExecutor != null) {
+      fillTiles(writer, cancellationToken, tileExecutor, timeout);
+    } else if (pool != null && pool.getParallelism() > 1) {
+      pool.invoke(new FusedColumnsTask(writer, 0, sliceWidth, cancellationToken));
+    } else {
+      fillColumns(writer, 0, sliceWidth, cancellationToken);
+    }
+    forkThreshold.update();
+    if (cancellationToken.isCancelled()) {
+      throw new IncompleteFrameException("Fused layered generation cancelled");
+    }
+    if (Thread.currentThread().isInterrupted()) {
+      LogManager.getLogger(this.getClass()).debug("Interrupted processing [fill]");
+      return false;
+    }
+    for (SliceRootGenerator<?, ?> layer : layers) {
+      layer.completeFusedFrame();
+    }
+    return true;
+  }
+
+  // Tiles are pulled by a few workers on the executor, joined by workers on the layers' pool when
+  // it has more parallelism, so that a frame spreads over as many processors as the per layer tasks
+  // forking into the pool did. The timeout applies from one completed tile to the next, tiles
+  // queued behind other work on a shared executor only fail when they stop making progress.
+  // Workers left running after a failure are abandoned and stop at their next column.
+  private void fillTiles(
+      ColumnWriter writer,
+      CancellationToken cancellationToken,
+      ExecutorService tileExecutor,
+      long timeout) {
+    var tileToken =
+        new CancellationToken() {
+          @Override
+          public boolean isCancelled() {
+            return super.isCancelled() || cancellationToken.isCancelled();
+          }
+        };
+    int executorWorkers = getExecutorWorkers(tileExecutor);
+    int poolWorkers = getPoolWorkers(executorWorkers);
+    int tiles = getTileCount(executorWorkers + poolWorkers);
+    var nextTile = new AtomicInteger();
+    var completedTiles = new AtomicInteger();
+    var lastProgress = new AtomicLong(System.nanoTime());
+    var frameFuture = new CompletableFuture<Void>();
+    // Tiles left after a cancellation are still counted, so that the frame completes
+    Runnable worker =
+        () -> {
+          try {
+            for (int tile = nextTile.getAndIncrement();
+                tile < tiles;
+                tile = nextTile.getAndIncrement()) {
+              if (!tileToken.isCancelled()) {
+                int startWidthIndex = (int) ((long) sliceWidth * tile / tiles);
+                int endWidthIndex = (int) ((long) sliceWidth * (tile + 1) / tiles);
+                fillColumns(writer, startWidthIndex, endWidthIndex, tileToken);
+              }
+              lastProgress.set(System.nanoTime());
+              if (completedTiles.incrementAndGet() == tiles) {
+                frameFuture.complete(null);
+              }
+            }
+          } catch (Throwable e) {
+            frameFuture.completeExceptionally(e);
+          }
+        };
+    for (var i = 0; i < Math.min(executorWorkers, tiles); i++) {
+      tileExecutor.execute(worker);
+    }
+    for (var i = 0; i < Math.min(poolWorkers, tiles - executorWorkers); i++) {
+      pool.execute(worker);
+    }
+    try {
+      awaitProgress(frameFuture, lastProgress, timeout);
+    } catch (InterruptedException e) {
+      tileToken.cancel();
+      Thread.currentThread().interrupt();
+      throw new LayerProcessException("Interrupted while doing parallel processing", e);
+    } catch (ExecutionException e) {
+      tileToken.cancel();
+      throw new LayerProcessException("Execution exception in layer process", e);
+    } catch (TimeoutException e) {
+      tileToken.cancel();
+      throw new LayerProcessException(
+          "Timeout of " + timeout + "ms reached before layer process completion", e);
+    }
+  }
+
+  private static void awaitProgress(
+      CompletableFuture<Void> frameFuture, AtomicLong lastProgress, long timeout)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+    while (true) {
+      long progress = lastProgress.get();
+      try {
+        frameFuture.get(progress + timeoutNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        return;
+      } catch (TimeoutException e) {
+        if (lastProgress.get() == progress) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  // A caller's executor keeps a thread for the rest of the caller's work. A concurrency limited
+  // executor is the generator's own share of the shared carriers and is used whole.
+  private static int getExecutorWorkers(ExecutorService tileExecutor) {
+    int workers;
+    if (tileExecutor instanceof ConcurrencyLimitedExecutor) {
+      workers = ((ConcurrencyLimitedExecutor) tileExecutor).getMaxConcurrency();
+    } else if (tileExecutor instanceof ThreadPoolExecutor) {
+      var threadPool = (ThreadPoolExecutor) tileExecutor;
+      int poolSize =
+          threadPool.getCorePoolSize() > 0
+              ? threadPool.getCorePoolSize()
+              : threadPool.getMaximumPoolSize();
+      workers = poolSize - 1;
+    } else if (tileExecutor instanceof ForkJoinPool) {
+      workers = ((ForkJoinPool) tileExecutor).getParallelism() - 1;
+    } else {
+      workers = Runtime.getRuntime().availableProcessors() - 1;
+    }
+    return Math.max(1, Math.min(workers, Runtime.getRuntime().availableProcessors()));
+  }
+
+  // Workers of the layers' pool make up for a small executor, up to the pool's parallelism
+  private int getPoolWorkers(int executorWorkers) {
+    if (pool == null || pool.isShutdown()) {
+      return 0;
+    }
+    int parallelism = Math.min(pool.getParallelism(), Runtime.getRuntime().availableProcessors());
+    return Math.max(0, parallelism - executorWorkers);
+  }
+
+  // A few tiles per worker so that a slow worker does not hold the whole frame back
+  private int getTileCount(int workers) {
+    var tiles = workers * TILES_PER_WORKER;
+    tiles =
+        (int) Math.min(tiles, Math.max(1L, getEvaluatedSamples(sliceWidth) / forkThreshold.get()));
+    return Math.min(tiles, sliceWidth);
+  }
+
+  private void fillColumns(
+      ColumnWriter writer, int startWidthIndex, int endWidthIndex, CancellationToken token) {
+    var start = System.nanoTime();
+    var dataContainers = new PerlinNoiseDataContainer[layers.size()];
+    for (var i = 0; i < layers.size(); i++) {
+      dataContainers[i] = layers.get(i).acquireDataContainer();
+      dataContainers[i].setCoordinatesForDimension(0, layers.get(i).getNextTimeCoordinate());
+    }
+    var sums = new double[sliceHeight];
+    var scratch = new double[sliceHeight];
+    var completedColumns = 0;
+    for (var widthIndex = startWidthIndex; widthIndex < endWidthIndex; widthIndex++) {
+      if (token.isCancelled() || Thread.currentThread().isInterrupted()) {
+        break;
+      }
+      completedColumns++;
+      layers.get(0).evaluateColumnInto(dataContainers[0], widthIndex, 0, sliceHeight, sums, 0);
+      double amplitude = amplitudes[0];
+      for (var j = 0; j < sliceHeight; j++) {
+        sums[j] = sums[j] * amplitude;
+      }
+      for (var i = 1; i < layers.size(); i++) {
+        layers.get(i).evaluateColumnInto(dataContainers[i], widthIndex, 0, sliceHeight, scratch, 0);
+        amplitude = amplitudes[i];
+        for (var j = 0; j < sliceHeight; j++) {
+          sums[j] = sums[j] + scratch[j] * amplitude;
+        }
+      }
+      writer.write(widthIndex, sums, 0, maxAmplitude);
+    }
+    for (var i = 0; i < layers.size(); i++) {
+      layers.get(i).releaseDataContainer(dataContainers[i]);
+    }
+    forkThreshold.record(getEvaluatedSamples(completedColumns), System.nanoTime() - start);
+  }
+
+  // Every layer is evaluated for each sample of the columns
+  private long getEvaluatedSamples(int columns) {
+    return (long) columns * sliceHeight * layers.size();
+  }
+
+  // Receives the sums of the layer values of a column, sliceHeight values from the offset, before
+  // their division by the total amplitude. Different columns are written concurrently by tiles.
+  interface ColumnWriter {
+
+    void write(int widthIndex, double[] sums, int offset, double maxAmplitude);
+  }
+
+  private class FusedColumnsTask extends RecursiveAction {
+
+    private final ColumnWriter writer;
+    private final int startWidthIndex;
+    private final int endWidthIndex;
+    private final CancellationToken cancellationToken;
+
+    FusedColumnsTask(
+        ColumnWriter writer,
+        int startWidthIndex,
+        int endWidthIndex,
+        CancellationToken cancellationToken) {
+      this.writer = writer;
+      this.startWidthIndex = startWidthIndex;
+      this.endWidthIndex = endWidthIndex;
+      this.cancellationToken = cancellationToken;
+    }
+
+    @Override
+    protected void compute() {
+      var widthSegment = endWidthIndex - startWidthIndex;
+      if (widthSegment < 2 || getEvaluatedSamples(widthSegment) < forkThreshold.get()) {
+        fillColumns(writer, startWidthIndex, endWidthIndex, cancellationToken);
+        return;
+      }
+      int splitWidthIndex = (widthSegment / 2) + startWidthIndex;
+      invokeAll(
+          new FusedColumnsTask(writer, startWidthIndex, splitWidthIndex, cancellationToken),
+          new FusedColumnsTask(writer, splitWidthIndex, endWidthIndex, cancellationToken));
+    }
+  }
+}
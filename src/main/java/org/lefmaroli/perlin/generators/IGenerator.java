@@ -1,8 +1,48 @@
 package org.lefmaroli.perlin.generators;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 interface IGenerator<R> {
   R getNext();
 
+  R getNextUnlessCancelled(CancellationToken cancellationToken);
+
+  // Unlike getNext, the frame is never overwritten until the lease is released
+  FrameLease<R> acquireNext();
+
+  FrameLease<R> acquireNextUnlessCancelled(CancellationToken cancellationToken);
+
+  // Time indices count frames from 0, the first frame of a new generator. The next getNext returns
+  // the frame at timeIndex.
+  void seek(long timeIndex);
+
+  // The frame at timeIndex in a new container owned by the caller, whatever the position of the
+  // generator. Safe to call from several threads at once, in any order.
+  R getAt(long timeIndex);
+
+  // Frames are generated on the executor as they are requested, the subscriber releases them
+  Flow.Publisher<FrameLease<R>> publisher(Executor executor);
+
+  // Endless and sequential, frames stay valid for the same two calls as getNext
+  default Stream<R> stream() {
+    return StreamSupport.stream(
+        new Spliterators.AbstractSpliterator<R>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+          @Override
+          public boolean tryAdvance(Consumer<? super R> action) {
+            action.accept(getNext());
+            return true;
+          }
+        },
+        false);
+  }
+
   double getMaxAmplitude();
 
   int getDimensions();
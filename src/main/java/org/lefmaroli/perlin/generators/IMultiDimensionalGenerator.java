@@ -8,4 +8,7 @@ interface IMultiDimensionalGenerator {
   boolean hasParallelProcessingEnabled();
 
   ForkJoinPool getExecutionPool();
+
+  // Number of samples evaluated directly by a task of the execution pool, larger frames are split
+  int getForkThreshold();
 }
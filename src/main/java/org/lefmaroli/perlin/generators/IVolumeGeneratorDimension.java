@@ -0,0 +1,10 @@
+package org.lefmaroli.perlin.generators;
+
+interface IVolumeGeneratorDimension {
+
+  int getVolumeWidth();
+
+  int getVolumeHeight();
+
+  int getVolumeDepth();
+}
@@ -0,0 +1,8 @@
+package org.lefmaroli.perlin.generators;
+
+public class IncompleteFrameException extends RuntimeException {
+
+  IncompleteFrameException(String message) {
+    super(message);
+  }
+}
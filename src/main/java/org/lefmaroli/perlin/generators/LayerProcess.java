@@ -2,17 +2,17 @@ package org.lefmaroli.perlin.generators;
 
 import java.util.function.Supplier;
 
-class LayerProcess<N, L extends IGenerator<N>> implements Supplier<N> {
+class LayerProcess<C> implements Supplier<C> {
 
-  private final L layer;
+  private final Supplier<C> layerFrame;
 
-  LayerProcess(L layer) {
-    this.layer = layer;
+  LayerProcess(Supplier<C> layerFrame) {
+    this.layerFrame = layerFrame;
   }
 
   @Override
-  public N get() {
-    var next = layer.getNext();
+  public C get() {
+    var next = layerFrame.get();
     if (Thread.currentThread().isInterrupted()) {
       throw new LayerProcessException(
           "Incomplete process due to interruption", new InterruptedException());
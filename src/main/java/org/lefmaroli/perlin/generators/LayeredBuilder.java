@@ -25,6 +25,9 @@ abstract class LayeredBuilder<
   protected long randomSeed = System.currentTimeMillis();
   private Iterable<Double> amplitudes = new DoubleGenerator(1.0, 0.5);
   private ExecutorService executorService = null;
+  private int prefetchedFrames = 0;
+  private ExecutorService prefetchExecutorService = null;
+  private int leasedFrames = FramePool.DEFAULT_CAPACITY;
   private JitterStrategy jitterStrategy = ProductionJitterStrategy.getInstance();
 
   public static void increaseLayerLimit(int limit) {
@@ -91,13 +94,40 @@ abstract class LayeredBuilder<
     return self();
   }
 
+  // Layers share a JVM wide pool of one thread per processor with every other generator built this
+  // way, running at most maxConcurrency tasks of this generator at a time
+  public B withSharedLayerExecution(int maxConcurrency) {
+    this.executorService = ConcurrencyLimitedExecutor.shared(maxConcurrency);
+    return self();
+  }
+
+  public B withPrefetching(int framesAhead, ExecutorService executorService) {
+    FramePrefetcher.assertValidPrefetching(framesAhead, executorService);
+    this.prefetchedFrames = framesAhead;
+    this.prefetchExecutorService = executorService;
+    return self();
+  }
+
+  public B withLeasedFrames(int leasedFrames) {
+    FramePool.assertValidCapacity(leasedFrames);
+    this.leasedFrames = leasedFrames;
+    return self();
+  }
+
   B withJitterStrategy(JitterStrategy jitterStrategy) {
     this.jitterStrategy = jitterStrategy;
     return self();
   }
 
   public ILayeredGenerator<N> build() throws LayeredGeneratorBuilderException {
-    return buildMultipleNoiseLayer(generateNoiseLayers(), executorService, jitterStrategy);
+    var generator =
+        (LayeredGenerator<?, N, ?>)
+            buildMultipleNoiseLayer(generateNoiseLayers(), executorService, jitterStrategy);
+    generator.setLeasedFrames(leasedFrames);
+    if (prefetchedFrames > 0) {
+      generator.enablePrefetching(prefetchedFrames, prefetchExecutorService);
+    }
+    return generator;
   }
 
   protected void setStepSizeGeneratorForDimension(int dimension, Iterable<Double> stepSizes) {
@@ -0,0 +1,4 @@
+package org.lefmaroli.perlin.generators;
+
+public interface LayeredFloatLineGenerator
+    extends ILineGeneratorDimension, ILayeredGenerator<float[]>, IMultiDimensionalGenerator {}
@@ -0,0 +1,165 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+public class LayeredFloatLineGeneratorBuilder
+    extends LayeredMultiDimensionalBuilder<
+        float[], LayeredFloatLineGenerator, FloatLineGenerator, LayeredFloatLineGeneratorBuilder> {
+
+  private final FloatLineGeneratorBuilder singleLayerBuilder;
+
+  public LayeredFloatLineGeneratorBuilder(int lineLength) {
+    super(2);
+    this.singleLayerBuilder = new FloatLineGeneratorBuilder(lineLength);
+  }
+
+  @Override
+  public LayeredFloatLineGenerator build() throws LayeredGeneratorBuilderException {
+    return (LayeredFloatLineGenerator) super.build();
+  }
+
+  public LayeredFloatLineGeneratorBuilder withLineStepSizes(Iterable<Double> lineStepSizes) {
+    setStepSizeGeneratorForDimension(2, lineStepSizes);
+    return this;
+  }
+
+  @Override
+  protected LayeredFloatLineGeneratorBuilder self() {
+    return this;
+  }
+
+  @Override
+  protected FloatLineGenerator buildSingleNoiseLayer(
+      List<Double> stepSizes, double layerAmplitude, long randomSeed, JitterStrategy jitterStrategy)
+      throws StepSizeException {
+    return singleLayerBuilder
+        .withTimeStepSize(stepSizes.get(0))
+        .withLineStepSize(stepSizes.get(1))
+        .withAmplitude(layerAmplitude)
+        .withRandomSeed(randomSeed)
+        .withForkJoinPool(getPool())
+        .withForkThreshold(getForkThreshold())
+        .withCircularBounds(isCircular())
+        .withJitterStrategy(jitterStrategy)
+        .build();
+  }
+
+  @Override
+  protected LayeredFloatLineGenerator buildMultipleNoiseLayer(
+      List<FloatLineGenerator> layers,
+      ExecutorService executorService,
+      JitterStrategy jitterStrategy) {
+    return new LayeredFloatLineGeneratorImpl(layers, executorService, jitterStrategy);
+  }
+
+  private static class LayeredFloatLineGeneratorImpl
+      extends MultiDimensionalLayeredGenerator<float[], float[], FloatLineGenerator>
+      implements LayeredFloatLineGenerator {
+
+    private final int lineLength;
+
+    LayeredFloatLineGeneratorImpl(
+        List<FloatLineGenerator> layers,
+        ExecutorService executorService,
+        JitterStrategy jitterStrategy) {
+      super(layers, executorService, jitterStrategy);
+      this.lineLength = layers.get(0).getLineLength();
+      assertAllLayersHaveSameLineLength(layers);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      if (!super.equals(o)) return false;
+      LayeredFloatLineGeneratorImpl that = (LayeredFloatLineGeneratorImpl) o;
+      return lineLength == that.lineLength;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(super.hashCode(), lineLength);
+    }
+
+    @Override
+    public String toString() {
+      return "LayeredFloatLineGeneratorImpl{"
+          + "lineLength="
+          + lineLength
+          + ", layers="
+          + getLayers()
+          + ", maxAmplitude="
+          + getMaxAmplitude()
+          + ", isCircular="
+          + isCircular()
+          + '}';
+    }
+
+    @Override
+    protected float[] getNextFromLayer(
+        FloatLineGenerator layer, CancellationToken cancellationToken) {
+      return layer.getNextUnlessCancelled(cancellationToken);
+    }
+
+    @Override
+    protected float[] getFromLayerAt(FloatLineGenerator layer, long timeIndex) {
+      return layer.getAt(timeIndex);
+    }
+
+    @Override
+    protected float[] toFrame(float[] container) {
+      return container;
+    }
+
+    @Override
+    protected float[] getNewContainer() {
+      return new float[lineLength];
+    }
+
+    @Override
+    protected float[] resetContainer(float[] container) {
+      Arrays.fill(container, 0.0f);
+      return container;
+    }
+
+    @Override
+    protected float[] addTogether(float[] results, float[] newLayer) {
+      for (var i = 0; i < results.length; i++) {
+        results[i] = results[i] + newLayer[i];
+      }
+      return results;
+    }
+
+    @Override
+    protected float[] normalizeBy(float[] data, double maxAmplitude) {
+      var amplitude = (float) maxAmplitude;
+      for (var i = 0; i < data.length; i++) {
+        data[i] = data[i] / amplitude;
+      }
+      return data;
+    }
+
+    private void assertAllLayersHaveSameLineLength(List<FloatLineGenerator> layers) {
+      for (var i = 0; i < layers.size(); i++) {
+        if (layers.get(i).getLineLength() != lineLength) {
+          throw new IllegalArgumentException(
+              "Layer " + i + " does not have the same line length as the first provided layer");
+        }
+      }
+    }
+
+    @Override
+    public int getDimensions() {
+      return 2;
+    }
+
+    @Override
+    public int getLineLength() {
+      return lineLength;
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package org.lefmaroli.perlin.generators;
+
+public interface LayeredFloatSliceGenerator
+    extends ISliceGeneratorDimension, ILayeredGenerator<float[][]>, IMultiDimensionalGenerator {}
@@ -0,0 +1,193 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+public class LayeredFloatSliceGeneratorBuilder
+    extends LayeredMultiDimensionalBuilder<
+        float[][],
+        LayeredFloatSliceGenerator,
+        FloatSliceGenerator,
+        LayeredFloatSliceGeneratorBuilder> {
+
+  private final FloatSliceGeneratorBuilder singleLayerBuilder;
+
+  public LayeredFloatSliceGeneratorBuilder(int sliceWidth, int sliceHeight) {
+    super(3);
+    this.singleLayerBuilder = new FloatSliceGeneratorBuilder(sliceWidth, sliceHeight);
+  }
+
+  @Override
+  public LayeredFloatSliceGenerator build() throws LayeredGeneratorBuilderException {
+    return (LayeredFloatSliceGenerator) super.build();
+  }
+
+  public LayeredFloatSliceGeneratorBuilder withWidthStepSizes(Iterable<Double> numberGenerator) {
+    setStepSizeGeneratorForDimension(2, numberGenerator);
+    return this;
+  }
+
+  public LayeredFloatSliceGeneratorBuilder withHeightStepSizes(Iterable<Double> numberGenerator) {
+    setStepSizeGeneratorForDimension(3, numberGenerator);
+    return this;
+  }
+
+  @Override
+  protected LayeredFloatSliceGeneratorBuilder self() {
+    return this;
+  }
+
+  @Override
+  protected FloatSliceGenerator buildSingleNoiseLayer(
+      List<Double> stepSizes, double layerAmplitude, long randomSeed, JitterStrategy jitterStrategy)
+      throws StepSizeException {
+    return singleLayerBuilder
+        .withTimeStepSize(stepSizes.get(0))
+        .withWidthStepSize(stepSizes.get(1))
+        .withHeightStepSize(stepSizes.get(2))
+        .withAmplitude(layerAmplitude)
+        .withRandomSeed(randomSeed)
+        .withCircularBounds(isCircular())
+        .withForkJoinPool(getPool())
+        .withForkThreshold(getForkThreshold())
+        .withJitterStrategy(jitterStrategy)
+        .build();
+  }
+
+  @Override
+  protected LayeredFloatSliceGenerator buildMultipleNoiseLayer(
+      List<FloatSliceGenerator> layers,
+      ExecutorService executorService,
+      JitterStrategy jitterStrategy) {
+    return new LayeredFloatSliceGeneratorImpl(layers, executorService, jitterStrategy);
+  }
+
+  private static class LayeredFloatSliceGeneratorImpl
+      extends MultiDimensionalLayeredGenerator<float[][], float[][], FloatSliceGenerator>
+      implements LayeredFloatSliceGenerator {
+
+    private final int sliceWidth;
+    private final int sliceHeight;
+
+    protected LayeredFloatSliceGeneratorImpl(
+        List<FloatSliceGenerator> sliceNoiseGenerators,
+        ExecutorService executorService,
+        JitterStrategy jitterStrategy) {
+      super(sliceNoiseGenerators, executorService, jitterStrategy);
+      this.sliceWidth = sliceNoiseGenerators.get(0).getSliceWidth();
+      this.sliceHeight = sliceNoiseGenerators.get(0).getSliceHeight();
+      assertAllLayersHaveSameSize(sliceNoiseGenerators);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      if (!super.equals(o)) return false;
+      LayeredFloatSliceGeneratorImpl that = (LayeredFloatSliceGeneratorImpl) o;
+      return sliceWidth == that.sliceWidth && sliceHeight == that.sliceHeight;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(super.hashCode(), sliceWidth, sliceHeight);
+    }
+
+    @Override
+    public String toString() {
+      return "LayeredFloatSliceGeneratorImpl{"
+          + "sliceWidth="
+          + sliceWidth
+          + ", sliceHeight="
+          + sliceHeight
+          + ", layers="
+          + getLayers()
+          + ", maxAmplitude="
+          + getMaxAmplitude()
+          + ", isCircular="
+          + isCircular()
+          + '}';
+    }
+
+    @Override
+    public int getSliceWidth() {
+      return sliceWidth;
+    }
+
+    @Override
+    public int getSliceHeight() {
+      return sliceHeight;
+    }
+
+    @Override
+    protected float[][] getNextFromLayer(
+        FloatSliceGenerator layer, CancellationToken cancellationToken) {
+      return layer.getNextUnlessCancelled(cancellationToken);
+    }
+
+    @Override
+    protected float[][] getFromLayerAt(FloatSliceGenerator layer, long timeIndex) {
+      return layer.getAt(timeIndex);
+    }
+
+    @Override
+    protected float[][] toFrame(float[][] container) {
+      return container;
+    }
+
+    @Override
+    protected float[][] getNewContainer() {
+      return new float[getSliceWidth()][getSliceHeight()];
+    }
+
+    @Override
+    protected float[][] resetContainer(float[][] container) {
+      for (float[] rows : container) {
+        Arrays.fill(rows, 0.0f);
+      }
+      return container;
+    }
+
+    @Override
+    protected float[][] addTogether(float[][] results, float[][] newLayer) {
+      for (var i = 0; i < results.length; i++) {
+        for (var j = 0; j < results[0].length; j++) {
+          results[i][j] = results[i][j] + newLayer[i][j];
+        }
+      }
+      return results;
+    }
+
+    @Override
+    protected float[][] normalizeBy(float[][] data, double maxAmplitude) {
+      var amplitude = (float) maxAmplitude;
+      for (var i = 0; i < data.length; i++) {
+        for (var j = 0; j < data[0].length; j++) {
+          data[i][j] = data[i][j] / amplitude;
+        }
+      }
+      return data;
+    }
+
+    private void assertAllLayersHaveSameSize(List<FloatSliceGenerator> layers) {
+      for (var i = 0; i < layers.size(); i++) {
+        if (layers.get(i).getSliceWidth() != sliceWidth) {
+          throw new IllegalArgumentException(
+              "Layer " + i + " does not have the same slice width as the first provided layer");
+        }
+        if (layers.get(i).getSliceHeight() != sliceHeight) {
+          throw new IllegalArgumentException(
+              "Layer " + i + " does not have the same slice height as the first provided layer");
+        }
+      }
+    }
+
+    @Override
+    public int getDimensions() {
+      return 3;
+    }
+  }
+}
@@ -1,49 +1,61 @@
 package org.lefmaroli.perlin.generators;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.lefmaroli.perlin.configuration.JitterStrategy;
 
-abstract class LayeredGenerator<N> implements ILayeredGenerator<N> {
+// Layer frames are summed into recycled containers of type C, handed out as N like root generators
+abstract class LayeredGenerator<C, N, L extends IGenerator<N>> implements ILayeredGenerator<N> {
 
   private static final int SIZE_THRESHOLD = 2500;
+  protected static final CancellationToken NOT_CANCELLABLE = new CancellationToken();
   private final double maxAmplitude;
-  private final List<IGenerator<N>> layers;
-  private final Queue<N> generated = new LinkedList<>();
-  private final Queue<N> containers = new LinkedList<>();
-  private final List<CompletableFuture<N>> futures;
+  private final List<L> layers;
+  private final Queue<C> generated = new LinkedList<>();
+  private final Deque<C> containers = new LinkedList<>();
+  private final List<CompletableFuture<C>> futures;
+  private final List<C> layerResults;
   private int containersCount = 0;
+  private FramePrefetcher<C> prefetcher = null;
+  private int leasedFrames = FramePool.DEFAULT_CAPACITY;
+  private FramePool<C> leasePool = null;
+  private FusedLayers<C> fusedLayers = null;
   private final int totalSize;
   private final long timeout;
   private final ExecutorService executorService;
   private boolean emittedExecutorShutdownWarning = false;
 
   protected LayeredGenerator(
-      List<? extends IGenerator<N>> layers,
-      ExecutorService executorService,
-      JitterStrategy jitterStrategy) {
+      List<? extends L> layers, ExecutorService executorService, JitterStrategy jitterStrategy) {
     if (layers.isEmpty()) {
       throw new IllegalArgumentException("Number of layers must at least be 1");
     }
     this.layers = new ArrayList<>(layers.size());
     this.layers.addAll(layers);
-    this.futures = new ArrayList<>(layers.size());
+    this.futures = new ArrayList<>(Collections.nCopies(layers.size(), null));
+    this.layerResults = new ArrayList<>(Collections.nCopies(layers.size(), null));
     var sum = 0.0;
-    for (IGenerator<N> layer : layers) {
+    for (L layer : layers) {
       sum += layer.getMaxAmplitude();
     }
     this.maxAmplitude = sum;
     var size = 0;
-    for (IGenerator<N> layer : layers) {
+    for (L layer : layers) {
       size += layer.getTotalSize();
     }
     this.totalSize = size;
@@ -66,6 +78,10 @@ abstract class LayeredGenerator<N> implements ILayeredGenerator<N> {
     return true;
   }
 
+  private boolean isParallelProcessingWorthwhile() {
+    return totalSize > SIZE_THRESHOLD && hasParallelProcessingEnabled();
+  }
+
   @Override
   public int getTotalSize() {
     return totalSize;
@@ -80,7 +96,7 @@ abstract class LayeredGenerator<N> implements ILayeredGenerator<N> {
   public boolean equals(Object o) {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
-    LayeredGenerator<?> that = (LayeredGenerator<?>) o;
+    LayeredGenerator<?, ?, ?> that = (LayeredGenerator<?, ?, ?>) o;
     return Double.compare(that.maxAmplitude, maxAmplitude) == 0
         && Objects.equals(layers, that.layers);
   }
@@ -92,7 +108,19 @@ abstract class LayeredGenerator<N> implements ILayeredGenerator<N> {
 
   @Override
   public N getNext() {
-    N container;
+    return getNextUnlessCancelled(NOT_CANCELLABLE);
+  }
+
+  @Override
+  public N getNextUnlessCancelled(CancellationToken cancellationToken) {
+    return toFrame(getNextContainer(cancellationToken));
+  }
+
+  protected C getNextContainer(CancellationToken cancellationToken) {
+    if (prefetcher != null) {
+      return prefetcher.next(cancellationToken);
+    }
+    C container;
     if (containersCount < 2) {
       containersCount++;
       container = getNewContainer();
@@ -103,72 +131,244 @@ abstract class LayeredGenerator<N> implements ILayeredGenerator<N> {
       LogManager.getLogger(this.getClass()).debug("Interrupted processing [getNext()]");
       return container;
     }
-    addNextToQueue(container);
+    try {
+      addNextToQueue(container, cancellationToken);
+    } catch (IncompleteFrameException e) {
+      containers.addFirst(container);
+      throw e;
+    }
     var nextValue = generated.poll();
     containers.add(nextValue);
     return nextValue;
   }
 
-  private void addNextToQueue(N container) {
-    container = resetContainer(container);
-    if (totalSize > SIZE_THRESHOLD && hasParallelProcessingEnabled()) {
+  // Layer frames left over from an incomplete frame belong to the previous position and are dropped
+  @Override
+  public void seek(long timeIndex) {
+    RootGenerator.assertValidTimeIndex(timeIndex);
+    if (prefetcher != null) {
+      prefetcher.discard();
+    }
+    for (var i = 0; i < layers.size(); i++) {
+      CompletableFuture<C> f = futures.get(i);
+      if (f != null) {
+        f.handle((result, e) -> result).join();
+        futures.set(i, null);
+      }
+      layerResults.set(i, null);
+    }
+    for (L layer : layers) {
+      layer.seek(timeIndex);
+    }
+  }
+
+  @Override
+  public N getAt(long timeIndex) {
+    return toFrame(getContainerAt(timeIndex));
+  }
+
+  protected C getContainerAt(long timeIndex) {
+    RootGenerator.assertValidTimeIndex(timeIndex);
+    var container = resetContainer(getNewContainer());
+    for (L layer : layers) {
+      container = addTogether(container, getFromLayerAt(layer, timeIndex));
+    }
+    return normalizeBy(container, maxAmplitude);
+  }
+
+  @Override
+  public FrameLease<N> acquireNext() {
+    return acquireNextUnlessCancelled(NOT_CANCELLABLE);
+  }
+
+  @Override
+  public FrameLease<N> acquireNextUnlessCancelled(CancellationToken cancellationToken) {
+    return leaseNext(cancellationToken, this::toFrame);
+  }
+
+  @Override
+  public Flow.Publisher<FrameLease<N>> publisher(Executor executor) {
+    return new FramePublisher<>(this::acquireNextUnlessCancelled, leasedFrames, executor);
+  }
+
+  // Leased frames are generated straight into a pooled container, or swapped for one when
+  // prefetching, and only go back to the pool once released
+  protected <R> FrameLease<R> leaseNext(CancellationToken cancellationToken, Function<C, R> view) {
+    if (leasePool == null) {
+      leasePool = new FramePool<>(leasedFrames, this::getNewContainer);
+    }
+    var pool = leasePool;
+    var container = pool.acquire();
+    C frame;
+    try {
+      frame =
+          prefetcher == null
+              ? generateInto(container, cancellationToken)
+              : prefetcher.exchange(container, cancellationToken);
+    } catch (IncompleteFrameException | LayerProcessException e) {
+      pool.release(container);
+      throw e;
+    }
+    return new FrameLease<>(view.apply(frame), () -> pool.release(frame));
+  }
+
+  void setLeasedFrames(int leasedFrames) {
+    this.leasedFrames = leasedFrames;
+  }
+
+  void enablePrefetching(int framesAhead, ExecutorService executorService) {
+    prefetcher =
+        new FramePrefetcher<>(
+            framesAhead, executorService, this::getNewContainer, this::generateInto);
+  }
+
+  protected boolean isPrefetching() {
+    return prefetcher != null;
+  }
+
+  private C generateInto(C container, CancellationToken cancellationToken) {
+    addNextToQueue(container, cancellationToken);
+    var next = generated.poll();
+    if (next == null) {
+      throw new LayerProcessException(
+          "Incomplete prefetched frame due to interruption", new InterruptedException());
+    }
+    return next;
+  }
+
+  private void addNextToQueue(C container, CancellationToken cancellationToken) {
+    if (fusedLayers != null) {
+      if (fusedLayers.fill(container, cancellationToken, getTileExecutor(), timeout)) {
+        generated.add(container);
+      }
+      return;
+    }
+    boolean isComplete;
+    if (isParallelProcessingWorthwhile()) {
       try {
-        processParallel(container);
+        isComplete = processParallel(cancellationToken);
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
         throw new LayerProcessException("Interrupted while doing parallel processing", e);
       }
     } else {
-      processSerial(container);
+      isComplete = processSerial(cancellationToken);
+    }
+    if (isComplete) {
+      container = resetContainer(container);
+      for (var i = 0; i < layers.size(); i++) {
+        container = addTogether(container, layerResults.get(i));
+        layerResults.set(i, null);
+      }
+      generated.add(normalizeBy(container, maxAmplitude));
     }
   }
 
-  private void processParallel(N container) throws InterruptedException {
-    for (IGenerator<N> layer : layers) {
-      futures.add(CompletableFuture.supplyAsync(new LayerProcess<>(layer), executorService));
+  // Layers that completed before a cancellation keep their result, so that a retry resumes with
+  // the remaining layers and every layer stays on the same time index
+  private boolean processParallel(CancellationToken cancellationToken) throws InterruptedException {
+    for (var i = 0; i < layers.size(); i++) {
+      if (layerResults.get(i) == null && futures.get(i) == null) {
+        futures.set(
+            i,
+            CompletableFuture.supplyAsync(
+                new LayerProcess<>(layerFrame(layers.get(i), cancellationToken)), executorService));
+      }
     }
-    for (CompletableFuture<N> f : futures) {
+    var isCancelled = false;
+    for (var i = 0; i < layers.size(); i++) {
+      CompletableFuture<C> f = futures.get(i);
+      if (f == null) {
+        continue;
+      }
       if (Thread.currentThread().isInterrupted()) {
         LogManager.getLogger(this.getClass()).debug("Interrupted processing [processParallel]");
-        return;
+        return false;
       }
       try {
-        container = addTogether(container, f.get(timeout, TimeUnit.MILLISECONDS));
+        layerResults.set(i, f.get(timeout, TimeUnit.MILLISECONDS));
       } catch (ExecutionException e) {
-        throw new LayerProcessException("Execution exception in layer process", e);
+        if (!(e.getCause() instanceof IncompleteFrameException)) {
+          throw new LayerProcessException("Execution exception in layer process", e);
+        }
+        isCancelled = true;
       } catch (TimeoutException e) {
         throw new LayerProcessException(
             "Timeout of " + timeout + "ms reached before layer process completion", e);
       }
+      futures.set(i, null);
+    }
+    if (isCancelled) {
+      throw new IncompleteFrameException(
+          "Layered generation cancelled before all layers completed");
     }
-    generated.add(normalizeBy(container, maxAmplitude));
-    futures.clear();
+    return true;
   }
 
-  private void processSerial(N container) {
-    for (IGenerator<N> layer : layers) {
+  private boolean processSerial(CancellationToken cancellationToken) {
+    for (var i = 0; i < layers.size(); i++) {
       if (Thread.currentThread().isInterrupted()) {
         LogManager.getLogger(this.getClass()).debug("Interrupted processing [processSerial]");
-        return;
+        return false;
+      }
+      if (layerResults.get(i) == null) {
+        if (cancellationToken.isCancelled()) {
+          throw new IncompleteFrameException("Layered generation cancelled before layer " + i);
+        }
+        layerResults.set(i, getNextFromLayer(layers.get(i), cancellationToken));
       }
-      container = addTogether(container, layer.getNext());
     }
-    generated.add(normalizeBy(container, maxAmplitude));
+    return true;
   }
 
   public double getMaxAmplitude() {
     return maxAmplitude;
   }
 
-  protected List<IGenerator<N>> getLayers() {
+  protected List<L> getLayers() {
     return layers;
   }
 
-  protected abstract N getNewContainer();
+  private Supplier<C> layerFrame(L layer, CancellationToken cancellationToken) {
+    return () -> getNextFromLayer(layer, cancellationToken);
+  }
+
+  // Generators able to evaluate all layers in one pass over the frame skip the per layer frames,
+  // their tiles go to the layer executor instead of one task per layer
+  protected void setFusedLayers(FusedLayers<C> fusedLayers) {
+    this.fusedLayers = fusedLayers;
+  }
+
+  protected ExecutorService getTileExecutor() {
+    return isParallelProcessingWorthwhile() ? executorService : null;
+  }
+
+  protected long getTimeout() {
+    return timeout;
+  }
+
+  // Writes the normalized sum of every layer into the container, false when interrupted. Layers
+  // only move forward in time once the whole frame is written.
+  interface FusedLayers<C> {
+
+    boolean fill(
+        C container,
+        CancellationToken cancellationToken,
+        ExecutorService tileExecutor,
+        long timeout);
+  }
+
+  protected abstract C getNextFromLayer(L layer, CancellationToken cancellationToken);
+
+  protected abstract C getFromLayerAt(L layer, long timeIndex);
+
+  protected abstract N toFrame(C container);
+
+  protected abstract C getNewContainer();
 
-  protected abstract N resetContainer(N container);
+  protected abstract C resetContainer(C container);
 
-  protected abstract N addTogether(N results, N newLayer);
+  protected abstract C addTogether(C results, C newLayer);
 
-  protected abstract N normalizeBy(N data, double maxAmplitude);
+  protected abstract C normalizeBy(C data, double maxAmplitude);
 }
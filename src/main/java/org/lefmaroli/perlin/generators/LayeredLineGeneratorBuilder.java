@@ -42,6 +42,7 @@ public class LayeredLineGeneratorBuilder
         .withAmplitude(layerAmplitude)
         .withRandomSeed(randomSeed)
         .withForkJoinPool(getPool())
+        .withForkThreshold(getForkThreshold())
         .withCircularBounds(isCircular())
         .withJitterStrategy(jitterStrategy)
         .build();
@@ -54,7 +55,7 @@ public class LayeredLineGeneratorBuilder
   }
 
   private static class LayeredLineGeneratorImpl
-      extends MultiDimensionalLayeredGenerator<double[], LineGenerator>
+      extends MultiDimensionalLayeredGenerator<double[], double[], LineGenerator>
       implements LayeredLineGenerator {
 
     private final int lineLength;
@@ -96,6 +97,21 @@ public class LayeredLineGeneratorBuilder
           + '}';
     }
 
+    @Override
+    protected double[] getNextFromLayer(LineGenerator layer, CancellationToken cancellationToken) {
+      return layer.getNextUnlessCancelled(cancellationToken);
+    }
+
+    @Override
+    protected double[] getFromLayerAt(LineGenerator layer, long timeIndex) {
+      return layer.getAt(timeIndex);
+    }
+
+    @Override
+    protected double[] toFrame(double[] container) {
+      return container;
+    }
+
     @Override
     protected double[] getNewContainer() {
       return new double[lineLength];
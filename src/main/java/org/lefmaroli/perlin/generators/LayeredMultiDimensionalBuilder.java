@@ -11,6 +11,7 @@ abstract class LayeredMultiDimensionalBuilder<
 
   private boolean isCircular = false;
   private ForkJoinPool pool = ForkJoinPool.commonPool();
+  private int forkThreshold = ForkThreshold.CALIBRATED;
 
   protected LayeredMultiDimensionalBuilder(int dimensions) {
     super(dimensions);
@@ -21,6 +22,13 @@ abstract class LayeredMultiDimensionalBuilder<
     return self();
   }
 
+  // 0 calibrates the threshold from the measured cost of a sample
+  public B withForkThreshold(int samples) {
+    ForkThreshold.assertValid(samples);
+    this.forkThreshold = samples;
+    return self();
+  }
+
   public B withCircularBounds(boolean isCircular) {
     this.isCircular = isCircular;
     return self();
@@ -33,4 +41,8 @@ abstract class LayeredMultiDimensionalBuilder<
   protected ForkJoinPool getPool() {
     return pool;
   }
+
+  protected int getForkThreshold() {
+    return forkThreshold;
+  }
 }
@@ -43,11 +43,11 @@ public class LayeredPointGeneratorBuilder
     return new LayeredPointGeneratorImpl(layers, executorService, jitterStrategy);
   }
 
-  private static class LayeredPointGeneratorImpl extends LayeredGenerator<Double>
-      implements LayeredPointGenerator {
+  private static class LayeredPointGeneratorImpl
+      extends LayeredGenerator<Double, Double, PointGenerator> implements LayeredPointGenerator {
 
     LayeredPointGeneratorImpl(
-        List<? extends IGenerator<Double>> layers,
+        List<PointGenerator> layers,
         ExecutorService executorService,
         JitterStrategy jitterStrategy) {
       super(layers, executorService, jitterStrategy);
@@ -63,6 +63,21 @@ public class LayeredPointGeneratorBuilder
           + '}';
     }
 
+    @Override
+    protected Double getNextFromLayer(PointGenerator layer, CancellationToken cancellationToken) {
+      return layer.getNextUnlessCancelled(cancellationToken);
+    }
+
+    @Override
+    protected Double getFromLayerAt(PointGenerator layer, long timeIndex) {
+      return layer.getAt(timeIndex);
+    }
+
+    @Override
+    protected Double toFrame(Double container) {
+      return container;
+    }
+
     @Override
     protected Double getNewContainer() {
       return 0.0;
@@ -1,4 +1,22 @@
 package org.lefmaroli.perlin.generators;
 
 public interface LayeredSliceGenerator
-    extends ISliceGeneratorDimension, ILayeredGenerator<double[][]>, IMultiDimensionalGenerator {}
+    extends ISliceGeneratorDimension, ILayeredGenerator<double[][]>, IMultiDimensionalGenerator {
+
+  // Same frames as getNext, without the copy into a jagged array. The buffer is reused two frames
+  // later.
+  SliceBuffer getNextBuffer();
+
+  SliceBuffer getNextBufferUnlessCancelled(CancellationToken cancellationToken);
+
+  SliceBuffer getBufferAt(long timeIndex);
+
+  FrameLease<SliceBuffer> acquireNextBuffer();
+
+  FrameLease<SliceBuffer> acquireNextBufferUnlessCancelled(CancellationToken cancellationToken);
+
+  // Next frame quantized into a frame owned by the caller, of the same size as the slices
+  void getNextInto(ShortSliceBuffer frame, Quantization quantization);
+
+  void getNextInto(ByteSliceBuffer frame, Quantization quantization);
+}
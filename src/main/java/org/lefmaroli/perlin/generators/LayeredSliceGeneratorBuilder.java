@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 import org.lefmaroli.perlin.configuration.JitterStrategy;
 
 public class LayeredSliceGeneratorBuilder
@@ -49,6 +50,7 @@ public class LayeredSliceGeneratorBuilder
         .withRandomSeed(randomSeed)
         .withCircularBounds(isCircular())
         .withForkJoinPool(getPool())
+        .withForkThreshold(getForkThreshold())
         .withJitterStrategy(jitterStrategy)
         .build();
   }
@@ -60,11 +62,12 @@ public class LayeredSliceGeneratorBuilder
   }
 
   private static class LayeredSliceGeneratorImpl
-      extends MultiDimensionalLayeredGenerator<double[][], SliceGenerator>
+      extends MultiDimensionalLayeredGenerator<SliceBuffer, double[][], SliceGenerator>
       implements LayeredSliceGenerator {
 
     private final int sliceWidth;
     private final int sliceHeight;
+    private final FusedSliceLayers fusedLayers;
 
     protected LayeredSliceGeneratorImpl(
         List<SliceGenerator> sliceNoiseGenerators,
@@ -74,6 +77,9 @@ public class LayeredSliceGeneratorBuilder
       this.sliceWidth = sliceNoiseGenerators.get(0).getSliceWidth();
       this.sliceHeight = sliceNoiseGenerators.get(0).getSliceHeight();
       assertAllLayersHaveSameSize(sliceNoiseGenerators);
+      this.fusedLayers =
+          FusedSliceLayers.of(sliceNoiseGenerators, getMaxAmplitude(), getExecutionPool());
+      setFusedLayers(fusedLayers);
     }
 
     @Override
@@ -117,36 +123,122 @@ public class LayeredSliceGeneratorBuilder
     }
 
     @Override
-    protected double[][] getNewContainer() {
-      return new double[getSliceWidth()][getSliceHeight()];
+    public SliceBuffer getNextBuffer() {
+      return getNextContainer(NOT_CANCELLABLE);
     }
 
     @Override
-    protected double[][] resetContainer(double[][] container) {
-      for (double[] rows : container) {
-        Arrays.fill(rows, 0.0);
+    public SliceBuffer getNextBufferUnlessCancelled(CancellationToken cancellationToken) {
+      return getNextContainer(cancellationToken);
+    }
+
+    @Override
+    public SliceBuffer getBufferAt(long timeIndex) {
+      return getContainerAt(timeIndex);
+    }
+
+    @Override
+    public FrameLease<SliceBuffer> acquireNextBuffer() {
+      return acquireNextBufferUnlessCancelled(NOT_CANCELLABLE);
+    }
+
+    @Override
+    public FrameLease<SliceBuffer> acquireNextBufferUnlessCancelled(
+        CancellationToken cancellationToken) {
+      return leaseNext(cancellationToken, Function.identity());
+    }
+
+    @Override
+    public void getNextInto(ShortSliceBuffer frame, Quantization quantization) {
+      assertFrameSize(frame.getWidth(), frame.getHeight());
+      if (canFuseInto()) {
+        fuseInto(quantization.writerFor(frame));
+      } else {
+        quantization.quantize(getNextBuffer(), frame);
+      }
+    }
+
+    @Override
+    public void getNextInto(ByteSliceBuffer frame, Quantization quantization) {
+      assertFrameSize(frame.getWidth(), frame.getHeight());
+      if (canFuseInto()) {
+        fuseInto(quantization.writerFor(frame));
+      } else {
+        quantization.quantize(getNextBuffer(), frame);
       }
+    }
+
+    // Prefetched frames are already normalized, quantizing them takes a separate pass
+    private boolean canFuseInto() {
+      return fusedLayers != null && !isPrefetching();
+    }
+
+    // Fused columns are quantized as they are summed, without a normalized frame in between
+    private void fuseInto(FusedSliceLayers.ColumnWriter writer) {
+      if (!fusedLayers.fill(writer, NOT_CANCELLABLE, getTileExecutor(), getTimeout())) {
+        throw new LayerProcessException(
+            "Incomplete quantized frame due to interruption", new InterruptedException());
+      }
+    }
+
+    private void assertFrameSize(int width, int height) {
+      if (width != sliceWidth || height != sliceHeight) {
+        throw new IllegalArgumentException(
+            "Frame size "
+                + width
+                + "x"
+                + height
+                + " does not match slice size "
+                + sliceWidth
+                + "x"
+                + sliceHeight);
+      }
+    }
+
+    @Override
+    protected SliceBuffer getNextFromLayer(
+        SliceGenerator layer, CancellationToken cancellationToken) {
+      return layer.getNextBufferUnlessCancelled(cancellationToken);
+    }
+
+    @Override
+    protected SliceBuffer getFromLayerAt(SliceGenerator layer, long timeIndex) {
+      return layer.getBufferAt(timeIndex);
+    }
+
+    @Override
+    protected double[][] toFrame(SliceBuffer container) {
+      return container.asRows();
+    }
+
+    @Override
+    protected SliceBuffer getNewContainer() {
+      return new SliceBuffer(getSliceWidth(), getSliceHeight());
+    }
+
+    @Override
+    protected SliceBuffer resetContainer(SliceBuffer container) {
+      Arrays.fill(container.getData(), 0.0);
       return container;
     }
 
     @Override
-    protected double[][] addTogether(double[][] results, double[][] newLayer) {
-      for (var i = 0; i < results.length; i++) {
-        for (var j = 0; j < results[0].length; j++) {
-          results[i][j] = results[i][j] + newLayer[i][j];
-        }
+    protected SliceBuffer addTogether(SliceBuffer results, SliceBuffer newLayer) {
+      double[] data = results.getData();
+      double[] layerData = newLayer.getData();
+      for (var i = 0; i < data.length; i++) {
+        data[i] = data[i] + layerData[i];
       }
       return results;
     }
 
     @Override
-    protected double[][] normalizeBy(double[][] data, double maxAmplitude) {
+    protected SliceBuffer normalizeBy(SliceBuffer results, double maxAmplitude) {
+      double[] data = results.getData();
       for (var i = 0; i < data.length; i++) {
-        for (var j = 0; j < data[0].length; j++) {
-          data[i][j] = data[i][j] / maxAmplitude;
-        }
+        data[i] = data[i] / maxAmplitude;
       }
-      return data;
+      return results;
     }
 
     private void assertAllLayersHaveSameSize(List<SliceGenerator> layers) {
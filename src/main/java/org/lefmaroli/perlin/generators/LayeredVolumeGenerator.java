@@ -0,0 +1,6 @@
+package org.lefmaroli.perlin.generators;
+
+public interface LayeredVolumeGenerator
+    extends IVolumeGeneratorDimension,
+        ILayeredGenerator<VolumeBuffer>,
+        IMultiDimensionalGenerator {}
@@ -0,0 +1,207 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+public class LayeredVolumeGeneratorBuilder
+    extends LayeredMultiDimensionalBuilder<
+        VolumeBuffer, LayeredVolumeGenerator, VolumeGenerator, LayeredVolumeGeneratorBuilder> {
+
+  private final VolumeGeneratorBuilder singleLayerBuilder;
+
+  public LayeredVolumeGeneratorBuilder(int volumeWidth, int volumeHeight, int volumeDepth) {
+    super(4);
+    this.singleLayerBuilder = new VolumeGeneratorBuilder(volumeWidth, volumeHeight, volumeDepth);
+  }
+
+  @Override
+  public LayeredVolumeGenerator build() throws LayeredGeneratorBuilderException {
+    return (LayeredVolumeGenerator) super.build();
+  }
+
+  public LayeredVolumeGeneratorBuilder withWidthStepSizes(Iterable<Double> numberGenerator) {
+    setStepSizeGeneratorForDimension(2, numberGenerator);
+    return this;
+  }
+
+  public LayeredVolumeGeneratorBuilder withHeightStepSizes(Iterable<Double> numberGenerator) {
+    setStepSizeGeneratorForDimension(3, numberGenerator);
+    return this;
+  }
+
+  public LayeredVolumeGeneratorBuilder withDepthStepSizes(Iterable<Double> numberGenerator) {
+    setStepSizeGeneratorForDimension(4, numberGenerator);
+    return this;
+  }
+
+  @Override
+  protected LayeredVolumeGeneratorBuilder self() {
+    return this;
+  }
+
+  @Override
+  protected VolumeGenerator buildSingleNoiseLayer(
+      List<Double> stepSizes, double layerAmplitude, long randomSeed, JitterStrategy jitterStrategy)
+      throws StepSizeException {
+    return singleLayerBuilder
+        .withTimeStepSize(stepSizes.get(0))
+        .withWidthStepSize(stepSizes.get(1))
+        .withHeightStepSize(stepSizes.get(2))
+        .withDepthStepSize(stepSizes.get(3))
+        .withAmplitude(layerAmplitude)
+        .withRandomSeed(randomSeed)
+        .withCircularBounds(isCircular())
+        .withForkJoinPool(getPool())
+        .withForkThreshold(getForkThreshold())
+        .withJitterStrategy(jitterStrategy)
+        .build();
+  }
+
+  @Override
+  protected LayeredVolumeGenerator buildMultipleNoiseLayer(
+      List<VolumeGenerator> layers,
+      ExecutorService executorService,
+      JitterStrategy jitterStrategy) {
+    return new LayeredVolumeGeneratorImpl(layers, executorService, jitterStrategy);
+  }
+
+  private static class LayeredVolumeGeneratorImpl
+      extends MultiDimensionalLayeredGenerator<VolumeBuffer, VolumeBuffer, VolumeGenerator>
+      implements LayeredVolumeGenerator {
+
+    private final int volumeWidth;
+    private final int volumeHeight;
+    private final int volumeDepth;
+
+    LayeredVolumeGeneratorImpl(
+        List<VolumeGenerator> layers,
+        ExecutorService executorService,
+        JitterStrategy jitterStrategy) {
+      super(layers, executorService, jitterStrategy);
+      this.volumeWidth = layers.get(0).getVolumeWidth();
+      this.volumeHeight = layers.get(0).getVolumeHeight();
+      this.volumeDepth = layers.get(0).getVolumeDepth();
+      assertAllLayersHaveSameSize(layers);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      if (!super.equals(o)) return false;
+      LayeredVolumeGeneratorImpl that = (LayeredVolumeGeneratorImpl) o;
+      return volumeWidth == that.volumeWidth
+          && volumeHeight == that.volumeHeight
+          && volumeDepth == that.volumeDepth;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(super.hashCode(), volumeWidth, volumeHeight, volumeDepth);
+    }
+
+    @Override
+    public String toString() {
+      return "LayeredVolumeGeneratorImpl{"
+          + "volumeWidth="
+          + volumeWidth
+          + ", volumeHeight="
+          + volumeHeight
+          + ", volumeDepth="
+          + volumeDepth
+          + ", layers="
+          + getLayers()
+          + ", maxAmplitude="
+          + getMaxAmplitude()
+          + ", isCircular="
+          + isCircular()
+          + '}';
+    }
+
+    @Override
+    public int getVolumeWidth() {
+      return volumeWidth;
+    }
+
+    @Override
+    public int getVolumeHeight() {
+      return volumeHeight;
+    }
+
+    @Override
+    public int getVolumeDepth() {
+      return volumeDepth;
+    }
+
+    @Override
+    protected VolumeBuffer getNextFromLayer(
+        VolumeGenerator layer, CancellationToken cancellationToken) {
+      return layer.getNextUnlessCancelled(cancellationToken);
+    }
+
+    @Override
+    protected VolumeBuffer getFromLayerAt(VolumeGenerator layer, long timeIndex) {
+      return layer.getAt(timeIndex);
+    }
+
+    @Override
+    protected VolumeBuffer toFrame(VolumeBuffer container) {
+      return container;
+    }
+
+    @Override
+    protected VolumeBuffer getNewContainer() {
+      return new VolumeBuffer(volumeWidth, volumeHeight, volumeDepth);
+    }
+
+    @Override
+    protected VolumeBuffer resetContainer(VolumeBuffer container) {
+      Arrays.fill(container.getData(), 0.0);
+      return container;
+    }
+
+    @Override
+    protected VolumeBuffer addTogether(VolumeBuffer results, VolumeBuffer newLayer) {
+      double[] data = results.getData();
+      double[] layerData = newLayer.getData();
+      for (var i = 0; i < data.length; i++) {
+        data[i] = data[i] + layerData[i];
+      }
+      return results;
+    }
+
+    @Override
+    protected VolumeBuffer normalizeBy(VolumeBuffer results, double maxAmplitude) {
+      double[] data = results.getData();
+      for (var i = 0; i < data.length; i++) {
+        data[i] = data[i] / maxAmplitude;
+      }
+      return results;
+    }
+
+    private void assertAllLayersHaveSameSize(List<VolumeGenerator> layers) {
+      for (var i = 0; i < layers.size(); i++) {
+        if (layers.get(i).getVolumeWidth() != volumeWidth) {
+          throw new IllegalArgumentException(
+              "Layer " + i + " does not have the same volume width as the first provided layer");
+        }
+        if (layers.get(i).getVolumeHeight() != volumeHeight) {
+          throw new IllegalArgumentException(
+              "Layer " + i + " does not have the same volume height as the first provided layer");
+        }
+        if (layers.get(i).getVolumeDepth() != volumeDepth) {
+          throw new IllegalArgumentException(
+              "Layer " + i + " does not have the same volume depth as the first provided layer");
+        }
+      }
+    }
+
+    @Override
+    public int getDimensions() {
+      return 4;
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package org.lefmaroli.perlin.generators;
+
+// Frames hold the line values followed by their partial derivatives, each taken per time step or
+// per line index so they compare directly with differences between neighbouring samples
+public interface LineDerivativeGenerator
+    extends IRootGenerator<double[][]>, IMultiDimensionalGenerator, ILineGeneratorDimension {
+
+  int VALUES = 0;
+  int TIME_DERIVATIVES = 1;
+  int LINE_DERIVATIVES = 2;
+
+  double getLineStepSize();
+}
@@ -0,0 +1,122 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ForkJoinPool;
+import org.lefmaroli.perlin.LatticeAxis;
+import org.lefmaroli.perlin.PerlinNoise;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+public class LineDerivativeGeneratorBuilder
+    extends MultiDimensionalBuilder<
+        double[][], LineDerivativeGenerator, LineDerivativeGeneratorBuilder> {
+
+  private final int lineLength;
+
+  public LineDerivativeGeneratorBuilder(int lineLength) {
+    super(2);
+    assertLineSizeIsValid(lineLength);
+    this.lineLength = lineLength;
+  }
+
+  private static void assertLineSizeIsValid(int lineLength) {
+    if (lineLength < 1) {
+      throw new IllegalArgumentException(
+          "Line length must be greater than 0, provided: " + lineLength);
+    }
+  }
+
+  @Override
+  public LineDerivativeGenerator build() {
+    return (LineDerivativeGenerator) super.build();
+  }
+
+  public LineDerivativeGeneratorBuilder withLineStepSize(double lineStepSize)
+      throws StepSizeException {
+    setStepSizeForDimension(lineStepSize, 1);
+    return this;
+  }
+
+  @Override
+  protected LineDerivativeGeneratorBuilder self() {
+    return this;
+  }
+
+  @Override
+  protected IGenerator<double[][]> buildNoiseGenerator(
+      double[] stepSizes, double amplitude, long randomSeed, JitterStrategy jitterStrategy) {
+    return new LineDerivativeGeneratorImpl(
+        stepSizes[0],
+        stepSizes[1],
+        lineLength,
+        amplitude,
+        randomSeed,
+        isCircular(),
+        getPool(),
+        jitterStrategy);
+  }
+
+  private static class LineDerivativeGeneratorImpl extends LineRootGenerator<double[][]>
+      implements LineDerivativeGenerator {
+
+    private final double lineAngleFactor;
+
+    LineDerivativeGeneratorImpl(
+        double timeStepSize,
+        double lineStepSize,
+        int lineLength,
+        double maxAmplitude,
+        long randomSeed,
+        boolean isCircular,
+        ForkJoinPool pool,
+        JitterStrategy jitterStrategy) {
+      super(
+          timeStepSize,
+          lineStepSize,
+          lineLength,
+          maxAmplitude,
+          randomSeed,
+          isCircular,
+          pool,
+          jitterStrategy);
+      this.lineAngleFactor = getLineStepSize() * (2 * Math.PI);
+    }
+
+    @Override
+    protected double[][] getNewContainer() {
+      return new double[3][getLineLength()];
+    }
+
+    @Override
+    protected void evaluateLineSegment(
+        PerlinNoiseDataContainer container,
+        LatticeAxis lineAxis,
+        LatticeAxis lineCircleAxis,
+        int from,
+        int to,
+        double[][] frame) {
+      var derivatives = new double[container.getDimension()];
+      double amplitude = getMaxAmplitude();
+      double timeFactor = getTimeStepSize() * amplitude;
+      for (var lineIndex = from; lineIndex < to; lineIndex++) {
+        container.setCoordinatesForDimension(1, lineAxis.getCoordinate(lineIndex));
+        double lineDerivative;
+        if (isCircular()) {
+          container.setCoordinatesForDimension(2, lineCircleAxis.getCoordinate(lineIndex));
+          double value = PerlinNoise.getWithDerivativesFor(container, derivatives);
+          frame[VALUES][lineIndex] = value * amplitude;
+          // Line coordinates lie on a circle, d/dangle (cos + 1) / 2 = 0.5 - (sin + 1) / 2
+          lineDerivative =
+              lineAngleFactor
+                  * ((0.5 - lineCircleAxis.getCoordinate(lineIndex)) * derivatives[1]
+                      + (lineAxis.getCoordinate(lineIndex) - 0.5) * derivatives[2]);
+        } else {
+          double value = PerlinNoise.getWithDerivativesFor(container, derivatives);
+          frame[VALUES][lineIndex] = value * amplitude;
+          lineDerivative = derivatives[1] * getLineStepSize();
+        }
+        frame[TIME_DERIVATIVES][lineIndex] = derivatives[0] * timeFactor;
+        frame[LINE_DERIVATIVES][lineIndex] = lineDerivative * amplitude;
+      }
+    }
+  }
+}
@@ -1,15 +1,9 @@
 package org.lefmaroli.perlin.generators;
 
-import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.RecursiveAction;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.lefmaroli.perlin.ContainerRecycler;
+import org.lefmaroli.perlin.LatticeAxis;
 import org.lefmaroli.perlin.PerlinNoise;
 import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
-import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainerBuilder;
 import org.lefmaroli.perlin.configuration.JitterStrategy;
 
 public class LineGeneratorBuilder
@@ -59,21 +53,10 @@ public class LineGeneratorBuilder
         jitterStrategy);
   }
 
-  private static class LineGeneratorImpl extends MultiDimensionalRootGenerator<double[]>
+  private static class LineGeneratorImpl extends LineRootGenerator<double[]>
       implements LineGenerator {
 
-    private static final Logger LOGGER = LogManager.getLogger(LineGeneratorImpl.class);
-    private static final List<String> parameterNames = List.of("Line step size", "Line length");
-
-    private final double lineStepSize;
-    private final int lineLength;
-    private final double lineAngleFactor;
-    private int currentTimeIndex = 0;
-    private final PerlinNoiseDataContainer perlinData;
-    private final ContainerRecycler<PerlinNoiseDataContainer> recycler;
-    private final int lineLengthThreshold;
-
-    public LineGeneratorImpl(
+    LineGeneratorImpl(
         double timeStepSize,
         double lineStepSize,
         int lineLength,
@@ -82,166 +65,37 @@ public class LineGeneratorBuilder
         boolean isCircular,
         ForkJoinPool pool,
         JitterStrategy jitterStrategy) {
-      super(timeStepSize, maxAmplitude, randomSeed, isCircular, pool);
-      assertValidValues(parameterNames, lineStepSize, lineLength);
-      this.lineLength = lineLength;
-      this.lineLengthThreshold = computeLineLengthThresholdForForkingProcess(lineLength);
-      this.lineStepSize = correctStepSizeForCircularity(lineStepSize, lineLength, "line length");
-      this.lineAngleFactor = this.lineStepSize * (2 * Math.PI);
-      PerlinNoiseDataContainerBuilder builder;
-      if (isCircular) {
-        builder = new PerlinNoiseDataContainerBuilder(3, randomSeed, jitterStrategy);
-      } else {
-        builder = new PerlinNoiseDataContainerBuilder(2, randomSeed, jitterStrategy);
-      }
-      this.perlinData = builder.createNewContainer();
-      this.recycler = new ContainerRecycler<>(builder);
-      LOGGER.debug("Created new {}", this);
-    }
-
-    private int computeLineLengthThresholdForForkingProcess(int lineLength) {
-      var threshold = 2500;
-      if (hasParallelProcessingEnabled() && lineLength > 2500) {
-        threshold = (int) Math.ceil((double) lineLength / getExecutionPool().getParallelism());
-      }
-      return threshold;
-    }
-
-    @Override
-    public int getLineLength() {
-      return lineLength;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) return true;
-      if (o == null || getClass() != o.getClass()) return false;
-      if (!super.equals(o)) return false;
-      LineGeneratorImpl that = (LineGeneratorImpl) o;
-      return lineStepSize == that.lineStepSize && lineLength == that.lineLength;
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(super.hashCode(), lineStepSize, lineLength);
-    }
-
-    @Override
-    public String toString() {
-      return "LineGeneratorImpl{"
-          + "timeStepSize="
-          + getTimeStepSize()
-          + ", lineStepSize="
-          + lineStepSize
-          + ", lineLength="
-          + lineLength
-          + ", maxAmplitude="
-          + getMaxAmplitude()
-          + ", randomSeed="
-          + randomSeed
-          + ", isCircular="
-          + isCircular()
-          + '}';
-    }
-
-    @Override
-    public double getLineStepSize() {
-      return lineStepSize;
+      super(
+          timeStepSize,
+          lineStepSize,
+          lineLength,
+          maxAmplitude,
+          randomSeed,
+          isCircular,
+          pool,
+          jitterStrategy);
     }
 
     @Override
     protected double[] getNewContainer() {
-      return new double[lineLength];
+      return new double[getLineLength()];
     }
 
     @Override
-    public int getDimensions() {
-      return 2;
-    }
-
-    @Override
-    public int getTotalSize() {
-      return getLineLength();
-    }
-
-    @Override
-    protected double[] generateNextSegment(double[] container) {
-      currentTimeIndex++;
-      processTimeDomain(currentTimeIndex, container);
-      return container;
-    }
-
-    private void processTimeDomain(int timeIndex, double[] lineData) {
-      double timeDist = (double) (timeIndex) * getTimeStepSize();
-      if (hasParallelProcessingEnabled()) {
-        getExecutionPool().invoke(new LineNoiseTask(lineData, timeDist, 0, lineLength));
-      } else {
-        perlinData.setCoordinatesForDimension(0, timeDist);
-        for (var lineIndex = 0; lineIndex < lineLength; lineIndex++) {
-          if (Thread.currentThread().isInterrupted()) {
-            LogManager.getLogger(this.getClass())
-                .debug("Interrupted processing [processNoiseDomain]");
-            return;
-          }
-          lineData[lineIndex] = processLineDomain(lineIndex, perlinData);
-        }
-      }
-    }
-
-    private double processLineDomain(int lineIndex, PerlinNoiseDataContainer container) {
+    protected void evaluateLineSegment(
+        PerlinNoiseDataContainer container,
+        LatticeAxis lineAxis,
+        LatticeAxis lineCircleAxis,
+        int from,
+        int to,
+        double[] lineData) {
       if (isCircular()) {
-        double angle = lineIndex * lineAngleFactor;
-        container.setCoordinatesForDimension(1, (Math.cos(angle) + 1.0) / 2.0);
-        container.setCoordinatesForDimension(2, (Math.sin(angle) + 1.0) / 2.0);
+        PerlinNoise.getForLastTwoAxes(container, lineAxis, lineCircleAxis, from, to, lineData, 0);
       } else {
-        container.setCoordinatesForDimension(1, lineIndex * lineStepSize);
-      }
-      return PerlinNoise.getFor(container) * getMaxAmplitude();
-    }
-
-    private class LineNoiseTask extends RecursiveAction {
-
-      private final double[] results;
-      private final double timeDistance;
-      private final int startLineIndex;
-      private final int endLineIndex;
-
-      LineNoiseTask(double[] results, double timeDistance, int startLineIndex, int endLineIndex) {
-        this.results = results;
-        this.timeDistance = timeDistance;
-        this.startLineIndex = startLineIndex;
-        this.endLineIndex = endLineIndex;
+        PerlinNoise.getForLastAxis(container, lineAxis, from, to, lineData, 0);
       }
-
-      private void computeDirectly() {
-        PerlinNoiseDataContainer dataContainer = recycler.getNewOrNextAvailableContainer();
-        dataContainer.setCoordinatesForDimension(0, timeDistance);
-        for (var lineIndex = startLineIndex; lineIndex < endLineIndex; lineIndex++) {
-          if (Thread.currentThread().isInterrupted()) {
-            LogManager.getLogger(this.getClass()).debug("Interrupted processing [computeDirectly]");
-            return;
-          }
-          results[lineIndex] = processLineDomain(lineIndex, dataContainer);
-        }
-        recycler.recycleContainer(dataContainer);
-      }
-
-      @Override
-      protected void compute() {
-        var lineSegment = endLineIndex - startLineIndex;
-        if (lineSegment < lineLengthThreshold) {
-          computeDirectly();
-          return;
-        }
-
-        int splitIndex = (lineSegment / 2) + startLineIndex;
-
-        invokeAll(
-            new LineNoiseTask(results, timeDistance, startLineIndex, splitIndex),
-            new LineNoiseTask(results, timeDistance, splitIndex, endLineIndex));
-        if (Thread.currentThread().isInterrupted()) {
-          LogManager.getLogger(this.getClass()).debug("Interrupted processing [compute]");
-        }
+      for (var lineIndex = from; lineIndex < to; lineIndex++) {
+        lineData[lineIndex] *= getMaxAmplitude();
       }
     }
   }
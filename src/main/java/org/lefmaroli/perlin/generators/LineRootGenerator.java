@@ -0,0 +1,211 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lefmaroli.perlin.ContainerRecycler;
+import org.lefmaroli.perlin.LatticeAxis;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainerBuilder;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+abstract class LineRootGenerator<C> extends MultiDimensionalRootGenerator<C, C>
+    implements ILineGeneratorDimension {
+
+  private static final Logger LOGGER = LogManager.getLogger(LineRootGenerator.class);
+  private static final List<String> parameterNames = List.of("Line step size", "Line length");
+
+  private final double lineStepSize;
+  private final int lineLength;
+  private final LatticeAxis lineAxis;
+  private final LatticeAxis lineCircleAxis;
+  private final PerlinNoiseDataContainer perlinData;
+  private final ContainerRecycler<PerlinNoiseDataContainer> recycler;
+
+  protected LineRootGenerator(
+      double timeStepSize,
+      double lineStepSize,
+      int lineLength,
+      double maxAmplitude,
+      long randomSeed,
+      boolean isCircular,
+      ForkJoinPool pool,
+      JitterStrategy jitterStrategy) {
+    super(timeStepSize, maxAmplitude, randomSeed, isCircular, pool);
+    assertValidValues(parameterNames, lineStepSize, lineLength);
+    this.lineLength = lineLength;
+    this.lineStepSize = correctStepSizeForCircularity(lineStepSize, lineLength, "line length");
+    PerlinNoiseDataContainerBuilder builder;
+    // Line positions are the same in every frame, their lattice cells and fades are computed once
+    if (isCircular) {
+      var circle = CircularAxis.of(lineLength, this.lineStepSize);
+      this.lineAxis = circle.getCosAxis();
+      this.lineCircleAxis = circle.getSinAxis();
+      builder = new PerlinNoiseDataContainerBuilder(3, randomSeed, jitterStrategy);
+    } else {
+      var lineCoordinates = new double[lineLength];
+      for (var i = 0; i < lineLength; i++) {
+        lineCoordinates[i] = i * this.lineStepSize;
+      }
+      this.lineAxis = new LatticeAxis(lineCoordinates);
+      this.lineCircleAxis = null;
+      builder = new PerlinNoiseDataContainerBuilder(2, randomSeed, jitterStrategy);
+    }
+    this.perlinData = builder.createNewContainer();
+    this.recycler = new ContainerRecycler<>(builder);
+    LOGGER.debug("Created new {}", this);
+  }
+
+  @Override
+  public int getLineLength() {
+    return lineLength;
+  }
+
+  public double getLineStepSize() {
+    return lineStepSize;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    if (!super.equals(o)) return false;
+    LineRootGenerator<?> that = (LineRootGenerator<?>) o;
+    return lineStepSize == that.lineStepSize && lineLength == that.lineLength;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), lineStepSize, lineLength);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + "{"
+        + "timeStepSize="
+        + getTimeStepSize()
+        + ", lineStepSize="
+        + lineStepSize
+        + ", lineLength="
+        + lineLength
+        + ", maxAmplitude="
+        + getMaxAmplitude()
+        + ", randomSeed="
+        + randomSeed
+        + ", isCircular="
+        + isCircular()
+        + '}';
+  }
+
+  @Override
+  public int getDimensions() {
+    return 2;
+  }
+
+  @Override
+  public int getTotalSize() {
+    return getLineLength();
+  }
+
+  @Override
+  protected C generateNextSegment(
+      long timeIndex, C container, CancellationToken cancellationToken) {
+    processTimeDomain(timeIndex, container, cancellationToken, perlinData);
+    if (cancellationToken.isCancelled()) {
+      throw new IncompleteFrameException("Line generation cancelled at time index " + timeIndex);
+    }
+    return container;
+  }
+
+  @Override
+  protected C generateSegmentAt(long timeIndex, C container) {
+    PerlinNoiseDataContainer dataContainer = recycler.getNewOrNextAvailableContainer();
+    processTimeDomain(timeIndex, container, NOT_CANCELLABLE, dataContainer);
+    recycler.recycleContainer(dataContainer);
+    return container;
+  }
+
+  @Override
+  protected C toFrame(C container) {
+    return container;
+  }
+
+  // Evaluates [from, to) of the line, the second axis is null unless the line is circular
+  protected abstract void evaluateLineSegment(
+      PerlinNoiseDataContainer container,
+      LatticeAxis lineAxis,
+      LatticeAxis lineCircleAxis,
+      int from,
+      int to,
+      C lineData);
+
+  private void processTimeDomain(
+      long timeIndex,
+      C lineData,
+      CancellationToken cancellationToken,
+      PerlinNoiseDataContainer dataContainer) {
+    double timeDist = (double) (timeIndex + 1) * getTimeStepSize();
+    if (hasParallelProcessingEnabled()) {
+      getExecutionPool()
+          .invoke(new LineNoiseTask(lineData, timeDist, 0, lineLength, cancellationToken));
+      forkThreshold().update();
+    } else if (!cancellationToken.isCancelled()) {
+      dataContainer.setCoordinatesForDimension(0, timeDist);
+      evaluateLineSegment(dataContainer, lineAxis, lineCircleAxis, 0, lineLength, lineData);
+    }
+  }
+
+  private class LineNoiseTask extends RecursiveAction {
+
+    private final C results;
+    private final double timeDistance;
+    private final int startLineIndex;
+    private final int endLineIndex;
+    private final CancellationToken cancellationToken;
+
+    LineNoiseTask(
+        C results,
+        double timeDistance,
+        int startLineIndex,
+        int endLineIndex,
+        CancellationToken cancellationToken) {
+      this.results = results;
+      this.timeDistance = timeDistance;
+      this.startLineIndex = startLineIndex;
+      this.endLineIndex = endLineIndex;
+      this.cancellationToken = cancellationToken;
+    }
+
+    private void computeDirectly() {
+      if (cancellationToken.isCancelled()) {
+        return;
+      }
+      var start = System.nanoTime();
+      PerlinNoiseDataContainer dataContainer = recycler.getNewOrNextAvailableContainer();
+      dataContainer.setCoordinatesForDimension(0, timeDistance);
+      evaluateLineSegment(
+          dataContainer, lineAxis, lineCircleAxis, startLineIndex, endLineIndex, results);
+      recycler.recycleContainer(dataContainer);
+      forkThreshold().record(endLineIndex - startLineIndex, System.nanoTime() - start);
+    }
+
+    @Override
+    protected void compute() {
+      var lineSegment = endLineIndex - startLineIndex;
+      if (lineSegment < 2 || lineSegment < forkThreshold().get()) {
+        computeDirectly();
+        return;
+      }
+
+      int splitIndex = (lineSegment / 2) + startLineIndex;
+
+      invokeAll(
+          new LineNoiseTask(results, timeDistance, startLineIndex, splitIndex, cancellationToken),
+          new LineNoiseTask(results, timeDistance, splitIndex, endLineIndex, cancellationToken));
+    }
+  }
+}
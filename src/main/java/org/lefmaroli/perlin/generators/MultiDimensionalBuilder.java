@@ -8,6 +8,7 @@ abstract class MultiDimensionalBuilder<
 
   private boolean isCircular = false;
   private ForkJoinPool pool = ForkJoinPool.commonPool();
+  private int forkThreshold = ForkThreshold.CALIBRATED;
 
   protected MultiDimensionalBuilder(int dimensions) {
     super(dimensions);
@@ -18,11 +19,27 @@ abstract class MultiDimensionalBuilder<
     return self();
   }
 
+  // 0 calibrates the threshold from the measured cost of a sample
+  public B withForkThreshold(int samples) {
+    ForkThreshold.assertValid(samples);
+    this.forkThreshold = samples;
+    return self();
+  }
+
   public B withCircularBounds(boolean isCircular) {
     this.isCircular = isCircular;
     return self();
   }
 
+  @Override
+  public IGenerator<N> build() {
+    var generator = super.build();
+    if (forkThreshold != ForkThreshold.CALIBRATED) {
+      ((MultiDimensionalRootGenerator<?, N>) generator).setForkThreshold(forkThreshold);
+    }
+    return generator;
+  }
+
   protected boolean isCircular() {
     return isCircular;
   }
@@ -30,4 +47,8 @@ abstract class MultiDimensionalBuilder<
   protected ForkJoinPool getPool() {
     return pool;
   }
+
+  protected int getForkThreshold() {
+    return forkThreshold;
+  }
 }
@@ -7,8 +7,8 @@ import java.util.concurrent.ForkJoinPool;
 import org.lefmaroli.perlin.configuration.JitterStrategy;
 
 abstract class MultiDimensionalLayeredGenerator<
-        N, L extends IGenerator<N> & IMultiDimensionalGenerator>
-    extends LayeredGenerator<N> implements IMultiDimensionalGenerator {
+        C, N, L extends IGenerator<N> & IMultiDimensionalGenerator>
+    extends LayeredGenerator<C, N, L> implements IMultiDimensionalGenerator {
 
   private final boolean isCircular;
   private final ForkJoinPool pool;
@@ -32,7 +32,7 @@ abstract class MultiDimensionalLayeredGenerator<
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     if (!super.equals(o)) return false;
-    MultiDimensionalLayeredGenerator<?, ?> that = (MultiDimensionalLayeredGenerator<?, ?>) o;
+    MultiDimensionalLayeredGenerator<?, ?, ?> that = (MultiDimensionalLayeredGenerator<?, ?, ?>) o;
     return isCircular == that.isCircular;
   }
 
@@ -56,6 +56,12 @@ abstract class MultiDimensionalLayeredGenerator<
     return pool;
   }
 
+  // Layers are built with the same settings
+  @Override
+  public int getForkThreshold() {
+    return getLayers().get(0).getForkThreshold();
+  }
+
   private boolean checkCircularity(List<L> layers) {
     boolean isFirstLayerCircular = layers.get(0).isCircular();
     boolean cumulativeCircularity = isFirstLayerCircular;
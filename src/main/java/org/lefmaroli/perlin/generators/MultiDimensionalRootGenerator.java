@@ -5,11 +5,12 @@ import java.util.concurrent.ForkJoinPool;
 import org.apache.logging.log4j.LogManager;
 import org.lefmaroli.rounding.RoundUtils;
 
-abstract class MultiDimensionalRootGenerator<C> extends RootGenerator<C>
+abstract class MultiDimensionalRootGenerator<C, N> extends RootGenerator<C, N>
     implements IMultiDimensionalGenerator {
 
   private final boolean isCircular;
   private final ForkJoinPool pool;
+  private volatile ForkThreshold forkThreshold = null;
 
   protected MultiDimensionalRootGenerator(
       double timeStepSize,
@@ -37,12 +38,38 @@ abstract class MultiDimensionalRootGenerator<C> extends RootGenerator<C>
     return pool;
   }
 
+  @Override
+  public int getForkThreshold() {
+    return forkThreshold().get();
+  }
+
+  // Created on first use, the frame size is only known once subclasses are constructed. Random
+  // access frames can be the first use on several threads at once.
+  ForkThreshold forkThreshold() {
+    var threshold = forkThreshold;
+    if (threshold == null) {
+      synchronized (this) {
+        threshold = forkThreshold;
+        if (threshold == null) {
+          int parallelism = hasParallelProcessingEnabled() ? pool.getParallelism() : 1;
+          threshold = ForkThreshold.calibrated(getTotalSize(), parallelism);
+          forkThreshold = threshold;
+        }
+      }
+    }
+    return threshold;
+  }
+
+  void setForkThreshold(int forkThreshold) {
+    this.forkThreshold = ForkThreshold.fixed(forkThreshold);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     if (!super.equals(o)) return false;
-    MultiDimensionalRootGenerator<?> that = (MultiDimensionalRootGenerator<?>) o;
+    MultiDimensionalRootGenerator<?, ?> that = (MultiDimensionalRootGenerator<?, ?>) o;
     return isCircular == that.isCircular;
   }
 
@@ -0,0 +1,296 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.lefmaroli.perlin.ContainerRecycler;
+import org.lefmaroli.perlin.LatticeAxis;
+import org.lefmaroli.perlin.PerlinNoise;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainerBuilder;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+// Random access to a 2D noise field moving in time, cut in tiles of a fixed size. The tile at
+// (tileX, tileY, timeIndex) holds the same values as the window of a SliceGenerator of the same
+// settings starting at (tileX * tileWidth, tileY * tileHeight), at the same time index. Tiles are
+// kept in least recently used order, the first caller of a missing tile computes it while the
+// other callers wait for it. Cached tiles are shared between callers and must not be modified.
+public final class NoiseTileCache {
+
+  private final int tileWidth;
+  private final int tileHeight;
+  private final double timeStepSize;
+  private final double widthStepSize;
+  private final double heightStepSize;
+  private final double amplitude;
+  private final ForkJoinPool pool;
+  private final int maxTiles;
+  private final ContainerRecycler<PerlinNoiseDataContainer> recycler;
+  // Access ordered, eldest first. Tiles still being computed are never evicted.
+  private final Map<TileKey, CompletableFuture<SliceBuffer>> tiles =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  NoiseTileCache(
+      int tileWidth,
+      int tileHeight,
+      double timeStepSize,
+      double widthStepSize,
+      double heightStepSize,
+      double amplitude,
+      long randomSeed,
+      ForkJoinPool pool,
+      int maxTiles,
+      JitterStrategy jitterStrategy) {
+    this.tileWidth = tileWidth;
+    this.tileHeight = tileHeight;
+    this.timeStepSize = timeStepSize;
+    this.widthStepSize = widthStepSize;
+    this.heightStepSize = heightStepSize;
+    this.amplitude = amplitude;
+    this.pool = pool;
+    this.maxTiles = maxTiles;
+    this.recycler =
+        new ContainerRecycler<>(new PerlinNoiseDataContainerBuilder(3, randomSeed, jitterStrategy));
+  }
+
+  public int getTileWidth() {
+    return tileWidth;
+  }
+
+  public int getTileHeight() {
+    return tileHeight;
+  }
+
+  public int getMaxTiles() {
+    return maxTiles;
+  }
+
+  public int getCachedTiles() {
+    synchronized (tiles) {
+      return tiles.size();
+    }
+  }
+
+  public void clear() {
+    synchronized (tiles) {
+      tiles.values().removeIf(CompletableFuture::isDone);
+    }
+  }
+
+  public SliceBuffer getTile(int tileX, int tileY, long timeIndex) {
+    assertValidTile(tileX, tileY, timeIndex);
+    var key = new TileKey(tileX, tileY, timeIndex);
+    var claimed = new ArrayList<ClaimedTile>(1);
+    CompletableFuture<SliceBuffer> tile;
+    synchronized (tiles) {
+      tile = getOrClaim(key, claimed);
+      evict();
+    }
+    for (ClaimedTile claimedTile : claimed) {
+      claimedTile.compute();
+    }
+    return await(tile);
+  }
+
+  // Tiles of the viewport indexed as [tileX - fromTileX][tileY - fromTileY], missing tiles are
+  // computed together on the pool
+  public SliceBuffer[][] getTiles(
+      int fromTileX, int fromTileY, int tilesX, int tilesY, long timeIndex) {
+    assertValidTile(fromTileX, fromTileY, timeIndex);
+    if (tilesX < 1 || tilesY < 1) {
+      throw new IllegalArgumentException(
+          "Number of tiles must be greater than 0, provided: " + tilesX + "x" + tilesY);
+    }
+    List<CompletableFuture<SliceBuffer>> futures = new ArrayList<>(tilesX * tilesY);
+    List<ClaimedTile> claimed = new ArrayList<>();
+    synchronized (tiles) {
+      for (var i = 0; i < tilesX; i++) {
+        for (var j = 0; j < tilesY; j++) {
+          futures.add(getOrClaim(new TileKey(fromTileX + i, fromTileY + j, timeIndex), claimed));
+        }
+      }
+      evict();
+    }
+    try {
+      if (claimed.size() > 1 && pool != null && pool.getParallelism() > 1) {
+        pool.invoke(new ClaimedTilesTask(claimed, 0, claimed.size()));
+      } else {
+        for (ClaimedTile claimedTile : claimed) {
+          claimedTile.compute();
+        }
+      }
+    } catch (Throwable e) {
+      // Tiles left behind by the failure would never be completed for the callers waiting on them
+      for (ClaimedTile claimedTile : claimed) {
+        claimedTile.fail(e);
+      }
+      throw e;
+    }
+    var results = new SliceBuffer[tilesX][tilesY];
+    for (var i = 0; i < tilesX; i++) {
+      for (var j = 0; j < tilesY; j++) {
+        results[i][j] = await(futures.get(i * tilesY + j));
+      }
+    }
+    return results;
+  }
+
+  // The noise lattice is only defined for positive coordinates
+  private static void assertValidTile(int tileX, int tileY, long timeIndex) {
+    if (tileX < 0 || tileY < 0) {
+      throw new IllegalArgumentException(
+          "Tile coordinates must be positive, provided: (" + tileX + ", " + tileY + ")");
+    }
+    RootGenerator.assertValidTimeIndex(timeIndex);
+  }
+
+  private static SliceBuffer await(CompletableFuture<SliceBuffer> tile) {
+    try {
+      return tile.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  // Called with the lock held
+  private CompletableFuture<SliceBuffer> getOrClaim(TileKey key, List<ClaimedTile> claimed) {
+    var tile = tiles.get(key);
+    if (tile == null) {
+      tile = new CompletableFuture<>();
+      tiles.put(key, tile);
+      claimed.add(new ClaimedTile(key, tile));
+    }
+    return tile;
+  }
+
+  // Called with the lock held
+  private void evict() {
+    Iterator<CompletableFuture<SliceBuffer>> iterator = tiles.values().iterator();
+    var excess = tiles.size() - maxTiles;
+    while (excess > 0 && iterator.hasNext()) {
+      if (iterator.next().isDone()) {
+        iterator.remove();
+        excess--;
+      }
+    }
+  }
+
+  private SliceBuffer computeTile(TileKey key) {
+    var tile = new SliceBuffer(tileWidth, tileHeight);
+    double[] data = tile.getData();
+    var heightCoordinates = new double[tileHeight];
+    for (var j = 0; j < tileHeight; j++) {
+      heightCoordinates[j] = ((long) key.tileY * tileHeight + j) * heightStepSize;
+    }
+    var heightAxis = new LatticeAxis(heightCoordinates);
+    PerlinNoiseDataContainer dataContainer = recycler.getNewOrNextAvailableContainer();
+    dataContainer.setCoordinatesForDimension(0, (double) (key.timeIndex + 1) * timeStepSize);
+    for (var i = 0; i < tileWidth; i++) {
+      dataContainer.setCoordinatesForDimension(
+          1, ((long) key.tileX * tileWidth + i) * widthStepSize);
+      int offset = i * tile.getStride();
+      PerlinNoise.getForLastAxis(dataContainer, heightAxis, 0, tileHeight, data, offset);
+      for (var j = offset; j < offset + tileHeight; j++) {
+        data[j] *= amplitude;
+      }
+    }
+    recycler.recycleContainer(dataContainer);
+    return tile;
+  }
+
+  private static final class TileKey {
+
+    private final int tileX;
+    private final int tileY;
+    private final long timeIndex;
+
+    TileKey(int tileX, int tileY, long timeIndex) {
+      this.tileX = tileX;
+      this.tileY = tileY;
+      this.timeIndex = timeIndex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      TileKey tileKey = (TileKey) o;
+      return tileX == tileKey.tileX && tileY == tileKey.tileY && timeIndex == tileKey.timeIndex;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(tileX, tileY, timeIndex);
+    }
+  }
+
+  // A missing tile, computed by the caller that added it to the cache
+  private final class ClaimedTile {
+
+    private final TileKey key;
+    private final CompletableFuture<SliceBuffer> tile;
+
+    ClaimedTile(TileKey key, CompletableFuture<SliceBuffer> tile) {
+      this.key = key;
+      this.tile = tile;
+    }
+
+    void compute() {
+      try {
+        tile.complete(computeTile(key));
+      } catch (Throwable e) {
+        fail(e);
+        throw e;
+      }
+    }
+
+    void fail(Throwable e) {
+      if (tile.isDone()) {
+        return;
+      }
+      synchronized (tiles) {
+        tiles.remove(key, tile);
+      }
+      tile.completeExceptionally(e);
+    }
+  }
+
+  private static class ClaimedTilesTask extends RecursiveAction {
+
+    private final List<ClaimedTile> claimed;
+    private final int start;
+    private final int end;
+
+    ClaimedTilesTask(List<ClaimedTile> claimed, int start, int end) {
+      this.claimed = claimed;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start < 2) {
+        for (var i = start; i < end; i++) {
+          claimed.get(i).compute();
+        }
+        return;
+      }
+      int split = (end - start) / 2 + start;
+      invokeAll(
+          new ClaimedTilesTask(claimed, start, split), new ClaimedTilesTask(claimed, split, end));
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ForkJoinPool;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+import org.lefmaroli.perlin.configuration.ProductionJitterStrategy;
+
+public class NoiseTileCacheBuilder {
+
+  static final int DEFAULT_MAX_TILES = 256;
+  private static final double DEFAULT_STEP_SIZE = 0.01;
+  private final int tileWidth;
+  private final int tileHeight;
+  private double timeStepSize = DEFAULT_STEP_SIZE;
+  private double widthStepSize = DEFAULT_STEP_SIZE;
+  private double heightStepSize = DEFAULT_STEP_SIZE;
+  private double amplitude = 1.0;
+  private long randomSeed = System.currentTimeMillis();
+  private ForkJoinPool pool = ForkJoinPool.commonPool();
+  private int maxTiles = DEFAULT_MAX_TILES;
+  private JitterStrategy jitterStrategy = ProductionJitterStrategy.getInstance();
+
+  public NoiseTileCacheBuilder(int tileWidth, int tileHeight) {
+    if (tileWidth < 1) {
+      throw new IllegalArgumentException(
+          "Tile width must be greater than 0, provided: " + tileWidth);
+    }
+    if (tileHeight < 1) {
+      throw new IllegalArgumentException(
+          "Tile height must be greater than 0, provided: " + tileHeight);
+    }
+    this.tileWidth = tileWidth;
+    this.tileHeight = tileHeight;
+  }
+
+  public NoiseTileCacheBuilder withTimeStepSize(double stepSize) throws StepSizeException {
+    RootBuilder.assertStepSize(stepSize);
+    this.timeStepSize = stepSize;
+    return this;
+  }
+
+  public NoiseTileCacheBuilder withWidthStepSize(double stepSize) throws StepSizeException {
+    RootBuilder.assertStepSize(stepSize);
+    this.widthStepSize = stepSize;
+    return this;
+  }
+
+  public NoiseTileCacheBuilder withHeightStepSize(double stepSize) throws StepSizeException {
+    RootBuilder.assertStepSize(stepSize);
+    this.heightStepSize = stepSize;
+    return this;
+  }
+
+  public NoiseTileCacheBuilder withAmplitude(double amplitude) {
+    this.amplitude = amplitude;
+    return this;
+  }
+
+  public NoiseTileCacheBuilder withRandomSeed(long randomSeed) {
+    this.randomSeed = randomSeed;
+    return this;
+  }
+
+  // Tiles missing from a batch lookup are computed on the pool, null computes them on the caller
+  public NoiseTileCacheBuilder withForkJoinPool(ForkJoinPool pool) {
+    this.pool = pool;
+    return this;
+  }
+
+  public NoiseTileCacheBuilder withMaxTiles(int maxTiles) {
+    if (maxTiles < 1) {
+      throw new IllegalArgumentException(
+          "Maximum number of cached tiles must be at least 1, provided: " + maxTiles);
+    }
+    this.maxTiles = maxTiles;
+    return this;
+  }
+
+  // Bounds the cache by the memory taken by the tile values instead of their count
+  public NoiseTileCacheBuilder withMaxBytes(long maxBytes) {
+    long tileBytes = (long) tileWidth * tileHeight * Double.BYTES;
+    if (maxBytes < tileBytes) {
+      throw new IllegalArgumentException(
+          "Maximum cache size must hold at least a tile of " + tileBytes + " bytes");
+    }
+    this.maxTiles = (int) Math.min(Integer.MAX_VALUE, maxBytes / tileBytes);
+    return this;
+  }
+
+  NoiseTileCacheBuilder withJitterStrategy(JitterStrategy jitterStrategy) {
+    this.jitterStrategy = jitterStrategy;
+    return this;
+  }
+
+  public NoiseTileCache build() {
+    return new NoiseTileCache(
+        tileWidth,
+        tileHeight,
+        timeStepSize,
+        widthStepSize,
+        heightStepSize,
+        amplitude,
+        randomSeed,
+        pool,
+        maxTiles,
+        jitterStrategy);
+  }
+}
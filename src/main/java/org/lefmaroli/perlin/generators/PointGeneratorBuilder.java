@@ -32,18 +32,22 @@ public class PointGeneratorBuilder
     return new PointGeneratorImpl(stepSizes[0], amplitude, randomSeed, jitterStrategy);
   }
 
-  private static class PointGeneratorImpl extends RootGenerator<Double> implements PointGenerator {
+  private static class PointGeneratorImpl extends RootGenerator<Double, Double>
+      implements PointGenerator {
 
     private static final Logger LOGGER = LogManager.getLogger(PointGeneratorImpl.class);
+    private final PerlinNoiseDataContainerBuilder dataContainerBuilder;
     private final PerlinNoiseDataContainer perlinData;
-    private double currentTimeDistance;
+    // Frames are offset along the time axis by a random start
+    private final double timeOffset;
 
     PointGeneratorImpl(
         double timeStepSize, double maxAmplitude, long randomSeed, JitterStrategy jitterStrategy) {
       super(timeStepSize, maxAmplitude, randomSeed);
-      this.currentTimeDistance = new Random(randomSeed).nextDouble();
-      perlinData =
-          new PerlinNoiseDataContainerBuilder(1, randomSeed, jitterStrategy).createNewContainer();
+      this.timeOffset = new Random(randomSeed).nextDouble();
+      this.dataContainerBuilder =
+          new PerlinNoiseDataContainerBuilder(1, randomSeed, jitterStrategy);
+      this.perlinData = dataContainerBuilder.createNewContainer();
       LOGGER.debug("Created new {}", this);
     }
 
@@ -81,10 +85,28 @@ public class PointGeneratorBuilder
     }
 
     @Override
-    protected Double generateNextSegment(Double container) {
-      currentTimeDistance += getTimeStepSize();
-      perlinData.setCoordinatesForDimension(0, currentTimeDistance);
-      return PerlinNoise.getFor(perlinData) * getMaxAmplitude();
+    protected Double toFrame(Double container) {
+      return container;
+    }
+
+    @Override
+    protected Double generateNextSegment(
+        long timeIndex, Double container, CancellationToken cancellationToken) {
+      if (cancellationToken.isCancelled()) {
+        throw new IncompleteFrameException("Point generation cancelled");
+      }
+      return getPoint(timeIndex, perlinData);
+    }
+
+    // Containers of a single dimension are small, each call gets its own
+    @Override
+    protected Double generateSegmentAt(long timeIndex, Double container) {
+      return getPoint(timeIndex, dataContainerBuilder.createNewContainer());
+    }
+
+    private double getPoint(long timeIndex, PerlinNoiseDataContainer dataContainer) {
+      dataContainer.setCoordinatesForDimension(0, timeOffset + (timeIndex + 1) * getTimeStepSize());
+      return PerlinNoise.getFor(dataContainer) * getMaxAmplitude();
     }
 
     @Override
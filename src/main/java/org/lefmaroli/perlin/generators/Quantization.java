@@ -0,0 +1,140 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.Objects;
+import org.lefmaroli.perlin.generators.FusedSliceLayers.ColumnWriter;
+
+// Maps noise values to unsigned 8 or 16 bit codes, low going to 0 and high to the largest code.
+// Values outside of the range are clamped. With ordered dithering the rounding threshold follows a
+// 4x4 Bayer pattern over the slice, trading banding in smooth gradients for a fixed fine pattern.
+public final class Quantization {
+
+  private static final int BYTE_CODES = 0xFF;
+  private static final int SHORT_CODES = 0xFFFF;
+  private static final double[] BAYER_THRESHOLDS = new double[16];
+
+  static {
+    int[] bayer = {0, 8, 2, 10, 12, 4, 14, 6, 3, 11, 1, 9, 15, 7, 13, 5};
+    for (var i = 0; i < bayer.length; i++) {
+      BAYER_THRESHOLDS[i] = (bayer[i] + 0.5) / bayer.length;
+    }
+  }
+
+  private final double low;
+  private final double high;
+  private final boolean dithered;
+
+  // Layered frames are normalized between 0.0 and 1.0
+  public Quantization(double low, double high, boolean dithered) {
+    if (!Double.isFinite(low) || !Double.isFinite(high) || low >= high) {
+      throw new IllegalArgumentException(
+          "Quantization range must be finite and not empty, provided: [" + low + ", " + high + "]");
+    }
+    this.low = low;
+    this.high = high;
+    this.dithered = dithered;
+  }
+
+  public double getLow() {
+    return low;
+  }
+
+  public double getHigh() {
+    return high;
+  }
+
+  public boolean isDithered() {
+    return dithered;
+  }
+
+  public void quantize(SliceBuffer source, ShortSliceBuffer destination) {
+    assertSameSize(source, destination.getWidth(), destination.getHeight());
+    quantize(source, writerFor(destination));
+  }
+
+  public void quantize(SliceBuffer source, ByteSliceBuffer destination) {
+    assertSameSize(source, destination.getWidth(), destination.getHeight());
+    quantize(source, writerFor(destination));
+  }
+
+  // The division by the total amplitude of the layers is folded in the scale of the codes
+  ColumnWriter writerFor(ShortSliceBuffer frame) {
+    short[] data = frame.getData();
+    int stride = frame.getStride();
+    int height = frame.getHeight();
+    return (widthIndex, sums, offset, maxAmplitude) -> {
+      double origin = low * maxAmplitude;
+      double scale = SHORT_CODES / ((high - low) * maxAmplitude);
+      int frameOffset = widthIndex * stride;
+      for (var j = 0; j < height; j++) {
+        data[frameOffset + j] =
+            (short) encode(sums[offset + j], origin, scale, widthIndex, j, SHORT_CODES);
+      }
+    };
+  }
+
+  ColumnWriter writerFor(ByteSliceBuffer frame) {
+    byte[] data = frame.getData();
+    int stride = frame.getStride();
+    int height = frame.getHeight();
+    return (widthIndex, sums, offset, maxAmplitude) -> {
+      double origin = low * maxAmplitude;
+      double scale = BYTE_CODES / ((high - low) * maxAmplitude);
+      int frameOffset = widthIndex * stride;
+      for (var j = 0; j < height; j++) {
+        data[frameOffset + j] =
+            (byte) encode(sums[offset + j], origin, scale, widthIndex, j, BYTE_CODES);
+      }
+    };
+  }
+
+  private int encode(
+      double sum, double origin, double scale, int widthIndex, int heightIndex, int maxCode) {
+    double code = (sum - origin) * scale + getThreshold(widthIndex, heightIndex);
+    return code <= 0.0 ? 0 : Math.min((int) code, maxCode);
+  }
+
+  private double getThreshold(int widthIndex, int heightIndex) {
+    return dithered ? BAYER_THRESHOLDS[(widthIndex & 3) * 4 + (heightIndex & 3)] : 0.5;
+  }
+
+  private static void quantize(SliceBuffer source, ColumnWriter writer) {
+    double[] data = source.getData();
+    for (var i = 0; i < source.getWidth(); i++) {
+      writer.write(i, data, i * source.getStride(), 1.0);
+    }
+  }
+
+  private static void assertSameSize(SliceBuffer source, int width, int height) {
+    if (source.getWidth() != width || source.getHeight() != height) {
+      throw new IllegalArgumentException(
+          "Destination size "
+              + width
+              + "x"
+              + height
+              + " does not match slice size "
+              + source.getWidth()
+              + "x"
+              + source.getHeight());
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    Quantization that = (Quantization) o;
+    return Double.compare(that.low, low) == 0
+        && Double.compare(that.high, high) == 0
+        && dithered == that.dithered;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(low, high, dithered);
+  }
+
+  @Override
+  public String toString() {
+    return "Quantization{" + "low=" + low + ", high=" + high + ", dithered=" + dithered + '}';
+  }
+}
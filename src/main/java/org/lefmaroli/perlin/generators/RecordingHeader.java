@@ -0,0 +1,191 @@
+package org.lefmaroli.perlin.generators;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+// Fixed size, little endian header of a frame recording. Frames follow it back to back, each one
+// holding width * height values in the same row-major order as a SliceBuffer, a line being a
+// single row of lineLength values. The size keeps frames aligned for mapped views and leaves room
+// for later versions.
+final class RecordingHeader {
+
+  static final int BYTES = 128;
+  static final int LINE_DIMENSIONS = 2;
+  static final int SLICE_DIMENSIONS = 3;
+  private static final int MAGIC = 0x464e5250; // "PRNF"
+  private static final int VERSION = 1;
+  private final int dimensions;
+  private final FramePrecision precision;
+  private final boolean isCircular;
+  private final int width;
+  private final int height;
+  private final double timeStepSize;
+  private final double widthStepSize;
+  private final double heightStepSize;
+  private final double maxAmplitude;
+  private final long randomSeed;
+
+  RecordingHeader(
+      int dimensions,
+      FramePrecision precision,
+      boolean isCircular,
+      int width,
+      int height,
+      double timeStepSize,
+      double widthStepSize,
+      double heightStepSize,
+      double maxAmplitude,
+      long randomSeed) {
+    this.dimensions = dimensions;
+    this.precision = precision;
+    this.isCircular = isCircular;
+    this.width = width;
+    this.height = height;
+    this.timeStepSize = timeStepSize;
+    this.widthStepSize = widthStepSize;
+    this.heightStepSize = heightStepSize;
+    this.maxAmplitude = maxAmplitude;
+    this.randomSeed = randomSeed;
+  }
+
+  static ByteBuffer allocate() {
+    return ByteBuffer.allocate(BYTES).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  static RecordingHeader read(FileChannel channel) throws IOException {
+    var buffer = allocate();
+    var read = 0;
+    while (buffer.hasRemaining() && read >= 0) {
+      read = channel.read(buffer, buffer.position());
+    }
+    if (buffer.hasRemaining() || buffer.getInt(0) != MAGIC) {
+      throw new IOException("Not a frame recording");
+    }
+    int version = buffer.getInt(4);
+    if (version != VERSION) {
+      throw new IOException("Unsupported frame recording version: " + version);
+    }
+    int dimensions = buffer.get(8);
+    if (dimensions != LINE_DIMENSIONS && dimensions != SLICE_DIMENSIONS) {
+      throw new IOException("Unsupported frame dimensions: " + dimensions);
+    }
+    FramePrecision precision;
+    try {
+      precision = FramePrecision.ofBytes(buffer.get(9));
+    } catch (IllegalArgumentException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+    int width = buffer.getInt(12);
+    int height = buffer.getInt(16);
+    if (width < 1 || height < 1) {
+      throw new IOException("Invalid frame size: " + width + "x" + height);
+    }
+    return new RecordingHeader(
+        dimensions,
+        precision,
+        buffer.get(10) != 0,
+        width,
+        height,
+        buffer.getDouble(24),
+        buffer.getDouble(32),
+        buffer.getDouble(40),
+        buffer.getDouble(48),
+        buffer.getLong(56));
+  }
+
+  ByteBuffer write(ByteBuffer buffer) {
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(0, MAGIC);
+    buffer.putInt(4, VERSION);
+    buffer.put(8, (byte) dimensions);
+    buffer.put(9, (byte) precision.getBytes());
+    buffer.put(10, (byte) (isCircular ? 1 : 0));
+    buffer.putInt(12, width);
+    buffer.putInt(16, height);
+    buffer.putDouble(24, timeStepSize);
+    buffer.putDouble(32, widthStepSize);
+    buffer.putDouble(40, heightStepSize);
+    buffer.putDouble(48, maxAmplitude);
+    buffer.putLong(56, randomSeed);
+    return buffer;
+  }
+
+  long getFrameBytes() {
+    return (long) width * height * precision.getBytes();
+  }
+
+  int getDimensions() {
+    return dimensions;
+  }
+
+  FramePrecision getPrecision() {
+    return precision;
+  }
+
+  boolean isCircular() {
+    return isCircular;
+  }
+
+  int getWidth() {
+    return width;
+  }
+
+  int getHeight() {
+    return height;
+  }
+
+  double getTimeStepSize() {
+    return timeStepSize;
+  }
+
+  double getWidthStepSize() {
+    return widthStepSize;
+  }
+
+  double getHeightStepSize() {
+    return heightStepSize;
+  }
+
+  double getMaxAmplitude() {
+    return maxAmplitude;
+  }
+
+  long getRandomSeed() {
+    return randomSeed;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    RecordingHeader that = (RecordingHeader) o;
+    return dimensions == that.dimensions
+        && isCircular == that.isCircular
+        && width == that.width
+        && height == that.height
+        && Double.compare(that.timeStepSize, timeStepSize) == 0
+        && Double.compare(that.widthStepSize, widthStepSize) == 0
+        && Double.compare(that.heightStepSize, heightStepSize) == 0
+        && Double.compare(that.maxAmplitude, maxAmplitude) == 0
+        && randomSeed == that.randomSeed
+        && precision == that.precision;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        dimensions,
+        precision,
+        isCircular,
+        width,
+        height,
+        timeStepSize,
+        widthStepSize,
+        heightStepSize,
+        maxAmplitude,
+        randomSeed);
+  }
+}
@@ -1,5 +1,6 @@
 package org.lefmaroli.perlin.generators;
 
+import java.util.concurrent.ExecutorService;
 import org.lefmaroli.perlin.configuration.JitterStrategy;
 import org.lefmaroli.perlin.configuration.ProductionJitterStrategy;
 
@@ -11,11 +12,14 @@ abstract class RootBuilder<N, L extends IGenerator<N>, B extends RootBuilder<N,
   private double amplitude = 1.0;
   protected long randomSeed = System.currentTimeMillis();
   protected JitterStrategy jitterStrategy = ProductionJitterStrategy.getInstance();
+  private int prefetchedFrames = 0;
+  private ExecutorService prefetchExecutorService = null;
+  private int leasedFrames = FramePool.DEFAULT_CAPACITY;
 
   protected RootBuilder(int dimensions) {
-    if (dimensions < 1 || dimensions > 3) {
+    if (dimensions < 1 || dimensions > 4) {
       throw new IllegalArgumentException(
-          "Number of dimensions must be between [1, 3], provided: " + dimensions);
+          "Number of dimensions must be between [1, 4], provided: " + dimensions);
     }
     this.dimensions = dimensions;
     this.stepSizes = new double[dimensions];
@@ -35,6 +39,19 @@ abstract class RootBuilder<N, L extends IGenerator<N>, B extends RootBuilder<N,
     return self();
   }
 
+  public B withPrefetching(int framesAhead, ExecutorService executorService) {
+    FramePrefetcher.assertValidPrefetching(framesAhead, executorService);
+    this.prefetchedFrames = framesAhead;
+    this.prefetchExecutorService = executorService;
+    return self();
+  }
+
+  public B withLeasedFrames(int leasedFrames) {
+    FramePool.assertValidCapacity(leasedFrames);
+    this.leasedFrames = leasedFrames;
+    return self();
+  }
+
   B withJitterStrategy(JitterStrategy jitterStrategy) {
     this.jitterStrategy = jitterStrategy;
     return self();
@@ -59,7 +76,13 @@ abstract class RootBuilder<N, L extends IGenerator<N>, B extends RootBuilder<N,
   }
 
   public IGenerator<N> build() {
-    return buildNoiseGenerator(stepSizes, amplitude, randomSeed, jitterStrategy);
+    var generator =
+        (RootGenerator<?, N>) buildNoiseGenerator(stepSizes, amplitude, randomSeed, jitterStrategy);
+    generator.setLeasedFrames(leasedFrames);
+    if (prefetchedFrames > 0) {
+      generator.enablePrefetching(prefetchedFrames, prefetchExecutorService);
+    }
+    return generator;
   }
 
   protected abstract B self();
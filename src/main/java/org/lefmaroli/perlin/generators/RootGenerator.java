@@ -1,18 +1,32 @@
 package org.lefmaroli.perlin.generators;
 
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
 
-abstract class RootGenerator<C> implements IRootGenerator<C> {
+// Frames are generated into recycled containers of type C and handed out as N, which is the
+// container itself unless the generator exposes it through an adapter
+abstract class RootGenerator<C, N> implements IRootGenerator<N> {
 
+  // Frames requested without a token run to completion
+  protected static final CancellationToken NOT_CANCELLABLE = new CancellationToken();
   protected final long randomSeed;
   private final Queue<C> generated = new LinkedList<>();
-  private final Queue<C> containers = new LinkedList<>();
+  private final Deque<C> containers = new LinkedList<>();
   private final double timeStepSize;
   private final double maxAmplitude;
   private int containersCount = 0;
+  // Time index of the next sequential frame, ahead of the consumer when prefetching
+  private long timeIndex = 0;
+  private FramePrefetcher<C> prefetcher = null;
+  private int leasedFrames = FramePool.DEFAULT_CAPACITY;
+  private FramePool<C> leasePool = null;
 
   protected RootGenerator(double timeStepSize, double maxAmplitude, long randomSeed) {
     if (timeStepSize < 0.0) {
@@ -23,6 +37,12 @@ abstract class RootGenerator<C> implements IRootGenerator<C> {
     this.randomSeed = randomSeed;
   }
 
+  static void assertValidTimeIndex(long timeIndex) {
+    if (timeIndex < 0) {
+      throw new IllegalArgumentException("Time index must be positive, provided: " + timeIndex);
+    }
+  }
+
   protected static void assertValidValues(List<String> names, double... values) {
     for (var i = 0; i < values.length; i++) {
       if (values[i] < 0.0) {
@@ -37,15 +57,93 @@ abstract class RootGenerator<C> implements IRootGenerator<C> {
     return timeStepSize;
   }
 
-  public C getNext() {
+  public N getNext() {
+    return getNextUnlessCancelled(NOT_CANCELLABLE);
+  }
+
+  @Override
+  public N getNextUnlessCancelled(CancellationToken cancellationToken) {
+    return toFrame(getNextContainer(cancellationToken));
+  }
+
+  protected C getNextContainer(CancellationToken cancellationToken) {
+    if (prefetcher != null) {
+      return prefetcher.next(cancellationToken);
+    }
     if (generated.isEmpty()) {
-      addNextNoiseSegmentToQueue();
+      addNextNoiseSegmentToQueue(cancellationToken);
     }
     var container = generated.poll();
     containers.add(container);
     return container;
   }
 
+  // Frames already handed out are left untouched, prefetched frames are dropped
+  @Override
+  public void seek(long timeIndex) {
+    assertValidTimeIndex(timeIndex);
+    if (prefetcher != null) {
+      prefetcher.discard();
+    }
+    this.timeIndex = timeIndex;
+  }
+
+  @Override
+  public N getAt(long timeIndex) {
+    return toFrame(getContainerAt(timeIndex));
+  }
+
+  protected C getContainerAt(long timeIndex) {
+    assertValidTimeIndex(timeIndex);
+    return generateSegmentAt(timeIndex, getNewContainer());
+  }
+
+  @Override
+  public FrameLease<N> acquireNext() {
+    return acquireNextUnlessCancelled(NOT_CANCELLABLE);
+  }
+
+  @Override
+  public FrameLease<N> acquireNextUnlessCancelled(CancellationToken cancellationToken) {
+    return leaseNext(cancellationToken, this::toFrame);
+  }
+
+  @Override
+  public Flow.Publisher<FrameLease<N>> publisher(Executor executor) {
+    return new FramePublisher<>(this::acquireNextUnlessCancelled, leasedFrames, executor);
+  }
+
+  // Leased frames are generated straight into a pooled container, or swapped for one when
+  // prefetching, and only go back to the pool once released
+  protected <R> FrameLease<R> leaseNext(CancellationToken cancellationToken, Function<C, R> view) {
+    if (leasePool == null) {
+      leasePool = new FramePool<>(leasedFrames, this::getNewContainer);
+    }
+    var pool = leasePool;
+    var container = pool.acquire();
+    C frame;
+    try {
+      frame =
+          prefetcher == null
+              ? generateNext(container, cancellationToken)
+              : prefetcher.exchange(container, cancellationToken);
+    } catch (IncompleteFrameException e) {
+      pool.release(container);
+      throw e;
+    }
+    return new FrameLease<>(view.apply(frame), () -> pool.release(frame));
+  }
+
+  void setLeasedFrames(int leasedFrames) {
+    this.leasedFrames = leasedFrames;
+  }
+
+  void enablePrefetching(int framesAhead, ExecutorService executorService) {
+    prefetcher =
+        new FramePrefetcher<>(
+            framesAhead, executorService, this::getNewContainer, this::generateNext);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -54,7 +152,7 @@ abstract class RootGenerator<C> implements IRootGenerator<C> {
     if (o == null || getClass() != o.getClass()) {
       return false;
     }
-    RootGenerator<?> that = (RootGenerator<?>) o;
+    RootGenerator<?, ?> that = (RootGenerator<?, ?>) o;
     return randomSeed == that.randomSeed
         && Double.compare(that.timeStepSize, timeStepSize) == 0
         && Double.compare(that.maxAmplitude, maxAmplitude) == 0;
@@ -70,11 +168,27 @@ abstract class RootGenerator<C> implements IRootGenerator<C> {
     return maxAmplitude;
   }
 
-  protected abstract C generateNextSegment(C container);
+  long getTimeIndex() {
+    return timeIndex;
+  }
+
+  // Moves to the next time index for frames generated outside generateNextSegment
+  void completeFrame() {
+    timeIndex++;
+  }
+
+  // Sequential frames, only ever called by one thread at a time
+  protected abstract C generateNextSegment(
+      long timeIndex, C container, CancellationToken cancellationToken);
+
+  // Random access frames, called from any thread and possibly from several at once
+  protected abstract C generateSegmentAt(long timeIndex, C container);
 
   protected abstract C getNewContainer();
 
-  private void addNextNoiseSegmentToQueue() {
+  protected abstract N toFrame(C container);
+
+  private void addNextNoiseSegmentToQueue(CancellationToken cancellationToken) {
     C container;
     if (containersCount < 2) {
       containersCount++;
@@ -82,6 +196,18 @@ abstract class RootGenerator<C> implements IRootGenerator<C> {
     } else {
       container = containers.poll();
     }
-    generated.add(generateNextSegment(container));
+    try {
+      generated.add(generateNext(container, cancellationToken));
+    } catch (IncompleteFrameException e) {
+      // Reused first so the frame last handed out is not overwritten by the next attempt
+      containers.addFirst(container);
+      throw e;
+    }
+  }
+
+  private C generateNext(C container, CancellationToken cancellationToken) {
+    var frame = generateNextSegment(timeIndex, container, cancellationToken);
+    timeIndex++;
+    return frame;
   }
 }
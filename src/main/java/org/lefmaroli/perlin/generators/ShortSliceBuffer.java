@@ -0,0 +1,45 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.Objects;
+
+// Slice of unsigned 16 bit codes laid out as in a SliceBuffer, the code at (widthIndex,
+// heightIndex) is getData()[widthIndex * getStride() + heightIndex] & 0xFFFF
+public final class ShortSliceBuffer {
+
+  private final int width;
+  private final int height;
+  private final int stride;
+  private final short[] data;
+
+  public ShortSliceBuffer(int width, int height) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("Invalid slice size: " + width + "x" + height);
+    }
+    this.width = width;
+    this.height = height;
+    this.stride = height;
+    this.data = new short[width * stride];
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public int getStride() {
+    return stride;
+  }
+
+  public short[] getData() {
+    return data;
+  }
+
+  public int get(int widthIndex, int heightIndex) {
+    Objects.checkIndex(widthIndex, width);
+    Objects.checkIndex(heightIndex, height);
+    return data[widthIndex * stride + heightIndex] & 0xFFFF;
+  }
+}
@@ -0,0 +1,75 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.Objects;
+
+// Slice values in a single row-major array, the value at (widthIndex, heightIndex) is stored at
+// getData()[widthIndex * getStride() + heightIndex]
+public final class SliceBuffer {
+
+  private final int width;
+  private final int height;
+  private final int stride;
+  private final double[] data;
+  // Jagged copy handed out by the double[][] accessors, allocated on first use
+  private double[][] rows;
+
+  SliceBuffer(int width, int height) {
+    this.width = width;
+    this.height = height;
+    this.stride = height;
+    this.data = new double[width * stride];
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public int getStride() {
+    return stride;
+  }
+
+  public double[] getData() {
+    return data;
+  }
+
+  public double get(int widthIndex, int heightIndex) {
+    Objects.checkIndex(widthIndex, width);
+    Objects.checkIndex(heightIndex, height);
+    return data[widthIndex * stride + heightIndex];
+  }
+
+  public void copyTo(double[][] destination) {
+    if (destination.length != width) {
+      throw new IllegalArgumentException(
+          "Destination width " + destination.length + " does not match slice width " + width);
+    }
+    for (var i = 0; i < width; i++) {
+      if (destination[i].length != height) {
+        throw new IllegalArgumentException(
+            "Destination height "
+                + destination[i].length
+                + " does not match slice height "
+                + height);
+      }
+      System.arraycopy(data, i * stride, destination[i], 0, height);
+    }
+  }
+
+  public double[][] toArray() {
+    var copy = new double[width][height];
+    copyTo(copy);
+    return copy;
+  }
+
+  double[][] asRows() {
+    if (rows == null) {
+      rows = new double[width][height];
+    }
+    copyTo(rows);
+    return rows;
+  }
+}
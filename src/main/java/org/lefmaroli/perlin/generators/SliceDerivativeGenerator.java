@@ -0,0 +1,17 @@
+package org.lefmaroli.perlin.generators;
+
+// Frames hold the slice values followed by their partial derivatives, each taken per time step or
+// per width and height index so they compare directly with differences between neighbouring
+// samples
+public interface SliceDerivativeGenerator
+    extends IRootGenerator<double[][][]>, IMultiDimensionalGenerator, ISliceGeneratorDimension {
+
+  int VALUES = 0;
+  int TIME_DERIVATIVES = 1;
+  int WIDTH_DERIVATIVES = 2;
+  int HEIGHT_DERIVATIVES = 3;
+
+  double getWidthStepSize();
+
+  double getHeightStepSize();
+}
@@ -0,0 +1,165 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ForkJoinPool;
+import org.lefmaroli.perlin.LatticeAxis;
+import org.lefmaroli.perlin.PerlinNoise;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+public class SliceDerivativeGeneratorBuilder
+    extends MultiDimensionalBuilder<
+        double[][][], SliceDerivativeGenerator, SliceDerivativeGeneratorBuilder> {
+
+  private final int sliceWidth;
+  private final int sliceHeight;
+
+  public SliceDerivativeGeneratorBuilder(int sliceWidth, int sliceHeight) {
+    super(3);
+    assertValidSliceDimension(sliceWidth, sliceHeight);
+    this.sliceWidth = sliceWidth;
+    this.sliceHeight = sliceHeight;
+  }
+
+  private static void assertValidSliceDimension(int sliceWidth, int sliceHeight) {
+    if (sliceWidth < 1) {
+      throw new IllegalArgumentException(
+          "Slice width must be greater than 0, provided: " + sliceWidth);
+    }
+    if (sliceHeight < 1) {
+      throw new IllegalArgumentException(
+          "Slice height must be greater than 0, provided: " + sliceHeight);
+    }
+  }
+
+  @Override
+  public SliceDerivativeGenerator build() {
+    return (SliceDerivativeGenerator) super.build();
+  }
+
+  public SliceDerivativeGeneratorBuilder withWidthStepSize(double stepSize)
+      throws StepSizeException {
+    setStepSizeForDimension(stepSize, 1);
+    return this;
+  }
+
+  public SliceDerivativeGeneratorBuilder withHeightStepSize(double stepSize)
+      throws StepSizeException {
+    setStepSizeForDimension(stepSize, 2);
+    return this;
+  }
+
+  @Override
+  protected SliceDerivativeGeneratorBuilder self() {
+    return this;
+  }
+
+  @Override
+  protected IGenerator<double[][][]> buildNoiseGenerator(
+      double[] stepSizes, double amplitude, long randomSeed, JitterStrategy jitterStrategy) {
+    return new SliceDerivativeGeneratorImpl(
+        stepSizes[0],
+        stepSizes[1],
+        stepSizes[2],
+        sliceWidth,
+        sliceHeight,
+        amplitude,
+        randomSeed,
+        isCircular(),
+        getPool(),
+        jitterStrategy);
+  }
+
+  private static class SliceDerivativeGeneratorImpl
+      extends SliceRootGenerator<double[][][], double[][][]> implements SliceDerivativeGenerator {
+
+    private final double widthAngleFactor;
+    private final double heightAngleFactor;
+
+    SliceDerivativeGeneratorImpl(
+        double timeStepSize,
+        double widthStepSize,
+        double heightStepSize,
+        int sliceWidth,
+        int sliceHeight,
+        double maxAmplitude,
+        long randomSeed,
+        boolean isCircular,
+        ForkJoinPool pool,
+        JitterStrategy jitterStrategy) {
+      super(
+          timeStepSize,
+          widthStepSize,
+          heightStepSize,
+          sliceWidth,
+          sliceHeight,
+          maxAmplitude,
+          randomSeed,
+          isCircular,
+          pool,
+          jitterStrategy);
+      this.widthAngleFactor = getWidthStepSize() * 2 * Math.PI;
+      this.heightAngleFactor = getHeightStepSize() * 2 * Math.PI;
+    }
+
+    @Override
+    protected double[][][] toFrame(double[][][] container) {
+      return container;
+    }
+
+    @Override
+    protected double[][][] getNewContainer() {
+      return new double[4][getSliceWidth()][getSliceHeight()];
+    }
+
+    @Override
+    protected void evaluateColumnSegment(
+        PerlinNoiseDataContainer container,
+        LatticeAxis heightAxis,
+        LatticeAxis heightCircleAxis,
+        int from,
+        int to,
+        double[][][] frame,
+        int widthIndex) {
+      var derivatives = new double[container.getDimension()];
+      double amplitude = getMaxAmplitude();
+      double timeFactor = getTimeStepSize() * amplitude;
+      double[] values = frame[VALUES][widthIndex];
+      double[] timeDerivatives = frame[TIME_DERIVATIVES][widthIndex];
+      double[] widthDerivatives = frame[WIDTH_DERIVATIVES][widthIndex];
+      double[] heightDerivatives = frame[HEIGHT_DERIVATIVES][widthIndex];
+      if (isCircular()) {
+        // Width and height coordinates lie on circles, d/dangle (cos + 1) / 2 = -sin / 2 and
+        // d/dangle (sin + 1) / 2 = cos / 2, both read back from the embeddings
+        double widthFactor = widthAngleFactor * amplitude;
+        double widthCosFactor =
+            (0.5 - getWidthCircleAxis().getCoordinate(widthIndex)) * widthFactor;
+        double widthSinFactor = (getWidthAxis().getCoordinate(widthIndex) - 0.5) * widthFactor;
+        double heightFactor = heightAngleFactor * amplitude;
+        for (var heightIndex = from; heightIndex < to; heightIndex++) {
+          container.setCoordinatesForDimension(3, heightAxis.getCoordinate(heightIndex));
+          container.setCoordinatesForDimension(4, heightCircleAxis.getCoordinate(heightIndex));
+          values[heightIndex] =
+              PerlinNoise.getWithDerivativesFor(container, derivatives) * amplitude;
+          timeDerivatives[heightIndex] = derivatives[0] * timeFactor;
+          widthDerivatives[heightIndex] =
+              widthCosFactor * derivatives[1] + widthSinFactor * derivatives[2];
+          heightDerivatives[heightIndex] =
+              heightFactor
+                  * ((0.5 - heightCircleAxis.getCoordinate(heightIndex)) * derivatives[3]
+                      + (heightAxis.getCoordinate(heightIndex) - 0.5) * derivatives[4]);
+        }
+      } else {
+        double widthFactor = getWidthStepSize() * amplitude;
+        double heightFactor = getHeightStepSize() * amplitude;
+        for (var heightIndex = from; heightIndex < to; heightIndex++) {
+          container.setCoordinatesForDimension(2, heightAxis.getCoordinate(heightIndex));
+          values[heightIndex] =
+              PerlinNoise.getWithDerivativesFor(container, derivatives) * amplitude;
+          timeDerivatives[heightIndex] = derivatives[0] * timeFactor;
+          widthDerivatives[heightIndex] = derivatives[1] * widthFactor;
+          heightDerivatives[heightIndex] = derivatives[2] * heightFactor;
+        }
+      }
+    }
+  }
+}
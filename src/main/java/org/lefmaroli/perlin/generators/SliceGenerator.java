@@ -6,4 +6,16 @@ public interface SliceGenerator
   double getWidthStepSize();
 
   double getHeightStepSize();
+
+  // Same frames as getNext, without the copy into a jagged array. The buffer is reused two frames
+  // later.
+  SliceBuffer getNextBuffer();
+
+  SliceBuffer getNextBufferUnlessCancelled(CancellationToken cancellationToken);
+
+  SliceBuffer getBufferAt(long timeIndex);
+
+  FrameLease<SliceBuffer> acquireNextBuffer();
+
+  FrameLease<SliceBuffer> acquireNextBufferUnlessCancelled(CancellationToken cancellationToken);
 }
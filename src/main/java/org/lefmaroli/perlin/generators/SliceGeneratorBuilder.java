@@ -1,15 +1,10 @@
 package org.lefmaroli.perlin.generators;
 
-import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.RecursiveAction;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.lefmaroli.perlin.ContainerRecycler;
+import java.util.function.Function;
+import org.lefmaroli.perlin.LatticeAxis;
 import org.lefmaroli.perlin.PerlinNoise;
 import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
-import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainerBuilder;
 import org.lefmaroli.perlin.configuration.JitterStrategy;
 
 public class SliceGeneratorBuilder
@@ -72,24 +67,9 @@ public class SliceGeneratorBuilder
         jitterStrategy);
   }
 
-  private static class SliceGeneratorImpl extends MultiDimensionalRootGenerator<double[][]>
+  private static class SliceGeneratorImpl extends SliceRootGenerator<SliceBuffer, double[][]>
       implements SliceGenerator {
 
-    private static final Logger LOGGER = LogManager.getLogger(SliceGeneratorImpl.class);
-
-    private static final List<String> parameterNames =
-        List.of("Width step size", "Slice width", "Height step size", "Slice height");
-    private final double widthStepSize;
-    private final double widthAngleFactor;
-    private final double heightStepSize;
-    private final double heightAngleFactor;
-    private final int sliceWidth;
-    private final int sliceHeight;
-    private final PerlinNoiseDataContainer perlinData;
-    private final ContainerRecycler<PerlinNoiseDataContainer> recycler;
-    private int currentTimeIndex = 0;
-    private final int lengthThreshold;
-
     SliceGeneratorImpl(
         double timeStepSize,
         double widthStepSize,
@@ -101,248 +81,74 @@ public class SliceGeneratorBuilder
         boolean isCircular,
         ForkJoinPool pool,
         JitterStrategy jitterStrategy) {
-      super(timeStepSize, maxAmplitude, randomSeed, isCircular, pool);
-      assertValidValues(parameterNames, widthStepSize, heightStepSize, sliceWidth, sliceHeight);
-      this.widthStepSize = correctStepSizeForCircularity(widthStepSize, sliceWidth, "slice width");
-      this.widthAngleFactor = this.widthStepSize * 2 * Math.PI;
-      this.heightStepSize =
-          correctStepSizeForCircularity(heightStepSize, sliceHeight, "slice height");
-      this.heightAngleFactor = this.heightStepSize * 2 * Math.PI;
-      this.sliceWidth = sliceWidth;
-      this.sliceHeight = sliceHeight;
-      this.lengthThreshold = computeLengthThresholdForForkingProcess(sliceWidth, sliceHeight);
-      PerlinNoiseDataContainerBuilder builder;
-      if (isCircular) {
-        builder = new PerlinNoiseDataContainerBuilder(5, randomSeed, jitterStrategy);
-      } else {
-        builder = new PerlinNoiseDataContainerBuilder(3, randomSeed, jitterStrategy);
-      }
-      perlinData = builder.createNewContainer();
-      this.recycler = new ContainerRecycler<>(builder);
-      LOGGER.debug("Create new {}", this);
-    }
-
-    private int computeLengthThresholdForForkingProcess(int sliceWidth, int sliceHeight) {
-      var threshold = 2500;
-      if (hasParallelProcessingEnabled() && sliceWidth * sliceHeight > 2500) {
-        threshold =
-            (int)
-                Math.ceil((double) sliceWidth * sliceHeight / getExecutionPool().getParallelism());
-      }
-      return threshold;
-    }
-
-    public double getWidthStepSize() {
-      return widthStepSize;
-    }
-
-    public double getHeightStepSize() {
-      return heightStepSize;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) return true;
-      if (o == null || getClass() != o.getClass()) return false;
-      if (!super.equals(o)) return false;
-      SliceGeneratorImpl that = (SliceGeneratorImpl) o;
-      return widthStepSize == that.widthStepSize
-          && heightStepSize == that.heightStepSize
-          && sliceWidth == that.sliceWidth
-          && sliceHeight == that.sliceHeight;
+      super(
+          timeStepSize,
+          widthStepSize,
+          heightStepSize,
+          sliceWidth,
+          sliceHeight,
+          maxAmplitude,
+          randomSeed,
+          isCircular,
+          pool,
+          jitterStrategy);
     }
 
     @Override
-    public int hashCode() {
-      return Objects.hash(super.hashCode(), widthStepSize, heightStepSize, sliceWidth, sliceHeight);
+    public SliceBuffer getNextBuffer() {
+      return getNextContainer(NOT_CANCELLABLE);
     }
 
     @Override
-    public String toString() {
-      return "SliceGeneratorImpl{"
-          + "timeStepSize="
-          + getTimeStepSize()
-          + ", widthStepSize="
-          + widthStepSize
-          + ", heightStepSize="
-          + heightStepSize
-          + ", sliceWidth="
-          + sliceWidth
-          + ", sliceHeight="
-          + sliceHeight
-          + ", maxAmplitude="
-          + getMaxAmplitude()
-          + ", randomSeed="
-          + randomSeed
-          + ", isCircular="
-          + isCircular()
-          + '}';
+    public SliceBuffer getNextBufferUnlessCancelled(CancellationToken cancellationToken) {
+      return getNextContainer(cancellationToken);
     }
 
     @Override
-    public int getDimensions() {
-      return 3;
+    public SliceBuffer getBufferAt(long timeIndex) {
+      return getContainerAt(timeIndex);
     }
 
     @Override
-    public int getTotalSize() {
-      return sliceWidth * sliceHeight;
+    public FrameLease<SliceBuffer> acquireNextBuffer() {
+      return acquireNextBufferUnlessCancelled(NOT_CANCELLABLE);
     }
 
     @Override
-    public int getSliceWidth() {
-      return sliceWidth;
+    public FrameLease<SliceBuffer> acquireNextBufferUnlessCancelled(
+        CancellationToken cancellationToken) {
+      return leaseNext(cancellationToken, Function.identity());
     }
 
     @Override
-    public int getSliceHeight() {
-      return sliceHeight;
+    protected SliceBuffer getNewContainer() {
+      return new SliceBuffer(getSliceWidth(), getSliceHeight());
     }
 
     @Override
-    protected double[][] getNewContainer() {
-      return new double[sliceWidth][sliceHeight];
+    protected double[][] toFrame(SliceBuffer container) {
+      return container.asRows();
     }
 
     @Override
-    protected double[][] generateNextSegment(double[][] container) {
-      currentTimeIndex++;
-      processNoiseDomain(currentTimeIndex, container);
-      return container;
-    }
-
-    private void processNoiseDomain(int timeIndex, double[][] slice) {
-      double timeDist = (double) (timeIndex) * getTimeStepSize();
-      if (hasParallelProcessingEnabled()) {
-        getExecutionPool()
-            .invoke(new SliceNoiseTask(slice, timeDist, 0, sliceWidth, 0, sliceHeight));
-      } else {
-        perlinData.setCoordinatesForDimension(0, timeDist);
-        for (var widthIndex = 0; widthIndex < sliceWidth; widthIndex++) {
-          if (Thread.interrupted()) {
-            LogManager.getLogger(this.getClass())
-                .error("Interrupted processing [processNoiseDomain]");
-            return;
-          }
-          processSliceWidthDomain(widthIndex, 0, sliceHeight, slice[widthIndex], perlinData);
-        }
-      }
-    }
-
-    private void processSliceWidthDomain(
-        int widthIndex,
-        int heightStartIndex,
-        int heightEndIndex,
-        double[] line,
-        PerlinNoiseDataContainer dataContainer) {
-      double widthDist;
+    protected void evaluateColumnSegment(
+        PerlinNoiseDataContainer container,
+        LatticeAxis heightAxis,
+        LatticeAxis heightCircleAxis,
+        int from,
+        int to,
+        SliceBuffer slice,
+        int widthIndex) {
+      double[] data = slice.getData();
+      int offset = widthIndex * slice.getStride();
       if (isCircular()) {
-        widthDist = widthIndex * widthAngleFactor;
-        dataContainer.setCoordinatesForDimension(1, (Math.cos(widthDist) + 1.0) / 2.0);
-        dataContainer.setCoordinatesForDimension(2, (Math.sin(widthDist) + 1.0) / 2.0);
+        PerlinNoise.getForLastTwoAxes(
+            container, heightAxis, heightCircleAxis, from, to, data, offset);
       } else {
-        widthDist = widthIndex * widthStepSize;
-        dataContainer.setCoordinatesForDimension(1, widthDist);
-      }
-      for (var heightIndex = heightStartIndex; heightIndex < heightEndIndex; heightIndex++) {
-        line[heightIndex] = processSliceHeightDomain(heightIndex, dataContainer);
-      }
-    }
-
-    private double processSliceHeightDomain(
-        int heightIndex, PerlinNoiseDataContainer dataContainer) {
-      if (isCircular()) {
-        double heightDist = heightIndex * heightAngleFactor;
-        dataContainer.setCoordinatesForDimension(3, (Math.cos(heightDist) + 1.0) / 2.0);
-        dataContainer.setCoordinatesForDimension(4, (Math.sin(heightDist) + 1.0) / 2.0);
-      } else {
-        dataContainer.setCoordinatesForDimension(2, heightIndex * heightStepSize);
-      }
-      return PerlinNoise.getFor(dataContainer) * getMaxAmplitude();
-    }
-
-    private class SliceNoiseTask extends RecursiveAction {
-
-      private final double[][] results;
-      private final double timeDistance;
-      private final int startWidthIndex;
-      private final int endWidthIndex;
-      private final int startHeightIndex;
-      private final int endHeightIndex;
-
-      SliceNoiseTask(
-          double[][] results,
-          double timeDistance,
-          int startWidthIndex,
-          int endWidthIndex,
-          int startHeightIndex,
-          int endHeightIndex) {
-        this.results = results;
-        this.timeDistance = timeDistance;
-        this.startWidthIndex = startWidthIndex;
-        this.endWidthIndex = endWidthIndex;
-        this.startHeightIndex = startHeightIndex;
-        this.endHeightIndex = endHeightIndex;
+        PerlinNoise.getForLastAxis(container, heightAxis, from, to, data, offset);
       }
-
-      private void computeDirectly() {
-        PerlinNoiseDataContainer dataContainer = recycler.getNewOrNextAvailableContainer();
-        dataContainer.setCoordinatesForDimension(0, timeDistance);
-        for (var widthIndex = startWidthIndex; widthIndex < endWidthIndex; widthIndex++) {
-          if (Thread.interrupted()) {
-            LogManager.getLogger(this.getClass()).error("Interrupted processing [computeDirectly]");
-            return;
-          }
-          processSliceWidthDomain(
-              widthIndex, startHeightIndex, endHeightIndex, results[widthIndex], dataContainer);
-        }
-        recycler.recycleContainer(dataContainer);
-      }
-
-      @Override
-      protected void compute() {
-        var widthSegment = endWidthIndex - startWidthIndex;
-        var heightSegment = endHeightIndex - startHeightIndex;
-        if (widthSegment * heightSegment < lengthThreshold) {
-          computeDirectly();
-          return;
-        }
-
-        int splitWidthIndex = (widthSegment / 2) + startWidthIndex;
-        int splitHeightIndex = (heightSegment / 2) + startHeightIndex;
-
-        invokeAll(
-            new SliceNoiseTask(
-                results,
-                timeDistance,
-                startWidthIndex,
-                splitWidthIndex,
-                startHeightIndex,
-                splitHeightIndex),
-            new SliceNoiseTask(
-                results,
-                timeDistance,
-                splitWidthIndex,
-                endWidthIndex,
-                startHeightIndex,
-                splitHeightIndex),
-            new SliceNoiseTask(
-                results,
-                timeDistance,
-                startWidthIndex,
-                splitWidthIndex,
-                splitHeightIndex,
-                endHeightIndex),
-            new SliceNoiseTask(
-                results,
-                timeDistance,
-                splitWidthIndex,
-                endWidthIndex,
-                splitHeightIndex,
-                endHeightIndex));
-        if (Thread.currentThread().isInterrupted()) {
-          LogManager.getLogger(this.getClass()).debug("Interrupted processing [compute]");
-        }
+      for (var i = offset + from; i < offset + to; i++) {
+        data[i] *= getMaxAmplitude();
       }
     }
   }
@@ -0,0 +1,362 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lefmaroli.perlin.ContainerRecycler;
+import org.lefmaroli.perlin.LatticeAxis;
+import org.lefmaroli.perlin.PerlinNoise;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainerBuilder;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+abstract class SliceRootGenerator<C, N> extends MultiDimensionalRootGenerator<C, N>
+    implements ISliceGeneratorDimension {
+
+  private static final Logger LOGGER = LogManager.getLogger(SliceRootGenerator.class);
+
+  private static final List<String> parameterNames =
+      List.of("Width step size", "Slice width", "Height step size", "Slice height");
+  private final double widthStepSize;
+  private final LatticeAxis widthAxis;
+  private final LatticeAxis widthCircleAxis;
+  private final double heightStepSize;
+  private final LatticeAxis heightAxis;
+  private final LatticeAxis heightCircleAxis;
+  private final int sliceWidth;
+  private final int sliceHeight;
+  private final PerlinNoiseDataContainer perlinData;
+  private final ContainerRecycler<PerlinNoiseDataContainer> recycler;
+
+  protected SliceRootGenerator(
+      double timeStepSize,
+      double widthStepSize,
+      double heightStepSize,
+      int sliceWidth,
+      int sliceHeight,
+      double maxAmplitude,
+      long randomSeed,
+      boolean isCircular,
+      ForkJoinPool pool,
+      JitterStrategy jitterStrategy) {
+    super(timeStepSize, maxAmplitude, randomSeed, isCircular, pool);
+    assertValidValues(parameterNames, widthStepSize, heightStepSize, sliceWidth, sliceHeight);
+    this.widthStepSize = correctStepSizeForCircularity(widthStepSize, sliceWidth, "slice width");
+    this.heightStepSize =
+        correctStepSizeForCircularity(heightStepSize, sliceHeight, "slice height");
+    this.sliceWidth = sliceWidth;
+    this.sliceHeight = sliceHeight;
+    PerlinNoiseDataContainerBuilder builder;
+    // Column and row positions are the same in every frame, only the time coordinate moves
+    if (isCircular) {
+      var widthCircle = CircularAxis.of(sliceWidth, this.widthStepSize);
+      this.widthAxis = widthCircle.getCosAxis();
+      this.widthCircleAxis = widthCircle.getSinAxis();
+      var heightCircle = CircularAxis.of(sliceHeight, this.heightStepSize);
+      this.heightAxis = heightCircle.getCosAxis();
+      this.heightCircleAxis = heightCircle.getSinAxis();
+      builder = new PerlinNoiseDataContainerBuilder(5, randomSeed, jitterStrategy);
+    } else {
+      var widthCoordinates = new double[sliceWidth];
+      for (var i = 0; i < sliceWidth; i++) {
+        widthCoordinates[i] = i * this.widthStepSize;
+      }
+      var heightCoordinates = new double[sliceHeight];
+      for (var j = 0; j < sliceHeight; j++) {
+        heightCoordinates[j] = j * this.heightStepSize;
+      }
+      this.widthAxis = new LatticeAxis(widthCoordinates);
+      this.widthCircleAxis = null;
+      this.heightAxis = new LatticeAxis(heightCoordinates);
+      this.heightCircleAxis = null;
+      builder = new PerlinNoiseDataContainerBuilder(3, randomSeed, jitterStrategy);
+    }
+    perlinData = builder.createNewContainer();
+    this.recycler = new ContainerRecycler<>(builder);
+    LOGGER.debug("Create new {}", this);
+  }
+
+  public double getWidthStepSize() {
+    return widthStepSize;
+  }
+
+  public double getHeightStepSize() {
+    return heightStepSize;
+  }
+
+  protected LatticeAxis getWidthAxis() {
+    return widthAxis;
+  }
+
+  // Null unless the slice is circular
+  protected LatticeAxis getWidthCircleAxis() {
+    return widthCircleAxis;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    if (!super.equals(o)) return false;
+    SliceRootGenerator<?, ?> that = (SliceRootGenerator<?, ?>) o;
+    return widthStepSize == that.widthStepSize
+        && heightStepSize == that.heightStepSize
+        && sliceWidth == that.sliceWidth
+        && sliceHeight == that.sliceHeight;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), widthStepSize, heightStepSize, sliceWidth, sliceHeight);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + "{"
+        + "timeStepSize="
+        + getTimeStepSize()
+        + ", widthStepSize="
+        + widthStepSize
+        + ", heightStepSize="
+        + heightStepSize
+        + ", sliceWidth="
+        + sliceWidth
+        + ", sliceHeight="
+        + sliceHeight
+        + ", maxAmplitude="
+        + getMaxAmplitude()
+        + ", randomSeed="
+        + randomSeed
+        + ", isCircular="
+        + isCircular()
+        + '}';
+  }
+
+  @Override
+  public int getDimensions() {
+    return 3;
+  }
+
+  @Override
+  public int getTotalSize() {
+    return sliceWidth * sliceHeight;
+  }
+
+  @Override
+  public int getSliceWidth() {
+    return sliceWidth;
+  }
+
+  @Override
+  public int getSliceHeight() {
+    return sliceHeight;
+  }
+
+  @Override
+  protected C generateNextSegment(
+      long timeIndex, C container, CancellationToken cancellationToken) {
+    processNoiseDomain(timeIndex, container, cancellationToken, perlinData);
+    if (cancellationToken.isCancelled()) {
+      throw new IncompleteFrameException("Slice generation cancelled at time index " + timeIndex);
+    }
+    return container;
+  }
+
+  @Override
+  protected C generateSegmentAt(long timeIndex, C container) {
+    PerlinNoiseDataContainer dataContainer = recycler.getNewOrNextAvailableContainer();
+    processNoiseDomain(timeIndex, container, NOT_CANCELLABLE, dataContainer);
+    recycler.recycleContainer(dataContainer);
+    return container;
+  }
+
+  // Fused layered evaluation: the layered generator walks the columns itself and reads every
+  // layer's raw noise into its own frame, then moves all layers to the next time index together
+  double getNextTimeCoordinate() {
+    return (getTimeIndex() + 1) * getTimeStepSize();
+  }
+
+  void completeFusedFrame() {
+    completeFrame();
+  }
+
+  PerlinNoiseDataContainer acquireDataContainer() {
+    return recycler.getNewOrNextAvailableContainer();
+  }
+
+  void releaseDataContainer(PerlinNoiseDataContainer dataContainer) {
+    recycler.recycleContainer(dataContainer);
+  }
+
+  // Noise in [0, 1] before amplitude, the time coordinate is already set on dataContainer
+  void evaluateColumnInto(
+      PerlinNoiseDataContainer dataContainer,
+      int widthIndex,
+      int from,
+      int to,
+      double[] results,
+      int offset) {
+    dataContainer.setCoordinatesForDimension(1, widthAxis.getCoordinate(widthIndex));
+    if (isCircular()) {
+      dataContainer.setCoordinatesForDimension(2, widthCircleAxis.getCoordinate(widthIndex));
+      PerlinNoise.getForLastTwoAxes(
+          dataContainer, heightAxis, heightCircleAxis, from, to, results, offset);
+    } else {
+      PerlinNoise.getForLastAxis(dataContainer, heightAxis, from, to, results, offset);
+    }
+  }
+
+  // Evaluates [from, to) of the column at widthIndex, the second axis is null unless the slice is
+  // circular
+  protected abstract void evaluateColumnSegment(
+      PerlinNoiseDataContainer container,
+      LatticeAxis heightAxis,
+      LatticeAxis heightCircleAxis,
+      int from,
+      int to,
+      C slice,
+      int widthIndex);
+
+  // Frames are at time index + 1 along the time axis. Only the serial path uses the provided data
+  // container, forked tasks take theirs from the recycler.
+  private void processNoiseDomain(
+      long timeIndex,
+      C slice,
+      CancellationToken cancellationToken,
+      PerlinNoiseDataContainer dataContainer) {
+    double timeDist = (double) (timeIndex + 1) * getTimeStepSize();
+    if (hasParallelProcessingEnabled()) {
+      getExecutionPool()
+          .invoke(
+              new SliceNoiseTask(
+                  slice, timeDist, 0, sliceWidth, 0, sliceHeight, cancellationToken));
+      forkThreshold().update();
+    } else {
+      dataContainer.setCoordinatesForDimension(0, timeDist);
+      for (var widthIndex = 0; widthIndex < sliceWidth; widthIndex++) {
+        if (cancellationToken.isCancelled()) {
+          return;
+        }
+        processSliceWidthDomain(widthIndex, 0, sliceHeight, slice, dataContainer);
+      }
+    }
+  }
+
+  private void processSliceWidthDomain(
+      int widthIndex,
+      int heightStartIndex,
+      int heightEndIndex,
+      C slice,
+      PerlinNoiseDataContainer dataContainer) {
+    dataContainer.setCoordinatesForDimension(1, widthAxis.getCoordinate(widthIndex));
+    if (isCircular()) {
+      dataContainer.setCoordinatesForDimension(2, widthCircleAxis.getCoordinate(widthIndex));
+    }
+    evaluateColumnSegment(
+        dataContainer,
+        heightAxis,
+        heightCircleAxis,
+        heightStartIndex,
+        heightEndIndex,
+        slice,
+        widthIndex);
+  }
+
+  private class SliceNoiseTask extends RecursiveAction {
+
+    private final C results;
+    private final double timeDistance;
+    private final int startWidthIndex;
+    private final int endWidthIndex;
+    private final int startHeightIndex;
+    private final int endHeightIndex;
+    private final CancellationToken cancellationToken;
+
+    SliceNoiseTask(
+        C results,
+        double timeDistance,
+        int startWidthIndex,
+        int endWidthIndex,
+        int startHeightIndex,
+        int endHeightIndex,
+        CancellationToken cancellationToken) {
+      this.results = results;
+      this.timeDistance = timeDistance;
+      this.startWidthIndex = startWidthIndex;
+      this.endWidthIndex = endWidthIndex;
+      this.startHeightIndex = startHeightIndex;
+      this.endHeightIndex = endHeightIndex;
+      this.cancellationToken = cancellationToken;
+    }
+
+    private void computeDirectly() {
+      var start = System.nanoTime();
+      PerlinNoiseDataContainer dataContainer = recycler.getNewOrNextAvailableContainer();
+      dataContainer.setCoordinatesForDimension(0, timeDistance);
+      for (var widthIndex = startWidthIndex; widthIndex < endWidthIndex; widthIndex++) {
+        if (cancellationToken.isCancelled()) {
+          break;
+        }
+        processSliceWidthDomain(
+            widthIndex, startHeightIndex, endHeightIndex, results, dataContainer);
+      }
+      recycler.recycleContainer(dataContainer);
+      forkThreshold()
+          .record(
+              (long) (endWidthIndex - startWidthIndex) * (endHeightIndex - startHeightIndex),
+              System.nanoTime() - start);
+    }
+
+    @Override
+    protected void compute() {
+      var widthSegment = endWidthIndex - startWidthIndex;
+      var heightSegment = endHeightIndex - startHeightIndex;
+      if ((widthSegment < 2 && heightSegment < 2)
+          || widthSegment * heightSegment < forkThreshold().get()) {
+        computeDirectly();
+        return;
+      }
+
+      int splitWidthIndex = (widthSegment / 2) + startWidthIndex;
+      int splitHeightIndex = (heightSegment / 2) + startHeightIndex;
+
+      invokeAll(
+          new SliceNoiseTask(
+              results,
+              timeDistance,
+              startWidthIndex,
+              splitWidthIndex,
+              startHeightIndex,
+              splitHeightIndex,
+              cancellationToken),
+          new SliceNoiseTask(
+              results,
+              timeDistance,
+              splitWidthIndex,
+              endWidthIndex,
+              startHeightIndex,
+              splitHeightIndex,
+              cancellationToken),
+          new SliceNoiseTask(
+              results,
+              timeDistance,
+              startWidthIndex,
+              splitWidthIndex,
+              splitHeightIndex,
+              endHeightIndex,
+              cancellationToken),
+          new SliceNoiseTask(
+              results,
+              timeDistance,
+              splitWidthIndex,
+              endWidthIndex,
+              splitHeightIndex,
+              endHeightIndex,
+              cancellationToken));
+    }
+  }
+}
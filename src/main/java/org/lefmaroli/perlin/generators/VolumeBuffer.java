@@ -0,0 +1,84 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.Objects;
+
+// Volume values in a single array of contiguous depth slabs, the value at (widthIndex,
+// heightIndex, depthIndex) is stored at
+// getData()[depthIndex * getSlabStride() + widthIndex * getStride() + heightIndex]
+public final class VolumeBuffer {
+
+  private final int width;
+  private final int height;
+  private final int depth;
+  private final int stride;
+  private final int slabStride;
+  private final double[] data;
+
+  VolumeBuffer(int width, int height, int depth) {
+    this.width = width;
+    this.height = height;
+    this.depth = depth;
+    this.stride = height;
+    this.slabStride = width * stride;
+    this.data = new double[depth * slabStride];
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public int getDepth() {
+    return depth;
+  }
+
+  public int getStride() {
+    return stride;
+  }
+
+  public int getSlabStride() {
+    return slabStride;
+  }
+
+  public double[] getData() {
+    return data;
+  }
+
+  public double get(int widthIndex, int heightIndex, int depthIndex) {
+    Objects.checkIndex(widthIndex, width);
+    Objects.checkIndex(heightIndex, height);
+    Objects.checkIndex(depthIndex, depth);
+    return data[depthIndex * slabStride + widthIndex * stride + heightIndex];
+  }
+
+  // Copies the slab at depthIndex, indexed as [widthIndex][heightIndex]
+  public void copySlabTo(int depthIndex, double[][] destination) {
+    Objects.checkIndex(depthIndex, depth);
+    if (destination.length != width) {
+      throw new IllegalArgumentException(
+          "Destination width " + destination.length + " does not match volume width " + width);
+    }
+    for (var i = 0; i < width; i++) {
+      if (destination[i].length != height) {
+        throw new IllegalArgumentException(
+            "Destination height "
+                + destination[i].length
+                + " does not match volume height "
+                + height);
+      }
+      System.arraycopy(data, depthIndex * slabStride + i * stride, destination[i], 0, height);
+    }
+  }
+
+  // Indexed as [depthIndex][widthIndex][heightIndex]
+  public double[][][] toArray() {
+    var copy = new double[depth][width][height];
+    for (var k = 0; k < depth; k++) {
+      copySlabTo(k, copy[k]);
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,11 @@
+package org.lefmaroli.perlin.generators;
+
+public interface VolumeGenerator
+    extends IRootGenerator<VolumeBuffer>, IMultiDimensionalGenerator, IVolumeGeneratorDimension {
+
+  double getWidthStepSize();
+
+  double getHeightStepSize();
+
+  double getDepthStepSize();
+}
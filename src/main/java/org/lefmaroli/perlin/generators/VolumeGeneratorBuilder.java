@@ -0,0 +1,156 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.concurrent.ForkJoinPool;
+import org.lefmaroli.perlin.LatticeAxis;
+import org.lefmaroli.perlin.PerlinNoise;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+public class VolumeGeneratorBuilder
+    extends MultiDimensionalBuilder<VolumeBuffer, VolumeGenerator, VolumeGeneratorBuilder> {
+
+  private final int volumeWidth;
+  private final int volumeHeight;
+  private final int volumeDepth;
+
+  public VolumeGeneratorBuilder(int volumeWidth, int volumeHeight, int volumeDepth) {
+    super(4);
+    assertValidVolumeDimension(volumeWidth, volumeHeight, volumeDepth);
+    this.volumeWidth = volumeWidth;
+    this.volumeHeight = volumeHeight;
+    this.volumeDepth = volumeDepth;
+  }
+
+  private static void assertValidVolumeDimension(
+      int volumeWidth, int volumeHeight, int volumeDepth) {
+    if (volumeWidth < 1) {
+      throw new IllegalArgumentException(
+          "Volume width must be greater than 0, provided: " + volumeWidth);
+    }
+    if (volumeHeight < 1) {
+      throw new IllegalArgumentException(
+          "Volume height must be greater than 0, provided: " + volumeHeight);
+    }
+    if (volumeDepth < 1) {
+      throw new IllegalArgumentException(
+          "Volume depth must be greater than 0, provided: " + volumeDepth);
+    }
+    if ((long) volumeWidth * volumeHeight * volumeDepth > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Volume of "
+              + volumeWidth
+              + "x"
+              + volumeHeight
+              + "x"
+              + volumeDepth
+              + " does not fit in a single buffer");
+    }
+  }
+
+  @Override
+  public VolumeGenerator build() {
+    return (VolumeGenerator) super.build();
+  }
+
+  public VolumeGeneratorBuilder withWidthStepSize(double stepSize) throws StepSizeException {
+    setStepSizeForDimension(stepSize, 1);
+    return this;
+  }
+
+  public VolumeGeneratorBuilder withHeightStepSize(double stepSize) throws StepSizeException {
+    setStepSizeForDimension(stepSize, 2);
+    return this;
+  }
+
+  public VolumeGeneratorBuilder withDepthStepSize(double stepSize) throws StepSizeException {
+    setStepSizeForDimension(stepSize, 3);
+    return this;
+  }
+
+  @Override
+  protected VolumeGeneratorBuilder self() {
+    return this;
+  }
+
+  @Override
+  protected IGenerator<VolumeBuffer> buildNoiseGenerator(
+      double[] stepSizes, double amplitude, long randomSeed, JitterStrategy jitterStrategy) {
+    return new VolumeGeneratorImpl(
+        stepSizes[0],
+        stepSizes[1],
+        stepSizes[2],
+        stepSizes[3],
+        volumeWidth,
+        volumeHeight,
+        volumeDepth,
+        amplitude,
+        randomSeed,
+        isCircular(),
+        getPool(),
+        jitterStrategy);
+  }
+
+  private static class VolumeGeneratorImpl extends VolumeRootGenerator<VolumeBuffer, VolumeBuffer>
+      implements VolumeGenerator {
+
+    VolumeGeneratorImpl(
+        double timeStepSize,
+        double widthStepSize,
+        double heightStepSize,
+        double depthStepSize,
+        int volumeWidth,
+        int volumeHeight,
+        int volumeDepth,
+        double maxAmplitude,
+        long randomSeed,
+        boolean isCircular,
+        ForkJoinPool pool,
+        JitterStrategy jitterStrategy) {
+      super(
+          timeStepSize,
+          widthStepSize,
+          heightStepSize,
+          depthStepSize,
+          volumeWidth,
+          volumeHeight,
+          volumeDepth,
+          maxAmplitude,
+          randomSeed,
+          isCircular,
+          pool,
+          jitterStrategy);
+    }
+
+    @Override
+    protected VolumeBuffer getNewContainer() {
+      return new VolumeBuffer(getVolumeWidth(), getVolumeHeight(), getVolumeDepth());
+    }
+
+    @Override
+    protected VolumeBuffer toFrame(VolumeBuffer container) {
+      return container;
+    }
+
+    @Override
+    protected void evaluateColumn(
+        PerlinNoiseDataContainer container,
+        LatticeAxis heightAxis,
+        LatticeAxis heightCircleAxis,
+        VolumeBuffer volume,
+        int widthIndex,
+        int depthIndex) {
+      double[] data = volume.getData();
+      int offset = depthIndex * volume.getSlabStride() + widthIndex * volume.getStride();
+      int height = volume.getHeight();
+      if (isCircular()) {
+        PerlinNoise.getForLastTwoAxes(
+            container, heightAxis, heightCircleAxis, 0, height, data, offset);
+      } else {
+        PerlinNoise.getForLastAxis(container, heightAxis, 0, height, data, offset);
+      }
+      for (var i = offset; i < offset + height; i++) {
+        data[i] *= getMaxAmplitude();
+      }
+    }
+  }
+}
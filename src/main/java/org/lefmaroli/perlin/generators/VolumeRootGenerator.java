@@ -0,0 +1,351 @@
+package org.lefmaroli.perlin.generators;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lefmaroli.perlin.ContainerRecycler;
+import org.lefmaroli.perlin.LatticeAxis;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainerBuilder;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+// Noise coordinates are ordered time, depth, width and height so that columns along the height
+// axis are evaluated in a single pass. Circular volumes wrap along their height axis only, going
+// around a circle takes two coordinates and the noise has no dimension left for the other axes.
+abstract class VolumeRootGenerator<C, N> extends MultiDimensionalRootGenerator<C, N>
+    implements IVolumeGeneratorDimension {
+
+  private static final Logger LOGGER = LogManager.getLogger(VolumeRootGenerator.class);
+
+  private static final List<String> parameterNames =
+      List.of(
+          "Width step size",
+          "Volume width",
+          "Height step size",
+          "Volume height",
+          "Depth step size",
+          "Volume depth");
+  private final double widthStepSize;
+  private final LatticeAxis widthAxis;
+  private final double heightStepSize;
+  private final LatticeAxis heightAxis;
+  private final LatticeAxis heightCircleAxis;
+  private final double depthStepSize;
+  private final LatticeAxis depthAxis;
+  private final int volumeWidth;
+  private final int volumeHeight;
+  private final int volumeDepth;
+  private final PerlinNoiseDataContainer perlinData;
+  private final ContainerRecycler<PerlinNoiseDataContainer> recycler;
+
+  protected VolumeRootGenerator(
+      double timeStepSize,
+      double widthStepSize,
+      double heightStepSize,
+      double depthStepSize,
+      int volumeWidth,
+      int volumeHeight,
+      int volumeDepth,
+      double maxAmplitude,
+      long randomSeed,
+      boolean isCircular,
+      ForkJoinPool pool,
+      JitterStrategy jitterStrategy) {
+    super(timeStepSize, maxAmplitude, randomSeed, isCircular, pool);
+    assertValidValues(
+        parameterNames,
+        widthStepSize,
+        volumeWidth,
+        heightStepSize,
+        volumeHeight,
+        depthStepSize,
+        volumeDepth);
+    this.widthStepSize = widthStepSize;
+    this.heightStepSize =
+        correctStepSizeForCircularity(heightStepSize, volumeHeight, "volume height");
+    this.depthStepSize = depthStepSize;
+    this.volumeWidth = volumeWidth;
+    this.volumeHeight = volumeHeight;
+    this.volumeDepth = volumeDepth;
+    this.widthAxis = createAxis(volumeWidth, this.widthStepSize);
+    this.depthAxis = createAxis(volumeDepth, this.depthStepSize);
+    PerlinNoiseDataContainerBuilder builder;
+    if (isCircular) {
+      var heightCircle = CircularAxis.of(volumeHeight, this.heightStepSize);
+      this.heightAxis = heightCircle.getCosAxis();
+      this.heightCircleAxis = heightCircle.getSinAxis();
+      builder = new PerlinNoiseDataContainerBuilder(5, randomSeed, jitterStrategy);
+    } else {
+      this.heightAxis = createAxis(volumeHeight, this.heightStepSize);
+      this.heightCircleAxis = null;
+      builder = new PerlinNoiseDataContainerBuilder(4, randomSeed, jitterStrategy);
+    }
+    perlinData = builder.createNewContainer();
+    this.recycler = new ContainerRecycler<>(builder);
+    LOGGER.debug("Create new {}", this);
+  }
+
+  private static LatticeAxis createAxis(int length, double stepSize) {
+    var coordinates = new double[length];
+    for (var i = 0; i < length; i++) {
+      coordinates[i] = i * stepSize;
+    }
+    return new LatticeAxis(coordinates);
+  }
+
+  public double getWidthStepSize() {
+    return widthStepSize;
+  }
+
+  public double getHeightStepSize() {
+    return heightStepSize;
+  }
+
+  public double getDepthStepSize() {
+    return depthStepSize;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    if (!super.equals(o)) return false;
+    VolumeRootGenerator<?, ?> that = (VolumeRootGenerator<?, ?>) o;
+    return widthStepSize == that.widthStepSize
+        && heightStepSize == that.heightStepSize
+        && depthStepSize == that.depthStepSize
+        && volumeWidth == that.volumeWidth
+        && volumeHeight == that.volumeHeight
+        && volumeDepth == that.volumeDepth;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        super.hashCode(),
+        widthStepSize,
+        heightStepSize,
+        depthStepSize,
+        volumeWidth,
+        volumeHeight,
+        volumeDepth);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + "{"
+        + "timeStepSize="
+        + getTimeStepSize()
+        + ", widthStepSize="
+        + widthStepSize
+        + ", heightStepSize="
+        + heightStepSize
+        + ", depthStepSize="
+        + depthStepSize
+        + ", volumeWidth="
+        + volumeWidth
+        + ", volumeHeight="
+        + volumeHeight
+        + ", volumeDepth="
+        + volumeDepth
+        + ", maxAmplitude="
+        + getMaxAmplitude()
+        + ", randomSeed="
+        + randomSeed
+        + ", isCircular="
+        + isCircular()
+        + '}';
+  }
+
+  @Override
+  public int getDimensions() {
+    return 4;
+  }
+
+  @Override
+  public int getTotalSize() {
+    return volumeWidth * volumeHeight * volumeDepth;
+  }
+
+  @Override
+  public int getVolumeWidth() {
+    return volumeWidth;
+  }
+
+  @Override
+  public int getVolumeHeight() {
+    return volumeHeight;
+  }
+
+  @Override
+  public int getVolumeDepth() {
+    return volumeDepth;
+  }
+
+  @Override
+  protected C generateNextSegment(
+      long timeIndex, C container, CancellationToken cancellationToken) {
+    processNoiseDomain(timeIndex, container, cancellationToken, perlinData);
+    if (cancellationToken.isCancelled()) {
+      throw new IncompleteFrameException("Volume generation cancelled at time index " + timeIndex);
+    }
+    return container;
+  }
+
+  @Override
+  protected C generateSegmentAt(long timeIndex, C container) {
+    PerlinNoiseDataContainer dataContainer = recycler.getNewOrNextAvailableContainer();
+    processNoiseDomain(timeIndex, container, NOT_CANCELLABLE, dataContainer);
+    recycler.recycleContainer(dataContainer);
+    return container;
+  }
+
+  // Evaluates the whole column at (widthIndex, depthIndex), the second axis is null unless the
+  // volume is circular
+  protected abstract void evaluateColumn(
+      PerlinNoiseDataContainer container,
+      LatticeAxis heightAxis,
+      LatticeAxis heightCircleAxis,
+      C volume,
+      int widthIndex,
+      int depthIndex);
+
+  private void processNoiseDomain(
+      long timeIndex,
+      C volume,
+      CancellationToken cancellationToken,
+      PerlinNoiseDataContainer dataContainer) {
+    double timeDist = (double) (timeIndex + 1) * getTimeStepSize();
+    if (hasParallelProcessingEnabled()) {
+      getExecutionPool()
+          .invoke(
+              new VolumeNoiseTask(
+                  volume, timeDist, 0, volumeDepth, 0, volumeWidth, cancellationToken));
+      forkThreshold().update();
+    } else {
+      dataContainer.setCoordinatesForDimension(0, timeDist);
+      for (var depthIndex = 0; depthIndex < volumeDepth; depthIndex++) {
+        if (cancellationToken.isCancelled()) {
+          return;
+        }
+        processSlabDomain(depthIndex, 0, volumeWidth, volume, dataContainer);
+      }
+    }
+  }
+
+  private void processSlabDomain(
+      int depthIndex,
+      int widthStartIndex,
+      int widthEndIndex,
+      C volume,
+      PerlinNoiseDataContainer dataContainer) {
+    dataContainer.setCoordinatesForDimension(1, depthAxis.getCoordinate(depthIndex));
+    for (var widthIndex = widthStartIndex; widthIndex < widthEndIndex; widthIndex++) {
+      dataContainer.setCoordinatesForDimension(2, widthAxis.getCoordinate(widthIndex));
+      evaluateColumn(dataContainer, heightAxis, heightCircleAxis, volume, widthIndex, depthIndex);
+    }
+  }
+
+  // Splits the volume in depth slabs, a single slab still above the threshold is split along its
+  // width
+  private class VolumeNoiseTask extends RecursiveAction {
+
+    private final C results;
+    private final double timeDistance;
+    private final int startDepthIndex;
+    private final int endDepthIndex;
+    private final int startWidthIndex;
+    private final int endWidthIndex;
+    private final CancellationToken cancellationToken;
+
+    VolumeNoiseTask(
+        C results,
+        double timeDistance,
+        int startDepthIndex,
+        int endDepthIndex,
+        int startWidthIndex,
+        int endWidthIndex,
+        CancellationToken cancellationToken) {
+      this.results = results;
+      this.timeDistance = timeDistance;
+      this.startDepthIndex = startDepthIndex;
+      this.endDepthIndex = endDepthIndex;
+      this.startWidthIndex = startWidthIndex;
+      this.endWidthIndex = endWidthIndex;
+      this.cancellationToken = cancellationToken;
+    }
+
+    private void computeDirectly() {
+      var start = System.nanoTime();
+      PerlinNoiseDataContainer dataContainer = recycler.getNewOrNextAvailableContainer();
+      dataContainer.setCoordinatesForDimension(0, timeDistance);
+      for (var depthIndex = startDepthIndex; depthIndex < endDepthIndex; depthIndex++) {
+        if (cancellationToken.isCancelled()) {
+          break;
+        }
+        processSlabDomain(depthIndex, startWidthIndex, endWidthIndex, results, dataContainer);
+      }
+      recycler.recycleContainer(dataContainer);
+      forkThreshold().record(getSamples(), System.nanoTime() - start);
+    }
+
+    private long getSamples() {
+      return (long) (endDepthIndex - startDepthIndex)
+          * (endWidthIndex - startWidthIndex)
+          * volumeHeight;
+    }
+
+    @Override
+    protected void compute() {
+      var depthSegment = endDepthIndex - startDepthIndex;
+      var widthSegment = endWidthIndex - startWidthIndex;
+      if ((depthSegment < 2 && widthSegment < 2) || getSamples() < forkThreshold().get()) {
+        computeDirectly();
+        return;
+      }
+      if (depthSegment >= 2) {
+        int splitDepthIndex = (depthSegment / 2) + startDepthIndex;
+        invokeAll(
+            new VolumeNoiseTask(
+                results,
+                timeDistance,
+                startDepthIndex,
+                splitDepthIndex,
+                startWidthIndex,
+                endWidthIndex,
+                cancellationToken),
+            new VolumeNoiseTask(
+                results,
+                timeDistance,
+                splitDepthIndex,
+                endDepthIndex,
+                startWidthIndex,
+                endWidthIndex,
+                cancellationToken));
+      } else {
+        int splitWidthIndex = (widthSegment / 2) + startWidthIndex;
+        invokeAll(
+            new VolumeNoiseTask(
+                results,
+                timeDistance,
+                startDepthIndex,
+                endDepthIndex,
+                startWidthIndex,
+                splitWidthIndex,
+                cancellationToken),
+            new VolumeNoiseTask(
+                results,
+                timeDistance,
+                startDepthIndex,
+                endDepthIndex,
+                splitWidthIndex,
+                endWidthIndex,
+                cancellationToken));
+      }
+    }
+  }
+}
@@ -1,20 +1,22 @@
 package org.lefmaroli.random;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Random;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
 import org.lefmaroli.vector.DimensionalVector;
 import org.lefmaroli.vector.VectorFactory;
 
 public class RandomGenerator {
 
   public static final int NUMBER_OF_TEMPLATES = 10000;
-  private static final Map<Integer, DimensionalVector[]> UNIT_VECTORS_TEMPLATES_MULTI_D =
-      new HashMap<>(5);
+  // Templates are shared by every generator, so they come from a fixed seed to stay identical
+  // from one run to the next whatever generator asks for them first
+  private static final long TEMPLATES_SEED = 0x5DEECE66DL;
+  private static final Map<Integer, double[]> UNIT_VECTORS_TEMPLATES_MULTI_D =
+      new ConcurrentHashMap<>(5);
 
   private final Random basicRandGenerator;
-  private final Function<Integer, DimensionalVector[]> integerFunction;
 
   RandomGenerator() {
     this(System.currentTimeMillis());
@@ -22,42 +24,71 @@ public class RandomGenerator {
 
   public RandomGenerator(long seed) {
     this.basicRandGenerator = new Random(seed);
-    integerFunction =
-        dim -> {
-          var v = new DimensionalVector[NUMBER_OF_TEMPLATES];
-          generateMultiDSamples(basicRandGenerator, dim, v);
-          return v;
-        };
+  }
+
+  private static double[] generateTemplates(int dimensions) {
+    var templates = new double[NUMBER_OF_TEMPLATES * dimensions];
+    generateMultiDSamples(new Random(TEMPLATES_SEED + dimensions), dimensions, templates);
+    return templates;
   }
 
   private static void generateMultiDSamples(
-      Random randomGenerator, int dimensions, DimensionalVector[] templates) {
+      Random randomGenerator, int dimensions, double[] templates) {
     var lengthLimit = 1E-4;
     var max = 1.0;
     var min = -1.0;
+    var coordinates = new double[dimensions];
     for (var i = 0; i < NUMBER_OF_TEMPLATES; i++) {
       if (dimensions == 1) {
-        double value = randomGenerator.nextDouble() * (max - min) + min;
-        templates[i] = VectorFactory.getVectorForCoordinates(value);
+        templates[i] = randomGenerator.nextDouble() * (max - min) + min;
       } else {
-        DimensionalVector vectorMultiD;
         double length;
-        var coordinates = new double[dimensions];
         do {
           for (var j = 0; j < dimensions; j++) {
             coordinates[j] = randomGenerator.nextDouble() * (max - min + 1) + min;
           }
-          vectorMultiD = VectorFactory.getVectorForCoordinates(coordinates);
-          length = vectorMultiD.getLength();
+          length = getLength(coordinates);
         } while (length < lengthLimit);
-        templates[i] = vectorMultiD.normalize();
+        normalize(coordinates, length);
+        System.arraycopy(coordinates, 0, templates, i * dimensions, dimensions);
+      }
+    }
+  }
+
+  private static void normalize(double[] coordinates, double length) {
+    while (Math.abs(length - 1.0) >= 1E-10) {
+      for (var j = 0; j < coordinates.length; j++) {
+        coordinates[j] /= length;
       }
+      length = getLength(coordinates);
     }
   }
 
+  private static double getLength(double[] coordinates) {
+    var sum = 0.0;
+    for (double coordinate : coordinates) {
+      sum += coordinate * coordinate;
+    }
+    return Math.sqrt(sum);
+  }
+
   public DimensionalVector getRandomUnitVectorOfDim(int dimension) {
-    UNIT_VECTORS_TEMPLATES_MULTI_D.computeIfAbsent(dimension, integerFunction);
-    var rand = basicRandGenerator.nextInt(NUMBER_OF_TEMPLATES);
-    return UNIT_VECTORS_TEMPLATES_MULTI_D.get(dimension)[rand];
+    double[] templates = getTemplates(dimension);
+    var offset = getRandomTemplateIndex() * dimension;
+    return VectorFactory.getVectorForCoordinates(
+        Arrays.copyOfRange(templates, offset, offset + dimension));
+  }
+
+  public double[] getUnitVectorTemplatesOfDim(int dimension) {
+    return getTemplates(dimension).clone();
+  }
+
+  public int getRandomTemplateIndex() {
+    return basicRandGenerator.nextInt(NUMBER_OF_TEMPLATES);
+  }
+
+  private static double[] getTemplates(int dimension) {
+    return UNIT_VECTORS_TEMPLATES_MULTI_D.computeIfAbsent(
+        dimension, RandomGenerator::generateTemplates);
   }
 }
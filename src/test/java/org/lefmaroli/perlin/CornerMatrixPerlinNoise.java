@@ -0,0 +1,61 @@
+package org.lefmaroli.perlin;
+
+import org.lefmaroli.interpolation.CornerMatrix;
+import org.lefmaroli.interpolation.CornerMatrixFactory;
+import org.lefmaroli.interpolation.Interpolation;
+import org.lefmaroli.perlin.bounds.BoundGrid;
+
+/** Recursive corner matrix evaluation used as a reference for the unrolled kernels. */
+class CornerMatrixPerlinNoise {
+
+  private static final double MAX_VALUE_VECTOR_PRODUCT = Math.sqrt(2.0) / 2.0;
+  private final BoundGrid bounds;
+  private final int firstDimensionOffset;
+  private final int dimension;
+  private final CornerMatrix cornerMatrix;
+  private final double[] distancesArray;
+  private final int[] indexIntegerParts;
+  private final int[] indicesArray;
+  private final double[] cornerDistanceArray;
+
+  CornerMatrixPerlinNoise(BoundGrid bounds, int firstDimensionOffset) {
+    this.bounds = bounds;
+    this.firstDimensionOffset = firstDimensionOffset;
+    this.dimension = bounds.getDimension();
+    this.cornerMatrix = CornerMatrixFactory.getForDimension(dimension);
+    this.distancesArray = new double[dimension];
+    this.indexIntegerParts = new int[dimension];
+    this.indicesArray = new int[dimension];
+    this.cornerDistanceArray = new double[dimension];
+  }
+
+  double getFor(double... coordinates) {
+    var firstDimIntPart = (int) coordinates[0];
+    distancesArray[0] = coordinates[0] - firstDimIntPart;
+    indexIntegerParts[0] = (firstDimIntPart + firstDimensionOffset) % bounds.getNumberOfBounds();
+    for (var i = 1; i < dimension; i++) {
+      indexIntegerParts[i] = (int) coordinates[i];
+      distancesArray[i] = coordinates[i] - indexIntegerParts[i];
+    }
+    populateCornerMatrix(dimension);
+    double interpolated = Interpolation.linearWithFade(cornerMatrix, distancesArray);
+    if (dimension == 1) {
+      return interpolated + 0.5;
+    }
+    return ((interpolated / MAX_VALUE_VECTOR_PRODUCT) + 1.0) / 2.0;
+  }
+
+  private void populateCornerMatrix(int currentDimension) {
+    for (var i = 0; i < 2; i++) {
+      indicesArray[currentDimension - 1] = i;
+      cornerDistanceArray[currentDimension - 1] = distancesArray[currentDimension - 1] - i;
+      if (currentDimension == 1) {
+        cornerMatrix.setValueAtIndices(
+            bounds.getVectorProduct(indexIntegerParts, indicesArray, cornerDistanceArray),
+            indicesArray);
+      } else {
+        populateCornerMatrix(currentDimension - 1);
+      }
+    }
+  }
+}
@@ -0,0 +1,270 @@
+package org.lefmaroli.perlin;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.lefmaroli.perlin.bounds.BoundGrid;
+import org.lefmaroli.perlin.bounds.BoundGridFactory;
+
+class PerlinKernelTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 4, 5})
+  void testSameValuesAsCornerMatrixInterpolation(int dimension) {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(dimension, 16);
+    int firstDimensionOffset = 12345;
+    PerlinKernel kernel = PerlinKernel.forDimension(dimension, bounds, firstDimensionOffset);
+    CornerMatrixPerlinNoise reference = new CornerMatrixPerlinNoise(bounds, firstDimensionOffset);
+    Random random = new Random(0L);
+    double[] coordinates = new double[dimension];
+    for (int i = 0; i < 10000; i++) {
+      for (int j = 0; j < dimension; j++) {
+        coordinates[j] = random.nextDouble() * 100;
+      }
+      assertEquals(reference.getFor(coordinates), kernel.evaluate(coordinates), 1E-15);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 4, 5})
+  void testDerivativesMatchFiniteDifferences(int dimension) {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(dimension, 16);
+    PerlinKernel kernel = PerlinKernel.forDimension(dimension, bounds, 12345);
+    Random random = new Random(0L);
+    double[] coordinates = new double[dimension];
+    double[] derivatives = new double[dimension];
+    double step = 1E-6;
+    for (int i = 0; i < 1000; i++) {
+      for (int j = 0; j < dimension; j++) {
+        coordinates[j] = random.nextDouble() * 100;
+      }
+      double value = kernel.evaluate(coordinates, derivatives);
+      assertEquals(kernel.evaluate(coordinates), value, 0.0);
+      for (int j = 0; j < dimension; j++) {
+        double[] shifted = coordinates.clone();
+        shifted[j] += step;
+        double forward = kernel.evaluate(shifted);
+        shifted[j] -= 2 * step;
+        double backward = kernel.evaluate(shifted);
+        assertEquals((forward - backward) / (2 * step), derivatives[j], 1E-5);
+      }
+    }
+  }
+
+  @Test
+  void testFadeDerivative() {
+    assertEquals(0.0, PerlinKernel.fadeDerivative(0.0), 0.0);
+    assertEquals(1.875, PerlinKernel.fadeDerivative(0.5), 1E-15);
+    assertEquals(0.0, PerlinKernel.fadeDerivative(1.0), 0.0);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 4, 5})
+  void testAlongLastAxisSameAsSinglePoints(int dimension) {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(dimension, 16);
+    PerlinKernel kernel = PerlinKernel.forDimension(dimension, bounds, 12345);
+    Random random = new Random(0L);
+    double[] coordinates = new double[dimension];
+    for (int j = 0; j < dimension; j++) {
+      coordinates[j] = random.nextDouble() * 100;
+    }
+    double[] lastAxis = new double[1000];
+    for (int i = 0; i < lastAxis.length; i++) {
+      lastAxis[i] = random.nextDouble() * 100;
+    }
+    double[] results = new double[lastAxis.length + 3];
+    kernel.evaluateAlongLastAxis(coordinates, () -> {}, lastAxis, results, 3, 10, 990);
+    for (int i = 10; i < 990; i++) {
+      coordinates[dimension - 1] = lastAxis[i];
+      assertEquals(kernel.evaluate(coordinates), results[i + 3], 0.0);
+    }
+    assertEquals(0.0, results[12], 0.0);
+    assertEquals(0.0, results[993], 0.0);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 4, 5})
+  void testAlongLastTwoAxesSameAsSinglePoints(int dimension) {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(dimension, 16);
+    PerlinKernel kernel = PerlinKernel.forDimension(dimension, bounds, 12345);
+    Random random = new Random(0L);
+    double[] coordinates = new double[dimension];
+    for (int j = 0; j < dimension; j++) {
+      coordinates[j] = random.nextDouble() * 100;
+    }
+    double[] beforeLastAxis = new double[1000];
+    double[] lastAxis = new double[1000];
+    for (int i = 0; i < lastAxis.length; i++) {
+      beforeLastAxis[i] = random.nextDouble() * 100;
+      lastAxis[i] = random.nextDouble() * 100;
+    }
+    double[] results = new double[lastAxis.length];
+    kernel.evaluateAlongLastTwoAxes(
+        coordinates, () -> {}, beforeLastAxis, lastAxis, results, 0, 0, lastAxis.length);
+    for (int i = 0; i < lastAxis.length; i++) {
+      coordinates[dimension - 2] = beforeLastAxis[i];
+      coordinates[dimension - 1] = lastAxis[i];
+      assertEquals(kernel.evaluate(coordinates), results[i], 0.0);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 4, 5})
+  void testFloatAlongLastAxisCloseToDouble(int dimension) {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(dimension, 16);
+    PerlinKernel kernel = PerlinKernel.forDimension(dimension, bounds, 12345);
+    Random random = new Random(0L);
+    double[] coordinates = new double[dimension];
+    for (int j = 0; j < dimension; j++) {
+      coordinates[j] = random.nextDouble() * 100;
+    }
+    double[] lastAxis = new double[1000];
+    for (int i = 0; i < lastAxis.length; i++) {
+      lastAxis[i] = random.nextDouble() * 100;
+    }
+    double[] expected = new double[lastAxis.length];
+    float[] results = new float[lastAxis.length];
+    kernel.evaluateAlongLastAxis(coordinates, () -> {}, lastAxis, expected, 0, 0, 1000);
+    kernel.evaluateAlongLastAxis(coordinates, () -> {}, lastAxis, results, 0, 0, 1000);
+    for (int i = 0; i < lastAxis.length; i++) {
+      assertEquals(expected[i], results[i], 1E-5);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 4, 5})
+  void testFloatAlongLastTwoAxesCloseToDouble(int dimension) {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(dimension, 16);
+    PerlinKernel kernel = PerlinKernel.forDimension(dimension, bounds, 12345);
+    Random random = new Random(0L);
+    double[] coordinates = new double[dimension];
+    for (int j = 0; j < dimension; j++) {
+      coordinates[j] = random.nextDouble() * 100;
+    }
+    double[] beforeLastAxis = new double[1000];
+    double[] lastAxis = new double[1000];
+    for (int i = 0; i < lastAxis.length; i++) {
+      beforeLastAxis[i] = random.nextDouble() * 100;
+      lastAxis[i] = random.nextDouble() * 100;
+    }
+    double[] expected = new double[lastAxis.length];
+    float[] results = new float[lastAxis.length];
+    kernel.evaluateAlongLastTwoAxes(
+        coordinates, () -> {}, beforeLastAxis, lastAxis, expected, 0, 0, lastAxis.length);
+    kernel.evaluateAlongLastTwoAxes(
+        coordinates, () -> {}, beforeLastAxis, lastAxis, results, 0, 0, lastAxis.length);
+    for (int i = 0; i < lastAxis.length; i++) {
+      assertEquals(expected[i], results[i], 1E-5);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 4, 5})
+  void testLatticeAxisSameAsCoordinates(int dimension) {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(dimension, 16);
+    PerlinKernel kernel = PerlinKernel.forDimension(dimension, bounds, 12345);
+    Random random = new Random(0L);
+    double[] coordinates = new double[dimension];
+    for (int j = 0; j < dimension; j++) {
+      coordinates[j] = random.nextDouble() * 100;
+    }
+    double[] lastAxis = new double[1000];
+    for (int i = 0; i < lastAxis.length; i++) {
+      lastAxis[i] = random.nextDouble() * 100;
+    }
+    LatticeAxis table = new LatticeAxis(lastAxis);
+    double[] expected = new double[lastAxis.length];
+    double[] results = new double[lastAxis.length];
+    kernel.evaluateAlongLastAxis(coordinates, () -> {}, lastAxis, expected, 0, 0, 1000);
+    kernel.evaluateAlongLastAxis(coordinates, () -> {}, table, results, 0, 0, 1000);
+    assertArrayEquals(expected, results, 0.0);
+    float[] expectedFloats = new float[lastAxis.length];
+    float[] floats = new float[lastAxis.length];
+    kernel.evaluateAlongLastAxis(coordinates, () -> {}, lastAxis, expectedFloats, 0, 0, 1000);
+    kernel.evaluateAlongLastAxis(coordinates, () -> {}, table, floats, 0, 0, 1000);
+    assertArrayEquals(expectedFloats, floats, 0.0f);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 4, 5})
+  void testLatticeAxesSameAsCoordinates(int dimension) {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(dimension, 16);
+    PerlinKernel kernel = PerlinKernel.forDimension(dimension, bounds, 12345);
+    Random random = new Random(0L);
+    double[] coordinates = new double[dimension];
+    for (int j = 0; j < dimension; j++) {
+      coordinates[j] = random.nextDouble() * 100;
+    }
+    double[] beforeLastAxis = new double[1000];
+    double[] lastAxis = new double[1000];
+    for (int i = 0; i < lastAxis.length; i++) {
+      beforeLastAxis[i] = random.nextDouble() * 100;
+      lastAxis[i] = random.nextDouble() * 100;
+    }
+    LatticeAxis beforeLastTable = new LatticeAxis(beforeLastAxis);
+    LatticeAxis lastTable = new LatticeAxis(lastAxis);
+    double[] expected = new double[lastAxis.length];
+    double[] results = new double[lastAxis.length];
+    kernel.evaluateAlongLastTwoAxes(
+        coordinates, () -> {}, beforeLastAxis, lastAxis, expected, 0, 0, 1000);
+    kernel.evaluateAlongLastTwoAxes(
+        coordinates, () -> {}, beforeLastTable, lastTable, results, 0, 0, 1000);
+    assertArrayEquals(expected, results, 0.0);
+    float[] expectedFloats = new float[lastAxis.length];
+    float[] floats = new float[lastAxis.length];
+    kernel.evaluateAlongLastTwoAxes(
+        coordinates, () -> {}, beforeLastAxis, lastAxis, expectedFloats, 0, 0, 1000);
+    kernel.evaluateAlongLastTwoAxes(
+        coordinates, () -> {}, beforeLastTable, lastTable, floats, 0, 0, 1000);
+    assertArrayEquals(expectedFloats, floats, 0.0f);
+  }
+
+  @Test
+  void testLatticeAxisCoordinates() {
+    double[] coordinates = {0.25, 1.5, 3.75};
+    LatticeAxis axis = new LatticeAxis(coordinates);
+    coordinates[0] = 10.0;
+    assertEquals(3, axis.getLength());
+    assertEquals(0.25, axis.getCoordinate(0), 0.0);
+    assertEquals(3.75, axis.getCoordinate(2), 0.0);
+  }
+
+  @Test
+  void testAlongLastTwoAxesRequiresTwoDimensions() {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(1, 16);
+    PerlinKernel kernel = PerlinKernel.forDimension(1, bounds, 0);
+    double[] axis = new double[1];
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> kernel.evaluateAlongLastTwoAxes(new double[1], () -> {}, axis, axis, axis, 0, 0, 1));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 6})
+  void testInvalidDimension(int dimension) {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(2, 16);
+    assertThrows(
+        IllegalArgumentException.class, () -> PerlinKernel.forDimension(dimension, bounds, 0));
+  }
+
+  @Test
+  void testMismatchingBoundGridDimension() {
+    BoundGrid bounds = BoundGridFactory.getNewBoundGridForDimension(2, 16);
+    assertThrows(ClassCastException.class, () -> PerlinKernel.forDimension(3, bounds, 0));
+  }
+
+  @Test
+  void testFadeBounds() {
+    assertEquals(0.0, PerlinKernel.fade(0.0), 0.0);
+    assertEquals(0.5, PerlinKernel.fade(0.5), 1E-15);
+    assertEquals(1.0, PerlinKernel.fade(1.0), 0.0);
+    assertEquals(0.0f, PerlinKernel.fade(0.0f), 0.0f);
+    assertEquals(0.5f, PerlinKernel.fade(0.5f), 1E-7f);
+    assertEquals(1.0f, PerlinKernel.fade(1.0f), 0.0f);
+  }
+}
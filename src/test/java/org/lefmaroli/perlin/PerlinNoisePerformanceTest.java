@@ -3,6 +3,7 @@ package org.lefmaroli.perlin;
 import static org.awaitility.Awaitility.waitAtMost;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -16,6 +17,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.lefmaroli.factorgenerator.DoubleGenerator;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainer;
+import org.lefmaroli.perlin.PerlinNoise.PerlinNoiseDataContainerBuilder;
+import org.lefmaroli.perlin.bounds.BoundGridFactory;
 import org.lefmaroli.perlin.generators.LayeredGeneratorBuilderException;
 import org.lefmaroli.perlin.generators.LayeredLineGenerator;
 import org.lefmaroli.perlin.generators.LayeredLineGeneratorBuilder;
@@ -95,6 +99,200 @@ class PerlinNoisePerformanceTest {
     Assertions.assertTrue(meanDuration < 5000);
   }
 
+  @Test
+  void benchmarkKernelAgainstCornerMatrixPath3D() {
+    benchmarkKernelAgainstCornerMatrixPath(3);
+  }
+
+  @Test
+  void benchmarkKernelAgainstCornerMatrixPath5D() {
+    benchmarkKernelAgainstCornerMatrixPath(5);
+  }
+
+  private void benchmarkKernelAgainstCornerMatrixPath(int dimension) {
+    Assumptions.assumeTrue(Runtime.getRuntime().availableProcessors() > 2);
+    var bounds =
+        BoundGridFactory.getNewBoundGridForDimension(
+            dimension, PerlinNoise.AXIS_BOUNDS_BY_DIMENSIONS.get(dimension));
+    PerlinKernel kernel = PerlinKernel.forDimension(dimension, bounds, 0);
+    CornerMatrixPerlinNoise reference = new CornerMatrixPerlinNoise(bounds, 0);
+    double[] coordinates = new double[dimension];
+    Consumer<Integer> fillCoordinates =
+        (i) -> {
+          for (int j = 0; j < dimension; j++) {
+            coordinates[j] = i * 0.005 * (j + 1);
+          }
+        };
+    long recursive =
+        testPerformance(
+            100000,
+            (i) -> {
+              fillCoordinates.accept(i);
+              reference.getFor(coordinates);
+            },
+            Duration.ofMillis(5000),
+            "Corner matrix " + dimension + "D benchmark");
+    long unrolled =
+        testPerformance(
+            100000,
+            (i) -> {
+              fillCoordinates.accept(i);
+              kernel.evaluate(coordinates);
+            },
+            Duration.ofMillis(5000),
+            "Unrolled kernel " + dimension + "D benchmark");
+    Assertions.assertTrue(
+        unrolled < recursive, "Unrolled kernel ran slower than the corner matrix path");
+  }
+
+  @Test
+  void benchmarkGridFillAgainstSinglePoints() {
+    Assumptions.assumeTrue(Runtime.getRuntime().availableProcessors() > 2);
+    PerlinNoise perlinNoise = new PerlinNoise(0L);
+    int size = 256;
+    double[] grid = new double[size * size];
+    double[] origin = {0.0, 0.0};
+    double[] steps = {0.01, 0.01};
+    long singlePoints =
+        testPerformance(
+            20,
+            (i) -> {
+              for (int x = 0; x < size; x++) {
+                for (int y = 0; y < size; y++) {
+                  grid[x * size + y] = perlinNoise.getFor(x * steps[0], y * steps[1]);
+                }
+              }
+            },
+            Duration.ofMillis(10000),
+            "Single points 256x256 grid benchmark");
+    long bulk =
+        testPerformance(
+            20,
+            (i) -> perlinNoise.fillGrid2D(grid, size, size, origin, steps),
+            Duration.ofMillis(10000),
+            "Bulk 256x256 grid benchmark");
+    Assertions.assertTrue(bulk < singlePoints, "Bulk grid fill ran slower than single points");
+  }
+
+  @Test
+  void benchmarkLastAxisAgainstSinglePointsForLine() {
+    Assumptions.assumeTrue(Runtime.getRuntime().availableProcessors() > 2);
+    PerlinNoiseDataContainer container =
+        new PerlinNoiseDataContainerBuilder(2, 0L).createNewContainer();
+    int length = 1000;
+    double[] lastAxis = new double[length];
+    for (int i = 0; i < length; i++) {
+      lastAxis[i] = i * 0.01;
+    }
+    double[] line = new double[length];
+    container.setCoordinatesForDimension(0, 1.5);
+    long singlePoints =
+        testPerformance(
+            500,
+            (i) -> {
+              for (int j = 0; j < length; j++) {
+                container.setCoordinatesForDimension(1, lastAxis[j]);
+                line[j] = PerlinNoise.getFor(container);
+              }
+            },
+            Duration.ofMillis(10000),
+            "Single points 1000 line benchmark");
+    long batch =
+        testPerformance(
+            500,
+            (i) -> PerlinNoise.getForLastAxis(container, lastAxis, 0, length, line, 0),
+            Duration.ofMillis(10000),
+            "Last axis 1000 line benchmark");
+    Assertions.assertTrue(batch < singlePoints, "Last axis batch ran slower than single points");
+  }
+
+  @Test
+  void benchmarkLastAxisAgainstSinglePointsForSlice() {
+    Assumptions.assumeTrue(Runtime.getRuntime().availableProcessors() > 2);
+    PerlinNoiseDataContainer container =
+        new PerlinNoiseDataContainerBuilder(3, 0L).createNewContainer();
+    int size = 512;
+    double[] lastAxis = new double[size];
+    for (int i = 0; i < size; i++) {
+      lastAxis[i] = i * 0.01;
+    }
+    double[][] slice = new double[size][size];
+    container.setCoordinatesForDimension(0, 1.5);
+    long singlePoints =
+        testPerformance(
+            20,
+            (i) -> {
+              for (int x = 0; x < size; x++) {
+                container.setCoordinatesForDimension(1, x * 0.01);
+                for (int y = 0; y < size; y++) {
+                  container.setCoordinatesForDimension(2, lastAxis[y]);
+                  slice[x][y] = PerlinNoise.getFor(container);
+                }
+              }
+            },
+            Duration.ofMillis(10000),
+            "Single points 512x512 slice benchmark");
+    long batch =
+        testPerformance(
+            20,
+            (i) -> {
+              for (int x = 0; x < size; x++) {
+                container.setCoordinatesForDimension(1, x * 0.01);
+                PerlinNoise.getForLastAxis(container, lastAxis, 0, size, slice[x], 0);
+              }
+            },
+            Duration.ofMillis(10000),
+            "Last axis 512x512 slice benchmark");
+    Assertions.assertTrue(batch < singlePoints, "Last axis batch ran slower than single points");
+  }
+
+  @Test
+  void benchmarkConcurrentGetForScaling() {
+    Assumptions.assumeTrue(Runtime.getRuntime().availableProcessors() > 2);
+    int numberOfThreads = Runtime.getRuntime().availableProcessors();
+    PerlinNoise perlinNoise = new PerlinNoise(0L);
+    int pointsPerThread = 20000;
+    Consumer<Integer> evaluate =
+        (offset) -> {
+          double[] coordinates = new double[3];
+          for (int i = 0; i < pointsPerThread; i++) {
+            coordinates[0] = offset + i * 0.013;
+            coordinates[1] = i * 0.007;
+            coordinates[2] = i * 0.011;
+            perlinNoise.getFor(coordinates);
+          }
+        };
+    long serial =
+        testPerformance(
+            20,
+            (i) -> {
+              for (int t = 0; t < numberOfThreads; t++) {
+                evaluate.accept(t);
+              }
+            },
+            Duration.ofMillis(20000),
+            "Serial getFor benchmark");
+    ExecutorService service = Executors.newFixedThreadPool(numberOfThreads);
+    try {
+      long concurrent =
+          testPerformance(
+              20,
+              (i) -> {
+                CompletableFuture<?>[] futures = new CompletableFuture<?>[numberOfThreads];
+                for (int t = 0; t < numberOfThreads; t++) {
+                  int offset = t;
+                  futures[t] = CompletableFuture.runAsync(() -> evaluate.accept(offset), service);
+                }
+                CompletableFuture.allOf(futures).join();
+              },
+              Duration.ofMillis(20000),
+              "Concurrent getFor benchmark");
+      Assertions.assertTrue(concurrent < serial, "Concurrent getFor did not scale");
+    } finally {
+      service.shutdownNow();
+    }
+  }
+
   @Test
   void benchmarkPointGeneratorPerformance() throws LayeredGeneratorBuilderException {
     LayeredPointGenerator noiseGenerator =
@@ -3,9 +3,18 @@ package org.lefmaroli.perlin;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -115,4 +124,175 @@ class PerlinNoiseTest {
             thirdBuilder.createNewContainer(),
             "test not equal to other container from builder of different seed"));
   }
+
+  @Test
+  void testSameSeedSameValues() {
+    PerlinNoise first = new PerlinNoise(randomSeed);
+    PerlinNoise second = new PerlinNoise(randomSeed);
+    PerlinNoise other = new PerlinNoise(randomSeed + 1);
+    for (int dimension = 1; dimension <= PerlinNoise.MAX_DIMENSION; dimension++) {
+      double[] coordinates = new double[dimension];
+      Arrays.fill(coordinates, 1.37);
+      assertEquals(first.getFor(coordinates), second.getFor(coordinates), 0.0);
+      assertNotEquals(first.getFor(coordinates), other.getFor(coordinates));
+    }
+  }
+
+  @ParameterizedTest(name = "{index} Dim:{0}")
+  @MethodSource("seededValues")
+  void testSeededValuesStableAcrossRuns(int dimension, double expected) {
+    double[] coordinates = new double[dimension];
+    Arrays.fill(coordinates, 1.37);
+    assertEquals(expected, new PerlinNoise(42L).getFor(coordinates), 0.0);
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> seededValues() {
+    return Stream.of(
+        Arguments.of(1, 0.305153321209231),
+        Arguments.of(2, 0.34658396125553836),
+        Arguments.of(3, 0.6207657409555503),
+        Arguments.of(4, 0.5908400423237228),
+        Arguments.of(5, 0.555756255883451));
+  }
+
+  @Test
+  void testConcurrentGetForMatchesSingleThreaded() throws Exception {
+    PerlinNoise perlinNoise = new PerlinNoise(randomSeed);
+    int numberOfPoints = 20000;
+    double[][] points = new double[numberOfPoints][];
+    double[] expected = new double[numberOfPoints];
+    Random random = new Random(randomSeed);
+    for (int i = 0; i < numberOfPoints; i++) {
+      points[i] = new double[1 + i % PerlinNoise.MAX_DIMENSION];
+      for (int j = 0; j < points[i].length; j++) {
+        points[i][j] = random.nextDouble() * 100;
+      }
+      expected[i] = perlinNoise.getFor(points[i]);
+    }
+    int numberOfThreads = 8;
+    ExecutorService service = Executors.newFixedThreadPool(numberOfThreads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> mismatches = new ArrayList<>(numberOfThreads);
+    try {
+      for (int t = 0; t < numberOfThreads; t++) {
+        int threadOffset = t;
+        mismatches.add(
+            service.submit(
+                () -> {
+                  start.await();
+                  int count = 0;
+                  for (int i = 0; i < numberOfPoints; i++) {
+                    int index = (i + threadOffset * 997) % numberOfPoints;
+                    if (perlinNoise.getFor(points[index]) != expected[index]) {
+                      count++;
+                    }
+                  }
+                  return count;
+                }));
+      }
+      start.countDown();
+      for (Future<Integer> mismatch : mismatches) {
+        assertEquals(0, mismatch.get(30, TimeUnit.SECONDS));
+      }
+    } finally {
+      service.shutdownNow();
+    }
+  }
+
+  @Test
+  void testWithDerivativesSameValues() {
+    PerlinNoise perlinNoise = new PerlinNoise(randomSeed);
+    Random random = new Random(randomSeed);
+    for (int dim = 1; dim <= PerlinNoise.MAX_DIMENSION; dim++) {
+      double[] coordinates = new double[dim];
+      double[] derivatives = new double[dim];
+      for (int i = 0; i < 100; i++) {
+        for (int j = 0; j < dim; j++) {
+          coordinates[j] = random.nextDouble() * 50;
+        }
+        assertEquals(
+            perlinNoise.getFor(coordinates),
+            perlinNoise.getWithDerivativesFor(derivatives, coordinates),
+            0.0);
+      }
+    }
+  }
+
+  @Test
+  void testWithDerivativesArrayTooSmall() {
+    PerlinNoise perlinNoise = new PerlinNoise(randomSeed);
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> perlinNoise.getWithDerivativesFor(new double[2], 0.5, 1.5, 2.5));
+  }
+
+  @Test
+  void testFillLineMatchesSinglePoints() {
+    PerlinNoise perlinNoise = new PerlinNoise(randomSeed);
+    double[] line = new double[500];
+    perlinNoise.fillLine(line, 3.25, 0.037);
+    for (int i = 0; i < line.length; i++) {
+      assertEquals(perlinNoise.getFor(3.25 + i * 0.037), line[i], 0.0);
+    }
+  }
+
+  @Test
+  void testFillGrid2DMatchesSinglePoints() {
+    PerlinNoise perlinNoise = new PerlinNoise(randomSeed);
+    int width = 40;
+    int height = 30;
+    double[] origin = {1.5, 7.25};
+    double[] steps = {0.05, 0.11};
+    double[] grid = new double[width * height];
+    perlinNoise.fillGrid2D(grid, width, height, origin, steps);
+    for (int i = 0; i < width; i++) {
+      for (int j = 0; j < height; j++) {
+        double expected = perlinNoise.getFor(origin[0] + i * steps[0], origin[1] + j * steps[1]);
+        assertEquals(expected, grid[i * height + j], 0.0);
+      }
+    }
+  }
+
+  @Test
+  void testFillGrid3DMatchesSinglePoints() {
+    PerlinNoise perlinNoise = new PerlinNoise(randomSeed);
+    int width = 12;
+    int height = 9;
+    int depth = 15;
+    double[] origin = {0.5, 2.0, 4.75};
+    double[] steps = {0.1, 0.07, 0.13};
+    double[] grid = new double[width * height * depth];
+    perlinNoise.fillGrid3D(grid, width, height, depth, origin, steps);
+    for (int i = 0; i < width; i++) {
+      for (int j = 0; j < height; j++) {
+        for (int k = 0; k < depth; k++) {
+          double expected =
+              perlinNoise.getFor(
+                  origin[0] + i * steps[0], origin[1] + j * steps[1], origin[2] + k * steps[2]);
+          assertEquals(expected, grid[(i * height + j) * depth + k], 0.0);
+        }
+      }
+    }
+  }
+
+  @ParameterizedTest(name = "{index} - {4}")
+  @MethodSource("invalidGrids")
+  @SuppressWarnings("unused")
+  void testInvalidGrid2D(double[] out, int width, double[] origin, double[] steps, String title) {
+    PerlinNoise perlinNoise = new PerlinNoise(randomSeed);
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> perlinNoise.fillGrid2D(out, width, 10, origin, steps));
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> invalidGrids() {
+    double[] valid = {0.0, 0.0};
+    return Stream.of(
+        Arguments.of(new double[99], 10, valid, valid, "output too small"),
+        Arguments.of(new double[100], -10, valid, valid, "negative width"),
+        Arguments.of(new double[100], 10, new double[1], valid, "origin of wrong length"),
+        Arguments.of(new double[100], 10, valid, new double[3], "steps of wrong length"));
+  }
 }
@@ -0,0 +1,73 @@
+package org.lefmaroli.perlin.bounds;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class BoundGridCacheTest {
+
+  @Test
+  void testSameGridForSameKey() {
+    BoundGridCache cache = new BoundGridCache(2);
+    BoundGrid grid = cache.acquire(2, 8, 42L);
+    assertSame(grid, cache.acquire(2, 8, 42L));
+    assertEquals(2, cache.getReferenceCount(2, 8, 42L));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void testDifferentGridsForDifferentKeys() {
+    BoundGridCache cache = new BoundGridCache(2);
+    BoundGrid grid = cache.acquire(2, 8, 42L);
+    assertNotSame(grid, cache.acquire(2, 8, 43L));
+    assertNotSame(grid, cache.acquire(3, 8, 42L));
+  }
+
+  @Test
+  void testReferencedGridsAreNotEvicted() {
+    BoundGridCache cache = new BoundGridCache(1);
+    BoundGrid first = cache.acquire(1, 8, 1L);
+    cache.acquire(1, 8, 2L);
+    cache.acquire(1, 8, 3L);
+    assertEquals(3, cache.size());
+    assertSame(first, cache.acquire(1, 8, 1L));
+  }
+
+  @Test
+  void testLeastRecentlyUsedReleasedGridIsEvicted() {
+    BoundGridCache cache = new BoundGridCache(2);
+    BoundGrid first = cache.acquire(1, 8, 1L);
+    BoundGrid second = cache.acquire(1, 8, 2L);
+    cache.release(first);
+    cache.release(second);
+    cache.release(cache.acquire(1, 8, 1L));
+    cache.release(cache.acquire(1, 8, 3L));
+    assertEquals(2, cache.size());
+    assertEquals(0, cache.getReferenceCount(1, 8, 2L));
+    assertSame(first, cache.acquire(1, 8, 1L));
+    assertNotSame(second, cache.acquire(1, 8, 2L));
+  }
+
+  @Test
+  void testReleaseUnknownGrid() {
+    BoundGridCache cache = new BoundGridCache(2);
+    BoundGrid grid = BoundGridFactory.getNewBoundGridForDimension(1, 8, 1L);
+    assertThrows(IllegalArgumentException.class, () -> cache.release(grid));
+  }
+
+  @Test
+  void testReleaseMoreThanAcquired() {
+    BoundGridCache cache = new BoundGridCache(2);
+    BoundGrid grid = cache.acquire(1, 8, 1L);
+    cache.release(grid);
+    assertThrows(IllegalArgumentException.class, () -> cache.release(grid));
+  }
+
+  @Test
+  void testInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new BoundGridCache(-1));
+  }
+}
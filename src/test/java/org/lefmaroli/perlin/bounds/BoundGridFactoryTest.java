@@ -2,8 +2,12 @@ package org.lefmaroli.perlin.bounds;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -125,4 +129,70 @@ class BoundGridFactoryTest {
         Arguments.of(9, 1),
         Arguments.of(17, 1));
   }
+
+  @ParameterizedTest
+  @MethodSource("validDimensions")
+  void testVectorProductMatchesBoundVector(int dimension) {
+    BoundGrid boundGrid = BoundGridFactory.getNewBoundGridForDimension(dimension, 8);
+    Random random = new Random(0L);
+    int[] coordinates = new int[dimension];
+    int[] boundIndices = new int[dimension];
+    double[] distances = new double[dimension];
+    for (int i = 0; i < 100; i++) {
+      for (int j = 0; j < dimension; j++) {
+        coordinates[j] = random.nextInt(100);
+        boundIndices[j] = random.nextInt(2);
+        distances[j] = random.nextDouble();
+      }
+      assertEquals(
+          boundGrid.getBoundForCoordinates(coordinates, boundIndices).getVectorProduct(distances),
+          boundGrid.getVectorProduct(coordinates, boundIndices, distances),
+          1E-12);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> validDimensions() {
+    return Stream.of(
+        Arguments.of(1), Arguments.of(2), Arguments.of(3), Arguments.of(4), Arguments.of(5));
+  }
+
+  @Test
+  void testSpecializedDotMatchesVectorProduct() {
+    var boundGrid = (BoundGridThreeDimensional) BoundGridFactory.getNewBoundGridForDimension(3, 8);
+    int[] coordinates = {3, 12, -5};
+    int[] boundIndices = {1, 0, 1};
+    double[] distances = {0.25, -0.5, 0.75};
+    int index = boundGrid.indexOf(4, 12, -4);
+    assertEquals(
+        boundGrid.getVectorProduct(coordinates, boundIndices, distances),
+        boundGrid.dot(index, 0.25, -0.5, 0.75),
+        1E-12);
+  }
+
+  @Test
+  void testLatticeIndexWrapsAround() {
+    var boundGrid = (BoundGridFiveDimensional) BoundGridFactory.getNewBoundGridForDimension(5, 8);
+    assertEquals(boundGrid.indexOf(1, 2, 3, 4, 5), boundGrid.indexOf(9, 10, -5, 12, 13));
+  }
+
+  @ParameterizedTest
+  @MethodSource("validDimensions")
+  void testSameSeedSameGradients(int dimension) {
+    BoundGrid first = BoundGridFactory.getNewBoundGridForDimension(dimension, 8, 42L);
+    BoundGrid second = BoundGridFactory.getNewBoundGridForDimension(dimension, 8, 42L);
+    BoundGrid other = BoundGridFactory.getNewBoundGridForDimension(dimension, 8, 43L);
+    int[] boundIndices = new int[dimension];
+    double[] distances = new double[dimension];
+    Arrays.fill(distances, 0.5);
+    int[] coordinates = new int[dimension];
+    boolean differs = false;
+    for (int i = 0; i < 8; i++) {
+      Arrays.fill(coordinates, i);
+      double expected = first.getVectorProduct(coordinates, boundIndices, distances);
+      assertEquals(expected, second.getVectorProduct(coordinates, boundIndices, distances), 0.0);
+      differs |= expected != other.getVectorProduct(coordinates, boundIndices, distances);
+    }
+    assertTrue(differs);
+  }
 }
@@ -0,0 +1,46 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CancellationTokenTest {
+
+  @Test
+  void testNotCancelledByDefault() {
+    assertFalse(new CancellationToken().isCancelled());
+  }
+
+  @Test
+  void testCancel() {
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    assertTrue(token.isCancelled());
+  }
+
+  @Test
+  void testTimeoutElapsed() {
+    assertTrue(CancellationToken.withTimeout(Duration.ZERO).isCancelled());
+  }
+
+  @Test
+  void testTimeoutNotElapsed() {
+    assertFalse(CancellationToken.withTimeout(Duration.ofMinutes(1)).isCancelled());
+  }
+
+  @Test
+  void testCancelBeforeTimeout() {
+    CancellationToken token = CancellationToken.withTimeout(Duration.ofMinutes(1));
+    token.cancel();
+    assertTrue(token.isCancelled());
+  }
+
+  @Test
+  void testNegativeTimeout() {
+    assertThrows(
+        IllegalArgumentException.class, () -> CancellationToken.withTimeout(Duration.ofMillis(-1)));
+  }
+}
@@ -0,0 +1,44 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.lefmaroli.perlin.LatticeAxis;
+
+class CircularAxisTest {
+
+  @Test
+  void testSameTablesForSameGeometry() {
+    CircularAxis axis = CircularAxis.of(100, 1.0 / 50);
+    assertSame(axis, CircularAxis.of(100, 1.0 / 50));
+    assertNotSame(axis, CircularAxis.of(101, 1.0 / 50));
+    assertNotSame(axis, CircularAxis.of(100, 1.0 / 25));
+  }
+
+  @Test
+  void testEmbeddings() {
+    int length = 64;
+    double stepSize = 1.0 / 16;
+    CircularAxis axis = CircularAxis.of(length, stepSize);
+    LatticeAxis cosAxis = axis.getCosAxis();
+    LatticeAxis sinAxis = axis.getSinAxis();
+    assertEquals(length, cosAxis.getLength());
+    assertEquals(length, sinAxis.getLength());
+    for (int i = 0; i < length; i++) {
+      double angle = i * stepSize * 2 * Math.PI;
+      assertEquals((Math.cos(angle) + 1.0) / 2.0, cosAxis.getCoordinate(i), 0.0);
+      assertEquals((Math.sin(angle) + 1.0) / 2.0, sinAxis.getCoordinate(i), 0.0);
+    }
+  }
+
+  @Test
+  void testCacheBounded() {
+    for (int i = 1; i <= 100; i++) {
+      CircularAxis.of(i, 1.0);
+    }
+    assertTrue(CircularAxis.getCacheSize() <= 32);
+  }
+}
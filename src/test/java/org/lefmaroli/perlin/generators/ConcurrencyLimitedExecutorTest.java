@@ -0,0 +1,99 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ConcurrencyLimitedExecutorTest {
+
+  private ExecutorService carrier;
+
+  @BeforeEach
+  void setup() {
+    carrier = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    carrier.shutdownNow();
+  }
+
+  @Test
+  void testRunsAllTasksWithinLimit() throws InterruptedException {
+    ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(carrier, 2);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    int tasks = 50;
+    CountDownLatch done = new CountDownLatch(tasks);
+    for (int i = 0; i < tasks; i++) {
+      executor.execute(
+          () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+              TimeUnit.MILLISECONDS.sleep(1);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            done.countDown();
+          });
+    }
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertTrue(maxRunning.get() <= 2, "Max concurrent tasks: " + maxRunning.get());
+  }
+
+  @Test
+  void testShutdownRejectsNewTasks() throws InterruptedException {
+    ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(carrier, 1);
+    executor.shutdown();
+    assertTrue(executor.isShutdown());
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+    assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    assertFalse(carrier.isShutdown());
+  }
+
+  @Test
+  void testShutdownNowReturnsWaitingTasks() throws InterruptedException {
+    ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(carrier, 1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    assertTrue(started.await(1, TimeUnit.SECONDS));
+    Runnable waiting = () -> {};
+    executor.execute(waiting);
+    List<Runnable> notStarted = executor.shutdownNow();
+    assertEquals(List.of(waiting), notStarted);
+    assertFalse(executor.isTerminated());
+    release.countDown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 0})
+  void testInvalidConcurrency(int maxConcurrency) {
+    assertThrows(
+        IllegalArgumentException.class, () -> ConcurrencyLimitedExecutor.shared(maxConcurrency));
+  }
+}
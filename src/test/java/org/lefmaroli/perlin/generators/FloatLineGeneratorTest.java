@@ -0,0 +1,219 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jparams.verifier.tostring.NameStyle;
+import com.jparams.verifier.tostring.ToStringVerifier;
+import com.jparams.verifier.tostring.preset.Presets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.lefmaroli.perlin.configuration.TestJitterStrategy;
+
+class FloatLineGeneratorTest {
+
+  private static final int lineLength = 100;
+  private static final double maxAmplitude = 1.0;
+  private static final double defaultLineStepSize = 1.0 / 25;
+  private static final double defaultNoiseStepSize = 1.0 / 100;
+  private static final boolean isCircular = false;
+  private static final long randomSeed = System.currentTimeMillis();
+  private static FloatLineGeneratorBuilder defaultBuilder;
+  private static FloatLineGenerator defaultGenerator;
+
+  @BeforeAll
+  static void init() throws StepSizeException {
+    defaultBuilder = new FloatLineGeneratorBuilder(lineLength);
+    resetBuilder(defaultBuilder);
+    defaultGenerator = defaultBuilder.build();
+  }
+
+  private static FloatLineGeneratorBuilder resetBuilder(FloatLineGeneratorBuilder builder)
+      throws StepSizeException {
+    builder
+        .withTimeStepSize(defaultNoiseStepSize)
+        .withLineStepSize(defaultLineStepSize)
+        .withAmplitude(maxAmplitude)
+        .withRandomSeed(randomSeed)
+        .withCircularBounds(isCircular)
+        .withForkJoinPool(null);
+    return builder;
+  }
+
+  @BeforeEach
+  void setup() {
+    resetBuilder(defaultBuilder);
+  }
+
+  @Test
+  void testCreateInvalidLineLength() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new FloatLineGeneratorBuilder(-5));
+  }
+
+  @Test
+  void testGetLineLength() {
+    assertEquals(lineLength, defaultGenerator.getLineLength());
+    assertEquals(lineLength, defaultGenerator.getNext().length);
+  }
+
+  @Test
+  void testValuesBounded() {
+    float[] line = defaultGenerator.getNext();
+    for (float value : line) {
+      assertTrue(value > 0.0f);
+      assertTrue(value < maxAmplitude);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testCloseToDoublePrecisionLines(boolean isCircular) throws StepSizeException {
+    double amplitude = 3.5;
+    FloatLineGenerator generator =
+        defaultBuilder.withAmplitude(amplitude).withCircularBounds(isCircular).build();
+    LineGenerator reference =
+        new LineGeneratorBuilder(lineLength)
+            .withTimeStepSize(defaultNoiseStepSize)
+            .withLineStepSize(defaultLineStepSize)
+            .withAmplitude(amplitude)
+            .withRandomSeed(randomSeed)
+            .withCircularBounds(isCircular)
+            .withForkJoinPool(null)
+            .build();
+    for (int i = 0; i < 50; i++) {
+      float[] line = generator.getNext();
+      double[] expected = reference.getNext();
+      for (int j = 0; j < lineLength; j++) {
+        assertEquals(expected[j], line[j], 1E-5 * amplitude);
+      }
+    }
+  }
+
+  @Test
+  void testCreateSameGeneratedLinesWithPool() throws StepSizeException {
+    TestJitterStrategy jitterStrategy = new TestJitterStrategy();
+    try {
+      FloatLineGeneratorBuilder builder = resetBuilder(new FloatLineGeneratorBuilder(8000));
+      FloatLineGenerator layer = builder.build();
+      builder.withForkJoinPool(ForkJoinPool.commonPool()).withJitterStrategy(jitterStrategy);
+      FloatLineGenerator same = builder.build();
+      Assertions.assertArrayEquals(layer.getNext(), same.getNext(), 0.0f);
+    } finally {
+      jitterStrategy.shutdown();
+    }
+  }
+
+  @Test
+  void testCancelledLineRetriedFromSameTime() {
+    FloatLineGenerator generator = defaultBuilder.build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+    float[] expected = defaultBuilder.build().getNext();
+    Assertions.assertArrayEquals(
+        expected, generator.getNextUnlessCancelled(new CancellationToken()), 0.0f);
+  }
+
+  @Test
+  void testLineCircularity() throws StepSizeException {
+    FloatLineGenerator generator =
+        defaultBuilder.withLineStepSize(1 / 5.0).withCircularBounds(true).build();
+
+    int numCyclesInLine = (int) (generator.getLineLength() * generator.getLineStepSize());
+    int numInterpolationPointsPerCycle = (int) (1.0 / generator.getLineStepSize());
+
+    for (int i = 0; i < 100; i++) {
+      float[] line = generator.getNext();
+      for (int j = 0; j < numInterpolationPointsPerCycle; j++) {
+        float ref = line[j];
+        for (int k = 1; k < numCyclesInLine; k++) {
+          assertEquals(ref, line[k * numInterpolationPointsPerCycle + j], 1E-6f);
+        }
+      }
+    }
+  }
+
+  @ParameterizedTest(name = "{index} - {2}")
+  @MethodSource("testEqualsSource")
+  @SuppressWarnings("unused")
+  void testEquals(Object first, Object second, String title) {
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> testEqualsSource() throws StepSizeException {
+    FloatLineGeneratorBuilder other = resetBuilder(new FloatLineGeneratorBuilder(lineLength));
+    defaultGenerator = resetBuilder(defaultBuilder).build();
+    return Stream.of(
+        Arguments.of(
+            other.build(), defaultBuilder.build(), "Different generators from different builders"),
+        Arguments.of(defaultGenerator, defaultGenerator, "Same generator"));
+  }
+
+  @ParameterizedTest(name = "{index} - {1}")
+  @MethodSource("testNotEqualsSource")
+  @SuppressWarnings("unused")
+  void testNotEquals(Object other, String title) {
+    Assertions.assertNotEquals(defaultGenerator, other);
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> testNotEqualsSource() throws StepSizeException {
+    return Stream.of(
+        Arguments.of(null, "null"),
+        Arguments.of(new Random(), "Different object class"),
+        Arguments.of(
+            resetBuilder(new FloatLineGeneratorBuilder(lineLength + 1)).build(),
+            "Different line length"),
+        Arguments.of(
+            new LineGeneratorBuilder(lineLength)
+                .withTimeStepSize(defaultNoiseStepSize)
+                .withLineStepSize(defaultLineStepSize)
+                .withAmplitude(maxAmplitude)
+                .withRandomSeed(randomSeed)
+                .withCircularBounds(isCircular)
+                .withForkJoinPool(null)
+                .build(),
+            "Double precision generator"),
+        Arguments.of(
+            resetBuilder(defaultBuilder).withRandomSeed(randomSeed + 1).build(),
+            "Different random seed"));
+  }
+
+  @Test
+  void testToString() {
+    ToStringVerifier.forClass(defaultGenerator.getClass())
+        .withClassName(NameStyle.SIMPLE_NAME)
+        .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
+        .withIgnoredFields(
+            "perlinData",
+            "timeIndex",
+            "generated",
+            "containers",
+            "containersCount",
+            "lineAxis",
+            "lineCircleAxis",
+            "recycler",
+            "forkThreshold",
+            "pool",
+            "amplitude",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool")
+        .verify();
+  }
+}
@@ -0,0 +1,237 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jparams.verifier.tostring.NameStyle;
+import com.jparams.verifier.tostring.ToStringVerifier;
+import com.jparams.verifier.tostring.preset.Presets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.lefmaroli.perlin.configuration.TestJitterStrategy;
+
+class FloatSliceGeneratorTest {
+
+  private static final double noiseStepSize = 1.0 / 10.0;
+  private static final double widthStepSize = 1.0 / 100;
+  private static final double heightStepSize = 1.0 / 200;
+  private static final int sliceWidth = 50;
+  private static final int sliceHeight = 75;
+  private static final double maxAmplitude = 1.0;
+  private static final boolean isCircular = false;
+  private static final long randomSeed = System.currentTimeMillis();
+  private static FloatSliceGenerator defaultGenerator;
+  private static FloatSliceGeneratorBuilder defaultBuilder;
+
+  @BeforeAll
+  static void init() throws StepSizeException {
+    defaultBuilder = new FloatSliceGeneratorBuilder(sliceWidth, sliceHeight);
+    resetBuilder(defaultBuilder);
+    defaultGenerator = defaultBuilder.build();
+  }
+
+  @BeforeEach
+  void setup() throws StepSizeException {
+    resetBuilder(defaultBuilder);
+  }
+
+  private static FloatSliceGeneratorBuilder resetBuilder(FloatSliceGeneratorBuilder builder)
+      throws StepSizeException {
+    builder
+        .withTimeStepSize(noiseStepSize)
+        .withWidthStepSize(widthStepSize)
+        .withHeightStepSize(heightStepSize)
+        .withAmplitude(maxAmplitude)
+        .withRandomSeed(randomSeed)
+        .withCircularBounds(isCircular)
+        .withForkJoinPool(null);
+    return builder;
+  }
+
+  @Test
+  void testCreateInvalidSliceSize() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new FloatSliceGeneratorBuilder(0, sliceHeight));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new FloatSliceGeneratorBuilder(sliceWidth, 0));
+  }
+
+  @Test
+  void testSliceSize() {
+    float[][] slice = defaultGenerator.getNext();
+    assertEquals(sliceWidth, slice.length);
+    assertEquals(sliceHeight, slice[0].length);
+  }
+
+  @Test
+  void testValuesBounded() {
+    float[][] slice = defaultGenerator.getNext();
+    for (float[] column : slice) {
+      for (float value : column) {
+        assertTrue(value > 0.0f);
+        assertTrue(value < maxAmplitude);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testCloseToDoublePrecisionSlices(boolean isCircular) throws StepSizeException {
+    double amplitude = 2.5;
+    FloatSliceGenerator generator =
+        defaultBuilder.withAmplitude(amplitude).withCircularBounds(isCircular).build();
+    SliceGenerator reference =
+        new SliceGeneratorBuilder(sliceWidth, sliceHeight)
+            .withTimeStepSize(noiseStepSize)
+            .withWidthStepSize(widthStepSize)
+            .withHeightStepSize(heightStepSize)
+            .withAmplitude(amplitude)
+            .withRandomSeed(randomSeed)
+            .withCircularBounds(isCircular)
+            .withForkJoinPool(null)
+            .build();
+    for (int i = 0; i < 10; i++) {
+      float[][] slice = generator.getNext();
+      double[][] expected = reference.getNext();
+      for (int j = 0; j < sliceWidth; j++) {
+        for (int k = 0; k < sliceHeight; k++) {
+          assertEquals(expected[j][k], slice[j][k], 1E-5 * amplitude);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testCreateSameGeneratedSlicesWithPool() throws StepSizeException {
+    TestJitterStrategy jitterStrategy = new TestJitterStrategy();
+    try {
+      FloatSliceGeneratorBuilder builder = resetBuilder(new FloatSliceGeneratorBuilder(200, 200));
+      FloatSliceGenerator generator = builder.build();
+      builder.withForkJoinPool(ForkJoinPool.commonPool()).withJitterStrategy(jitterStrategy);
+      FloatSliceGenerator same = builder.build();
+      float[][] unforked = generator.getNext();
+      float[][] forked = same.getNext();
+      for (int i = 0; i < unforked.length; i++) {
+        Assertions.assertArrayEquals(unforked[i], forked[i], 0.0f);
+      }
+    } finally {
+      jitterStrategy.shutdown();
+    }
+  }
+
+  @Test
+  void testCancelledSliceReportedIncomplete() {
+    FloatSliceGenerator generator = defaultBuilder.build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+  }
+
+  @ParameterizedTest(name = "{index} - {2}")
+  @MethodSource("testEqualsSource")
+  @SuppressWarnings("unused")
+  void testEquals(Object first, Object second, String title) {
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> testEqualsSource() throws StepSizeException {
+    FloatSliceGeneratorBuilder other =
+        resetBuilder(new FloatSliceGeneratorBuilder(sliceWidth, sliceHeight));
+    defaultGenerator = resetBuilder(defaultBuilder).build();
+    return Stream.of(
+        Arguments.of(
+            other.build(), defaultBuilder.build(), "Different generators from different builders"),
+        Arguments.of(defaultGenerator, defaultGenerator, "Same generator"));
+  }
+
+  @ParameterizedTest(name = "{index} - {1}")
+  @MethodSource("testNotEqualsSource")
+  @SuppressWarnings("unused")
+  void testNotEquals(Object other, String title) {
+    Assertions.assertNotEquals(defaultGenerator, other);
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> testNotEqualsSource() throws StepSizeException {
+    return Stream.of(
+        Arguments.of(null, "null"),
+        Arguments.of(new Random(), "Different object class"),
+        Arguments.of(
+            resetBuilder(new FloatSliceGeneratorBuilder(sliceWidth + 1, sliceHeight)).build(),
+            "Different slice width"),
+        Arguments.of(
+            new SliceGeneratorBuilder(sliceWidth, sliceHeight)
+                .withTimeStepSize(noiseStepSize)
+                .withWidthStepSize(widthStepSize)
+                .withHeightStepSize(heightStepSize)
+                .withAmplitude(maxAmplitude)
+                .withRandomSeed(randomSeed)
+                .withCircularBounds(isCircular)
+                .withForkJoinPool(null)
+                .build(),
+            "Double precision generator"),
+        Arguments.of(
+            resetBuilder(defaultBuilder).withCircularBounds(!isCircular).build(),
+            "Different circularity"));
+  }
+
+  @Test
+  void testToString() {
+    ToStringVerifier.forClass(defaultGenerator.getClass())
+        .withClassName(NameStyle.SIMPLE_NAME)
+        .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
+        .withIgnoredFields(
+            "widthAngleFactor",
+            "heightAxis",
+            "widthAxis",
+            "widthCircleAxis",
+            "heightCircleAxis",
+            "perlinData",
+            "recycler",
+            "timeIndex",
+            "forkThreshold",
+            "pool",
+            "generated",
+            "containers",
+            "containersCount",
+            "amplitude",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool")
+        .verify();
+  }
+
+  @Test
+  void testSliceCircularity() {
+    FloatSliceGenerator generator = defaultBuilder.withCircularBounds(true).build();
+
+    int numCyclesInWidth = (int) (generator.getSliceWidth() * generator.getWidthStepSize());
+    int numInterpolationPointsPerCycleInWidth = (int) (1.0 / generator.getWidthStepSize());
+
+    for (int i = 0; i < 10; i++) {
+      float[][] slice = generator.getNext();
+      for (int row = 0; row < generator.getSliceHeight(); row++) {
+        for (int j = 0; j < numInterpolationPointsPerCycleInWidth; j++) {
+          float ref = slice[j][row];
+          for (int k = 1; k < numCyclesInWidth; k++) {
+            assertEquals(ref, slice[k * numInterpolationPointsPerCycleInWidth + j][row], 1E-6f);
+          }
+        }
+      }
+    }
+  }
+}
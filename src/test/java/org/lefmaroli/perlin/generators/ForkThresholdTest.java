@@ -0,0 +1,36 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ForkThresholdTest {
+
+  @Test
+  void testExpensiveSamplesCappedAtFewTasksPerWorker() {
+    ForkThreshold forkThreshold = ForkThreshold.calibrated(64_000, 4);
+    forkThreshold.record(64_000, TimeUnit.SECONDS.toNanos(64));
+    forkThreshold.update();
+    assertEquals(64_000 / (4 * 4), forkThreshold.get());
+  }
+
+  @Test
+  void testCheapFrameLeftAsSingleTask() {
+    ForkThreshold forkThreshold = ForkThreshold.calibrated(10_000, 4);
+    for (int i = 0; i < 20; i++) {
+      forkThreshold.record(10_000, 10_000);
+      forkThreshold.update();
+    }
+    assertTrue(forkThreshold.get() >= 10_000);
+  }
+
+  @Test
+  void testFixedThresholdNotCalibrated() {
+    ForkThreshold forkThreshold = ForkThreshold.fixed(100);
+    forkThreshold.record(10_000, 10_000);
+    forkThreshold.update();
+    assertEquals(100, forkThreshold.get());
+  }
+}
@@ -0,0 +1,85 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FramePrefetcherTest {
+
+  private static final CancellationToken NOT_CANCELLABLE = new CancellationToken();
+  private final AtomicInteger generated = new AtomicInteger();
+  private final CountDownLatch released = new CountDownLatch(1);
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void setup() {
+    executorService = Executors.newSingleThreadExecutor();
+    generated.set(0);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  // Frames hold the number of frames generated before them, frame failing throws instead and
+  // frame blocking waits for its release
+  private FramePrefetcher<int[]> prefetcher(int failing, int blocking) {
+    return new FramePrefetcher<>(
+        2,
+        executorService,
+        () -> new int[1],
+        (container, cancellationToken) -> {
+          var index = generated.getAndIncrement();
+          if (index == blocking) {
+            try {
+              released.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+          if (index == failing) {
+            throw new IllegalStateException("Failed frame " + index);
+          }
+          container[0] = index;
+          return container;
+        });
+  }
+
+  @Test
+  void testFramesInOrder() {
+    FramePrefetcher<int[]> prefetcher = prefetcher(-1, -1);
+    for (int i = 0; i < 10; i++) {
+      assertEquals(i, prefetcher.next(NOT_CANCELLABLE)[0]);
+    }
+  }
+
+  @Test
+  void testFramesAfterFailedFrame() {
+    FramePrefetcher<int[]> prefetcher = prefetcher(2, -1);
+    assertEquals(0, prefetcher.next(NOT_CANCELLABLE)[0]);
+    assertEquals(1, prefetcher.next(NOT_CANCELLABLE)[0]);
+    assertThrows(IllegalStateException.class, () -> prefetcher.next(NOT_CANCELLABLE));
+    for (int i = 3; i < 10; i++) {
+      assertEquals(i, prefetcher.next(NOT_CANCELLABLE)[0]);
+    }
+  }
+
+  @Test
+  void testFramesAfterExecutorShutdown() {
+    FramePrefetcher<int[]> prefetcher = prefetcher(-1, 1);
+    assertEquals(0, prefetcher.next(NOT_CANCELLABLE)[0]);
+    executorService.shutdown();
+    released.countDown();
+    for (int i = 1; i < 10; i++) {
+      assertEquals(i, prefetcher.next(NOT_CANCELLABLE)[0]);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.awaitility.Awaitility.waitAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.lefmaroli.testutils.RecordingSubscriber;
+
+class FramePublisherTest {
+
+  private final AtomicInteger leasing = new AtomicInteger();
+  private final AtomicInteger maxLeasing = new AtomicInteger();
+  private final CountDownLatch entered = new CountDownLatch(1);
+  private final CountDownLatch released = new CountDownLatch(1);
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void setup() {
+    executorService = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  // The first frame waits for its release, concurrent calls are counted
+  private FrameLease<int[]> lease(CancellationToken cancellationToken) {
+    maxLeasing.accumulateAndGet(leasing.incrementAndGet(), Math::max);
+    try {
+      entered.countDown();
+      released.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      leasing.decrementAndGet();
+    }
+    return new FrameLease<>(new int[1], () -> {});
+  }
+
+  @Test
+  void testResubscribedOnceCancelledDrainExited() throws InterruptedException {
+    FramePublisher<int[]> publisher = new FramePublisher<>(this::lease, 2, executorService);
+    RecordingSubscriber<FrameLease<int[]>> first = new RecordingSubscriber<>();
+    publisher.subscribe(first);
+    first.request(1);
+    assertTrue(entered.await(2, TimeUnit.SECONDS));
+    first.cancel();
+    RecordingSubscriber<FrameLease<int[]>> early = new RecordingSubscriber<>();
+    publisher.subscribe(early);
+    assertTrue(early.getError() instanceof IllegalStateException);
+    released.countDown();
+    waitAtMost(Duration.ofSeconds(2)).until(() -> leasing.get() == 0);
+    assertTrue(first.getReceived().isEmpty());
+    RecordingSubscriber<FrameLease<int[]>> second = new RecordingSubscriber<>();
+    waitAtMost(Duration.ofSeconds(2))
+        .until(
+            () -> {
+              publisher.subscribe(second);
+              return second.getError() == null;
+            });
+    second.request(2);
+    waitAtMost(Duration.ofSeconds(2)).until(() -> second.getReceived().size() == 2);
+    assertEquals(1, maxLeasing.get());
+  }
+
+  @Test
+  void testErrorFromLeaserSignalled() {
+    FramePublisher<int[]> publisher =
+        new FramePublisher<>(
+            cancellationToken -> {
+              throw new AssertionError("Failed frame");
+            },
+            2,
+            Runnable::run);
+    RecordingSubscriber<FrameLease<int[]>> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(subscriber);
+    subscriber.request(1);
+    assertTrue(subscriber.getError() instanceof AssertionError);
+    RecordingSubscriber<FrameLease<int[]>> next = new RecordingSubscriber<>();
+    publisher.subscribe(next);
+    assertNull(next.getError());
+  }
+}
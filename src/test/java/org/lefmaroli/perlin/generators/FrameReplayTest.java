@@ -0,0 +1,214 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FrameReplayTest {
+
+  private static final int sliceWidth = 30;
+  private static final int sliceHeight = 20;
+  private static final int lineLength = 50;
+  private static final long randomSeed = System.currentTimeMillis();
+  @TempDir Path directory;
+  private Path path;
+
+  @BeforeEach
+  void setup() {
+    path = directory.resolve("frames.bin");
+  }
+
+  private static SliceGenerator sliceGenerator() {
+    return new SliceGeneratorBuilder(sliceWidth, sliceHeight)
+        .withTimeStepSize(1.0 / 10)
+        .withWidthStepSize(1.0 / 30)
+        .withHeightStepSize(1.0 / 40)
+        .withAmplitude(2.0)
+        .withRandomSeed(randomSeed)
+        .withForkJoinPool(null)
+        .build();
+  }
+
+  private static LineGenerator lineGenerator() {
+    return new LineGeneratorBuilder(lineLength)
+        .withTimeStepSize(1.0 / 10)
+        .withLineStepSize(1.0 / 25)
+        .withRandomSeed(randomSeed)
+        .withForkJoinPool(null)
+        .build();
+  }
+
+  @Test
+  void testSlicesReplayedSameAsGenerated() throws IOException {
+    try (FrameRecorder recorder =
+        FrameRecorder.forSlices(sliceGenerator(), path, FramePrecision.DOUBLE)) {
+      recorder.record(5);
+      assertEquals(5, recorder.getRecordedFrames());
+    }
+    FrameReplay replay = FrameReplay.open(path);
+    assertEquals(5, replay.getFrameCount());
+    SliceGenerator generator = sliceGenerator();
+    for (int frame = 0; frame < 5; frame++) {
+      double[] expected = generator.getNextBuffer().getData();
+      DoubleBuffer actual = replay.getFrame(frame);
+      assertEquals(expected.length, actual.remaining());
+      for (int i = 0; i < expected.length; i++) {
+        assertEquals(expected[i], actual.get(i), 0.0);
+      }
+    }
+  }
+
+  @Test
+  void testLinesReplayedInFloatPrecision() throws IOException {
+    try (FrameRecorder recorder =
+        FrameRecorder.forLines(lineGenerator(), path, FramePrecision.FLOAT)) {
+      recorder.record(3);
+    }
+    assertEquals(RecordingHeader.BYTES + 3L * lineLength * Float.BYTES, Files.size(path));
+    FrameReplay replay = FrameReplay.open(path);
+    LineGenerator generator = lineGenerator();
+    for (int frame = 0; frame < 3; frame++) {
+      double[] expected = generator.getNext();
+      FloatBuffer actual = replay.getFloatFrame(frame);
+      for (int i = 0; i < lineLength; i++) {
+        assertEquals((float) expected[i], actual.get(i), 0.0f);
+      }
+    }
+  }
+
+  @Test
+  void testHeaderSettings() throws IOException {
+    SliceGenerator generator = sliceGenerator();
+    FrameRecorder.forSlices(generator, path, FramePrecision.FLOAT).close();
+    FrameReplay replay = FrameReplay.open(path);
+    assertEquals(0, replay.getFrameCount());
+    assertEquals(3, replay.getDimensions());
+    assertEquals(FramePrecision.FLOAT, replay.getPrecision());
+    assertEquals(sliceWidth, replay.getWidth());
+    assertEquals(sliceHeight, replay.getHeight());
+    assertEquals(generator.isCircular(), replay.isCircular());
+    assertEquals(generator.getTimeStepSize(), replay.getTimeStepSize(), 0.0);
+    assertEquals(generator.getWidthStepSize(), replay.getWidthStepSize(), 0.0);
+    assertEquals(generator.getHeightStepSize(), replay.getHeightStepSize(), 0.0);
+    assertEquals(generator.getMaxAmplitude(), replay.getMaxAmplitude(), 0.0);
+    assertEquals(randomSeed, replay.getRandomSeed());
+  }
+
+  @Test
+  void testRecordingContinuedAfterReopen() throws IOException {
+    try (FrameRecorder recorder =
+        FrameRecorder.forSlices(sliceGenerator(), path, FramePrecision.DOUBLE)) {
+      recorder.record(2);
+    }
+    try (FrameRecorder recorder =
+        FrameRecorder.forSlices(sliceGenerator(), path, FramePrecision.DOUBLE)) {
+      assertEquals(2, recorder.getRecordedFrames());
+      recorder.record(2);
+    }
+    FrameReplay replay = FrameReplay.open(path);
+    assertEquals(4, replay.getFrameCount());
+    for (int frame = 0; frame < 4; frame++) {
+      double[] expected = sliceGenerator().getBufferAt(frame).getData();
+      DoubleBuffer actual = replay.getFrame(frame);
+      for (int i = 0; i < expected.length; i++) {
+        assertEquals(expected[i], actual.get(i), 0.0);
+      }
+    }
+  }
+
+  @Test
+  void testIncompleteFrameOverwritten() throws IOException {
+    try (FrameRecorder recorder =
+        FrameRecorder.forLines(lineGenerator(), path, FramePrecision.DOUBLE)) {
+      recorder.record(2);
+    }
+    Files.write(path, new byte[17], StandardOpenOption.APPEND);
+    assertEquals(2, FrameReplay.open(path).getFrameCount());
+    try (FrameRecorder recorder =
+        FrameRecorder.forLines(lineGenerator(), path, FramePrecision.DOUBLE)) {
+      assertEquals(2, recorder.getRecordedFrames());
+      recorder.record(1);
+    }
+    assertEquals(RecordingHeader.BYTES + 3L * lineLength * Double.BYTES, Files.size(path));
+  }
+
+  @Test
+  void testDifferentSettingsRejected() throws IOException {
+    FrameRecorder.forLines(lineGenerator(), path, FramePrecision.DOUBLE).close();
+    Assertions.assertThrows(
+        IOException.class,
+        () -> FrameRecorder.forLines(lineGenerator(), path, FramePrecision.FLOAT));
+    Assertions.assertThrows(
+        IOException.class,
+        () -> FrameRecorder.forSlices(sliceGenerator(), path, FramePrecision.DOUBLE));
+  }
+
+  @Test
+  void testRecordingStartsFromFirstFrame() throws IOException {
+    SliceGenerator generator = sliceGenerator();
+    generator.getNext();
+    generator.getNext();
+    try (FrameRecorder recorder = FrameRecorder.forSlices(generator, path, FramePrecision.DOUBLE)) {
+      recorder.record(2);
+    }
+    SliceGenerator continued = sliceGenerator();
+    continued.getNext();
+    try (FrameRecorder recorder = FrameRecorder.forSlices(continued, path, FramePrecision.DOUBLE)) {
+      recorder.record(1);
+    }
+    FrameReplay replay = FrameReplay.open(path);
+    for (int frame = 0; frame < 3; frame++) {
+      double[] expected = sliceGenerator().getBufferAt(frame).getData();
+      DoubleBuffer actual = replay.getFrame(frame);
+      for (int i = 0; i < expected.length; i++) {
+        assertEquals(expected[i], actual.get(i), 0.0);
+      }
+    }
+  }
+
+  @Test
+  void testForeignGeneratorRejected() {
+    SliceGenerator generator = sliceGenerator();
+    SliceGenerator foreign =
+        (SliceGenerator)
+            Proxy.newProxyInstance(
+                SliceGenerator.class.getClassLoader(),
+                new Class<?>[] {SliceGenerator.class},
+                (proxy, method, args) -> method.invoke(generator, args));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> FrameRecorder.forSlices(foreign, path, FramePrecision.DOUBLE));
+    Assertions.assertFalse(Files.exists(path));
+  }
+
+  @Test
+  void testNotARecording() throws IOException {
+    Files.write(path, new byte[RecordingHeader.BYTES * 2]);
+    Assertions.assertThrows(IOException.class, () -> FrameReplay.open(path));
+    Files.write(path, new byte[4]);
+    Assertions.assertThrows(IOException.class, () -> FrameReplay.open(path));
+  }
+
+  @Test
+  void testInvalidFrameAccess() throws IOException {
+    try (FrameRecorder recorder =
+        FrameRecorder.forLines(lineGenerator(), path, FramePrecision.DOUBLE)) {
+      Assertions.assertThrows(IllegalArgumentException.class, () -> recorder.record(-1));
+      recorder.record(1);
+    }
+    FrameReplay replay = FrameReplay.open(path);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> replay.getFrame(1));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> replay.getFrame(-1));
+    Assertions.assertThrows(IllegalStateException.class, () -> replay.getFloatFrame(0));
+  }
+}
@@ -0,0 +1,143 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jparams.verifier.tostring.NameStyle;
+import com.jparams.verifier.tostring.ToStringVerifier;
+import com.jparams.verifier.tostring.preset.Presets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LayeredFloatLineGeneratorTest {
+
+  private static final int defaultLineLength = 125;
+  private static final int numLayers = 3;
+  private static final long randomSeed = System.currentTimeMillis();
+  private static LayeredFloatLineGeneratorBuilder defaultBuilder;
+  private static LayeredFloatLineGenerator defaultGenerator;
+
+  @BeforeAll
+  static void init() throws LayeredGeneratorBuilderException {
+    defaultBuilder = new LayeredFloatLineGeneratorBuilder(defaultLineLength);
+    resetBuilder(defaultBuilder);
+    defaultGenerator = defaultBuilder.build();
+  }
+
+  private static LayeredFloatLineGeneratorBuilder resetBuilder(
+      LayeredFloatLineGeneratorBuilder builder) {
+    builder
+        .withNumberOfLayers(numLayers)
+        .withRandomSeed(randomSeed)
+        .withTimeStepSizes(List.of(1 / 2048.0, 1.0 / 1024, 1.0 / 512))
+        .withLineStepSizes(List.of(1 / 2048.0, 1.0 / 1024, 1.0 / 512))
+        .withAmplitudes(List.of(1.0, 0.5, 0.25))
+        .withCircularBounds(false)
+        .withForkJoinPool(null)
+        .withLayerExecutorService(null);
+    return builder;
+  }
+
+  @BeforeEach
+  void setup() {
+    resetBuilder(defaultBuilder);
+  }
+
+  @Test
+  void testDimension() {
+    assertEquals(2, defaultGenerator.getDimensions());
+    assertEquals(defaultLineLength, defaultGenerator.getLineLength());
+  }
+
+  @Test
+  void testValuesBounded() {
+    for (float value : defaultGenerator.getNext()) {
+      Assertions.assertTrue(value > 0.0f);
+      Assertions.assertTrue(value < 1.0f);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testCloseToDoublePrecisionLines(boolean isCircular) throws LayeredGeneratorBuilderException {
+    LayeredFloatLineGenerator generator = defaultBuilder.withCircularBounds(isCircular).build();
+    LayeredLineGenerator reference =
+        new LayeredLineGeneratorBuilder(defaultLineLength)
+            .withNumberOfLayers(numLayers)
+            .withRandomSeed(randomSeed)
+            .withTimeStepSizes(List.of(1 / 2048.0, 1.0 / 1024, 1.0 / 512))
+            .withLineStepSizes(List.of(1 / 2048.0, 1.0 / 1024, 1.0 / 512))
+            .withAmplitudes(List.of(1.0, 0.5, 0.25))
+            .withCircularBounds(isCircular)
+            .withForkJoinPool(null)
+            .withLayerExecutorService(null)
+            .build();
+    for (int i = 0; i < 20; i++) {
+      float[] line = generator.getNext();
+      double[] expected = reference.getNext();
+      for (int j = 0; j < defaultLineLength; j++) {
+        assertEquals(expected[j], line[j], 1E-5);
+      }
+    }
+  }
+
+  @Test
+  void testSameLinesWithExecutor() throws LayeredGeneratorBuilderException {
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      LayeredFloatLineGenerator parallel =
+          defaultBuilder.withLayerExecutorService(executorService).build();
+      LayeredFloatLineGenerator serial = resetBuilder(defaultBuilder).build();
+      for (int i = 0; i < 5; i++) {
+        Assertions.assertArrayEquals(serial.getNext(), parallel.getNext(), 0.0f);
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testEquals() throws LayeredGeneratorBuilderException {
+    LayeredFloatLineGenerator other =
+        resetBuilder(new LayeredFloatLineGeneratorBuilder(defaultLineLength)).build();
+    assertEquals(defaultGenerator, other);
+    assertEquals(defaultGenerator.hashCode(), other.hashCode());
+    Assertions.assertNotEquals(
+        defaultGenerator,
+        resetBuilder(new LayeredFloatLineGeneratorBuilder(defaultLineLength + 1)).build());
+  }
+
+  @Test
+  void testToString() {
+    ToStringVerifier.forClass(defaultGenerator.getClass())
+        .withClassName(NameStyle.SIMPLE_NAME)
+        .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
+        .withIgnoredFields(
+            "scheduler",
+            "jitterStrategy",
+            "logger",
+            "containers",
+            "generated",
+            "containersCount",
+            "pool",
+            "futures",
+            "layerResults",
+            "totalSize",
+            "timeout",
+            "executorService",
+            "emittedExecutorShutdownWarning",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool",
+            "fusedLayers")
+        .verify();
+  }
+}
@@ -0,0 +1,159 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jparams.verifier.tostring.NameStyle;
+import com.jparams.verifier.tostring.ToStringVerifier;
+import com.jparams.verifier.tostring.preset.Presets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LayeredFloatSliceGeneratorTest {
+
+  private static final int defaultSliceWidth = 100;
+  private static final int defaultSliceHeight = 80;
+  private static final int numLayers = 3;
+  private static final long randomSeed = System.currentTimeMillis();
+  private static LayeredFloatSliceGeneratorBuilder defaultBuilder;
+  private static LayeredFloatSliceGenerator defaultGenerator;
+
+  @BeforeAll
+  static void init() throws LayeredGeneratorBuilderException {
+    defaultBuilder = new LayeredFloatSliceGeneratorBuilder(defaultSliceWidth, defaultSliceHeight);
+    resetBuilder(defaultBuilder);
+    defaultGenerator = defaultBuilder.build();
+  }
+
+  private static LayeredFloatSliceGeneratorBuilder resetBuilder(
+      LayeredFloatSliceGeneratorBuilder builder) {
+    builder
+        .withNumberOfLayers(numLayers)
+        .withRandomSeed(randomSeed)
+        .withTimeStepSizes(List.of(1.0 / 100, 1.0 / 50, 1.0 / 25))
+        .withWidthStepSizes(List.of(1.0 / 100, 1.0 / 50, 1.0 / 25))
+        .withHeightStepSizes(List.of(1.0 / 100, 1.0 / 50, 1.0 / 25))
+        .withAmplitudes(List.of(1.0, 0.5, 0.25))
+        .withCircularBounds(false)
+        .withForkJoinPool(null)
+        .withLayerExecutorService(null);
+    return builder;
+  }
+
+  @BeforeEach
+  void setup() {
+    resetBuilder(defaultBuilder);
+  }
+
+  @Test
+  void testDimension() {
+    assertEquals(3, defaultGenerator.getDimensions());
+    assertEquals(defaultSliceWidth, defaultGenerator.getSliceWidth());
+    assertEquals(defaultSliceHeight, defaultGenerator.getSliceHeight());
+  }
+
+  @Test
+  void testValuesBounded() {
+    for (float[] column : defaultGenerator.getNext()) {
+      for (float value : column) {
+        Assertions.assertTrue(value > 0.0f);
+        Assertions.assertTrue(value < 1.0f);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testCloseToDoublePrecisionSlices(boolean isCircular)
+      throws LayeredGeneratorBuilderException {
+    LayeredFloatSliceGenerator generator = defaultBuilder.withCircularBounds(isCircular).build();
+    LayeredSliceGenerator reference =
+        new LayeredSliceGeneratorBuilder(defaultSliceWidth, defaultSliceHeight)
+            .withNumberOfLayers(numLayers)
+            .withRandomSeed(randomSeed)
+            .withTimeStepSizes(List.of(1.0 / 100, 1.0 / 50, 1.0 / 25))
+            .withWidthStepSizes(List.of(1.0 / 100, 1.0 / 50, 1.0 / 25))
+            .withHeightStepSizes(List.of(1.0 / 100, 1.0 / 50, 1.0 / 25))
+            .withAmplitudes(List.of(1.0, 0.5, 0.25))
+            .withCircularBounds(isCircular)
+            .withForkJoinPool(null)
+            .withLayerExecutorService(null)
+            .build();
+    for (int i = 0; i < 5; i++) {
+      float[][] slice = generator.getNext();
+      double[][] expected = reference.getNext();
+      for (int j = 0; j < defaultSliceWidth; j++) {
+        for (int k = 0; k < defaultSliceHeight; k++) {
+          assertEquals(expected[j][k], slice[j][k], 1E-5);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testSameSlicesWithExecutor() throws LayeredGeneratorBuilderException {
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      LayeredFloatSliceGenerator parallel =
+          defaultBuilder.withLayerExecutorService(executorService).build();
+      LayeredFloatSliceGenerator serial = resetBuilder(defaultBuilder).build();
+      for (int i = 0; i < 5; i++) {
+        float[][] expected = serial.getNext();
+        float[][] actual = parallel.getNext();
+        for (int j = 0; j < expected.length; j++) {
+          Assertions.assertArrayEquals(expected[j], actual[j], 0.0f);
+        }
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testEquals() throws LayeredGeneratorBuilderException {
+    LayeredFloatSliceGenerator other =
+        resetBuilder(new LayeredFloatSliceGeneratorBuilder(defaultSliceWidth, defaultSliceHeight))
+            .build();
+    assertEquals(defaultGenerator, other);
+    assertEquals(defaultGenerator.hashCode(), other.hashCode());
+    Assertions.assertNotEquals(
+        defaultGenerator,
+        resetBuilder(
+                new LayeredFloatSliceGeneratorBuilder(defaultSliceWidth + 1, defaultSliceHeight))
+            .build());
+  }
+
+  @Test
+  void testToString() {
+    ToStringVerifier.forClass(defaultGenerator.getClass())
+        .withClassName(NameStyle.SIMPLE_NAME)
+        .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
+        .withIgnoredFields(
+            "scheduler",
+            "jitterStrategy",
+            "logger",
+            "containers",
+            "generated",
+            "containersCount",
+            "pool",
+            "futures",
+            "layerResults",
+            "totalSize",
+            "timeout",
+            "executorService",
+            "emittedExecutorShutdownWarning",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool",
+            "fusedLayers")
+        .verify();
+  }
+}
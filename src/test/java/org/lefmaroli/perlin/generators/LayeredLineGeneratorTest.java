@@ -1,5 +1,6 @@
 package org.lefmaroli.perlin.generators;
 
+import static org.awaitility.Awaitility.waitAtMost;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -8,6 +9,7 @@ import com.jparams.verifier.tostring.NameStyle;
 import com.jparams.verifier.tostring.ToStringVerifier;
 import com.jparams.verifier.tostring.preset.Presets;
 import java.awt.GraphicsEnvironment;
+import java.time.Duration;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
@@ -34,6 +36,7 @@ import org.lefmaroli.perlin.configuration.DelayJitterStrategy;
 import org.lefmaroli.perlin.configuration.TestJitterStrategy;
 import org.lefmaroli.perlin.configuration.TimeoutJitterStrategy;
 import org.lefmaroli.testutils.AssertUtils;
+import org.lefmaroli.testutils.RecordingSubscriber;
 import org.lefmaroli.testutils.ScheduledUpdater;
 
 class LayeredLineGeneratorTest {
@@ -62,7 +65,9 @@ class LayeredLineGeneratorTest {
         .withAmplitudes(List.of(1.0, 0.5, 0.25))
         .withCircularBounds(isCircularDefault)
         .withForkJoinPool(null)
-        .withLayerExecutorService(null);
+        .withLayerExecutorService(null)
+        .withPrefetching(0, null)
+        .withLeasedFrames(4);
     return builder;
   }
 
@@ -267,11 +272,189 @@ class LayeredLineGeneratorTest {
     }
   }
 
+  @Test
+  void testPrefetchedLinesSameAsSynchronous() throws LayeredGeneratorBuilderException {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      LayeredLineGenerator expectedGenerator = defaultBuilder.build();
+      LayeredLineGenerator prefetched = defaultBuilder.withPrefetching(2, executorService).build();
+      double[] previous = null;
+      double[] previousCopy = null;
+      for (int i = 0; i < 10; i++) {
+        double[] actual = prefetched.getNext();
+        Assertions.assertArrayEquals(expectedGenerator.getNext(), actual, 0.0);
+        if (previous != null) {
+          Assertions.assertArrayEquals(previousCopy, previous, 0.0);
+        }
+        previous = actual;
+        previousCopy = actual.clone();
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testSeekWithPrefetchingAndLayerExecutor() throws LayeredGeneratorBuilderException {
+    ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+    ExecutorService executorService = Executors.newFixedThreadPool(numLayers);
+    try {
+      LayeredLineGenerator expectedGenerator = defaultBuilder.build();
+      LayeredLineGenerator generator =
+          defaultBuilder
+              .withPrefetching(2, prefetchExecutor)
+              .withLayerExecutorService(executorService)
+              .build();
+      generator.getNext();
+      generator.seek(20);
+      for (int i = 20; i < 24; i++) {
+        Assertions.assertArrayEquals(expectedGenerator.getAt(i), generator.getNext(), 0.0);
+      }
+      generator.seek(0);
+      Assertions.assertArrayEquals(expectedGenerator.getNext(), generator.getNext(), 0.0);
+    } finally {
+      prefetchExecutor.shutdown();
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testPrefetchedLinesWithLayerExecutor() throws LayeredGeneratorBuilderException {
+    ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+    ExecutorService executorService = Executors.newFixedThreadPool(numLayers);
+    try {
+      LayeredLineGenerator expectedGenerator = defaultBuilder.build();
+      LayeredLineGenerator prefetched =
+          defaultBuilder
+              .withLayerExecutorService(executorService)
+              .withPrefetching(2, prefetchExecutor)
+              .build();
+      for (int i = 0; i < 5; i++) {
+        Assertions.assertArrayEquals(expectedGenerator.getNext(), prefetched.getNext(), 0.0);
+      }
+    } finally {
+      prefetchExecutor.shutdown();
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testSharedLayerExecutionSameAsSerial() throws LayeredGeneratorBuilderException {
+    LayeredLineGenerator expectedGenerator = defaultBuilder.build();
+    LayeredLineGenerator shared = defaultBuilder.withSharedLayerExecution(numLayers).build();
+    for (int i = 0; i < 5; i++) {
+      Assertions.assertArrayEquals(expectedGenerator.getNext(), shared.getNext(), 0.0);
+    }
+  }
+
+  @Test
+  void testStreamSameAsSynchronous() throws LayeredGeneratorBuilderException {
+    LayeredLineGenerator expectedGenerator = defaultBuilder.build();
+    LayeredLineGenerator generator = defaultBuilder.build();
+    generator.stream()
+        .limit(5)
+        .forEach(actual -> Assertions.assertArrayEquals(expectedGenerator.getNext(), actual, 0.0));
+  }
+
+  @Test
+  void testPublishedLinesWithPrefetching() throws LayeredGeneratorBuilderException {
+    ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+    ExecutorService publishExecutor = Executors.newSingleThreadExecutor();
+    try {
+      LayeredLineGenerator expectedGenerator = defaultBuilder.build();
+      LayeredLineGenerator generator =
+          defaultBuilder.withLeasedFrames(2).withPrefetching(2, prefetchExecutor).build();
+      RecordingSubscriber<FrameLease<double[]>> subscriber = new RecordingSubscriber<>();
+      generator.publisher(publishExecutor).subscribe(subscriber);
+      subscriber.request(6);
+      for (int i = 0; i < 6; i++) {
+        int index = i;
+        waitAtMost(Duration.ofSeconds(10)).until(() -> subscriber.getReceived().size() > index);
+        try (FrameLease<double[]> lease = subscriber.getReceived().get(i)) {
+          Assertions.assertArrayEquals(expectedGenerator.getNext(), lease.get(), 0.0);
+        }
+      }
+      Assertions.assertNull(subscriber.getError());
+    } finally {
+      prefetchExecutor.shutdown();
+      publishExecutor.shutdown();
+    }
+  }
+
+  @Test
+  void testLeasedLinesKeptUntilReleased() throws LayeredGeneratorBuilderException {
+    LayeredLineGenerator expectedGenerator = defaultBuilder.build();
+    LayeredLineGenerator generator = defaultBuilder.withLeasedFrames(2).build();
+    FrameLease<double[]> held = generator.acquireNext();
+    double[] heldExpected = expectedGenerator.getNext().clone();
+    for (int i = 0; i < 5; i++) {
+      try (FrameLease<double[]> lease = generator.acquireNext()) {
+        Assertions.assertArrayEquals(expectedGenerator.getNext(), lease.get(), 0.0);
+      }
+    }
+    Assertions.assertArrayEquals(heldExpected, held.get(), 0.0);
+    held.release();
+  }
+
+  @Test
+  void testCancelledLineReportedIncomplete() throws LayeredGeneratorBuilderException {
+    LayeredLineGenerator generator = defaultBuilder.build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+  }
+
+  @Test
+  void testCancelledLineResumesWithRemainingLayers() throws LayeredGeneratorBuilderException {
+    LayeredLineGenerator generator = defaultBuilder.build();
+    // Lets the first layer complete, then cancels before the second one
+    CancellationToken token = new CancelAfterChecksToken(3);
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+    double[] expected = defaultBuilder.build().getNext();
+    double[] resumed = generator.getNext();
+    Assertions.assertArrayEquals(expected, resumed, 0.0);
+    Assertions.assertArrayEquals(defaultBuilder.build().getNext(), expected, 0.0);
+  }
+
+  @Test
+  void testCancelledLineWithExecutorReportedIncomplete() throws LayeredGeneratorBuilderException {
+    ExecutorService executorService = Executors.newFixedThreadPool(numLayers);
+    LayeredLineGenerator generator =
+        resetBuilder(new LayeredLineGeneratorBuilder(8000))
+            .withLayerExecutorService(executorService)
+            .build();
+    try {
+      CancellationToken token = new CancellationToken();
+      token.cancel();
+      Assertions.assertThrows(
+          IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  private static class CancelAfterChecksToken extends CancellationToken {
+    private int remainingChecks;
+
+    CancelAfterChecksToken(int remainingChecks) {
+      this.remainingChecks = remainingChecks;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return remainingChecks-- <= 0;
+    }
+  }
+
   @Test
   void testToString() {
     ToStringVerifier.forClass(defaultGenerator.getClass())
         .withClassName(NameStyle.SIMPLE_NAME)
         .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
         .withIgnoredFields(
             "scheduler",
             "jitterStrategy",
@@ -281,10 +464,15 @@ class LayeredLineGeneratorTest {
             "containersCount",
             "pool",
             "futures",
+            "layerResults",
             "totalSize",
             "timeout",
             "executorService",
-            "emittedExecutorShutdownWarning")
+            "emittedExecutorShutdownWarning",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool",
+            "fusedLayers")
         .verify();
   }
 
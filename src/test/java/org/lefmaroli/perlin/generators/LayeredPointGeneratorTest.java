@@ -107,6 +107,21 @@ class LayeredPointGeneratorTest {
     }
   }
 
+  @Test
+  void testSeekAndGetAtSameAsSequence() throws LayeredGeneratorBuilderException {
+    LayeredPointGenerator generator = defaultBuilder.build();
+    double[] expected = new double[50];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = generator.getNext();
+    }
+    LayeredPointGenerator random = defaultBuilder.build();
+    for (int i = expected.length - 1; i >= 0; i--) {
+      Assertions.assertEquals(expected[i], random.getAt(i), 0.0);
+    }
+    random.seek(40);
+    Assertions.assertEquals(expected[40], random.getNext(), 0.0);
+  }
+
   @Test
   void testGetMaxAmplitude() {
     assertEquals(maxAmplitude, defaultGenerator.getMaxAmplitude(), 0.0);
@@ -169,6 +184,8 @@ class LayeredPointGeneratorTest {
     ToStringVerifier.forClass(defaultGenerator.getClass())
         .withClassName(NameStyle.SIMPLE_NAME)
         .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
         .withIgnoredFields(
             "scheduler",
             "jitterStrategy",
@@ -177,10 +194,15 @@ class LayeredPointGeneratorTest {
             "generated",
             "containersCount",
             "futures",
+            "layerResults",
             "totalSize",
             "timeout",
             "executorService",
-            "emittedExecutorShutdownWarning")
+            "emittedExecutorShutdownWarning",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool",
+            "fusedLayers")
         .verify();
   }
 
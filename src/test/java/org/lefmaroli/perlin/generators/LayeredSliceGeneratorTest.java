@@ -12,6 +12,7 @@ import java.awt.GraphicsEnvironment;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
@@ -31,6 +32,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.lefmaroli.display.SimpleGrayScaleImage;
 import org.lefmaroli.factorgenerator.DoubleGenerator;
 import org.lefmaroli.perlin.configuration.DelayJitterStrategy;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
 import org.lefmaroli.perlin.configuration.TestJitterStrategy;
 import org.lefmaroli.perlin.configuration.TimeoutJitterStrategy;
 import org.lefmaroli.testutils.AssertUtils;
@@ -58,6 +60,7 @@ class LayeredSliceGeneratorTest {
     return builder
         .withCircularBounds(isCircularDefault)
         .withForkJoinPool(null)
+        .withForkThreshold(0)
         .withAmplitudes(List.of(1.0, 0.5, 0.25))
         .withNumberOfLayers(numLayers)
         .withRandomSeed(randomSeed)
@@ -298,6 +301,27 @@ class LayeredSliceGeneratorTest {
         Arguments.of(new Random(), "object from different class"));
   }
 
+  @Test
+  void testNextBufferSameAsSlices() throws LayeredGeneratorBuilderException {
+    LayeredSliceGenerator generator =
+        resetBuilder(new LayeredSliceGeneratorBuilder(defaultSliceWidth, defaultSliceHeight))
+            .build();
+    LayeredSliceGenerator buffered =
+        resetBuilder(new LayeredSliceGeneratorBuilder(defaultSliceWidth, defaultSliceHeight))
+            .build();
+    for (int i = 0; i < 5; i++) {
+      double[][] expected = generator.getNext();
+      SliceBuffer buffer = buffered.getNextBuffer();
+      assertEquals(defaultSliceWidth, buffer.getWidth());
+      assertEquals(defaultSliceHeight, buffer.getHeight());
+      for (int j = 0; j < defaultSliceWidth; j++) {
+        for (int k = 0; k < defaultSliceHeight; k++) {
+          assertEquals(expected[j][k], buffer.getData()[j * buffer.getStride() + k], 0.0);
+        }
+      }
+    }
+  }
+
   @Test
   void testSliceWidth() {
     Assertions.assertEquals(defaultSliceWidth, defaultGenerator.getSliceWidth());
@@ -335,11 +359,328 @@ class LayeredSliceGeneratorTest {
     }
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testFusedLayersSameAsSummedLayers(boolean isCircular)
+      throws LayeredGeneratorBuilderException, StepSizeException {
+    int width = 120;
+    int height = 90;
+    List<Double> stepSizes = List.of(1.0 / 100, 1.0 / 50, 1.0 / 25);
+    List<Double> amplitudes = List.of(1.0, 0.5, 0.25);
+    LayeredSliceGenerator fused =
+        resetBuilder(new LayeredSliceGeneratorBuilder(width, height))
+            .withCircularBounds(isCircular)
+            .build();
+    Random layerSeeds = new Random(randomSeed);
+    SliceGenerator[] layers = new SliceGenerator[numLayers];
+    for (int i = 0; i < numLayers; i++) {
+      layers[i] =
+          new SliceGeneratorBuilder(width, height)
+              .withTimeStepSize(stepSizes.get(i))
+              .withWidthStepSize(stepSizes.get(i))
+              .withHeightStepSize(stepSizes.get(i))
+              .withAmplitude(amplitudes.get(i))
+              .withRandomSeed(layerSeeds.nextLong())
+              .withCircularBounds(isCircular)
+              .withForkJoinPool(null)
+              .build();
+    }
+    for (int frame = 0; frame < 3; frame++) {
+      double[] expected = new double[width * height];
+      for (SliceGenerator layer : layers) {
+        double[] layerData = layer.getNextBuffer().getData();
+        for (int i = 0; i < expected.length; i++) {
+          expected[i] = expected[i] + layerData[i];
+        }
+      }
+      for (int i = 0; i < expected.length; i++) {
+        expected[i] = expected[i] / fused.getMaxAmplitude();
+      }
+      Assertions.assertArrayEquals(expected, fused.getNextBuffer().getData(), 0.0);
+    }
+  }
+
+  @Test
+  void testFusedSeekAndGetAtSameAsSequence() throws LayeredGeneratorBuilderException {
+    LayeredSliceGenerator generator =
+        resetBuilder(new LayeredSliceGeneratorBuilder(120, 90)).build();
+    double[][] expected = new double[5][];
+    for (int frame = 0; frame < expected.length; frame++) {
+      expected[frame] = generator.getNextBuffer().getData().clone();
+    }
+    LayeredSliceGenerator random = resetBuilder(new LayeredSliceGeneratorBuilder(120, 90)).build();
+    for (int frame = expected.length - 1; frame >= 0; frame--) {
+      Assertions.assertArrayEquals(expected[frame], random.getBufferAt(frame).getData(), 0.0);
+    }
+    random.seek(3);
+    Assertions.assertArrayEquals(expected[3], random.getNextBuffer().getData(), 0.0);
+    Assertions.assertArrayEquals(expected[4], random.getNextBuffer().getData(), 0.0);
+  }
+
+  // The fused path folds the normalization into the scale of the codes, which can move a value
+  // sitting on a rounding threshold to the next code
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testQuantizedSameAsNormalizedFrames(boolean dithered)
+      throws LayeredGeneratorBuilderException {
+    int width = 120;
+    int height = 90;
+    Quantization quantization = new Quantization(0.2, 0.8, dithered);
+    LayeredSliceGenerator normalized =
+        resetBuilder(new LayeredSliceGeneratorBuilder(width, height)).build();
+    LayeredSliceGenerator quantized =
+        resetBuilder(new LayeredSliceGeneratorBuilder(width, height)).build();
+    ShortSliceBuffer expectedShorts = new ShortSliceBuffer(width, height);
+    ShortSliceBuffer actualShorts = new ShortSliceBuffer(width, height);
+    quantization.quantize(normalized.getNextBuffer(), expectedShorts);
+    quantized.getNextInto(actualShorts, quantization);
+    ByteSliceBuffer expectedBytes = new ByteSliceBuffer(width, height);
+    ByteSliceBuffer actualBytes = new ByteSliceBuffer(width, height);
+    quantization.quantize(normalized.getNextBuffer(), expectedBytes);
+    quantized.getNextInto(actualBytes, quantization);
+    for (int i = 0; i < width; i++) {
+      for (int j = 0; j < height; j++) {
+        assertEquals(expectedShorts.get(i, j), actualShorts.get(i, j), 1);
+        assertEquals(expectedBytes.get(i, j), actualBytes.get(i, j), 1);
+      }
+    }
+    Assertions.assertArrayEquals(
+        normalized.getNextBuffer().getData(), quantized.getNextBuffer().getData(), 0.0);
+  }
+
+  @Test
+  void testQuantizedPrefetchedFrames() throws LayeredGeneratorBuilderException {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      Quantization quantization = new Quantization(0.0, 1.0, false);
+      LayeredSliceGenerator normalized =
+          resetBuilder(new LayeredSliceGeneratorBuilder(120, 90)).build();
+      LayeredSliceGenerator prefetched =
+          resetBuilder(new LayeredSliceGeneratorBuilder(120, 90))
+              .withPrefetching(2, executorService)
+              .build();
+      ShortSliceBuffer expected = new ShortSliceBuffer(120, 90);
+      ShortSliceBuffer actual = new ShortSliceBuffer(120, 90);
+      for (int frame = 0; frame < 3; frame++) {
+        quantization.quantize(normalized.getNextBuffer(), expected);
+        prefetched.getNextInto(actual, quantization);
+        Assertions.assertArrayEquals(expected.getData(), actual.getData());
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testQuantizedFrameWrongSize() {
+    Quantization quantization = new Quantization(0.0, 1.0, false);
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            defaultGenerator.getNextInto(
+                new ShortSliceBuffer(defaultSliceWidth + 1, defaultSliceHeight), quantization));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            defaultGenerator.getNextInto(
+                new ByteSliceBuffer(defaultSliceWidth, defaultSliceHeight - 1), quantization));
+  }
+
+  @Test
+  void testFusedLayersWithPoolSameAsSerial() throws LayeredGeneratorBuilderException {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      LayeredSliceGenerator serial =
+          resetBuilder(new LayeredSliceGeneratorBuilder(120, 90)).build();
+      LayeredSliceGenerator forked =
+          resetBuilder(new LayeredSliceGeneratorBuilder(120, 90)).withForkJoinPool(pool).build();
+      for (int frame = 0; frame < 3; frame++) {
+        double[][] expected = serial.getNext();
+        double[][] actual = forked.getNext();
+        for (int i = 0; i < expected.length; i++) {
+          Assertions.assertArrayEquals(expected[i], actual[i], 0.0);
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testFusedTilesOnLayerExecutorSameAsSerial() throws LayeredGeneratorBuilderException {
+    TestJitterStrategy jitterStrategy = new TestJitterStrategy();
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+    try {
+      LayeredSliceGenerator serial =
+          resetBuilder(new LayeredSliceGeneratorBuilder(120, 90)).build();
+      LayeredSliceGenerator tiled =
+          resetBuilder(new LayeredSliceGeneratorBuilder(120, 90))
+              .withLayerExecutorService(executorService)
+              .withJitterStrategy(jitterStrategy)
+              .build();
+      for (int frame = 0; frame < 3; frame++) {
+        double[][] expected = serial.getNext();
+        double[][] actual = tiled.getNext();
+        for (int i = 0; i < expected.length; i++) {
+          Assertions.assertArrayEquals(expected[i], actual[i], 0.0);
+        }
+      }
+    } finally {
+      executorService.shutdown();
+      jitterStrategy.shutdown();
+    }
+  }
+
+  @Test
+  void testSharedLayerExecutionSameAsSerial() throws LayeredGeneratorBuilderException {
+    TestJitterStrategy jitterStrategy = new TestJitterStrategy();
+    try {
+      LayeredSliceGenerator serial =
+          resetBuilder(new LayeredSliceGeneratorBuilder(120, 90)).build();
+      LayeredSliceGenerator shared =
+          resetBuilder(new LayeredSliceGeneratorBuilder(120, 90))
+              .withSharedLayerExecution(2)
+              .withJitterStrategy(jitterStrategy)
+              .build();
+      for (int frame = 0; frame < 3; frame++) {
+        double[][] expected = serial.getNext();
+        double[][] actual = shared.getNext();
+        for (int i = 0; i < expected.length; i++) {
+          Assertions.assertArrayEquals(expected[i], actual[i], 0.0);
+        }
+      }
+    } finally {
+      jitterStrategy.shutdown();
+    }
+  }
+
+  @Test
+  void testForkThresholdAppliedToLayers() throws LayeredGeneratorBuilderException {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      LayeredSliceGenerator serial =
+          resetBuilder(new LayeredSliceGeneratorBuilder(120, 90)).build();
+      LayeredSliceGenerator forked =
+          resetBuilder(new LayeredSliceGeneratorBuilder(120, 90))
+              .withForkJoinPool(pool)
+              .withForkThreshold(500)
+              .build();
+      Assertions.assertEquals(500, forked.getForkThreshold());
+      double[][] expected = serial.getNext();
+      double[][] actual = forked.getNext();
+      for (int i = 0; i < expected.length; i++) {
+        Assertions.assertArrayEquals(expected[i], actual[i], 0.0);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testInvalidSharedLayerExecution() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> defaultBuilder.withSharedLayerExecution(0));
+  }
+
+  // Slow tiles must not take every thread of the caller's executor
+  @Test
+  void testFusedTilesLeaveExecutorThreads() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    DelayJitterStrategy jitterStrategy =
+        new DelayJitterStrategy() {
+          @Override
+          public void jitter() {
+            started.countDown();
+            super.jitter();
+          }
+        };
+    ScheduledExecutorService executorService = Executors.newScheduledThreadPool(numLayers + 1);
+    ExecutorService caller = Executors.newSingleThreadExecutor();
+    CancellationToken cancellationToken = new CancellationToken();
+    try {
+      LayeredSliceGenerator generator =
+          resetBuilder(new LayeredSliceGeneratorBuilder(200, 20))
+              .withLayerExecutorService(executorService)
+              .withJitterStrategy(jitterStrategy)
+              .build();
+      caller.execute(() -> generator.getNextUnlessCancelled(cancellationToken));
+      Assertions.assertTrue(started.await(2, TimeUnit.SECONDS));
+      CompletableFuture.runAsync(() -> {}, executorService).get(2, TimeUnit.SECONDS);
+    } finally {
+      cancellationToken.cancel();
+      caller.shutdown();
+      executorService.shutdown();
+      jitterStrategy.shutdown();
+    }
+  }
+
+  @Test
+  void testFusedFrameQueuedBehindSharedCarriers() throws Exception {
+    // Tiles of 630 samples take about 250ms, the timeout being 2s
+    JitterStrategy jitterStrategy =
+        new JitterStrategy() {
+          @Override
+          public void jitter() {
+            long end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(400);
+            while (System.nanoTime() < end) {
+              Thread.onSpinWait();
+            }
+          }
+
+          @Override
+          public long getTimeout() {
+            return 1984;
+          }
+        };
+    ExecutorService carrier = Executors.newSingleThreadExecutor();
+    ConcurrencyLimitedExecutor limitedExecutor = new ConcurrencyLimitedExecutor(carrier, 1);
+    try {
+      LayeredSliceGenerator generator =
+          resetBuilder(new LayeredSliceGeneratorBuilder(24, 35))
+              .withLayerExecutorService(limitedExecutor)
+              .withForkThreshold(1)
+              .withJitterStrategy(jitterStrategy)
+              .build();
+      CountDownLatch busy = new CountDownLatch(1);
+      carrier.execute(
+          () -> {
+            busy.countDown();
+            try {
+              Thread.sleep(1300);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      Assertions.assertTrue(busy.await(2, TimeUnit.SECONDS));
+      Assertions.assertDoesNotThrow(generator::getNext);
+    } finally {
+      limitedExecutor.shutdown();
+      carrier.shutdown();
+    }
+  }
+
+  @Test
+  void testCancelledFusedSliceRetriedFromSameTime() throws LayeredGeneratorBuilderException {
+    LayeredSliceGenerator generator = defaultBuilder.build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+    double[][] expected = defaultBuilder.build().getNext();
+    double[][] retried = generator.getNext();
+    for (int i = 0; i < expected.length; i++) {
+      Assertions.assertArrayEquals(expected[i], retried[i], 0.0);
+    }
+  }
+
   @Test
   void testToString() {
     ToStringVerifier.forClass(defaultGenerator.getClass())
         .withClassName(NameStyle.SIMPLE_NAME)
         .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
+        .withPrefabValue(FusedSliceLayers.class, null)
         .withIgnoredFields(
             "scheduler",
             "jitterStrategy",
@@ -349,10 +690,15 @@ class LayeredSliceGeneratorTest {
             "containersCount",
             "pool",
             "futures",
+            "layerResults",
             "totalSize",
             "timeout",
             "executorService",
-            "emittedExecutorShutdownWarning")
+            "emittedExecutorShutdownWarning",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool",
+            "fusedLayers")
         .verify();
   }
 
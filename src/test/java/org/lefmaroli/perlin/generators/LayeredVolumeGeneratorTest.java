@@ -0,0 +1,219 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jparams.verifier.tostring.NameStyle;
+import com.jparams.verifier.tostring.ToStringVerifier;
+import com.jparams.verifier.tostring.preset.Presets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LayeredVolumeGeneratorTest {
+
+  private static final int defaultVolumeWidth = 20;
+  private static final int defaultVolumeHeight = 16;
+  private static final int defaultVolumeDepth = 10;
+  private static final boolean isCircularDefault = false;
+  private static final long randomSeed = System.currentTimeMillis();
+  private static final int numLayers = 3;
+  private static LayeredVolumeGenerator defaultGenerator;
+  private static LayeredVolumeGeneratorBuilder defaultBuilder;
+
+  @BeforeAll
+  static void init() throws LayeredGeneratorBuilderException {
+    defaultBuilder =
+        new LayeredVolumeGeneratorBuilder(
+            defaultVolumeWidth, defaultVolumeHeight, defaultVolumeDepth);
+    resetBuilder(defaultBuilder);
+    defaultGenerator = defaultBuilder.build();
+  }
+
+  private static LayeredVolumeGeneratorBuilder resetBuilder(LayeredVolumeGeneratorBuilder builder) {
+    return builder
+        .withCircularBounds(isCircularDefault)
+        .withForkJoinPool(null)
+        .withForkThreshold(0)
+        .withAmplitudes(List.of(1.0, 0.5, 0.25))
+        .withNumberOfLayers(numLayers)
+        .withRandomSeed(randomSeed)
+        .withTimeStepSizes(List.of(1.0 / 100, 1.0 / 50, 1.0 / 25))
+        .withWidthStepSizes(List.of(1.0 / 100, 1.0 / 50, 1.0 / 25))
+        .withHeightStepSizes(List.of(1.0 / 16, 1.0 / 8, 1.0 / 4))
+        .withDepthStepSizes(List.of(1.0 / 100, 1.0 / 50, 1.0 / 25))
+        .withLayerExecutorService(null);
+  }
+
+  @BeforeEach
+  void setup() {
+    resetBuilder(defaultBuilder);
+  }
+
+  @Test
+  void testDimension() {
+    assertEquals(4, defaultGenerator.getDimensions());
+  }
+
+  @Test
+  void testVolumeSize() {
+    assertEquals(defaultVolumeWidth, defaultGenerator.getVolumeWidth());
+    assertEquals(defaultVolumeHeight, defaultGenerator.getVolumeHeight());
+    assertEquals(defaultVolumeDepth, defaultGenerator.getVolumeDepth());
+    assertEquals(
+        defaultVolumeWidth * defaultVolumeHeight * defaultVolumeDepth * numLayers,
+        defaultGenerator.getTotalSize());
+    assertEquals(numLayers, defaultGenerator.getNumberOfLayers());
+  }
+
+  @Test
+  void testGetNextBoundedValues() {
+    for (double value : defaultGenerator.getNext().getData()) {
+      Assertions.assertTrue(value > 0.0 && value < 1.0, "Value not bounded: " + value);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testLayersSameAsSummedVolumes(boolean isCircular)
+      throws LayeredGeneratorBuilderException, StepSizeException {
+    List<Double> stepSizes = List.of(1.0 / 100, 1.0 / 50, 1.0 / 25);
+    List<Double> heightStepSizes = List.of(1.0 / 16, 1.0 / 8, 1.0 / 4);
+    List<Double> amplitudes = List.of(1.0, 0.5, 0.25);
+    LayeredVolumeGenerator layered =
+        resetBuilder(defaultBuilder).withCircularBounds(isCircular).build();
+    Random layerSeeds = new Random(randomSeed);
+    VolumeGenerator[] layers = new VolumeGenerator[numLayers];
+    for (int i = 0; i < numLayers; i++) {
+      layers[i] =
+          new VolumeGeneratorBuilder(defaultVolumeWidth, defaultVolumeHeight, defaultVolumeDepth)
+              .withTimeStepSize(stepSizes.get(i))
+              .withWidthStepSize(stepSizes.get(i))
+              .withHeightStepSize(heightStepSizes.get(i))
+              .withDepthStepSize(stepSizes.get(i))
+              .withAmplitude(amplitudes.get(i))
+              .withRandomSeed(layerSeeds.nextLong())
+              .withCircularBounds(isCircular)
+              .withForkJoinPool(null)
+              .build();
+    }
+    for (int frame = 0; frame < 3; frame++) {
+      double[] expected = new double[defaultVolumeWidth * defaultVolumeHeight * defaultVolumeDepth];
+      for (VolumeGenerator layer : layers) {
+        double[] layerData = layer.getNext().getData();
+        for (int i = 0; i < expected.length; i++) {
+          expected[i] = expected[i] + layerData[i];
+        }
+      }
+      for (int i = 0; i < expected.length; i++) {
+        expected[i] = expected[i] / layered.getMaxAmplitude();
+      }
+      Assertions.assertArrayEquals(expected, layered.getNext().getData(), 0.0);
+    }
+  }
+
+  @Test
+  void testPoolAndLayerExecutorSameAsSerial() throws LayeredGeneratorBuilderException {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    ExecutorService executorService = Executors.newFixedThreadPool(numLayers);
+    try {
+      LayeredVolumeGenerator serial = defaultBuilder.build();
+      LayeredVolumeGenerator parallel =
+          resetBuilder(
+                  new LayeredVolumeGeneratorBuilder(
+                      defaultVolumeWidth, defaultVolumeHeight, defaultVolumeDepth))
+              .withForkJoinPool(pool)
+              .withForkThreshold(100)
+              .withLayerExecutorService(executorService)
+              .build();
+      for (int frame = 0; frame < 3; frame++) {
+        Assertions.assertArrayEquals(serial.getNext().getData(), parallel.getNext().getData(), 0.0);
+      }
+    } finally {
+      pool.shutdown();
+      executorService.shutdown();
+    }
+  }
+
+  @ParameterizedTest(name = "{index} - {2}")
+  @MethodSource("testEqualsSource")
+  @SuppressWarnings("unused")
+  void testEquals(Object first, Object second, String title) {
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> testEqualsSource() throws LayeredGeneratorBuilderException {
+    LayeredVolumeGeneratorBuilder other =
+        resetBuilder(
+            new LayeredVolumeGeneratorBuilder(
+                defaultVolumeWidth, defaultVolumeHeight, defaultVolumeDepth));
+    defaultGenerator = resetBuilder(defaultBuilder).build();
+    return Stream.of(
+        Arguments.of(
+            other.build(), defaultBuilder.build(), "Different generators from different builders"),
+        Arguments.of(defaultGenerator, defaultGenerator, "Same generator"));
+  }
+
+  @ParameterizedTest(name = "{index} - {1}")
+  @MethodSource("notEquals")
+  @SuppressWarnings("unused")
+  void testNotEquals(Object other, String title) {
+    Assertions.assertNotEquals(defaultGenerator, other);
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> notEquals() throws LayeredGeneratorBuilderException {
+    return Stream.of(
+        Arguments.of(
+            resetBuilder(
+                    new LayeredVolumeGeneratorBuilder(
+                        defaultVolumeWidth, defaultVolumeHeight, defaultVolumeDepth + 1))
+                .build(),
+            "different volume depth"),
+        Arguments.of(
+            resetBuilder(defaultBuilder).withDepthStepSizes(List.of(0.5, 0.25, 0.125)).build(),
+            "different depth step sizes"),
+        Arguments.of(null, "null"),
+        Arguments.of(new Random(), "object from different class"));
+  }
+
+  @Test
+  void testToString() {
+    ToStringVerifier.forClass(defaultGenerator.getClass())
+        .withClassName(NameStyle.SIMPLE_NAME)
+        .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
+        .withIgnoredFields(
+            "scheduler",
+            "jitterStrategy",
+            "logger",
+            "containers",
+            "generated",
+            "containersCount",
+            "pool",
+            "futures",
+            "layerResults",
+            "totalSize",
+            "timeout",
+            "executorService",
+            "emittedExecutorShutdownWarning",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool",
+            "fusedLayers")
+        .verify();
+  }
+}
@@ -0,0 +1,158 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jparams.verifier.tostring.NameStyle;
+import com.jparams.verifier.tostring.ToStringVerifier;
+import com.jparams.verifier.tostring.preset.Presets;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LineDerivativeGeneratorTest {
+
+  private static final int lineLength = 200;
+  private static final double maxAmplitude = 2.0;
+  private static final double defaultLineStepSize = 1.0 / 100;
+  private static final double defaultNoiseStepSize = 1.0 / 100;
+  private static final long randomSeed = System.currentTimeMillis();
+  private static LineDerivativeGeneratorBuilder defaultBuilder;
+  private static LineDerivativeGenerator defaultGenerator;
+
+  @BeforeAll
+  static void init() throws StepSizeException {
+    defaultBuilder = new LineDerivativeGeneratorBuilder(lineLength);
+    resetBuilder(defaultBuilder);
+    defaultGenerator = defaultBuilder.build();
+  }
+
+  private static LineDerivativeGeneratorBuilder resetBuilder(LineDerivativeGeneratorBuilder builder)
+      throws StepSizeException {
+    builder
+        .withTimeStepSize(defaultNoiseStepSize)
+        .withLineStepSize(defaultLineStepSize)
+        .withAmplitude(maxAmplitude)
+        .withRandomSeed(randomSeed)
+        .withCircularBounds(false)
+        .withForkJoinPool(null);
+    return builder;
+  }
+
+  @BeforeEach
+  void setup() {
+    resetBuilder(defaultBuilder);
+  }
+
+  @Test
+  void testFrameSize() {
+    double[][] frame = defaultGenerator.getNext();
+    assertEquals(3, frame.length);
+    for (double[] values : frame) {
+      assertEquals(lineLength, values.length);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testSameValuesAsLineGenerator(boolean isCircular) throws StepSizeException {
+    LineDerivativeGenerator generator = defaultBuilder.withCircularBounds(isCircular).build();
+    LineGenerator reference =
+        new LineGeneratorBuilder(lineLength)
+            .withTimeStepSize(defaultNoiseStepSize)
+            .withLineStepSize(defaultLineStepSize)
+            .withAmplitude(maxAmplitude)
+            .withRandomSeed(randomSeed)
+            .withCircularBounds(isCircular)
+            .withForkJoinPool(null)
+            .build();
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertArrayEquals(
+          reference.getNext(), generator.getNext()[LineDerivativeGenerator.VALUES], 0.0);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testDerivativesMatchNeighbourDifferences(boolean isCircular) throws StepSizeException {
+    // The circle is sampled finely enough for neighbour differences to approximate the derivative
+    int length = isCircular ? 2000 : lineLength;
+    LineDerivativeGenerator generator =
+        resetBuilder(new LineDerivativeGeneratorBuilder(length))
+            .withLineStepSize(isCircular ? 1.0 / 2000 : defaultLineStepSize)
+            .withCircularBounds(isCircular)
+            .build();
+    double[] previous = generator.getNext()[LineDerivativeGenerator.VALUES].clone();
+    double[][] frame = copy(generator.getNext());
+    double[] next = generator.getNext()[LineDerivativeGenerator.VALUES];
+    double[] values = frame[LineDerivativeGenerator.VALUES];
+    for (int i = 1; i < length - 1; i++) {
+      assertEquals(
+          (next[i] - previous[i]) / 2,
+          frame[LineDerivativeGenerator.TIME_DERIVATIVES][i],
+          1E-4 * maxAmplitude);
+      assertEquals(
+          (values[i + 1] - values[i - 1]) / 2,
+          frame[LineDerivativeGenerator.LINE_DERIVATIVES][i],
+          1E-4 * maxAmplitude);
+    }
+  }
+
+  @Test
+  void testSameFramesWithPool() throws StepSizeException {
+    LineDerivativeGeneratorBuilder builder = resetBuilder(new LineDerivativeGeneratorBuilder(8000));
+    LineDerivativeGenerator generator = builder.build();
+    LineDerivativeGenerator forked = builder.withForkJoinPool(ForkJoinPool.commonPool()).build();
+    double[][] expected = generator.getNext();
+    double[][] actual = forked.getNext();
+    for (int i = 0; i < expected.length; i++) {
+      Assertions.assertArrayEquals(expected[i], actual[i], 0.0);
+    }
+  }
+
+  @Test
+  void testEquals() throws StepSizeException {
+    LineDerivativeGenerator other =
+        resetBuilder(new LineDerivativeGeneratorBuilder(lineLength)).build();
+    assertEquals(defaultGenerator, other);
+    assertEquals(defaultGenerator.hashCode(), other.hashCode());
+    Assertions.assertNotEquals(
+        defaultGenerator, resetBuilder(new LineDerivativeGeneratorBuilder(lineLength + 1)).build());
+  }
+
+  @Test
+  void testToString() {
+    ToStringVerifier.forClass(defaultGenerator.getClass())
+        .withClassName(NameStyle.SIMPLE_NAME)
+        .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
+        .withIgnoredFields(
+            "perlinData",
+            "timeIndex",
+            "generated",
+            "containers",
+            "containersCount",
+            "lineAxis",
+            "lineCircleAxis",
+            "recycler",
+            "forkThreshold",
+            "pool",
+            "lineAngleFactor",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool")
+        .verify();
+  }
+
+  private static double[][] copy(double[][] frame) {
+    double[][] copy = new double[frame.length][];
+    for (int i = 0; i < frame.length; i++) {
+      copy[i] = frame[i].clone();
+    }
+    return copy;
+  }
+}
@@ -55,7 +55,8 @@ class LineGeneratorTest {
         .withAmplitude(maxAmplitude)
         .withRandomSeed(randomSeed)
         .withCircularBounds(isCircular)
-        .withForkJoinPool(null);
+        .withForkJoinPool(null)
+        .withForkThreshold(0);
     return builder;
   }
 
@@ -213,6 +214,105 @@ class LineGeneratorTest {
     }
   }
 
+  @Test
+  void testSmallForkThresholdSameAsSerial() throws StepSizeException {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      LineGeneratorBuilder builder = resetBuilder(new LineGeneratorBuilder(1000));
+      LineGenerator serial = builder.build();
+      LineGenerator forked = builder.withForkJoinPool(pool).withForkThreshold(64).build();
+      for (int frame = 0; frame < 3; frame++) {
+        Assertions.assertArrayEquals(serial.getNext(), forked.getNext(), 0.0);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testForkThresholdOfOneSameAsSerial() throws StepSizeException {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      LineGeneratorBuilder builder = resetBuilder(new LineGeneratorBuilder(300));
+      LineGenerator serial = builder.build();
+      LineGenerator forked = builder.withForkJoinPool(pool).withForkThreshold(1).build();
+      Assertions.assertArrayEquals(serial.getNext(), forked.getNext(), 0.0);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testGetAtSameAsSequence() {
+    LineGenerator generator = defaultBuilder.build();
+    double[][] expected = new double[4][];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = generator.getNext().clone();
+    }
+    LineGenerator random = defaultBuilder.build();
+    for (int i = expected.length - 1; i >= 0; i--) {
+      Assertions.assertArrayEquals(expected[i], random.getAt(i), 0.0);
+    }
+  }
+
+  @Test
+  void testSeekWithPoolSameAsSequence() throws StepSizeException {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      LineGeneratorBuilder builder = resetBuilder(new LineGeneratorBuilder(1000));
+      LineGenerator serial = builder.build();
+      LineGenerator forked = builder.withForkJoinPool(pool).withForkThreshold(64).build();
+      forked.seek(5);
+      Assertions.assertArrayEquals(serial.getAt(5), forked.getNext(), 0.0);
+      Assertions.assertArrayEquals(serial.getAt(6), forked.getNext(), 0.0);
+      Assertions.assertArrayEquals(serial.getAt(2), forked.getAt(2), 0.0);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testForkThresholdOverride() {
+    assertEquals(64, defaultBuilder.withForkThreshold(64).build().getForkThreshold());
+  }
+
+  @Test
+  void testCancelledLineReportedIncomplete() {
+    LineGenerator generator = defaultBuilder.build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+  }
+
+  @Test
+  void testCancelledLineRetriedFromSameTime() {
+    LineGenerator generator = defaultBuilder.build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+    double[] expected = defaultBuilder.build().getNext();
+    double[] retried = generator.getNextUnlessCancelled(new CancellationToken());
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], retried[i], 0.0);
+    }
+  }
+
+  @Test
+  void testCancelledLineWithPoolReportedIncomplete() {
+    LineGenerator generator =
+        new LineGeneratorBuilder(8000)
+            .withTimeStepSize(defaultNoiseStepSize)
+            .withLineStepSize(defaultLineStepSize)
+            .withForkJoinPool(ForkJoinPool.commonPool())
+            .build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+  }
+
   @Test
   void testCreateDifferentPointsForDifferentSeed() {
     LineGenerator differentSeedGenerator = defaultBuilder.withRandomSeed(randomSeed + 1).build();
@@ -280,17 +380,23 @@ class LineGeneratorTest {
     ToStringVerifier.forClass(defaultGenerator.getClass())
         .withClassName(NameStyle.SIMPLE_NAME)
         .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
         .withIgnoredFields(
             "perlinData",
-            "currentTimeIndex",
+            "timeIndex",
             "generated",
             "containers",
             "containersCount",
-            "lineAngleFactor",
+            "lineAxis",
+            "lineCircleAxis",
             "recycler",
-            "lineLengthThreshold",
+            "forkThreshold",
             "pool",
-            "numberAvailableProcessors")
+            "numberAvailableProcessors",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool")
         .verify();
   }
 
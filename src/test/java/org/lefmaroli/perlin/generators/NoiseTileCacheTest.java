@@ -0,0 +1,217 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.lefmaroli.perlin.configuration.JitterStrategy;
+
+class NoiseTileCacheTest {
+
+  private static final int tileWidth = 16;
+  private static final int tileHeight = 12;
+  private static final double timeStepSize = 1.0 / 10;
+  private static final double widthStepSize = 1.0 / 20;
+  private static final double heightStepSize = 1.0 / 30;
+  private static final double amplitude = 2.0;
+  private static final long randomSeed = System.currentTimeMillis();
+  private NoiseTileCacheBuilder builder;
+
+  @BeforeEach
+  void setup() throws StepSizeException {
+    builder =
+        new NoiseTileCacheBuilder(tileWidth, tileHeight)
+            .withTimeStepSize(timeStepSize)
+            .withWidthStepSize(widthStepSize)
+            .withHeightStepSize(heightStepSize)
+            .withAmplitude(amplitude)
+            .withRandomSeed(randomSeed)
+            .withForkJoinPool(null);
+  }
+
+  private static SliceGenerator sliceGenerator(int width, int height) throws StepSizeException {
+    return new SliceGeneratorBuilder(width, height)
+        .withTimeStepSize(timeStepSize)
+        .withWidthStepSize(widthStepSize)
+        .withHeightStepSize(heightStepSize)
+        .withAmplitude(amplitude)
+        .withRandomSeed(randomSeed)
+        .withForkJoinPool(null)
+        .build();
+  }
+
+  @Test
+  void testTilesSameAsSliceWindow() throws StepSizeException {
+    NoiseTileCache cache = builder.build();
+    SliceGenerator generator = sliceGenerator(2 * tileWidth, 3 * tileHeight);
+    SliceBuffer slice = generator.getNextBuffer();
+    for (int tileX = 0; tileX < 2; tileX++) {
+      for (int tileY = 0; tileY < 3; tileY++) {
+        SliceBuffer tile = cache.getTile(tileX, tileY, 0);
+        for (int i = 0; i < tileWidth; i++) {
+          for (int j = 0; j < tileHeight; j++) {
+            assertEquals(
+                slice.get(tileX * tileWidth + i, tileY * tileHeight + j), tile.get(i, j), 0.0);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void testCachedTileReused() {
+    NoiseTileCache cache = builder.build();
+    SliceBuffer tile = cache.getTile(3, 4, 5);
+    assertSame(tile, cache.getTile(3, 4, 5));
+    assertNotSame(tile, cache.getTile(3, 4, 6));
+    assertEquals(2, cache.getCachedTiles());
+  }
+
+  @Test
+  void testLeastRecentlyUsedTileEvicted() {
+    NoiseTileCache cache = builder.withMaxTiles(2).build();
+    SliceBuffer first = cache.getTile(0, 0, 0);
+    SliceBuffer second = cache.getTile(1, 0, 0);
+    assertSame(first, cache.getTile(0, 0, 0));
+    cache.getTile(2, 0, 0);
+    assertEquals(2, cache.getCachedTiles());
+    assertSame(first, cache.getTile(0, 0, 0));
+    SliceBuffer recomputed = cache.getTile(1, 0, 0);
+    assertNotSame(second, recomputed);
+    Assertions.assertArrayEquals(second.getData(), recomputed.getData(), 0.0);
+  }
+
+  @Test
+  void testMaxBytes() {
+    long tileBytes = (long) tileWidth * tileHeight * Double.BYTES;
+    assertEquals(3, builder.withMaxBytes(3 * tileBytes + 1).build().getMaxTiles());
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> builder.withMaxBytes(tileBytes - 1));
+  }
+
+  @Test
+  void testViewportSameAsSingleTiles() {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      NoiseTileCache expected = builder.build();
+      NoiseTileCache cache = builder.withForkJoinPool(pool).build();
+      cache.getTile(2, 2, 7);
+      SliceBuffer[][] viewport = cache.getTiles(1, 2, 3, 2, 7);
+      for (int i = 0; i < 3; i++) {
+        for (int j = 0; j < 2; j++) {
+          Assertions.assertArrayEquals(
+              expected.getTile(1 + i, 2 + j, 7).getData(), viewport[i][j].getData(), 0.0);
+        }
+      }
+      assertSame(viewport[1][0], cache.getTile(2, 2, 7));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testConcurrentRequestsShareComputation() throws InterruptedException, ExecutionException {
+    int threads = 8;
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    try {
+      NoiseTileCache cache = new NoiseTileCacheBuilder(400, 400).withForkJoinPool(null).build();
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<SliceBuffer>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            executorService.submit(
+                () -> {
+                  start.await();
+                  return cache.getTile(1, 1, 1);
+                }));
+      }
+      start.countDown();
+      SliceBuffer tile = futures.get(0).get();
+      for (Future<SliceBuffer> future : futures) {
+        assertSame(tile, future.get());
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testClear() {
+    NoiseTileCache cache = builder.build();
+    SliceBuffer tile = cache.getTile(0, 0, 0);
+    cache.clear();
+    assertEquals(0, cache.getCachedTiles());
+    assertNotSame(tile, cache.getTile(0, 0, 0));
+  }
+
+  @Test
+  void testFailedTilesNotCached() {
+    AtomicBoolean failing = new AtomicBoolean(true);
+    NoiseTileCache cache =
+        builder
+            .withJitterStrategy(
+                new JitterStrategy() {
+                  @Override
+                  public void jitter() {
+                    if (failing.get()) {
+                      throw new AssertionError("Failed tile");
+                    }
+                  }
+
+                  @Override
+                  public long getTimeout() {
+                    return 0;
+                  }
+                })
+            .build();
+    Assertions.assertThrows(AssertionError.class, () -> cache.getTile(0, 0, 0));
+    assertEquals(0, cache.getCachedTiles());
+    Assertions.assertThrows(AssertionError.class, () -> cache.getTiles(0, 0, 2, 2, 0));
+    assertEquals(0, cache.getCachedTiles());
+    failing.set(false);
+    assertEquals(tileWidth, cache.getTile(0, 0, 0).getWidth());
+    cache.getTiles(0, 0, 2, 2, 0);
+    assertEquals(4, cache.getCachedTiles());
+  }
+
+  @Test
+  void testInvalidTiles() {
+    NoiseTileCache cache = builder.build();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> cache.getTile(-1, 0, 0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> cache.getTile(0, -1, 0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> cache.getTile(0, 0, -1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> cache.getTiles(0, 0, 0, 1, 0));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 0})
+  void testInvalidSizes(int value) {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new NoiseTileCacheBuilder(value, tileHeight));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new NoiseTileCacheBuilder(tileWidth, value));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> builder.withMaxTiles(value));
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {-1, 0})
+  void testInvalidStepSizes(double stepSize) {
+    Assertions.assertThrows(StepSizeException.class, () -> builder.withTimeStepSize(stepSize));
+    Assertions.assertThrows(StepSizeException.class, () -> builder.withWidthStepSize(stepSize));
+    Assertions.assertThrows(StepSizeException.class, () -> builder.withHeightStepSize(stepSize));
+  }
+}
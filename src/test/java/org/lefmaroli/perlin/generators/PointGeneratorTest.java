@@ -90,6 +90,23 @@ class PointGeneratorTest {
     }
   }
 
+  @Test
+  void testSeekAndGetAtSameAsSequence() {
+    PointGenerator generator = defaultBuilder.build();
+    double[] expected = new double[expectedCount];
+    for (int i = 0; i < expectedCount; i++) {
+      expected[i] = generator.getNext();
+    }
+    PointGenerator random = defaultBuilder.build();
+    for (int i = expectedCount - 1; i >= 0; i -= 7) {
+      Assertions.assertEquals(expected[i], random.getAt(i), 0.0);
+    }
+    random.seek(100);
+    for (int i = 100; i < 110; i++) {
+      Assertions.assertEquals(expected[i], random.getNext(), 0.0);
+    }
+  }
+
   @Test
   void testCreateDifferentPointsForDifferentSeed() {
     PointGenerator differentSeedGenerator = defaultBuilder.withRandomSeed(randomSeed + 1).build();
@@ -155,8 +172,19 @@ class PointGeneratorTest {
     ToStringVerifier.forClass(defaultGenerator.getClass())
         .withClassName(NameStyle.SIMPLE_NAME)
         .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
         .withIgnoredFields(
-            "perlinData", "currentTimeDistance", "generated", "containers", "containersCount")
+            "perlinData",
+            "dataContainerBuilder",
+            "timeOffset",
+            "timeIndex",
+            "generated",
+            "containers",
+            "containersCount",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool")
         .verify();
   }
 
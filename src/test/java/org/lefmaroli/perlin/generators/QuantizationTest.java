@@ -0,0 +1,110 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class QuantizationTest {
+
+  private static SliceBuffer sliceOf(int width, int height, double... values) {
+    SliceBuffer slice = new SliceBuffer(width, height);
+    System.arraycopy(values, 0, slice.getData(), 0, values.length);
+    return slice;
+  }
+
+  @Test
+  void testRangeMappedToCodes() {
+    Quantization quantization = new Quantization(0.25, 0.75, false);
+    SliceBuffer slice = sliceOf(1, 5, 0.25, 0.75, 0.5, -1.0, 2.0);
+    ShortSliceBuffer shorts = new ShortSliceBuffer(1, 5);
+    ByteSliceBuffer bytes = new ByteSliceBuffer(1, 5);
+    quantization.quantize(slice, shorts);
+    quantization.quantize(slice, bytes);
+    int[] expectedShorts = {0, 0xFFFF, 0x8000, 0, 0xFFFF};
+    int[] expectedBytes = {0, 0xFF, 0x80, 0, 0xFF};
+    for (int j = 0; j < 5; j++) {
+      assertEquals(expectedShorts[j], shorts.get(0, j));
+      assertEquals(expectedBytes[j], bytes.get(0, j));
+    }
+  }
+
+  @Test
+  void testDitheringKeepsAverage() {
+    int size = 8;
+    double value = 0.3;
+    double[] values = new double[size * size];
+    Arrays.fill(values, value);
+    ByteSliceBuffer rounded = new ByteSliceBuffer(size, size);
+    ByteSliceBuffer dithered = new ByteSliceBuffer(size, size);
+    new Quantization(0.0, 1.0, false).quantize(sliceOf(size, size, values), rounded);
+    new Quantization(0.0, 1.0, true).quantize(sliceOf(size, size, values), dithered);
+    Set<Integer> roundedCodes = new HashSet<>();
+    Set<Integer> ditheredCodes = new HashSet<>();
+    double sum = 0.0;
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        roundedCodes.add(rounded.get(i, j));
+        ditheredCodes.add(dithered.get(i, j));
+        sum += dithered.get(i, j);
+      }
+    }
+    assertEquals(1, roundedCodes.size());
+    assertEquals(2, ditheredCodes.size());
+    assertEquals(value * 0xFF, sum / (size * size), 1.0 / 16);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0.5,0.5", "1.0,0.0", "NaN,1.0", "0.0,Infinity"})
+  void testInvalidRange(double low, double high) {
+    assertThrows(IllegalArgumentException.class, () -> new Quantization(low, high, false));
+  }
+
+  @Test
+  void testWrongSize() {
+    Quantization quantization = new Quantization(0.0, 1.0, false);
+    SliceBuffer slice = new SliceBuffer(3, 4);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> quantization.quantize(slice, new ShortSliceBuffer(4, 3)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> quantization.quantize(slice, new ByteSliceBuffer(3, 5)));
+  }
+
+  @Test
+  void testBufferLayout() {
+    ShortSliceBuffer shorts = new ShortSliceBuffer(3, 4);
+    ByteSliceBuffer bytes = new ByteSliceBuffer(3, 4);
+    assertEquals(4, shorts.getStride());
+    assertEquals(12, shorts.getData().length);
+    assertEquals(4, bytes.getStride());
+    assertEquals(12, bytes.getData().length);
+    shorts.getData()[6] = (short) 0xFFFE;
+    bytes.getData()[6] = (byte) 0xFE;
+    assertEquals(0xFFFE, shorts.get(1, 2));
+    assertEquals(0xFE, bytes.get(1, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> shorts.get(3, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> bytes.get(0, 4));
+    assertThrows(IllegalArgumentException.class, () -> new ShortSliceBuffer(0, 4));
+    assertThrows(IllegalArgumentException.class, () -> new ByteSliceBuffer(3, -1));
+  }
+
+  @Test
+  void testEquals() {
+    Quantization quantization = new Quantization(0.0, 1.0, true);
+    assertEquals(new Quantization(0.0, 1.0, true), quantization);
+    assertEquals(new Quantization(0.0, 1.0, true).hashCode(), quantization.hashCode());
+    assertNotEquals(new Quantization(0.0, 1.0, false), quantization);
+    assertNotEquals(new Quantization(0.1, 1.0, true), quantization);
+    assertNotEquals(new Quantization(0.0, 0.9, true), quantization);
+    assertTrue(quantization.toString().startsWith("Quantization{"));
+  }
+}
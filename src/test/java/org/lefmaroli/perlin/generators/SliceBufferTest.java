@@ -0,0 +1,69 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SliceBufferTest {
+
+  private static final int width = 3;
+  private static final int height = 4;
+  private SliceBuffer buffer;
+
+  @BeforeEach
+  void setup() {
+    buffer = new SliceBuffer(width, height);
+    double[] data = buffer.getData();
+    for (int i = 0; i < data.length; i++) {
+      data[i] = i;
+    }
+  }
+
+  @Test
+  void testLayout() {
+    assertEquals(width, buffer.getWidth());
+    assertEquals(height, buffer.getHeight());
+    assertEquals(height, buffer.getStride());
+    assertEquals(width * height, buffer.getData().length);
+    assertEquals(6.0, buffer.get(1, 2), 0.0);
+  }
+
+  @Test
+  void testInvalidIndices() {
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(width, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(0, height));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(-1, 0));
+  }
+
+  @Test
+  void testToArray() {
+    double[][] rows = buffer.toArray();
+    assertEquals(width, rows.length);
+    for (int i = 0; i < width; i++) {
+      for (int j = 0; j < height; j++) {
+        assertEquals(buffer.get(i, j), rows[i][j], 0.0);
+      }
+    }
+  }
+
+  @Test
+  void testRowsReused() {
+    double[][] rows = buffer.asRows();
+    buffer.getData()[0] = -1.0;
+    assertSame(rows, buffer.asRows());
+    assertEquals(-1.0, rows[0][0], 0.0);
+    assertArrayEquals(buffer.toArray()[2], rows[2], 0.0);
+  }
+
+  @Test
+  void testCopyToWrongSize() {
+    assertThrows(
+        IllegalArgumentException.class, () -> buffer.copyTo(new double[width + 1][height]));
+    assertThrows(
+        IllegalArgumentException.class, () -> buffer.copyTo(new double[width][height - 1]));
+  }
+}
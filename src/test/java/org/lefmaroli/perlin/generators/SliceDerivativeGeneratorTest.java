@@ -0,0 +1,183 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.jparams.verifier.tostring.NameStyle;
+import com.jparams.verifier.tostring.ToStringVerifier;
+import com.jparams.verifier.tostring.preset.Presets;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SliceDerivativeGeneratorTest {
+
+  private static final double noiseStepSize = 1.0 / 100;
+  private static final double widthStepSize = 1.0 / 100;
+  private static final double heightStepSize = 1.0 / 120;
+  private static final int sliceWidth = 50;
+  private static final int sliceHeight = 60;
+  private static final double maxAmplitude = 1.5;
+  private static final long randomSeed = System.currentTimeMillis();
+  private static SliceDerivativeGenerator defaultGenerator;
+  private static SliceDerivativeGeneratorBuilder defaultBuilder;
+
+  @BeforeAll
+  static void init() throws StepSizeException {
+    defaultBuilder = new SliceDerivativeGeneratorBuilder(sliceWidth, sliceHeight);
+    resetBuilder(defaultBuilder);
+    defaultGenerator = defaultBuilder.build();
+  }
+
+  @BeforeEach
+  void setup() throws StepSizeException {
+    resetBuilder(defaultBuilder);
+  }
+
+  private static SliceDerivativeGeneratorBuilder resetBuilder(
+      SliceDerivativeGeneratorBuilder builder) throws StepSizeException {
+    builder
+        .withTimeStepSize(noiseStepSize)
+        .withWidthStepSize(widthStepSize)
+        .withHeightStepSize(heightStepSize)
+        .withAmplitude(maxAmplitude)
+        .withRandomSeed(randomSeed)
+        .withCircularBounds(false)
+        .withForkJoinPool(null);
+    return builder;
+  }
+
+  @Test
+  void testFrameSize() {
+    double[][][] frame = defaultGenerator.getNext();
+    assertEquals(4, frame.length);
+    for (double[][] values : frame) {
+      assertEquals(sliceWidth, values.length);
+      assertEquals(sliceHeight, values[0].length);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testSameValuesAsSliceGenerator(boolean isCircular) throws StepSizeException {
+    SliceDerivativeGenerator generator = defaultBuilder.withCircularBounds(isCircular).build();
+    SliceGenerator reference =
+        new SliceGeneratorBuilder(sliceWidth, sliceHeight)
+            .withTimeStepSize(noiseStepSize)
+            .withWidthStepSize(widthStepSize)
+            .withHeightStepSize(heightStepSize)
+            .withAmplitude(maxAmplitude)
+            .withRandomSeed(randomSeed)
+            .withCircularBounds(isCircular)
+            .withForkJoinPool(null)
+            .build();
+    for (int i = 0; i < 5; i++) {
+      double[][] expected = reference.getNext();
+      double[][] values = generator.getNext()[SliceDerivativeGenerator.VALUES];
+      for (int j = 0; j < sliceWidth; j++) {
+        Assertions.assertArrayEquals(expected[j], values[j], 0.0);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testDerivativesMatchNeighbourDifferences(boolean isCircular) throws StepSizeException {
+    // The circles are sampled finely enough for neighbour differences to approximate the derivative
+    int width = isCircular ? 400 : sliceWidth;
+    int height = isCircular ? 500 : sliceHeight;
+    SliceDerivativeGenerator generator =
+        resetBuilder(new SliceDerivativeGeneratorBuilder(width, height))
+            .withWidthStepSize(isCircular ? 1.0 / 400 : widthStepSize)
+            .withHeightStepSize(isCircular ? 1.0 / 500 : heightStepSize)
+            .withCircularBounds(isCircular)
+            .build();
+    double[][] previous = copy(generator.getNext()[SliceDerivativeGenerator.VALUES]);
+    double[][][] frame = generator.getNext();
+    double[][] values = copy(frame[SliceDerivativeGenerator.VALUES]);
+    double[][] timeDerivatives = copy(frame[SliceDerivativeGenerator.TIME_DERIVATIVES]);
+    double[][] widthDerivatives = frame[SliceDerivativeGenerator.WIDTH_DERIVATIVES];
+    double[][] heightDerivatives = frame[SliceDerivativeGenerator.HEIGHT_DERIVATIVES];
+    for (int i = 1; i < width - 1; i++) {
+      for (int j = 1; j < height - 1; j++) {
+        assertEquals(
+            (values[i + 1][j] - values[i - 1][j]) / 2, widthDerivatives[i][j], 1E-4 * maxAmplitude);
+        assertEquals(
+            (values[i][j + 1] - values[i][j - 1]) / 2,
+            heightDerivatives[i][j],
+            1E-4 * maxAmplitude);
+      }
+    }
+    double[][] next = generator.getNext()[SliceDerivativeGenerator.VALUES];
+    for (int i = 0; i < sliceWidth; i++) {
+      for (int j = 0; j < sliceHeight; j++) {
+        assertEquals((next[i][j] - previous[i][j]) / 2, timeDerivatives[i][j], 1E-4 * maxAmplitude);
+      }
+    }
+  }
+
+  @Test
+  void testSameFramesWithPool() throws StepSizeException {
+    SliceDerivativeGeneratorBuilder builder =
+        resetBuilder(new SliceDerivativeGeneratorBuilder(200, 200));
+    SliceDerivativeGenerator generator = builder.build();
+    SliceDerivativeGenerator forked = builder.withForkJoinPool(ForkJoinPool.commonPool()).build();
+    double[][][] expected = generator.getNext();
+    double[][][] actual = forked.getNext();
+    for (int i = 0; i < expected.length; i++) {
+      for (int j = 0; j < expected[i].length; j++) {
+        Assertions.assertArrayEquals(expected[i][j], actual[i][j], 0.0);
+      }
+    }
+  }
+
+  @Test
+  void testEquals() throws StepSizeException {
+    SliceDerivativeGenerator other =
+        resetBuilder(new SliceDerivativeGeneratorBuilder(sliceWidth, sliceHeight)).build();
+    assertEquals(defaultGenerator, other);
+    assertEquals(defaultGenerator.hashCode(), other.hashCode());
+    Assertions.assertNotEquals(
+        defaultGenerator,
+        resetBuilder(new SliceDerivativeGeneratorBuilder(sliceWidth, sliceHeight + 1)).build());
+  }
+
+  @Test
+  void testToString() {
+    ToStringVerifier.forClass(defaultGenerator.getClass())
+        .withClassName(NameStyle.SIMPLE_NAME)
+        .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
+        .withIgnoredFields(
+            "widthAngleFactor",
+            "heightAngleFactor",
+            "heightAxis",
+            "widthAxis",
+            "widthCircleAxis",
+            "heightCircleAxis",
+            "perlinData",
+            "recycler",
+            "timeIndex",
+            "forkThreshold",
+            "pool",
+            "generated",
+            "containers",
+            "containersCount",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool")
+        .verify();
+  }
+
+  private static double[][] copy(double[][] values) {
+    double[][] copy = new double[values.length][];
+    for (int i = 0; i < values.length; i++) {
+      copy[i] = values[i].clone();
+    }
+    return copy;
+  }
+}
@@ -1,5 +1,6 @@
 package org.lefmaroli.perlin.generators;
 
+import static org.awaitility.Awaitility.waitAtMost;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -8,9 +9,16 @@ import com.jparams.verifier.tostring.NameStyle;
 import com.jparams.verifier.tostring.ToStringVerifier;
 import com.jparams.verifier.tostring.preset.Presets;
 import java.awt.GraphicsEnvironment;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -27,6 +35,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.lefmaroli.display.SimpleGrayScaleImage;
 import org.lefmaroli.perlin.configuration.TestJitterStrategy;
 import org.lefmaroli.testutils.AssertUtils;
+import org.lefmaroli.testutils.RecordingSubscriber;
 import org.lefmaroli.testutils.ScheduledUpdater;
 
 class SliceGeneratorTest {
@@ -91,7 +100,10 @@ class SliceGeneratorTest {
         .withAmplitude(maxAmplitude)
         .withRandomSeed(randomSeed)
         .withCircularBounds(isCircular)
-        .withForkJoinPool(null);
+        .withForkJoinPool(null)
+        .withForkThreshold(0)
+        .withPrefetching(0, null)
+        .withLeasedFrames(4);
     return builder;
   }
 
@@ -296,6 +308,529 @@ class SliceGeneratorTest {
     }
   }
 
+  @Test
+  void testNextBufferSameAsSlices() {
+    SliceGenerator generator = defaultBuilder.build();
+    SliceGenerator buffered = defaultBuilder.build();
+    for (int i = 0; i < 5; i++) {
+      double[][] expected = generator.getNext();
+      SliceBuffer buffer = buffered.getNextBuffer();
+      assertEquals(expected.length, buffer.getWidth());
+      assertEquals(expected[0].length, buffer.getHeight());
+      for (int j = 0; j < expected.length; j++) {
+        for (int k = 0; k < expected[0].length; k++) {
+          assertEquals(expected[j][k], buffer.get(j, k), 0.0);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testBufferFramesInterleaveWithSlices() {
+    SliceGenerator generator = defaultBuilder.build();
+    SliceGenerator interleaved = defaultBuilder.build();
+    for (int i = 0; i < 4; i++) {
+      double[][] expected = generator.getNext();
+      double[][] actual =
+          i % 2 == 0 ? interleaved.getNextBuffer().toArray() : interleaved.getNext();
+      for (int j = 0; j < expected.length; j++) {
+        Assertions.assertArrayEquals(expected[j], actual[j], 0.0);
+      }
+    }
+  }
+
+  @Test
+  void testCancelledBufferRetriedFromSameTime() {
+    SliceGenerator generator = defaultBuilder.build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextBufferUnlessCancelled(token));
+    double[][] expected = defaultBuilder.build().getNext();
+    double[][] retried = generator.getNextBufferUnlessCancelled(new CancellationToken()).toArray();
+    for (int i = 0; i < expected.length; i++) {
+      Assertions.assertArrayEquals(expected[i], retried[i], 0.0);
+    }
+  }
+
+  @Test
+  void testCancelledSliceReportedIncomplete() {
+    SliceGenerator generator = defaultBuilder.build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+  }
+
+  @Test
+  void testCancelledSliceRetriedFromSameTime() {
+    SliceGenerator generator = defaultBuilder.build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+    double[][] expected = defaultBuilder.build().getNext();
+    double[][] retried = generator.getNextUnlessCancelled(new CancellationToken());
+    for (int i = 0; i < expected.length; i++) {
+      Assertions.assertArrayEquals(expected[i], retried[i], 0.0);
+    }
+  }
+
+  @Test
+  void testCancelledSliceWithPoolReportedIncomplete() {
+    SliceGenerator generator = defaultBuilder.withForkJoinPool(ForkJoinPool.commonPool()).build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+  }
+
+  @Test
+  void testPrefetchedSlicesSameAsSynchronous() {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      SliceGenerator expectedGenerator = defaultBuilder.build();
+      SliceGenerator prefetched = defaultBuilder.withPrefetching(3, executorService).build();
+      for (int i = 0; i < 8; i++) {
+        double[][] expected = expectedGenerator.getNext();
+        double[][] actual =
+            i % 2 == 0 ? prefetched.getNext() : prefetched.getNextBuffer().toArray();
+        for (int j = 0; j < expected.length; j++) {
+          Assertions.assertArrayEquals(expected[j], actual[j], 0.0);
+        }
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testPrefetchedSliceNotOverwrittenByNextCall() {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      SliceGenerator generator = defaultBuilder.withPrefetching(1, executorService).build();
+      SliceBuffer first = generator.getNextBuffer();
+      double[][] expected = first.toArray();
+      SliceBuffer second = generator.getNextBuffer();
+      Assertions.assertNotSame(first, second);
+      double[][] actual = first.toArray();
+      for (int j = 0; j < expected.length; j++) {
+        Assertions.assertArrayEquals(expected[j], actual[j], 0.0);
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testPrefetchingWithShutdownExecutorGeneratesOnDemand() {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    executorService.shutdown();
+    SliceGenerator expectedGenerator = defaultBuilder.build();
+    SliceGenerator generator = defaultBuilder.withPrefetching(2, executorService).build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+    for (int i = 0; i < 3; i++) {
+      double[][] expected = expectedGenerator.getNext();
+      double[][] actual = generator.getNext();
+      for (int j = 0; j < expected.length; j++) {
+        Assertions.assertArrayEquals(expected[j], actual[j], 0.0);
+      }
+    }
+  }
+
+  @Test
+  void testGetAtSameAsSequence() {
+    SliceGenerator generator = defaultBuilder.build();
+    double[][][] expected = new double[5][][];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = generator.getNextBuffer().toArray();
+    }
+    SliceGenerator random = defaultBuilder.build();
+    for (int i = expected.length - 1; i >= 0; i--) {
+      double[][] actual = i % 2 == 0 ? random.getAt(i) : random.getBufferAt(i).toArray();
+      for (int j = 0; j < expected[i].length; j++) {
+        Assertions.assertArrayEquals(expected[i][j], actual[j], 0.0);
+      }
+    }
+  }
+
+  @Test
+  void testGetAtLeavesGeneratorInPlace() {
+    SliceGenerator expectedGenerator = defaultBuilder.build();
+    SliceGenerator generator = defaultBuilder.build();
+    expectedGenerator.getNext();
+    generator.getNext();
+    SliceBuffer frame = generator.getBufferAt(7);
+    double[][] expected = expectedGenerator.getNext();
+    double[][] actual = generator.getNext();
+    Assertions.assertNotSame(frame, generator.getBufferAt(7));
+    for (int j = 0; j < expected.length; j++) {
+      Assertions.assertArrayEquals(expected[j], actual[j], 0.0);
+    }
+  }
+
+  @Test
+  void testSeekSameAsSequence() {
+    SliceGenerator generator = defaultBuilder.build();
+    double[][][] expected = new double[6][][];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = generator.getNextBuffer().toArray();
+    }
+    generator.seek(4);
+    for (int i = 4; i < 6; i++) {
+      double[][] actual = generator.getNext();
+      for (int j = 0; j < expected[i].length; j++) {
+        Assertions.assertArrayEquals(expected[i][j], actual[j], 0.0);
+      }
+    }
+    generator.seek(1);
+    double[][] actual = generator.getNext();
+    for (int j = 0; j < expected[1].length; j++) {
+      Assertions.assertArrayEquals(expected[1][j], actual[j], 0.0);
+    }
+  }
+
+  @Test
+  void testSeekDropsPrefetchedFrames() {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      SliceGenerator expectedGenerator = defaultBuilder.build();
+      SliceGenerator prefetched = defaultBuilder.withPrefetching(3, executorService).build();
+      prefetched.getNext();
+      prefetched.getNext();
+      prefetched.seek(10);
+      for (int i = 10; i < 14; i++) {
+        double[][] expected = expectedGenerator.getAt(i);
+        double[][] actual = prefetched.getNext();
+        for (int j = 0; j < expected.length; j++) {
+          Assertions.assertArrayEquals(expected[j], actual[j], 0.0);
+        }
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testGetAtFromSeveralThreads() throws Exception {
+    int frames = 8;
+    ForkJoinPool pool = new ForkJoinPool(2);
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      SliceGenerator expectedGenerator = defaultBuilder.build();
+      SliceGenerator generator = defaultBuilder.withForkJoinPool(pool).build();
+      List<Future<SliceBuffer>> futures = new ArrayList<>(frames);
+      for (int i = 0; i < frames; i++) {
+        long timeIndex = i;
+        futures.add(executorService.submit(() -> generator.getBufferAt(timeIndex)));
+      }
+      for (int i = 0; i < frames; i++) {
+        Assertions.assertArrayEquals(
+            expectedGenerator.getNextBuffer().getData(), futures.get(i).get().getData(), 0.0);
+      }
+    } finally {
+      pool.shutdown();
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testInvalidTimeIndex() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> defaultGenerator.seek(-1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> defaultGenerator.getAt(-1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> defaultGenerator.getBufferAt(-1));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testSmallForkThresholdSameAsSerial(boolean isCircular) throws StepSizeException {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      SliceGeneratorBuilder builder =
+          resetBuilder(new SliceGeneratorBuilder(150, 70)).withCircularBounds(isCircular);
+      SliceGenerator serial = builder.build();
+      SliceGenerator forked = builder.withForkJoinPool(pool).withForkThreshold(100).build();
+      for (int frame = 0; frame < 3; frame++) {
+        double[][] expected = serial.getNext();
+        double[][] actual = forked.getNext();
+        for (int i = 0; i < expected.length; i++) {
+          Assertions.assertArrayEquals(expected[i], actual[i], 0.0);
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testForkThresholdOfOneSameAsSerial() throws StepSizeException {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      SliceGeneratorBuilder builder = resetBuilder(new SliceGeneratorBuilder(60, 60));
+      SliceGenerator serial = builder.build();
+      SliceGenerator forked = builder.withForkJoinPool(pool).withForkThreshold(1).build();
+      Assertions.assertArrayEquals(
+          serial.getNextBuffer().getData(), forked.getNextBuffer().getData(), 0.0);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testForkThresholdOverride() {
+    assertEquals(100, defaultBuilder.withForkThreshold(100).build().getForkThreshold());
+  }
+
+  @Test
+  void testCalibratedForkThreshold() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      SliceGenerator generator =
+          resetBuilder(new SliceGeneratorBuilder(1000, 1000)).withForkJoinPool(pool).build();
+      int threshold = generator.getForkThreshold();
+      Assertions.assertTrue(threshold > 0, "Threshold: " + threshold);
+      Assertions.assertTrue(
+          threshold <= generator.getTotalSize() / 16, "Threshold too large: " + threshold);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testInvalidForkThreshold() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> defaultBuilder.withForkThreshold(-1));
+  }
+
+  @Test
+  void testInvalidPrefetchedFrames() {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> defaultBuilder.withPrefetching(-1, executorService));
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testPrefetchingWithoutExecutor() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> defaultBuilder.withPrefetching(2, null));
+  }
+
+  @Test
+  void testLeasedSlicesSameAsSynchronous() {
+    SliceGenerator expectedGenerator = defaultBuilder.build();
+    SliceGenerator generator = defaultBuilder.build();
+    for (int i = 0; i < 4; i++) {
+      double[][] expected = expectedGenerator.getNext();
+      try (FrameLease<double[][]> lease = generator.acquireNext()) {
+        double[][] actual = lease.get();
+        for (int j = 0; j < expected.length; j++) {
+          Assertions.assertArrayEquals(expected[j], actual[j], 0.0);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testLeasedBufferKeptUntilReleased() {
+    SliceGenerator generator = defaultBuilder.build();
+    FrameLease<SliceBuffer> lease = generator.acquireNextBuffer();
+    double[][] expected = lease.get().toArray();
+    for (int i = 0; i < 3; i++) {
+      generator.getNextBuffer();
+      generator.acquireNextBuffer().release();
+    }
+    double[][] actual = lease.get().toArray();
+    for (int j = 0; j < expected.length; j++) {
+      Assertions.assertArrayEquals(expected[j], actual[j], 0.0);
+    }
+    lease.release();
+  }
+
+  @Test
+  void testLeasedFrameUsedAfterRelease() {
+    SliceGenerator generator = defaultBuilder.build();
+    FrameLease<double[][]> lease = generator.acquireNext();
+    lease.release();
+    assertTrue(lease.isReleased());
+    Assertions.assertThrows(IllegalStateException.class, lease::get);
+    Assertions.assertThrows(IllegalStateException.class, lease::release);
+  }
+
+  @Test
+  void testLeasedFramesExhausted() {
+    SliceGenerator generator = defaultBuilder.withLeasedFrames(2).build();
+    FrameLease<SliceBuffer> first = generator.acquireNextBuffer();
+    FrameLease<SliceBuffer> second = generator.acquireNextBuffer();
+    Assertions.assertThrows(IllegalStateException.class, generator::acquireNextBuffer);
+    SliceBuffer released = first.get();
+    first.release();
+    FrameLease<SliceBuffer> third = generator.acquireNextBuffer();
+    Assertions.assertSame(released, third.get());
+    second.release();
+    third.release();
+  }
+
+  @Test
+  void testCancelledLeaseReturnsFrameToPool() {
+    SliceGenerator expectedGenerator = defaultBuilder.build();
+    SliceGenerator generator = defaultBuilder.withLeasedFrames(1).build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.acquireNextUnlessCancelled(token));
+    double[][] expected = expectedGenerator.getNext();
+    try (FrameLease<double[][]> lease = generator.acquireNext()) {
+      for (int j = 0; j < expected.length; j++) {
+        Assertions.assertArrayEquals(expected[j], lease.get()[j], 0.0);
+      }
+    }
+  }
+
+  @Test
+  void testLeasedSlicesWithPrefetching() {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      SliceGenerator expectedGenerator = defaultBuilder.build();
+      SliceGenerator generator = defaultBuilder.withPrefetching(2, executorService).build();
+      FrameLease<SliceBuffer> held = generator.acquireNextBuffer();
+      double[][] heldExpected = expectedGenerator.getNextBuffer().toArray();
+      for (int i = 0; i < 6; i++) {
+        double[][] expected = expectedGenerator.getNext();
+        double[][] actual =
+            i % 2 == 0 ? generator.getNext() : generator.acquireNextBuffer().get().toArray();
+        for (int j = 0; j < expected.length; j++) {
+          Assertions.assertArrayEquals(expected[j], actual[j], 0.0);
+        }
+      }
+      double[][] heldActual = held.get().toArray();
+      for (int j = 0; j < heldExpected.length; j++) {
+        Assertions.assertArrayEquals(heldExpected[j], heldActual[j], 0.0);
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 0})
+  void testInvalidLeasedFrames(int leasedFrames) {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> defaultBuilder.withLeasedFrames(leasedFrames));
+  }
+
+  @Test
+  void testStreamSameAsSynchronous() {
+    SliceGenerator expectedGenerator = defaultBuilder.build();
+    SliceGenerator generator = defaultBuilder.build();
+    generator.stream()
+        .limit(4)
+        .forEach(
+            actual -> {
+              double[][] expected = expectedGenerator.getNext();
+              for (int j = 0; j < expected.length; j++) {
+                Assertions.assertArrayEquals(expected[j], actual[j], 0.0);
+              }
+            });
+  }
+
+  @Test
+  void testPublishedSlicesSameAsSynchronous() {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      SliceGenerator expectedGenerator = defaultBuilder.build();
+      SliceGenerator generator = defaultBuilder.build();
+      RecordingSubscriber<FrameLease<double[][]>> subscriber = new RecordingSubscriber<>();
+      generator.publisher(executorService).subscribe(subscriber);
+      subscriber.request(3);
+      waitAtMost(Duration.ofSeconds(10)).until(() -> subscriber.getReceived().size() == 3);
+      for (FrameLease<double[][]> lease : subscriber.getReceived()) {
+        double[][] expected = expectedGenerator.getNext();
+        for (int j = 0; j < expected.length; j++) {
+          Assertions.assertArrayEquals(expected[j], lease.get()[j], 0.0);
+        }
+        lease.release();
+      }
+      Assertions.assertNull(subscriber.getError());
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testPublishedSlicesWaitForReleasedFrames() {
+    SliceGenerator generator = defaultBuilder.withLeasedFrames(2).build();
+    RecordingSubscriber<FrameLease<double[][]>> subscriber = new RecordingSubscriber<>();
+    generator.publisher(Runnable::run).subscribe(subscriber);
+    subscriber.request(5);
+    assertEquals(2, subscriber.getReceived().size());
+    subscriber.getReceived().get(0).release();
+    assertEquals(3, subscriber.getReceived().size());
+    subscriber.getReceived().get(1).release();
+    subscriber.getReceived().get(2).release();
+    assertEquals(5, subscriber.getReceived().size());
+    subscriber.getReceived().get(3).release();
+    assertEquals(5, subscriber.getReceived().size());
+    Assertions.assertNull(subscriber.getError());
+  }
+
+  @Test
+  void testCancelledPublisherStopsPublishing() {
+    SliceGenerator expectedGenerator = defaultBuilder.build();
+    SliceGenerator generator = defaultBuilder.withLeasedFrames(1).build();
+    Flow.Publisher<FrameLease<double[][]>> publisher = generator.publisher(Runnable::run);
+    RecordingSubscriber<FrameLease<double[][]>> first = new RecordingSubscriber<>();
+    publisher.subscribe(first);
+    first.request(2);
+    first.cancel();
+    first.getReceived().get(0).release();
+    assertEquals(1, first.getReceived().size());
+    expectedGenerator.getNext();
+    RecordingSubscriber<FrameLease<double[][]>> second = new RecordingSubscriber<>();
+    publisher.subscribe(second);
+    second.request(1);
+    double[][] expected = expectedGenerator.getNext();
+    for (int j = 0; j < expected.length; j++) {
+      Assertions.assertArrayEquals(expected[j], second.getReceived().get(0).get()[j], 0.0);
+    }
+  }
+
+  @Test
+  void testPublisherRejectsSecondSubscriber() {
+    SliceGenerator generator = defaultBuilder.build();
+    Flow.Publisher<FrameLease<double[][]>> publisher = generator.publisher(Runnable::run);
+    publisher.subscribe(new RecordingSubscriber<>());
+    RecordingSubscriber<FrameLease<double[][]>> rejected = new RecordingSubscriber<>();
+    publisher.subscribe(rejected);
+    rejected.request(1);
+    assertTrue(rejected.getReceived().isEmpty());
+    Assertions.assertTrue(rejected.getError() instanceof IllegalStateException);
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {-1, 0})
+  void testPublisherInvalidRequest(long requested) {
+    SliceGenerator generator = defaultBuilder.build();
+    RecordingSubscriber<FrameLease<double[][]>> subscriber = new RecordingSubscriber<>();
+    generator.publisher(Runnable::run).subscribe(subscriber);
+    subscriber.request(requested);
+    assertTrue(subscriber.getReceived().isEmpty());
+    Assertions.assertTrue(subscriber.getError() instanceof IllegalArgumentException);
+  }
+
+  @Test
+  void testPublisherWithoutExecutor() {
+    SliceGenerator generator = defaultBuilder.build();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> generator.publisher(null));
+  }
+
   @Test
   void testCreateDifferentGeneratedSlicesForDifferentRandomSeed() {
     SliceGenerator diffRandSeed = defaultBuilder.withRandomSeed(randomSeed + 1).build();
@@ -379,18 +914,26 @@ class SliceGeneratorTest {
     ToStringVerifier.forClass(defaultGenerator.getClass())
         .withClassName(NameStyle.SIMPLE_NAME)
         .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
         .withIgnoredFields(
             "widthAngleFactor",
-            "heightAngleFactor",
+            "heightAxis",
+            "widthAxis",
+            "widthCircleAxis",
+            "heightCircleAxis",
             "perlinData",
             "recycler",
-            "currentTimeIndex",
-            "lengthThreshold",
+            "timeIndex",
+            "forkThreshold",
             "pool",
             "numberAvailableProcessors",
             "generated",
             "containers",
-            "containersCount")
+            "containersCount",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool")
         .verify();
   }
 
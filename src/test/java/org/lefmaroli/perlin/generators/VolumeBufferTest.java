@@ -0,0 +1,66 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VolumeBufferTest {
+
+  private static final int width = 3;
+  private static final int height = 4;
+  private static final int depth = 2;
+  private VolumeBuffer buffer;
+
+  @BeforeEach
+  void setup() {
+    buffer = new VolumeBuffer(width, height, depth);
+    double[] data = buffer.getData();
+    for (int i = 0; i < data.length; i++) {
+      data[i] = i;
+    }
+  }
+
+  @Test
+  void testLayout() {
+    assertEquals(width, buffer.getWidth());
+    assertEquals(height, buffer.getHeight());
+    assertEquals(depth, buffer.getDepth());
+    assertEquals(height, buffer.getStride());
+    assertEquals(width * height, buffer.getSlabStride());
+    assertEquals(width * height * depth, buffer.getData().length);
+    assertEquals(18.0, buffer.get(1, 2, 1), 0.0);
+  }
+
+  @Test
+  void testInvalidIndices() {
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(width, 0, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(0, height, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(0, 0, depth));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(0, 0, -1));
+  }
+
+  @Test
+  void testToArray() {
+    double[][][] slabs = buffer.toArray();
+    assertEquals(depth, slabs.length);
+    for (int k = 0; k < depth; k++) {
+      for (int i = 0; i < width; i++) {
+        for (int j = 0; j < height; j++) {
+          assertEquals(buffer.get(i, j, k), slabs[k][i][j], 0.0);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testCopySlabToWrongSize() {
+    assertThrows(
+        IllegalArgumentException.class, () -> buffer.copySlabTo(0, new double[width + 1][height]));
+    assertThrows(
+        IllegalArgumentException.class, () -> buffer.copySlabTo(0, new double[width][height - 1]));
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> buffer.copySlabTo(depth, new double[width][height]));
+  }
+}
@@ -0,0 +1,301 @@
+package org.lefmaroli.perlin.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.jparams.verifier.tostring.NameStyle;
+import com.jparams.verifier.tostring.ToStringVerifier;
+import com.jparams.verifier.tostring.preset.Presets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.lefmaroli.perlin.PerlinNoise;
+
+class VolumeGeneratorTest {
+
+  private static final double noiseStepSize = 1.0 / 10.0;
+  private static final double widthStepSize = 1.0 / 20;
+  private static final double heightStepSize = 1.0 / 25;
+  private static final double depthStepSize = 1.0 / 30;
+  private static final int volumeWidth = 12;
+  private static final int volumeHeight = 20;
+  private static final int volumeDepth = 7;
+  private static final double maxAmplitude = 1.0;
+  private static final boolean isCircular = false;
+  private static final long randomSeed = System.currentTimeMillis();
+  private static VolumeGenerator defaultGenerator;
+  private static VolumeGeneratorBuilder defaultBuilder;
+
+  @BeforeAll
+  static void init() throws StepSizeException {
+    defaultBuilder = new VolumeGeneratorBuilder(volumeWidth, volumeHeight, volumeDepth);
+    resetBuilder(defaultBuilder);
+    defaultGenerator = defaultBuilder.build();
+  }
+
+  @BeforeEach
+  void setup() throws StepSizeException {
+    resetBuilder(defaultBuilder);
+  }
+
+  static VolumeGeneratorBuilder resetBuilder(VolumeGeneratorBuilder builder)
+      throws StepSizeException {
+    builder
+        .withTimeStepSize(noiseStepSize)
+        .withWidthStepSize(widthStepSize)
+        .withHeightStepSize(heightStepSize)
+        .withDepthStepSize(depthStepSize)
+        .withAmplitude(maxAmplitude)
+        .withRandomSeed(randomSeed)
+        .withCircularBounds(isCircular)
+        .withForkJoinPool(null)
+        .withForkThreshold(0)
+        .withPrefetching(0, null)
+        .withLeasedFrames(4);
+    return builder;
+  }
+
+  @Test
+  void testDimension() {
+    assertEquals(4, defaultGenerator.getDimensions());
+  }
+
+  @Test
+  void testGetters() {
+    assertEquals(noiseStepSize, defaultGenerator.getTimeStepSize(), 1E-9);
+    assertEquals(widthStepSize, defaultGenerator.getWidthStepSize(), 1E-9);
+    assertEquals(heightStepSize, defaultGenerator.getHeightStepSize(), 1E-9);
+    assertEquals(depthStepSize, defaultGenerator.getDepthStepSize(), 1E-9);
+    assertEquals(volumeWidth, defaultGenerator.getVolumeWidth());
+    assertEquals(volumeHeight, defaultGenerator.getVolumeHeight());
+    assertEquals(volumeDepth, defaultGenerator.getVolumeDepth());
+    assertEquals(volumeWidth * volumeHeight * volumeDepth, defaultGenerator.getTotalSize());
+    assertEquals(maxAmplitude, defaultGenerator.getMaxAmplitude(), 0.0);
+  }
+
+  @Test
+  void testHasProcessingDisabled() {
+    assertFalse(defaultGenerator.hasParallelProcessingEnabled());
+  }
+
+  @ParameterizedTest(name = "{index} - {3}")
+  @MethodSource("invalidDimensions")
+  @SuppressWarnings("unused")
+  void testInvalidDimensions(int width, int height, int depth, String title) {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new VolumeGeneratorBuilder(width, height, depth));
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> invalidDimensions() {
+    return Stream.of(
+        Arguments.of(-5, 5, 5, "invalid width"),
+        Arguments.of(5, -5, 5, "invalid height"),
+        Arguments.of(5, 5, 0, "invalid depth"),
+        Arguments.of(2000, 2000, 2000, "too large"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {-5, 0})
+  void testCreateInvalidDepthStepSize(double depthStepSize) {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> defaultBuilder.withDepthStepSize(depthStepSize));
+  }
+
+  @Test
+  void testInvalidHeightStepSizeWithCircularity() {
+    defaultBuilder.withHeightStepSize(5.0).withCircularBounds(true);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> defaultBuilder.build());
+  }
+
+  @Test
+  void testValuesSameAsNoise() {
+    VolumeGenerator generator = defaultBuilder.withAmplitude(3.0).build();
+    PerlinNoise noise = new PerlinNoise(randomSeed);
+    for (int time = 1; time <= 2; time++) {
+      VolumeBuffer volume = generator.getNext();
+      for (int k = 0; k < volumeDepth; k++) {
+        for (int i = 0; i < volumeWidth; i++) {
+          for (int j = 0; j < volumeHeight; j++) {
+            double expected =
+                3.0
+                    * noise.getFor(
+                        time * noiseStepSize,
+                        k * depthStepSize,
+                        i * widthStepSize,
+                        j * heightStepSize);
+            assertEquals(expected, volume.get(i, j, k), 1E-12);
+          }
+        }
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testSmallForkThresholdSameAsSerial(boolean isCircular) throws StepSizeException {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      VolumeGeneratorBuilder builder =
+          resetBuilder(new VolumeGeneratorBuilder(15, 10, 9)).withCircularBounds(isCircular);
+      VolumeGenerator serial = builder.build();
+      VolumeGenerator forked = builder.withForkJoinPool(pool).withForkThreshold(30).build();
+      for (int frame = 0; frame < 3; frame++) {
+        Assertions.assertArrayEquals(serial.getNext().getData(), forked.getNext().getData(), 0.0);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testSingleSlabSplitAlongWidth() throws StepSizeException {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      VolumeGeneratorBuilder builder = resetBuilder(new VolumeGeneratorBuilder(40, 10, 1));
+      VolumeGenerator serial = builder.build();
+      VolumeGenerator forked = builder.withForkJoinPool(pool).withForkThreshold(20).build();
+      Assertions.assertArrayEquals(serial.getNext().getData(), forked.getNext().getData(), 0.0);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testVolumeCircularity() {
+    VolumeGenerator generator =
+        defaultBuilder.withHeightStepSize(1.0 / 5).withCircularBounds(true).build();
+    int cycleLength = (int) Math.round(1.0 / generator.getHeightStepSize());
+    int cycles = generator.getVolumeHeight() / cycleLength;
+    Assertions.assertTrue(cycles > 1, "Volume height should hold several cycles");
+    VolumeBuffer volume = generator.getNext();
+    for (int k = 0; k < volumeDepth; k++) {
+      for (int i = 0; i < volumeWidth; i++) {
+        for (int j = 0; j < cycleLength; j++) {
+          for (int c = 1; c < cycles; c++) {
+            assertEquals(volume.get(i, j, k), volume.get(i, c * cycleLength + j, k), 1E-12);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void testCancelledVolumeRetriedFromSameTime() {
+    VolumeGenerator expectedGenerator = defaultBuilder.build();
+    VolumeGenerator generator = defaultBuilder.build();
+    CancellationToken token = new CancellationToken();
+    token.cancel();
+    Assertions.assertThrows(
+        IncompleteFrameException.class, () -> generator.getNextUnlessCancelled(token));
+    Assertions.assertArrayEquals(
+        expectedGenerator.getNext().getData(), generator.getNext().getData(), 0.0);
+  }
+
+  @Test
+  void testGetAtFromSeveralThreads() throws InterruptedException, ExecutionException {
+    int frames = 6;
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+    try {
+      VolumeGenerator generator = defaultBuilder.build();
+      List<Future<VolumeBuffer>> futures = new ArrayList<>(frames);
+      for (int i = 0; i < frames; i++) {
+        long timeIndex = frames - 1 - i;
+        futures.add(executorService.submit(() -> generator.getAt(timeIndex)));
+      }
+      VolumeGenerator expectedGenerator = defaultBuilder.build();
+      for (int i = frames - 1; i >= 0; i--) {
+        Assertions.assertArrayEquals(
+            expectedGenerator.getNext().getData(), futures.get(i).get().getData(), 0.0);
+      }
+      generator.seek(3);
+      Assertions.assertArrayEquals(
+          futures.get(frames - 1 - 3).get().getData(), generator.getNext().getData(), 0.0);
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @ParameterizedTest(name = "{index} - {2}")
+  @MethodSource("testEqualsSource")
+  @SuppressWarnings("unused")
+  void testEquals(Object first, Object second, String title) {
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> testEqualsSource() throws StepSizeException {
+    VolumeGeneratorBuilder other =
+        resetBuilder(new VolumeGeneratorBuilder(volumeWidth, volumeHeight, volumeDepth));
+    defaultGenerator = resetBuilder(defaultBuilder).build();
+    return Stream.of(
+        Arguments.of(
+            other.build(), defaultBuilder.build(), "Different generators from different builders"),
+        Arguments.of(defaultGenerator, defaultGenerator, "Same generator"));
+  }
+
+  @ParameterizedTest(name = "{index} - {1}")
+  @MethodSource("notEquals")
+  @SuppressWarnings("unused")
+  void testNotEqual(Object other, String title) {
+    Assertions.assertNotEquals(defaultGenerator, other);
+  }
+
+  @SuppressWarnings("unused")
+  private static Stream<Arguments> notEquals() throws StepSizeException {
+    return Stream.of(
+        Arguments.of(
+            resetBuilder(defaultBuilder).withDepthStepSize(depthStepSize + 1.0 / 6).build(),
+            "different depth step size"),
+        Arguments.of(
+            resetBuilder(defaultBuilder).withCircularBounds(!isCircular).build(),
+            "different circularity"),
+        Arguments.of(
+            resetBuilder(new VolumeGeneratorBuilder(volumeWidth, volumeHeight, volumeDepth + 1))
+                .build(),
+            "different volume depth"),
+        Arguments.of(null, "null"),
+        Arguments.of(new Random(), "object from different class"));
+  }
+
+  @Test
+  void testToString() {
+    ToStringVerifier.forClass(defaultGenerator.getClass())
+        .withClassName(NameStyle.SIMPLE_NAME)
+        .withPreset(Presets.INTELLI_J)
+        .withPrefabValue(FramePrefetcher.class, null)
+        .withPrefabValue(FramePool.class, null)
+        .withIgnoredFields(
+            "heightAxis",
+            "widthAxis",
+            "depthAxis",
+            "heightCircleAxis",
+            "perlinData",
+            "recycler",
+            "timeIndex",
+            "forkThreshold",
+            "pool",
+            "generated",
+            "containers",
+            "containersCount",
+            "prefetcher",
+            "leasedFrames",
+            "leasePool")
+        .verify();
+  }
+}
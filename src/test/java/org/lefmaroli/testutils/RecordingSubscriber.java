@@ -0,0 +1,49 @@
+package org.lefmaroli.testutils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+  private final List<T> received = new CopyOnWriteArrayList<>();
+  private final AtomicReference<Throwable> error = new AtomicReference<>();
+  private volatile Flow.Subscription subscription;
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    this.subscription = subscription;
+  }
+
+  @Override
+  public void onNext(T item) {
+    received.add(item);
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    error.set(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    // Frames are published endlessly
+  }
+
+  public void request(long n) {
+    subscription.request(n);
+  }
+
+  public void cancel() {
+    subscription.cancel();
+  }
+
+  public List<T> getReceived() {
+    return received;
+  }
+
+  public Throwable getError() {
+    return error.get();
+  }
+}